@@ -0,0 +1,171 @@
+package com.inventory.adapters.input.rest.controller;
+
+import com.inventory.adapters.input.rest.dto.*;
+import com.inventory.adapters.input.rest.mapper.InventoryRestMapper;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StockBucket;
+import com.inventory.domain.model.StoreId;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/inventory")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Inventory Admin", description = "Operational controls for hot inventory items")
+public class InventoryAdminController {
+    
+    private final ManageStockSlicesUseCase manageStockSlicesUseCase;
+    private final InventoryRestMapper mapper;
+    
+    @PostMapping("/{storeId}/{sku}/slices")
+    @Operation(
+        summary = "Slice inventory", 
+        description = "Spread the item's counters over N bucket rows so concurrent reservations stop serializing on one row lock."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Item sliced",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = StockBucketsResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid bucket count, item already sliced or unknown",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<?> slice(
+            @PathVariable String storeId,
+            @PathVariable String sku,
+            @RequestParam int buckets) {
+        
+        log.info("📥 Slice request - store: {}, sku: {}, buckets: {}", storeId, sku, buckets);
+        
+        var result = manageStockSlicesUseCase.slice(StoreId.of(storeId), Sku.of(sku), buckets);
+        return toResponse(result, HttpStatus.CREATED, storeId, sku, "/slices");
+    }
+    
+    @PostMapping("/{storeId}/{sku}/slices/rebalance")
+    @Operation(
+        summary = "Rebalance buckets", 
+        description = "Redistribute available stock evenly across the item's buckets."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Buckets rebalanced",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = StockBucketsResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Item is not sliced",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<?> rebalance(@PathVariable String storeId, @PathVariable String sku) {
+        
+        log.info("📥 Rebalance request - store: {}, sku: {}", storeId, sku);
+        
+        var result = manageStockSlicesUseCase.rebalance(StoreId.of(storeId), Sku.of(sku));
+        return toResponse(result, HttpStatus.OK, storeId, sku, "/slices/rebalance");
+    }
+    
+    @DeleteMapping("/{storeId}/{sku}/slices")
+    @Operation(
+        summary = "Unslice inventory", 
+        description = "Fold the buckets back into the single inventory row."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Item back on the single-row layout",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = InventoryResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Item is not sliced or unknown",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<?> unslice(@PathVariable String storeId, @PathVariable String sku) {
+        
+        log.info("📥 Unslice request - store: {}, sku: {}", storeId, sku);
+        
+        var result = manageStockSlicesUseCase.unslice(StoreId.of(storeId), Sku.of(sku));
+        
+        if (result.isSuccess()) {
+            log.info("✅ Inventory unsliced - sku: {}", sku);
+            return ResponseEntity.ok(mapper.toInventoryResponse(result.getValue()));
+        }
+        return error(result.getError(), storeId, sku, "/slices");
+    }
+    
+    @GetMapping("/{storeId}/{sku}/slices")
+    @Operation(
+        summary = "List buckets", 
+        description = "Per-bucket counters of the item; an empty list means the single-row layout."
+    )
+    public ResponseEntity<StockBucketsResponse> findSlices(@PathVariable String storeId, @PathVariable String sku) {
+        
+        List<StockBucket> buckets = manageStockSlicesUseCase.findSlices(StoreId.of(storeId), Sku.of(sku));
+        return ResponseEntity.ok(mapper.toBucketsResponse(storeId, sku, buckets));
+    }
+    
+    private ResponseEntity<?> toResponse(
+            Result<List<StockBucket>, DomainError> result,
+            HttpStatus status,
+            String storeId,
+            String sku,
+            String suffix) {
+        
+        if (result.isSuccess()) {
+            log.info("✅ Bucket layout updated - sku: {}, buckets: {}", sku, result.getValue().size());
+            return ResponseEntity.status(status).body(mapper.toBucketsResponse(storeId, sku, result.getValue()));
+        }
+        return error(result.getError(), storeId, sku, suffix);
+    }
+    
+    private ResponseEntity<ErrorResponse> error(DomainError error, String storeId, String sku, String suffix) {
+        log.warn("❌ Slice operation failed: {}", error.message());
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .body(ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                error.code(),
+                error.message(),
+                "/api/v1/admin/inventory/" + storeId + "/" + sku + suffix,
+                error.details()
+            ));
+    }
+}
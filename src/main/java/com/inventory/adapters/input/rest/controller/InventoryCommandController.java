@@ -2,6 +2,7 @@ package com.inventory.adapters.input.rest.controller;
 
 import com.inventory.adapters.input.rest.dto.*;
 import com.inventory.adapters.input.rest.mapper.InventoryRestMapper;
+import com.inventory.application.concurrency.PartitionedCommandExecutor;
 import com.inventory.application.port.input.*;
 import com.inventory.domain.model.ReservationId;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/inventory")
@@ -27,6 +29,7 @@ import java.time.LocalDateTime;
 public class InventoryCommandController {
     
     private final ReserveStockUseCase reserveStockUseCase;
+    private final ReserveCartUseCase reserveCartUseCase;
     private final CommitStockUseCase commitStockUseCase;
     private final ReleaseStockUseCase releaseStockUseCase;
     private final InventoryRestMapper mapper;
@@ -92,13 +95,74 @@ public class InventoryCommandController {
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } else {
             log.warn("❌ Reservation failed: {}", result.getError().message());
+            return ResponseEntity
+                .status(statusOf(result.getError()))
+                .body(ErrorResponse.of(
+                    statusOf(result.getError()).value(),
+                    result.getError().code(),
+                    result.getError().message(),
+                    "/api/v1/inventory/reserve",
+                    result.getError().details()
+                ));
+        }
+    }
+    
+    @PostMapping("/reserve/cart")
+    @Operation(
+        summary = "Reserve cart", 
+        description = "Reserve every line of a cart in one transaction, all-or-nothing. Returns one reservation per line, in request order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "All cart lines reserved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CartReservationResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request or insufficient stock on at least one line; nothing was reserved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<?> reserveCart(@Valid @RequestBody ReserveCartRequest request) {
+        
+        log.info("📥 Reserve cart request - customer: {}, lines: {}", 
+            request.customerId(), request.lines().size());
+        
+        var command = mapper.toCommand(request);
+        var result = reserveCartUseCase.reserveCart(command);
+        
+        if (result.isSuccess()) {
+            List<ReservationId> reservationIds = result.getValue();
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+            
+            var response = mapper.toCartResponse(reservationIds, command, expiresAt);
+            
+            log.info("✅ Cart reserved - reservations: {}", reservationIds.size());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } else {
+            log.warn("❌ Cart reservation failed: {}", result.getError().message());
             return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(ErrorResponse.of(
                     HttpStatus.BAD_REQUEST.value(),
                     result.getError().code(),
                     result.getError().message(),
-                    "/api/v1/inventory/reserve",
+                    "/api/v1/inventory/reserve/cart",
                     result.getError().details()
                 ));
         }
@@ -159,9 +223,9 @@ public class InventoryCommandController {
         } else {
             log.warn("❌ Commit failed: {}", result.getError().message());
             return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
+                .status(statusOf(result.getError()))
                 .body(ErrorResponse.of(
-                    HttpStatus.BAD_REQUEST.value(),
+                    statusOf(result.getError()).value(),
                     result.getError().code(),
                     result.getError().message(),
                     "/api/v1/inventory/commit",
@@ -228,9 +292,9 @@ public class InventoryCommandController {
         } else {
             log.warn("❌ Release failed: {}", result.getError().message());
             return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
+                .status(statusOf(result.getError()))
                 .body(ErrorResponse.of(
-                    HttpStatus.BAD_REQUEST.value(),
+                    statusOf(result.getError()).value(),
                     result.getError().code(),
                     result.getError().message(),
                     "/api/v1/inventory/release",
@@ -238,5 +302,12 @@ public class InventoryCommandController {
                 ));
         }
     }
+    
+    private HttpStatus statusOf(DomainError error) {
+        // Partição cheia: o cliente deve tentar de novo, não corrigir a requisição
+        return PartitionedCommandExecutor.BUSY.equals(error.code())
+            ? HttpStatus.SERVICE_UNAVAILABLE
+            : HttpStatus.BAD_REQUEST;
+    }
 }
 
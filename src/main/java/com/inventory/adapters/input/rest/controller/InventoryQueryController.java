@@ -2,10 +2,15 @@ package com.inventory.adapters.input.rest.controller;
 
 import com.inventory.adapters.input.rest.dto.ErrorResponse;
 import com.inventory.adapters.input.rest.dto.InventoryResponse;
+import com.inventory.adapters.input.rest.dto.ReservationDetailsResponse;
 import com.inventory.adapters.input.rest.mapper.InventoryRestMapper;
+import com.inventory.application.port.input.ListReservationsUseCase;
 import com.inventory.application.port.input.QueryStockUseCase;
+import com.inventory.domain.model.ReservationQuery;
+import com.inventory.domain.model.ReservationStatus;
 import com.inventory.domain.model.Sku;
 import com.inventory.domain.model.StoreId;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,8 +21,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 
 @RestController
 @RequestMapping("/api/v1/inventory")
@@ -26,8 +38,13 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Inventory Queries", description = "Read operations for inventory management")
 public class InventoryQueryController {
     
+    private static final int DEFAULT_LIMIT = 1_000;
+    private static final int MAX_LIMIT = 100_000;
+    
     private final QueryStockUseCase queryStockUseCase;
+    private final ListReservationsUseCase listReservationsUseCase;
     private final InventoryRestMapper mapper;
+    private final ObjectMapper objectMapper;
     
     @GetMapping("/{storeId}/{sku}")
     @Operation(
@@ -111,6 +128,84 @@ public class InventoryQueryController {
         }
     }
     
+    @GetMapping("/reservations")
+    @Operation(
+        summary = "List reservations",
+        description = "Streams reservations matching every given filter as NDJSON (one JSON object per line), "
+            + "in creation order. Pages are keyset-based: pass the reservationId of the last line as 'after' "
+            + "to get the next page; a page shorter than 'limit' is the last one."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matching reservations, one per line",
+            content = @Content(
+                mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = ReservationDetailsResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid filter, cursor or limit",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> listReservations(
+            @Parameter(description = "Reservation status", example = "RESERVED")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Store identifier", example = "STORE-01")
+            @RequestParam(required = false) String storeId,
+            @Parameter(description = "Product SKU", example = "SKU123")
+            @RequestParam(required = false) String sku,
+            @Parameter(description = "Customer identifier", example = "CUST-001")
+            @RequestParam(required = false) String customerId,
+            @Parameter(description = "Created at or after (ISO date-time)", example = "2025-10-18T00:00:00")
+            @RequestParam(required = false) String createdFrom,
+            @Parameter(description = "Created before (ISO date-time)", example = "2025-10-19T00:00:00")
+            @RequestParam(required = false) String createdTo,
+            @Parameter(description = "Cursor: reservationId of the last line of the previous page", example = "RES-00D5Y0K9R2000")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of reservations (1-" + MAX_LIMIT + ")", example = "1000")
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        
+        log.info("📥 List reservations - status: {}, store: {}, sku: {}, customer: {}, after: {}, limit: {}",
+            status, storeId, sku, customerId, after, limit);
+        
+        // Validado antes do streaming: depois do primeiro byte não dá mais para responder 400
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        ReservationQuery query = new ReservationQuery(
+            status == null ? null : parseStatus(status),
+            storeId == null ? null : StoreId.of(storeId),
+            sku == null ? null : Sku.of(sku),
+            customerId,
+            parseDateTime("createdFrom", createdFrom),
+            parseDateTime("createdTo", createdTo),
+            after
+        );
+        
+        StreamingResponseBody body = output -> {
+            long streamed = listReservationsUseCase.stream(query, limit, reservation -> {
+                try {
+                    output.write(objectMapper.writeValueAsBytes(mapper.toReservationDetails(reservation)));
+                    output.write('\n');
+                } catch (IOException ex) {
+                    // Cliente desconectou: interrompe a leitura do cursor
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            log.debug("✅ Streamed {} reservations", streamed);
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+    
     @GetMapping("/health")
     @Operation(
         summary = "Health check", 
@@ -126,5 +221,23 @@ public class InventoryQueryController {
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Inventory Service is running");
     }
+    
+    private ReservationStatus parseStatus(String status) {
+        try {
+            return ReservationStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown reservation status: " + status);
+        }
+    }
+    
+    private LocalDateTime parseDateTime(String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(name + " must be an ISO date-time: " + value);
+        }
+    }
 }
-
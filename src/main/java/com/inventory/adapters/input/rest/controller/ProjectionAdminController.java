@@ -0,0 +1,96 @@
+package com.inventory.adapters.input.rest.controller;
+
+import com.inventory.adapters.input.rest.dto.ErrorResponse;
+import com.inventory.adapters.input.rest.dto.ProjectionRebuildResponse;
+import com.inventory.adapters.input.rest.mapper.InventoryRestMapper;
+import com.inventory.application.port.input.RebuildProjectionUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/projections")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Projection Admin", description = "Rebuild read models from the event store")
+public class ProjectionAdminController {
+    
+    private final RebuildProjectionUseCase rebuildProjectionUseCase;
+    private final InventoryRestMapper mapper;
+    
+    @GetMapping
+    @Operation(summary = "List projections", description = "Names of the projections that can be rebuilt.")
+    public ResponseEntity<List<String>> projections() {
+        return ResponseEntity.ok(rebuildProjectionUseCase.projections());
+    }
+    
+    @PostMapping("/{projection}/rebuild")
+    @Operation(
+        summary = "Rebuild projection", 
+        description = "Replay the whole event store into the projection, or continue after its last checkpoint with resume=true. Runs to completion before answering."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Projection rebuilt",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProjectionRebuildResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Unknown projection",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "A rebuild of the projection is already running",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<?> rebuild(
+            @PathVariable String projection,
+            @RequestParam(defaultValue = "false") boolean resume) {
+        
+        log.info("📥 Rebuild request - projection: {}, resume: {}", projection, resume);
+        
+        var result = rebuildProjectionUseCase.rebuild(projection, resume);
+        
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(mapper.toRebuildResponse(result.getValue()));
+        }
+        
+        var error = result.getError();
+        HttpStatus status = switch (error.code()) {
+            case "PROJECTION_NOT_FOUND" -> HttpStatus.NOT_FOUND;
+            case "REBUILD_IN_PROGRESS" -> HttpStatus.CONFLICT;
+            default -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+        log.warn("❌ Rebuild failed: {}", error.message());
+        return ResponseEntity
+            .status(status)
+            .body(ErrorResponse.of(
+                status.value(),
+                error.code(),
+                error.message(),
+                "/api/v1/admin/projections/" + projection + "/rebuild"
+            ));
+    }
+}
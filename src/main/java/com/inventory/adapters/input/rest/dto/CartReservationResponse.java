@@ -0,0 +1,18 @@
+package com.inventory.adapters.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Cart reservation response, one reservation per cart line in request order")
+public record CartReservationResponse(
+    
+    @Schema(description = "Customer identifier", example = "CUST-001")
+    String customerId,
+    
+    @Schema(description = "Reservations, in the same order as the request lines")
+    List<ReservationResponse> reservations,
+    
+    @Schema(description = "Human-readable message", example = "Cart reserved successfully. 3 lines reserved.")
+    String message
+) {
+}
@@ -0,0 +1,23 @@
+package com.inventory.adapters.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a projection rebuild")
+public record ProjectionRebuildResponse(
+    
+    @Schema(description = "Projection name", example = "stock-movements")
+    String projection,
+    
+    @Schema(description = "Events handled by this run", example = "250000")
+    long events,
+    
+    @Schema(description = "Wall-clock duration of the run in milliseconds", example = "4180")
+    long elapsedMillis,
+    
+    @Schema(description = "Replay throughput of the run", example = "59808")
+    long eventsPerSecond,
+    
+    @Schema(description = "Whether the run continued from the last checkpoint", example = "false")
+    boolean resumed
+) {
+}
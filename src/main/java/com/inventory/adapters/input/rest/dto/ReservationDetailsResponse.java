@@ -0,0 +1,36 @@
+package com.inventory.adapters.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "One reservation of a listing (one NDJSON line)")
+public record ReservationDetailsResponse(
+    
+    @Schema(description = "Unique reservation identifier; pass the last one as 'after' for the next page", example = "RES-00D5Y0K9R2000")
+    String reservationId,
+    
+    @Schema(description = "Store identifier", example = "STORE-01")
+    String storeId,
+    
+    @Schema(description = "Product SKU", example = "SKU123")
+    String sku,
+    
+    @Schema(description = "Reserved quantity", example = "30")
+    int quantity,
+    
+    @Schema(description = "Customer identifier", example = "CUST-001")
+    String customerId,
+    
+    @Schema(description = "Reservation status", example = "RESERVED", allowableValues = {"RESERVED", "COMMITTED", "CANCELLED", "EXPIRED"})
+    String status,
+    
+    @Schema(description = "Creation timestamp", example = "2025-10-18T17:45:00")
+    LocalDateTime createdAt,
+    
+    @Schema(description = "Expiration timestamp", example = "2025-10-18T18:00:00")
+    LocalDateTime expiresAt,
+    
+    @Schema(description = "Commit timestamp, for committed reservations", example = "2025-10-18T17:50:00")
+    LocalDateTime committedAt
+) {
+}
@@ -6,7 +6,7 @@ import java.time.LocalDateTime;
 @Schema(description = "Reservation operation response")
 public record ReservationResponse(
     
-    @Schema(description = "Unique reservation identifier", example = "RES-550e8400-e29b-41d4-a716-446655440000")
+    @Schema(description = "Unique reservation identifier", example = "RES-00D5Y0K9R2000")
     String reservationId,
     
     @Schema(description = "Store identifier", example = "STORE-01")
@@ -0,0 +1,42 @@
+package com.inventory.adapters.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "Request to reserve every line of a cart at once (all-or-nothing)")
+public record ReserveCartRequest(
+    
+    @Schema(description = "Customer identifier", example = "CUST-001", required = true)
+    @NotBlank(message = "customerId is required")
+    String customerId,
+    
+    @Schema(description = "Cart lines to reserve", required = true)
+    @NotEmpty(message = "lines must not be empty")
+    @Size(max = 100, message = "a cart can have at most 100 lines")
+    List<@Valid Line> lines
+) {
+    
+    @Schema(description = "One cart line")
+    public record Line(
+        
+        @Schema(description = "Store identifier", example = "STORE-01", required = true)
+        @NotBlank(message = "storeId is required")
+        String storeId,
+        
+        @Schema(description = "Product SKU in format SKUxxx", example = "SKU123", required = true)
+        @NotBlank(message = "sku is required")
+        @Pattern(regexp = "^SKU\\d{3,6}$", message = "SKU must be in format SKUxxx")
+        String sku,
+        
+        @Schema(description = "Quantity to reserve", example = "2", required = true, minimum = "1")
+        @Min(value = 1, message = "quantity must be at least 1")
+        int quantity
+    ) {
+    }
+}
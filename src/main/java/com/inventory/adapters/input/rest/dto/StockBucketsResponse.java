@@ -0,0 +1,32 @@
+package com.inventory.adapters.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Bucket layout of a sliced inventory item")
+public record StockBucketsResponse(
+    
+    @Schema(description = "Store identifier", example = "STORE-01")
+    String storeId,
+    
+    @Schema(description = "Product SKU", example = "SKU123")
+    String sku,
+    
+    @Schema(description = "Number of buckets (0 = single-row layout)", example = "8")
+    int bucketCount,
+    
+    @Schema(description = "Available stock summed over all buckets", example = "100")
+    int availableStock,
+    
+    @Schema(description = "Per-bucket counters")
+    List<Bucket> buckets
+) {
+    
+    public record Bucket(
+        int index,
+        int availableStock,
+        int reservedStock,
+        int soldStock
+    ) {
+    }
+}
@@ -0,0 +1,428 @@
+package com.inventory.adapters.input.rest.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.inventory.adapters.input.rest.dto.ErrorResponse;
+import com.inventory.application.port.output.IdempotencyKeyRepository;
+import com.inventory.config.IdempotencyProperties;
+import com.inventory.domain.model.IdempotencyRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Idempotency-Key support for every API command. The first request with a key claims
+ * it in the idempotency table, runs, and stores its response; a retry gets that same
+ * response back from memory (or from the table after an eviction or a restart) without
+ * reaching a service, a lock or a write. Concurrent duplicates on this instance wait
+ * for the first one; on another instance they get a 409 until it finishes. The claim is
+ * renewed while the command runs, so a slow command is never taken over by a retry; only
+ * the claim of an instance that died lapses after {@code in-progress-timeout}. Server
+ * errors are not stored, so those can be retried with the same key. Bodies above
+ * {@code max-body-size} are rejected with a 413 before anything is buffered past the limit.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    // Nó do Caffeine + StoredResponse + cabeçalhos de String/array, aproximado
+    private static final int ENTRY_OVERHEAD_BYTES = 120;
+
+    private final IdempotencyKeyRepository repository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, StoredResponse> responses;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter memoryReplays;
+    private final Counter databaseReplays;
+    private final Counter conflicts;
+    private final ScheduledExecutorService claimRenewer;
+
+    public IdempotencyFilter(
+            IdempotencyKeyRepository repository,
+            IdempotencyProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        // Limitado por bytes, não por entradas: respostas de carrinho pesam mais que as de reserva
+        this.responses = Caffeine.newBuilder()
+            .maximumWeight(properties.maxMemory().toBytes())
+            .weigher((String key, StoredResponse response) ->
+                ENTRY_OVERHEAD_BYTES + key.length() + response.body().length)
+            .expireAfter(new UntilExpiresAt())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotency");
+
+        this.memoryReplays = replays(meterRegistry, "memory");
+        this.databaseReplays = replays(meterRegistry, "database");
+        this.conflicts = Counter.builder("inventory.idempotency.conflicts")
+            .description("Requests rejected because their key was in use or reused for another request")
+            .register(meterRegistry);
+
+        this.claimRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-claim-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        claimRenewer.shutdownNow();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/")
+            || SAFE_METHODS.contains(request.getMethod())
+            || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "VALIDATION_ERROR",
+                HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters", Map.of());
+            return;
+        }
+
+        long maxBodySize = properties.maxBodySize().toBytes();
+        byte[] body = request.getContentLengthLong() > maxBodySize
+            ? null
+            : readBody(request.getInputStream(), maxBodySize);
+        if (body == null) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "PAYLOAD_TOO_LARGE",
+                "Request body exceeds " + maxBodySize + " bytes",
+                Map.of("maxBodySize", maxBodySize));
+            return;
+        }
+        long fingerprint = fingerprint(request, body);
+
+        StoredResponse stored = lookup(key);
+        if (stored != null) {
+            replay(request, response, key, fingerprint, stored);
+            return;
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> first = inFlight.putIfAbsent(key, mine);
+        if (first != null) {
+            // Duplicata concorrente nesta instância: espera o primeiro pedido terminar
+            StoredResponse outcome = await(first);
+            if (outcome != null) {
+                replay(request, response, key, fingerprint, outcome);
+            } else {
+                inProgress(request, response, key);
+            }
+            return;
+        }
+
+        try {
+            execute(key, fingerprint, body, request, response, chain, mine);
+        } finally {
+            inFlight.remove(key, mine);
+            mine.complete(null);
+        }
+    }
+
+    private void execute(
+            String key,
+            long fingerprint,
+            byte[] body,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain,
+            CompletableFuture<StoredResponse> mine) throws ServletException, IOException {
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!repository.claim(key, fingerprint, now.plus(properties.inProgressTimeout()))) {
+            // Concluído ou em andamento em outra instância
+            StoredResponse stored = lookup(key);
+            if (stored != null) {
+                replay(request, response, key, fingerprint, stored);
+            } else {
+                inProgress(request, response, key);
+            }
+            return;
+        }
+
+        // Mantém o claim vivo enquanto o comando roda: um retry nunca o assume no meio da execução
+        long renewal = Math.max(properties.inProgressTimeout().toMillis() / 3, 1);
+        ScheduledFuture<?> keepAlive = claimRenewer.scheduleWithFixedDelay(
+            () -> extend(key), renewal, renewal, TimeUnit.MILLISECONDS);
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(new BufferedBodyRequest(request, body), wrapper);
+        } catch (ServletException | IOException | RuntimeException ex) {
+            repository.release(key);
+            throw ex;
+        } finally {
+            keepAlive.cancel(false);
+        }
+
+        if (wrapper.getStatus() < 500) {
+            mine.complete(remember(key, fingerprint, wrapper, now.plus(properties.ttl())));
+        } else {
+            repository.release(key);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void extend(String key) {
+        try {
+            repository.extend(key, LocalDateTime.now().plus(properties.inProgressTimeout()));
+        } catch (RuntimeException ex) {
+            // A próxima rodada tenta de novo; o claim ainda vale até o expiresAt anterior
+            log.warn("Failed to extend idempotency claim {}", key, ex);
+        }
+    }
+
+    private StoredResponse remember(
+            String key,
+            long fingerprint,
+            ContentCachingResponseWrapper wrapper,
+            LocalDateTime expiresAt) {
+        byte[] body = wrapper.getContentAsByteArray();
+        StoredResponse stored = new StoredResponse(fingerprint, wrapper.getStatus(), body, epochMillis(expiresAt));
+        try {
+            repository.complete(new IdempotencyRecord(key, fingerprint, wrapper.getStatus(), body, expiresAt));
+        } catch (RuntimeException ex) {
+            // A resposta segue para o cliente; o claim expira após in-progress-timeout
+            log.error("❌ Failed to store response for idempotency key {}", key, ex);
+            return null;
+        }
+        responses.put(key, stored);
+        return stored;
+    }
+
+    private StoredResponse lookup(String key) {
+        StoredResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            memoryReplays.increment();
+            return cached;
+        }
+
+        return repository.find(key)
+            .filter(IdempotencyRecord::completed)
+            .map(record -> {
+                StoredResponse loaded = new StoredResponse(
+                    record.fingerprint(), record.status(), record.body(), epochMillis(record.expiresAt()));
+                responses.put(key, loaded);
+                databaseReplays.increment();
+                return loaded;
+            })
+            .orElse(null);
+    }
+
+    private void replay(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String key,
+            long fingerprint,
+            StoredResponse stored) throws IOException {
+
+        if (stored.fingerprint() != fingerprint) {
+            conflicts.increment();
+            log.warn("⚠️ Idempotency key reused for a different request: {}", key);
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                HEADER + " was already used for a different request", Map.of("key", key));
+            return;
+        }
+
+        log.debug("Replaying response for idempotency key {}", key);
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.body().length > 0) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private void inProgress(HttpServletRequest request, HttpServletResponse response, String key)
+            throws IOException {
+        conflicts.increment();
+        response.setHeader("Retry-After", "1");
+        writeError(request, response, HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_PROGRESS",
+            "A request with this " + HEADER + " is still running, please retry", Map.of("key", key));
+    }
+
+    private void writeError(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            HttpStatus status,
+            String code,
+            String message,
+            Map<String, Object> details) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(
+            status.value(), code, message, request.getRequestURI(), details));
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> first) {
+        try {
+            return first.get(properties.inProgressTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException ex) {
+            return null;
+        }
+    }
+
+    // Lê no máximo um byte além do limite: o suficiente para saber que passou, sem bufferizar o resto
+    private static byte[] readBody(InputStream input, long maxBodySize) throws IOException {
+        byte[] body = input.readNBytes(Math.toIntExact(maxBodySize + 1));
+        return body.length > maxBodySize ? null : body;
+    }
+
+    private long fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Counter replays(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("inventory.idempotency.replays")
+            .description("Duplicate requests answered with the stored response")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    private record StoredResponse(long fingerprint, int status, byte[] body, long expiresAtMillis) {
+    }
+
+    // Cada entrada vive até o expiresAt gravado, inclusive as recarregadas da tabela
+    private static final class UntilExpiresAt implements Expiry<String, StoredResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, StoredResponse value, long currentTime) {
+            long remaining = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoredResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoredResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // O corpo já está inteiro em memória: nunca há espera, o listener é chamado na hora
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    Objects.requireNonNull(listener, "listener cannot be null");
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException ex) {
+                        listener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : "UTF-8";
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), encoding));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.inventory.adapters.input.rest.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.input.rest.dto.ErrorResponse;
+import com.inventory.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for virtual threads. Tomcat no longer caps concurrent requests at
+ * its pool size, so under overload every request would share the CPU and the database
+ * pool and all of them would slow down together. A fair semaphore keeps at most
+ * {@code max-in-flight-requests} API calls running; the rest wait in arrival order
+ * and get a 503 once the admission timeout expires.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class InFlightRequestLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final VirtualThreadProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public InFlightRequestLimitFilter(
+            VirtualThreadProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(properties.maxInFlightRequests(), true);
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("inventory.http.waiting", permits, Semaphore::getQueueLength)
+            .description("API requests waiting for an in-flight slot")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("inventory.http.rejected")
+            .description("API requests rejected after waiting for an in-flight slot")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(properties.admissionTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+
+        if (!admitted) {
+            rejected.increment();
+            log.warn("⚠️ Request rejected after {}ms waiting for a slot: {}",
+                properties.admissionTimeout().toMillis(), request.getRequestURI());
+            reject(request, response);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader("Retry-After", "1");
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "SYSTEM_BUSY",
+            "Too many requests in flight, please retry",
+            request.getRequestURI(),
+            Map.of("maxInFlightRequests", properties.maxInFlightRequests())
+        ));
+    }
+}
@@ -2,11 +2,16 @@ package com.inventory.adapters.input.rest.mapper;
 
 import com.inventory.adapters.input.rest.dto.*;
 import com.inventory.application.port.input.*;
+import com.inventory.domain.model.Reservation;
+import com.inventory.domain.model.ReservationId;
 import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StockBucket;
 import com.inventory.domain.model.StoreId;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class InventoryRestMapper {
@@ -20,6 +25,19 @@ public class InventoryRestMapper {
         );
     }
     
+    public ReserveCartCommand toCommand(ReserveCartRequest request) {
+        return new ReserveCartCommand(
+            request.customerId(),
+            request.lines().stream()
+                .map(line -> new ReserveCartCommand.Line(
+                    StoreId.of(line.storeId()),
+                    Sku.of(line.sku()),
+                    line.quantity()
+                ))
+                .toList()
+        );
+    }
+    
     public CommitStockCommand toCommand(CommitStockRequest request) {
         return new CommitStockCommand(
             request.reservationId(),
@@ -49,6 +67,31 @@ public class InventoryRestMapper {
         );
     }
     
+    public CartReservationResponse toCartResponse(
+            List<ReservationId> reservationIds,
+            ReserveCartCommand command,
+            LocalDateTime expiresAt) {
+        List<ReservationResponse> reservations = new ArrayList<>(reservationIds.size());
+        for (int i = 0; i < reservationIds.size(); i++) {
+            ReserveCartCommand.Line line = command.lines().get(i);
+            reservations.add(new ReservationResponse(
+                reservationIds.get(i).value(),
+                line.storeId().value(),
+                line.sku().value(),
+                line.quantity(),
+                "RESERVED",
+                expiresAt,
+                null
+            ));
+        }
+        
+        return new CartReservationResponse(
+            command.customerId(),
+            reservations,
+            String.format("Cart reserved successfully. %d lines reserved.", reservations.size())
+        );
+    }
+    
     public ReservationResponse toCommitResponse(String orderId) {
         return new ReservationResponse(
             null,
@@ -61,6 +104,37 @@ public class InventoryRestMapper {
         );
     }
     
+    public StockBucketsResponse toBucketsResponse(String storeId, String sku, List<StockBucket> buckets) {
+        return new StockBucketsResponse(
+            storeId,
+            sku,
+            buckets.size(),
+            buckets.stream().mapToInt(bucket -> bucket.stock().availableStock()).sum(),
+            buckets.stream()
+                .map(bucket -> new StockBucketsResponse.Bucket(
+                    bucket.index(),
+                    bucket.stock().availableStock(),
+                    bucket.stock().reservedStock(),
+                    bucket.stock().soldStock()
+                ))
+                .toList()
+        );
+    }
+    
+    public ReservationDetailsResponse toReservationDetails(Reservation reservation) {
+        return new ReservationDetailsResponse(
+            reservation.getId(),
+            reservation.getStoreId().value(),
+            reservation.getSku().value(),
+            reservation.getQuantity(),
+            reservation.getCustomerId(),
+            reservation.getStatus().name(),
+            reservation.getCreatedAt(),
+            reservation.getExpiresAt(),
+            reservation.getCommittedAt()
+        );
+    }
+    
     public InventoryResponse toInventoryResponse(InventoryView view) {
         return new InventoryResponse(
             view.storeId(),
@@ -72,5 +146,15 @@ public class InventoryRestMapper {
             view.availableStock() + view.reservedStock()
         );
     }
+    
+    public ProjectionRebuildResponse toRebuildResponse(ProjectionRebuildReport report) {
+        return new ProjectionRebuildResponse(
+            report.projection(),
+            report.events(),
+            report.elapsed().toMillis(),
+            Math.round(report.eventsPerSecond()),
+            report.resumed()
+        );
+    }
 }
 
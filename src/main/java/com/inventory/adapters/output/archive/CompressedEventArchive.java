@@ -0,0 +1,334 @@
+package com.inventory.adapters.output.archive;
+
+import com.inventory.adapters.output.persistence.codec.EventEnvelope;
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.application.port.output.EventArchive;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Arquivo frio do event store em disco. Cada {@code write} cria um par imutável:
+ * {@code 00000001.events}, com os eventos em blocos gzip de um agregado cada (no máximo
+ * {@link #BLOCK_EVENTS} eventos por bloco), e {@code 00000001.index}, com agregado,
+ * intervalo de timestamp, posição e tamanho de cada bloco. O índice é gravado por último
+ * e com move atômico: um .events sem .index é resto de uma escrita que não terminou e é
+ * apagado na subida.
+ * <p>
+ * Os índices ficam em memória; uma consulta por agregado e intervalo só descompacta os
+ * blocos daquele agregado cujo intervalo cruza o pedido. O registro é o mesmo do segment
+ * log: formato do payload, envelope e payload no codec configurado.
+ */
+@Slf4j
+public class CompressedEventArchive implements EventArchive {
+
+    private static final int MAGIC = 0x45564152;
+    private static final int BLOCK_EVENTS = 512;
+
+    private final Path directory;
+    private final EventPersistenceMapper mapper;
+    private final List<Archive> archives = new CopyOnWriteArrayList<>();
+
+    private record Block(String aggregateId, LocalDateTime from, LocalDateTime to, long offset, int length, int events) {
+
+        boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            return !to.isBefore(start) && !from.isAfter(end);
+        }
+    }
+
+    private record Archive(long number, Path events, List<Block> blocks, Map<String, List<Block>> byAggregate) {
+
+        static Archive of(long number, Path events, List<Block> blocks) {
+            Map<String, List<Block>> byAggregate = new HashMap<>();
+            blocks.forEach(block -> byAggregate.computeIfAbsent(block.aggregateId(), id -> new ArrayList<>()).add(block));
+            return new Archive(number, events, blocks, byAggregate);
+        }
+    }
+
+    public CompressedEventArchive(Path directory, EventPersistenceMapper mapper) throws IOException {
+        this.directory = directory;
+        this.mapper = mapper;
+        Files.createDirectories(directory);
+        open();
+    }
+
+    @Override
+    public synchronized void write(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long number = archives.isEmpty() ? 1 : archives.getLast().number() + 1;
+        Path target = directory.resolve(name(number, "events"));
+        try {
+            List<Block> blocks = new ArrayList<>();
+            Path temporary = directory.resolve(name(number, "events.tmp"));
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long offset = 0;
+                int first = 0;
+                while (first < events.size()) {
+                    int end = blockEnd(events, first);
+                    byte[] block = compress(events.subList(first, end));
+                    channel.write(ByteBuffer.wrap(block));
+                    blocks.add(new Block(events.get(first).aggregateId(), minTimestamp(events, first, end),
+                        maxTimestamp(events, first, end), offset, block.length, end - first));
+                    offset += block.length;
+                    first = end;
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            writeIndex(number, blocks);
+            archives.add(Archive.of(number, target, blocks));
+            log.info("📥 Archived {} events in {} blocks to {} ({} bytes)",
+                events.size(), blocks.size(), target.getFileName(), Files.size(target));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write event archive " + target, ex);
+        }
+    }
+
+    @Override
+    public List<DomainEvent> find(String aggregateId, LocalDateTime from, LocalDateTime to) {
+        List<DomainEvent> found = new ArrayList<>();
+        for (Archive archive : archives) {
+            for (Block block : archive.byAggregate().getOrDefault(aggregateId, List.of())) {
+                if (!block.overlaps(from, to)) {
+                    continue;
+                }
+                for (DomainEvent event : read(archive, block)) {
+                    if (!event.timestamp().isBefore(from) && !event.timestamp().isAfter(to)) {
+                        found.add(event);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // Cursor: "<arquivo>.<bloco>.<evento no bloco>" do próximo evento a ler
+    @Override
+    public EventPage findPageAfter(EventCursor after, int limit) {
+        long number = 0;
+        int blockIndex = 0;
+        int skip = 0;
+        if (!after.isStart()) {
+            String[] position = after.value().split("\\.");
+            number = Long.parseLong(position[0]);
+            blockIndex = Integer.parseInt(position[1]);
+            skip = Integer.parseInt(position[2]);
+        }
+
+        List<DomainEvent> events = new ArrayList<>(limit);
+        for (Archive archive : archives) {
+            if (archive.number() < number) {
+                continue;
+            }
+            if (archive.number() > number) {
+                blockIndex = 0;
+                skip = 0;
+            }
+            for (int b = blockIndex; b < archive.blocks().size(); b++) {
+                List<DomainEvent> block = read(archive, archive.blocks().get(b));
+                int take = Math.min(block.size() - skip, limit - events.size());
+                events.addAll(block.subList(skip, skip + take));
+                if (events.size() == limit) {
+                    int next = skip + take;
+                    EventCursor cursor = next < block.size()
+                        ? new EventCursor(archive.number() + "." + b + "." + next)
+                        : new EventCursor(archive.number() + "." + (b + 1) + ".0");
+                    return new EventPage(events, cursor);
+                }
+                skip = 0;
+            }
+            number = archive.number() + 1;
+            blockIndex = 0;
+        }
+        return new EventPage(events, new EventCursor(number + ".0.0"));
+    }
+
+    public int archiveCount() {
+        return archives.size();
+    }
+
+    public long archivedBytes() {
+        return archives.stream()
+            .flatMap(archive -> archive.blocks().stream())
+            .mapToLong(Block::length)
+            .sum();
+    }
+
+    private void open() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> paths = files.sorted().toList();
+            for (Path path : paths) {
+                String file = path.getFileName().toString();
+                if (file.endsWith(".tmp")) {
+                    Files.delete(path);
+                } else if (file.endsWith(".events") && !Files.exists(sibling(path, "index"))) {
+                    log.warn("⚠️ Removing event archive without index, left by an interrupted write: {}", file);
+                    Files.delete(path);
+                } else if (file.endsWith(".index")) {
+                    long number = Long.parseLong(file.substring(0, file.indexOf('.')));
+                    archives.add(Archive.of(number, sibling(path, "events"), readIndex(path)));
+                }
+            }
+        }
+        if (!archives.isEmpty()) {
+            log.info("Event archive opened - {} archives, {} bytes", archives.size(), archivedBytes());
+        }
+    }
+
+    // Um bloco por agregado, cortado a cada BLOCK_EVENTS eventos
+    private static int blockEnd(List<DomainEvent> events, int first) {
+        String aggregateId = events.get(first).aggregateId();
+        int end = first + 1;
+        while (end < events.size() && end - first < BLOCK_EVENTS && events.get(end).aggregateId().equals(aggregateId)) {
+            end++;
+        }
+        return end;
+    }
+
+    private byte[] compress(List<DomainEvent> events) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            for (DomainEvent event : events) {
+                byte[] payload = mapper.encode(event);
+                out.writeShort(mapper.payloadFormat().marker());
+                out.writeUTF(event.eventId());
+                out.writeUTF(event.eventType());
+                out.writeUTF(event.aggregateId());
+                out.writeLong(event.timestamp().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(event.timestamp().getNano());
+                out.writeInt(payload.length);
+                out.write(payload);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<DomainEvent> read(Archive archive, Block block) {
+        ByteBuffer buffer = ByteBuffer.allocate(block.length());
+        try (FileChannel channel = FileChannel.open(archive.events(), StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, block.offset() + buffer.position()) < 0) {
+                    throw new IOException("Truncated block at " + block.offset());
+                }
+            }
+            List<DomainEvent> events = new ArrayList<>(block.events());
+            try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(buffer.array())))) {
+                for (int i = 0; i < block.events(); i++) {
+                    EventPayloadFormat format = EventPayloadFormat.of(in.readShort());
+                    String eventId = in.readUTF();
+                    String eventType = in.readUTF();
+                    String aggregateId = in.readUTF();
+                    LocalDateTime timestamp = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                    byte[] payload = in.readNBytes(in.readInt());
+                    events.add(mapper.decode(format, new EventEnvelope(eventId, eventType, aggregateId, timestamp), payload));
+                }
+            }
+            return events;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read event archive " + archive.events(), ex);
+        }
+    }
+
+    private void writeIndex(long number, List<Block> blocks) throws IOException {
+        Path temporary = directory.resolve(name(number, "index.tmp"));
+        try (OutputStream file = Files.newOutputStream(temporary);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(blocks.size());
+            for (Block block : blocks) {
+                out.writeUTF(block.aggregateId());
+                out.writeLong(block.from().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(block.from().getNano());
+                out.writeLong(block.to().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(block.to().getNano());
+                out.writeLong(block.offset());
+                out.writeInt(block.length());
+                out.writeInt(block.events());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(name(number, "index")), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static List<Block> readIndex(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an event archive index: " + path);
+            }
+            int count = in.readInt();
+            List<Block> blocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                blocks.add(new Block(
+                    in.readUTF(),
+                    LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC),
+                    LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC),
+                    in.readLong(),
+                    in.readInt(),
+                    in.readInt()
+                ));
+            }
+            return blocks;
+        }
+    }
+
+    private static LocalDateTime minTimestamp(List<DomainEvent> events, int from, int to) {
+        LocalDateTime min = events.get(from).timestamp();
+        for (int i = from + 1; i < to; i++) {
+            if (events.get(i).timestamp().isBefore(min)) {
+                min = events.get(i).timestamp();
+            }
+        }
+        return min;
+    }
+
+    private static LocalDateTime maxTimestamp(List<DomainEvent> events, int from, int to) {
+        LocalDateTime max = events.get(from).timestamp();
+        for (int i = from + 1; i < to; i++) {
+            if (events.get(i).timestamp().isAfter(max)) {
+                max = events.get(i).timestamp();
+            }
+        }
+        return max;
+    }
+
+    private static Path sibling(Path path, String extension) {
+        String file = path.getFileName().toString();
+        return path.resolveSibling(file.substring(0, file.indexOf('.') + 1) + extension);
+    }
+
+    private static String name(long number, String extension) {
+        return String.format("%08d.%s", number, extension);
+    }
+}
@@ -0,0 +1,165 @@
+package com.inventory.adapters.output.eventlog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Um arquivo de segmento mapeado em memória, de capacidade fixa. Cada registro é
+ * [int tamanho][int CRC32C do corpo][corpo]; o arquivo nasce zerado, então tamanho zero
+ * marca o fim. Na abertura, um registro incompleto ou com CRC errado é a cauda rasgada
+ * de um crash: ele e tudo depois dele são zerados antes de qualquer novo append.
+ */
+@Slf4j
+final class LogSegment implements AutoCloseable {
+
+    static final int HEADER_BYTES = 8;
+
+    private final int number;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int truncatedBytes;
+
+    // Escrito só sob o lock de escrita do store; volatile para os leitores verem o registro inteiro
+    private volatile int end;
+    private int synced;
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        // false interrompe a varredura
+        boolean visit(int position, ByteBuffer body);
+    }
+
+    private LogSegment(int number, Path path, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.number = number;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.end = recover();
+        this.synced = end;
+        this.truncatedBytes = tornBytes(end);
+        if (truncatedBytes > 0) {
+            zero(end, capacity);
+            buffer.force();
+            log.warn("⚠️ Event log segment {} had a torn tail at byte {}; truncated", path.getFileName(), end);
+        }
+    }
+
+    static LogSegment open(Path path, int number, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Segmento gravado com uma capacidade maior (configuração mudou): mapeia o arquivo inteiro
+        int size = (int) Math.max(capacity, channel.size());
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new LogSegment(number, path, channel, buffer, size);
+    }
+
+    int number() {
+        return number;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int end() {
+        return end;
+    }
+
+    boolean truncated() {
+        return truncatedBytes > 0;
+    }
+
+    /**
+     * Grava o registro no fim do segmento e devolve a posição dele, ou -1 quando não cabe.
+     * Chamado só sob o lock de escrita do store.
+     */
+    int append(byte[] body) {
+        int position = end;
+        if ((long) position + HEADER_BYTES + body.length > capacity) {
+            return -1;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        // Corpo e CRC antes do tamanho: um leitor nunca vê tamanho de um registro pela metade
+        buffer.put(position + HEADER_BYTES, body);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, body.length);
+        end = position + HEADER_BYTES + body.length;
+        return position;
+    }
+
+    // Força para o disco só o trecho ainda não sincronizado
+    synchronized void force() {
+        int to = end;
+        if (to > synced) {
+            buffer.force(synced, to - synced);
+            synced = to;
+        }
+    }
+
+    /**
+     * Visita os registros que começam em [from, to), em ordem; {@code from} tem que ser o
+     * início de um registro.
+     */
+    void scan(int from, int to, RecordVisitor visitor) {
+        int limit = Math.min(to, end);
+        int position = from;
+        while (position < limit) {
+            int length = buffer.getInt(position);
+            if (!visitor.visit(position, buffer.slice(position + HEADER_BYTES, length))) {
+                return;
+            }
+            position += HEADER_BYTES + length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private int recover() {
+        int position = 0;
+        CRC32C crc = new CRC32C();
+        while (position + HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || (long) position + HEADER_BYTES + length > capacity) {
+                return position;
+            }
+            crc.reset();
+            crc.update(buffer.slice(position + HEADER_BYTES, length));
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                return position;
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    // Bytes não zerados depois do último registro válido
+    private int tornBytes(int from) {
+        for (int position = from; position < capacity; position++) {
+            if (buffer.get(position) != 0) {
+                return capacity - from;
+            }
+        }
+        return 0;
+    }
+
+    private void zero(int from, int to) {
+        for (int position = from; position < to; position++) {
+            buffer.put(position, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,526 @@
+package com.inventory.adapters.output.eventlog;
+
+import com.inventory.adapters.output.persistence.codec.EventEnvelope;
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Event store em log append-only: segmentos de tamanho fixo mapeados em memória
+ * ({@code 00000000.log}, {@code 00000001.log}, ...), registros com CRC e um índice
+ * esparso por agregado. Os eventos de uma transação ficam em memória e vão para o log no
+ * beforeCommit, antes do commit do banco; o fsync é em grupo, então transações que
+ * commitam juntas dividem o mesmo force. Uma transação marcada para rollback nunca chega
+ * ao log, mas um commit do banco que falhe depois do beforeCommit deixa os eventos dela
+ * gravados.
+ * <p>
+ * Leitura por agregado usa o índice; {@code findByEventId} e {@code findAll} varrem o
+ * log inteiro. {@code findPageAfter} lê em ordem de append, a partir de uma posição.
+ * <p>
+ * A versão de um evento é a posição dele entre os do agregado, na ordem do log: não é
+ * gravada no registro. Um {@code append} com versão esperada é conferido de novo no
+ * beforeCommit, sob o lock de escrita, e falha com OptimisticLockingFailureException se
+ * outra transação escreveu no agregado antes.
+ */
+@Slf4j
+public class SegmentLogEventStore implements EventStore, AutoCloseable {
+
+    // 1: payload sempre JSON; 2: um byte com o EventPayloadFormat antes do payload
+    private static final byte JSON_RECORD = 1;
+    private static final byte FORMAT = 2;
+    private static final int INDEX_BLOCK_BYTES = 4096;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+    private final EventPersistenceMapper mapper;
+    private final SparseAggregateIndex index = new SparseAggregateIndex(INDEX_BLOCK_BYTES);
+    private final List<LogSegment> segments = new CopyOnWriteArrayList<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final LongAdder appendedEvents = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+
+    // Group commit: quem chega com o force livre sincroniza tudo que já foi escrito
+    private final Object syncMonitor = new Object();
+    private volatile long written;
+    private long durable;
+    private boolean syncing;
+
+    // Versão do agregado esperada antes deste registro; ANY = sem expectativa
+    private static final long ANY = -1;
+
+    // Versão por agregado, calculada na primeira vez que ele é tocado depois de abrir o log
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    private record Encoded(String aggregateId, byte[] body, long expectedVersion) {
+    }
+
+    public SegmentLogEventStore(Path directory, int segmentBytes, boolean fsync, EventPersistenceMapper mapper)
+            throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.mapper = mapper;
+        open();
+    }
+
+    @Override
+    public void store(DomainEvent event) {
+        storeAll(List.of(event));
+    }
+
+    @Override
+    public void storeAll(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // Serializa fora do lock de escrita
+        write(events.stream().map(event -> encode(event, ANY)).toList());
+    }
+
+    @Override
+    public long append(String aggregateId, long expectedVersion, List<DomainEvent> events) {
+        long current = currentVersion(aggregateId);
+        if (current != expectedVersion) {
+            throw conflict(aggregateId, current, expectedVersion);
+        }
+        // A expectativa vai no primeiro registro e é conferida de novo na escrita, sob o lock
+        List<Encoded> records = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            records.add(encode(events.get(i), i == 0 ? expectedVersion : ANY));
+        }
+        write(records);
+        return expectedVersion + events.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long currentVersion(String aggregateId) {
+        // Conta também o que esta transação já guardou e ainda não foi para o log
+        List<Encoded> buffered = (List<Encoded>) TransactionSynchronizationManager.getResource(this);
+        long pending = buffered == null
+            ? 0
+            : buffered.stream().filter(record -> record.aggregateId().equals(aggregateId)).count();
+        return version(aggregateId) + pending;
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateId(String aggregateId) {
+        return findByAggregate(aggregateId, body -> true);
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateIdAndVersion(String aggregateId, long fromVersion, long toVersion) {
+        // Versão = posição do registro entre os do agregado, na ordem do log
+        long[] version = {0};
+        return findByAggregate(aggregateId, body -> {
+            version[0]++;
+            return version[0] >= fromVersion && version[0] <= toVersion;
+        });
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateIdAndTimestamp(String aggregateId, LocalDateTime from, LocalDateTime to) {
+        return findByAggregate(aggregateId, body -> {
+            LocalDateTime timestamp = timestamp(body);
+            return !timestamp.isBefore(from) && !timestamp.isAfter(to);
+        });
+    }
+
+    @Override
+    public Optional<DomainEvent> findByEventId(String eventId) {
+        List<DomainEvent> found = new ArrayList<>(1);
+        for (LogSegment segment : segments) {
+            segment.scan(0, Integer.MAX_VALUE, (position, body) -> {
+                if (eventId.equals(field(body, 2))) {
+                    found.add(decode(body));
+                    return false;
+                }
+                return true;
+            });
+            if (!found.isEmpty()) {
+                return Optional.of(found.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<DomainEvent> findAll() {
+        List<DomainEvent> events = new ArrayList<>();
+        for (LogSegment segment : segments) {
+            segment.scan(0, Integer.MAX_VALUE, (position, body) -> events.add(decode(body)));
+        }
+        return events;
+    }
+
+    @Override
+    public EventPage findPageAfter(EventCursor after, int limit) {
+        // Cursor: posição (segmento, offset) do próximo registro, na ordem do log
+        long from = after.isStart()
+            ? SparseAggregateIndex.encode(segments.getFirst().number(), 0)
+            : Long.parseLong(after.value());
+        int number = SparseAggregateIndex.segment(from);
+        int[] offset = {SparseAggregateIndex.offset(from)};
+        List<DomainEvent> events = new ArrayList<>(limit);
+        for (LogSegment segment : segments) {
+            if (segment.number() < number) {
+                continue;
+            }
+            if (segment.number() > number) {
+                number = segment.number();
+                offset[0] = 0;
+            }
+            segment.scan(offset[0], Integer.MAX_VALUE, (position, body) -> {
+                if (events.size() == limit) {
+                    return false;
+                }
+                offset[0] = position + LogSegment.HEADER_BYTES + body.remaining();
+                events.add(decode(body));
+                return true;
+            });
+            if (events.size() == limit) {
+                break;
+            }
+        }
+        return new EventPage(events, new EventCursor(Long.toString(SparseAggregateIndex.encode(number, offset[0]))));
+    }
+
+    public long appendedCount() {
+        return appendedEvents.sum();
+    }
+
+    public long syncCount() {
+        return syncs.sum();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            for (LogSegment segment : segments) {
+                segment.close();
+            }
+            log.info("Event log closed - {} segments, {} events appended, {} fsyncs",
+                segments.size(), appendedEvents.sum(), syncs.sum());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                .filter(path -> path.getFileName().toString().endsWith(".log"))
+                .sorted()
+                .toList();
+        }
+
+        for (int i = 0; i < files.size(); i++) {
+            Path path = files.get(i);
+            int number = Integer.parseInt(path.getFileName().toString().replace(".log", ""));
+            LogSegment segment = LogSegment.open(path, number, segmentBytes);
+            segments.add(segment);
+            boolean active = i == files.size() - 1;
+            if (active || !loadIndex(segment)) {
+                indexSegment(segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.add(LogSegment.open(segmentPath(0), 0, segmentBytes));
+        }
+        log.info("📥 Event log opened - {} segments in {}", segments.size(), directory);
+    }
+
+    private void write(List<Encoded> records) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending().addAll(records);
+            log.debug("Buffered {} events until commit", records.size());
+        } else {
+            append(records);
+        }
+    }
+
+    private void append(List<Encoded> records) {
+        long target;
+        writeLock.lock();
+        try {
+            // Confere todas as expectativas antes de escrever: ou a transação entra inteira, ou nada
+            Map<String, Long> next = new HashMap<>();
+            for (Encoded record : records) {
+                long current = next.computeIfAbsent(record.aggregateId(), this::version);
+                if (record.expectedVersion() != ANY && record.expectedVersion() != current) {
+                    throw conflict(record.aggregateId(), current, record.expectedVersion());
+                }
+                next.put(record.aggregateId(), current + 1);
+            }
+            for (Encoded record : records) {
+                LogSegment segment = segments.getLast();
+                int position = segment.append(record.body());
+                if (position < 0) {
+                    segment = roll(segment);
+                    position = segment.append(record.body());
+                    if (position < 0) {
+                        throw new IllegalArgumentException(
+                            "Event of " + record.body().length + " bytes does not fit in a segment");
+                    }
+                }
+                index.add(record.aggregateId(), segment.number(), position);
+            }
+            versions.putAll(next);
+            appendedEvents.add(records.size());
+            written += records.size();
+            target = written;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append to the event log", ex);
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (fsync) {
+            awaitDurable(target);
+        }
+    }
+
+    // Chamado com o lock de escrita: o segmento cheio vai inteiro para o disco antes do próximo
+    private LogSegment roll(LogSegment full) throws IOException {
+        full.force();
+        writeIndex(full);
+        LogSegment next = LogSegment.open(segmentPath(full.number() + 1), full.number() + 1, segmentBytes);
+        segments.add(next);
+        log.debug("Event log rolled to segment {}", next.number());
+        return next;
+    }
+
+    private void awaitDurable(long target) {
+        long upTo;
+        synchronized (syncMonitor) {
+            while (durable < target) {
+                if (!syncing) {
+                    break;
+                }
+                try {
+                    syncMonitor.wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for the event log fsync", ex);
+                }
+            }
+            if (durable >= target) {
+                return;
+            }
+            syncing = true;
+            // Lido depois do próprio append: cobre o alvo e tudo que entrou enquanto o force anterior rodava
+            upTo = written;
+        }
+
+        boolean forced = false;
+        try {
+            // Segmentos anteriores já foram forçados no roll
+            segments.getLast().force();
+            syncs.increment();
+            forced = true;
+        } finally {
+            synchronized (syncMonitor) {
+                syncing = false;
+                if (forced) {
+                    durable = Math.max(durable, upTo);
+                }
+                syncMonitor.notifyAll();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Encoded> pending() {
+        List<Encoded> pending = (List<Encoded>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Encoded> buffered = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // Falha aqui (disco) aborta o commit do banco
+                    append(buffered);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SegmentLogEventStore.this);
+                }
+            });
+            pending = buffered;
+        }
+        return pending;
+    }
+
+    private long version(String aggregateId) {
+        return versions.computeIfAbsent(aggregateId, id -> {
+            long[] count = {0};
+            for (long position : index.positions(id)) {
+                int offset = SparseAggregateIndex.offset(position);
+                segment(SparseAggregateIndex.segment(position)).scan(offset, index.blockEnd(offset), (at, body) -> {
+                    if (id.equals(field(body, 0))) {
+                        count[0]++;
+                    }
+                    return true;
+                });
+            }
+            return count[0];
+        });
+    }
+
+    private static OptimisticLockingFailureException conflict(String aggregateId, long current, long expected) {
+        return new OptimisticLockingFailureException(
+            "Aggregate " + aggregateId + " is at version " + current + ", expected " + expected);
+    }
+
+    private List<DomainEvent> findByAggregate(String aggregateId, Predicate<ByteBuffer> filter) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (long position : index.positions(aggregateId)) {
+            LogSegment segment = segment(SparseAggregateIndex.segment(position));
+            int offset = SparseAggregateIndex.offset(position);
+            segment.scan(offset, index.blockEnd(offset), (at, body) -> {
+                if (aggregateId.equals(field(body, 0)) && filter.test(body)) {
+                    events.add(decode(body));
+                }
+                return true;
+            });
+        }
+        return events;
+    }
+
+    private LogSegment segment(int number) {
+        // Segmentos são numerados a partir do primeiro arquivo existente, sem buracos
+        return segments.get(number - segments.getFirst().number());
+    }
+
+    private void indexSegment(LogSegment segment) {
+        segment.scan(0, Integer.MAX_VALUE, (position, body) -> {
+            index.add(field(body, 0), segment.number(), position);
+            return true;
+        });
+        if (segment.truncated()) {
+            log.warn("⚠️ Event log recovered segment {} up to byte {}", segment.number(), segment.end());
+        }
+    }
+
+    private boolean loadIndex(LogSegment segment) throws IOException {
+        try (InputStream in = Files.newInputStream(indexPath(segment.number()))) {
+            return index.read(segment.number(), in);
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    private void writeIndex(LogSegment segment) throws IOException {
+        Path target = indexPath(segment.number());
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            index.write(segment.number(), out);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve("%08d.log".formatted(number));
+    }
+
+    private Path indexPath(int number) {
+        return directory.resolve("%08d.idx".formatted(number));
+    }
+
+    // Corpo: [formato][epochSecond][nano][agregado][tipo][eventId][formato do payload][payload]
+    private Encoded encode(DomainEvent event, long expectedVersion) {
+        byte[] aggregateId = event.aggregateId().getBytes(StandardCharsets.UTF_8);
+        byte[] eventType = event.eventType().getBytes(StandardCharsets.UTF_8);
+        byte[] eventId = event.eventId().getBytes(StandardCharsets.UTF_8);
+        byte[] payload = mapper.encode(event);
+
+        ByteBuffer body = ByteBuffer.allocate(1 + 8 + 4
+            + 2 + aggregateId.length + 2 + eventType.length + 2 + eventId.length + 1 + 4 + payload.length);
+        body.put(FORMAT);
+        body.putLong(event.timestamp().toEpochSecond(ZoneOffset.UTC));
+        body.putInt(event.timestamp().getNano());
+        body.putShort((short) aggregateId.length).put(aggregateId);
+        body.putShort((short) eventType.length).put(eventType);
+        body.putShort((short) eventId.length).put(eventId);
+        body.put((byte) mapper.payloadFormat().marker());
+        body.putInt(payload.length).put(payload);
+        return new Encoded(event.aggregateId(), body.array(), expectedVersion);
+    }
+
+    private DomainEvent decode(ByteBuffer body) {
+        byte record = body.get(0);
+        if (record != JSON_RECORD && record != FORMAT) {
+            throw new IllegalStateException("Unknown event log record format: " + record);
+        }
+        int payloadAt = fieldOffset(body, 3);
+        EventPayloadFormat format = EventPayloadFormat.JSON;
+        if (record == FORMAT) {
+            format = EventPayloadFormat.of((short) body.get(payloadAt));
+            payloadAt++;
+        }
+        byte[] payload = new byte[body.getInt(payloadAt)];
+        body.get(payloadAt + 4, payload);
+        EventEnvelope envelope = new EventEnvelope(field(body, 2), field(body, 1), field(body, 0), timestamp(body));
+        return mapper.decode(format, envelope, payload);
+    }
+
+    private static LocalDateTime timestamp(ByteBuffer body) {
+        return LocalDateTime.ofEpochSecond(body.getLong(1), body.getInt(9), ZoneOffset.UTC);
+    }
+
+    // Campos de texto: 0 = agregado, 1 = tipo, 2 = eventId
+    private static String field(ByteBuffer body, int field) {
+        int at = fieldOffset(body, field);
+        byte[] value = new byte[body.getShort(at)];
+        body.get(at + 2, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static int fieldOffset(ByteBuffer body, int field) {
+        int at = 1 + 8 + 4;
+        for (int i = 0; i < field; i++) {
+            at += 2 + body.getShort(at);
+        }
+        return at;
+    }
+}
@@ -0,0 +1,129 @@
+package com.inventory.adapters.output.eventlog;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice esparso por agregado: para cada bloco de {@code blockBytes} de um segmento onde o
+ * agregado aparece, guarda só a posição do primeiro registro dele no bloco. A leitura
+ * varre cada bloco a partir dessa posição e filtra pelo agregado; o índice cresce com o
+ * número de blocos tocados, não com o número de eventos. Posições são codificadas como
+ * {@code (segmento << 32) | offset}.
+ */
+final class SparseAggregateIndex {
+
+    private static final int MAGIC = 0x53414931;
+
+    private final int blockBytes;
+    private final Map<String, Positions> positions = new ConcurrentHashMap<>();
+
+    SparseAggregateIndex(int blockBytes) {
+        this.blockBytes = blockBytes;
+    }
+
+    static long encode(int segment, int offset) {
+        return (long) segment << 32 | offset;
+    }
+
+    static int segment(long position) {
+        return (int) (position >>> 32);
+    }
+
+    static int offset(long position) {
+        return (int) position;
+    }
+
+    // Fim do bloco que contém o offset: até onde a leitura a partir de uma entrada varre
+    int blockEnd(int offset) {
+        return (offset / blockBytes + 1) * blockBytes;
+    }
+
+    void add(String aggregateId, int segment, int offset) {
+        positions.computeIfAbsent(aggregateId, id -> new Positions()).add(segment, offset, blockBytes);
+    }
+
+    long[] positions(String aggregateId) {
+        Positions entries = positions.get(aggregateId);
+        return entries == null ? new long[0] : entries.snapshot();
+    }
+
+    void write(int segment, OutputStream target) throws IOException {
+        Map<String, int[]> entries = new HashMap<>();
+        positions.forEach((aggregateId, all) -> {
+            int[] offsets = all.offsets(segment);
+            if (offsets.length > 0) {
+                entries.put(aggregateId, offsets);
+            }
+        });
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(MAGIC);
+        out.writeInt(blockBytes);
+        out.writeInt(entries.size());
+        for (Map.Entry<String, int[]> entry : entries.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().length);
+            for (int offset : entry.getValue()) {
+                out.writeInt(offset);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Carrega o índice de um segmento selado; falso quando o arquivo não serve (outro
+     * formato ou outro tamanho de bloco) e o segmento tem que ser varrido.
+     */
+    boolean read(int segment, InputStream source) throws IOException {
+        DataInputStream in = new DataInputStream(source);
+        if (in.readInt() != MAGIC || in.readInt() != blockBytes) {
+            return false;
+        }
+        int aggregates = in.readInt();
+        for (int i = 0; i < aggregates; i++) {
+            String aggregateId = in.readUTF();
+            int count = in.readInt();
+            for (int j = 0; j < count; j++) {
+                add(aggregateId, segment, in.readInt());
+            }
+        }
+        return true;
+    }
+
+    private static final class Positions {
+
+        private long[] entries = new long[4];
+        private int size;
+
+        synchronized void add(int segment, int offset, int blockBytes) {
+            if (size > 0) {
+                long last = entries[size - 1];
+                if (segment(last) == segment && offset(last) / blockBytes == offset / blockBytes) {
+                    return;
+                }
+            }
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = encode(segment, offset);
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(entries, size);
+        }
+
+        synchronized int[] offsets(int segment) {
+            return Arrays.stream(entries, 0, size)
+                .filter(position -> segment(position) == segment)
+                .mapToInt(SparseAggregateIndex::offset)
+                .toArray();
+        }
+    }
+}
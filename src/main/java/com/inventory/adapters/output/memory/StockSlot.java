@@ -0,0 +1,139 @@
+package com.inventory.adapters.output.memory;
+
+import com.inventory.domain.model.Stock;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contadores de um (store, sku) quente. O estoque disponível é dividido em
+ * stripes independentes para que 64 clientes não disputem a mesma linha de
+ * cache; cada stripe só é decrementado via CAS e nunca fica negativo, então
+ * a soma nunca permite overselling.
+ */
+final class StockSlot {
+
+    // 16 longs = 128 bytes: cada stripe ocupa sua própria linha de cache
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray available;
+    private final int mask;
+    private final AtomicLong reserved;
+    private final AtomicLong sold;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    StockSlot(Stock stock, int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.mask = size - 1;
+        this.available = new AtomicLongArray(size * PADDING);
+        this.reserved = new AtomicLong(stock.reservedStock());
+        this.sold = new AtomicLong(stock.soldStock());
+
+        long share = stock.availableStock() / size;
+        long remainder = stock.availableStock() % size;
+        for (int stripe = 0; stripe < size; stripe++) {
+            available.set(stripe * PADDING, share + (stripe < remainder ? 1 : 0));
+        }
+    }
+
+    boolean tryReserve(int quantity) {
+        int home = homeStripe();
+        for (int i = 0; i <= mask; i++) {
+            if (tryTake((home + i) & mask, quantity)) {
+                reserved.addAndGet(quantity);
+                dirty.set(true);
+                return true;
+            }
+        }
+        if (gather(home, quantity)) {
+            reserved.addAndGet(quantity);
+            dirty.set(true);
+            return true;
+        }
+        return false;
+    }
+
+    void commit(int quantity) {
+        reserved.addAndGet(-quantity);
+        sold.addAndGet(quantity);
+        dirty.set(true);
+    }
+
+    void release(int quantity) {
+        available.addAndGet(homeStripe() * PADDING, quantity);
+        reserved.addAndGet(-quantity);
+        dirty.set(true);
+    }
+
+    int available() {
+        long total = 0;
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            total += available.get(stripe * PADDING);
+        }
+        return (int) total;
+    }
+
+    Stock snapshot() {
+        return new Stock(available(), (int) reserved.get(), (int) sold.get());
+    }
+
+    boolean clearDirty() {
+        return dirty.getAndSet(false);
+    }
+
+    void markDirty() {
+        dirty.set(true);
+    }
+
+    private boolean tryTake(int stripe, long quantity) {
+        int index = stripe * PADDING;
+        long current = available.get(index);
+        while (current >= quantity) {
+            long witness = available.compareAndExchange(index, current, current - quantity);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    // Nenhum stripe sozinho tem a quantidade: junta parcelas de vários stripes
+    // e devolve tudo se o total não for suficiente.
+    private boolean gather(int home, int quantity) {
+        long[] taken = new long[mask + 1];
+        long missing = quantity;
+
+        for (int i = 0; i <= mask && missing > 0; i++) {
+            int stripe = (home + i) & mask;
+            int index = stripe * PADDING;
+            long current = available.get(index);
+            while (current > 0 && missing > 0) {
+                long part = Math.min(current, missing);
+                long witness = available.compareAndExchange(index, current, current - part);
+                if (witness == current) {
+                    taken[stripe] += part;
+                    missing -= part;
+                    break;
+                }
+                current = witness;
+            }
+        }
+
+        if (missing == 0) {
+            return true;
+        }
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            if (taken[stripe] > 0) {
+                available.addAndGet(stripe * PADDING, taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    private int homeStripe() {
+        long id = Thread.currentThread().threadId();
+        return (int) (id ^ (id >>> 16)) & mask;
+    }
+}
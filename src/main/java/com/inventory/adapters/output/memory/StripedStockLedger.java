@@ -0,0 +1,241 @@
+package com.inventory.adapters.output.memory;
+
+import com.inventory.application.port.output.InstanceLeaseRepository;
+import com.inventory.application.port.output.InventoryRepository;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.application.port.output.StockLedger;
+import com.inventory.config.HotSkuProperties;
+import com.inventory.domain.exception.InsufficientStockException;
+import com.inventory.domain.exception.ProductNotFoundException;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.ReservationStatus;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.Stock;
+import com.inventory.domain.model.StoreId;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StripedStockLedger implements StockLedger {
+
+    static final String LEASE = "hot-sku-ledger";
+
+    private final InventoryRepository inventoryRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final HotSkuProperties properties;
+    private final InstanceLeaseRepository leaseRepository;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<InventoryKey, StockSlot> slots = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+    // Até quando o lease é certamente nosso (System.nanoTime); passou disso, não admite mais
+    private volatile long leaseValidUntil = System.nanoTime();
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        // Os contadores vivem só nesta instância: uma segunda admitiria o mesmo estoque de novo.
+        // O lease no banco garante um dono só entre todas as instâncias que compartilham a base
+        long requestedAt = System.nanoTime();
+        if (!leaseRepository.acquire(LEASE, owner, LocalDateTime.now().plus(properties.leaseTtl()))) {
+            throw new IllegalStateException(
+                "inventory.hot-sku.enabled runs on a single instance, and another instance holds the '"
+                + LEASE + "' lease; it frees up at most " + properties.leaseTtl() + " after that instance stops");
+        }
+        leaseValidUntil = requestedAt + properties.leaseTtl().toNanos();
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-sku-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.flushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        long renewal = properties.leaseTtl().toMillis() / 3;
+        flusher.scheduleWithFixedDelay(this::renewLease, renewal, renewal, TimeUnit.MILLISECONDS);
+
+        log.info("🔥 Hot-SKU ledger enabled - stripes: {}, flush interval: {}ms, skus: {}",
+            properties.stripes(), interval, properties.skus().isEmpty() ? "ALL" : properties.skus());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+            leaseValidUntil = System.nanoTime();
+            leaseRepository.release(LEASE, owner);
+        }
+    }
+
+    @Override
+    public boolean tracks(StoreId storeId, Sku sku) {
+        return properties.enabled()
+            && (properties.skus().isEmpty() || properties.skus().contains(sku.value()));
+    }
+
+    @Override
+    public void reserve(StoreId storeId, Sku sku, int quantity) {
+        // Sem lease válido outra instância pode ter assumido: admitir aqui venderia o estoque duas vezes
+        if (System.nanoTime() - leaseValidUntil >= 0) {
+            throw new IllegalStateException("Hot-SKU ledger lease '" + LEASE + "' is not held by this instance");
+        }
+        StockSlot slot = slotFor(storeId, sku);
+
+        if (!slot.tryReserve(quantity)) {
+            throw new InsufficientStockException(sku, quantity, slot.available(), storeId);
+        }
+
+        // A admissão é imediata; se a transação da reserva falhar, devolve o estoque
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        slot.release(quantity);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void commit(StoreId storeId, Sku sku, int quantity) {
+        StockSlot slot = slotFor(storeId, sku);
+        afterCommit(() -> slot.commit(quantity));
+    }
+
+    @Override
+    public void release(StoreId storeId, Sku sku, int quantity) {
+        StockSlot slot = slotFor(storeId, sku);
+        afterCommit(() -> slot.release(quantity));
+    }
+
+    @Override
+    public Optional<Stock> snapshot(StoreId storeId, Sku sku) {
+        return Optional
+            .ofNullable(slots.get(InventoryKey.of(storeId, sku)))
+            .map(StockSlot::snapshot);
+    }
+
+    void flush() {
+        // Quem assumiu o lease reconstrói os contadores das reservas; gravar os nossos por cima desfaria isso
+        if (System.nanoTime() - leaseValidUntil >= 0) {
+            log.warn("Skipping hot-SKU flush: lease '{}' is not held by this instance", LEASE);
+            return;
+        }
+        slots.forEach((key, slot) -> {
+            if (!slot.clearDirty()) {
+                return;
+            }
+            try {
+                persist(key, slot.snapshot());
+            } catch (RuntimeException ex) {
+                slot.markDirty();
+                log.error("Failed to persist hot-SKU counters for {}", key, ex);
+            }
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("Hot-SKU flush failed", ex);
+        }
+    }
+
+    private void renewLease() {
+        long requestedAt = System.nanoTime();
+        try {
+            if (leaseRepository.renew(LEASE, owner, LocalDateTime.now().plus(properties.leaseTtl()))) {
+                leaseValidUntil = requestedAt + properties.leaseTtl().toNanos();
+            } else {
+                leaseValidUntil = requestedAt;
+                log.error("Hot-SKU ledger lease '{}' was taken by another instance; reservations will fail", LEASE);
+            }
+        } catch (RuntimeException ex) {
+            // Falha transitória: o lease segue valendo até leaseValidUntil, a próxima rodada tenta de novo
+            log.error("Failed to renew hot-SKU ledger lease", ex);
+        }
+    }
+
+    private void persist(InventoryKey key, Stock stock) {
+        transactionTemplate.executeWithoutResult(status ->
+            inventoryRepository
+                .findByStoreIdAndSkuWithLock(key.storeId(), key.sku())
+                .ifPresent(inventory -> {
+                    inventory.setStock(stock);
+                    inventory.setLastUpdated(LocalDateTime.now());
+                    inventoryRepository.save(inventory);
+                })
+        );
+        log.debug("Hot-SKU counters persisted - {}: {}", key, stock);
+    }
+
+    private StockSlot slotFor(StoreId storeId, Sku sku) {
+        StockSlot slot = slots.computeIfAbsent(InventoryKey.of(storeId, sku), key ->
+            inventoryRepository
+                .findByStoreIdAndSku(storeId, sku)
+                .map(inventory -> load(key, inventory.getStock()))
+                .orElse(null)
+        );
+        if (slot == null) {
+            throw new ProductNotFoundException(sku, storeId);
+        }
+        return slot;
+    }
+
+    // A linha é write-behind: depois de um crash pode estar até um flush-interval atrás.
+    // Dela só vale o total em mãos (reserve/commit/release não o alteram); reservado e vendido
+    // vêm das reservas, gravadas na transação de cada comando. Quem chama ainda não mudou a
+    // própria reserva, e o efeito dela no slot entra no afterCommit, como em qualquer outro slot
+    private StockSlot load(InventoryKey key, Stock flushed) {
+        int onHand = flushed.availableStock() + flushed.reservedStock() + flushed.soldStock();
+        int reserved = reservationRepository.sumQuantity(key.storeId(), key.sku(), ReservationStatus.RESERVED);
+        // Vendido só cresce pelo commit; a linha vence quando traz vendas sem reserva (carga inicial)
+        int sold = Math.max(flushed.soldStock(),
+            reservationRepository.sumQuantity(key.storeId(), key.sku(), ReservationStatus.COMMITTED));
+        Stock recovered = new Stock(Math.max(0, onHand - reserved - sold), reserved, sold);
+
+        StockSlot slot = new StockSlot(recovered, properties.stripes());
+        if (!recovered.equals(flushed)) {
+            log.warn("⚠️ Hot-SKU counters for {} rebuilt from reservations: row had {}, now {}",
+                key, flushed, recovered);
+            slot.markDirty();
+        }
+        return slot;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
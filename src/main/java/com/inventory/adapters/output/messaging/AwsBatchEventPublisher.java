@@ -0,0 +1,120 @@
+package com.inventory.adapters.output.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.application.port.output.EventPublisher;
+import com.inventory.domain.event.DomainEvent;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publica num destino AWS pelas APIs de lote: cada request leva até 10 eventos e no
+ * máximo 256 KB, o limite de PublishBatch e SendMessageBatch. Os requests de um lote
+ * saem juntos pelo cliente async e o send espera todos; o pool do cliente limita
+ * quantos ficam em voo.
+ * <p>
+ * Cada request passa pelo circuit breaker: com ele aberto o send falha na hora, sem
+ * chamar a AWS. Um lote com qualquer request ou entrada recusada falha inteiro; quem
+ * chamou (o relay do outbox) publica de novo, então o destino pode receber duplicatas
+ * e os consumidores deduplicam pelo eventId.
+ */
+@Slf4j
+public abstract class AwsBatchEventPublisher implements EventPublisher, EventBatchSink {
+
+    public static final int MAX_ENTRIES = 10;
+    public static final int MAX_REQUEST_BYTES = 256 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    protected AwsBatchEventPublisher(ObjectMapper objectMapper, CircuitBreaker circuitBreaker) {
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Um request com {@code payloads.size()} entradas, no máximo {@link #MAX_ENTRIES}. O
+     * id de cada entrada é a sua posição; o future falha se alguma for recusada.
+     */
+    protected abstract CompletableFuture<Void> sendRequest(List<DomainEvent> events, List<String> payloads);
+
+    protected abstract String destination();
+
+    @Override
+    public void publish(DomainEvent event) {
+        publishBatch(List.of(event));
+    }
+
+    @Override
+    public void publishBatch(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        send(events, new EncodedEvents().encode(objectMapper, events));
+    }
+
+    @Override
+    public void send(List<DomainEvent> events, EncodedEvents encoded) {
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        int from = 0;
+        while (from < events.size()) {
+            // Os payloads viram String aqui: o buffer de EncodedEvents só vale durante o send
+            List<String> payloads = new ArrayList<>(MAX_ENTRIES);
+            int bytes = 0;
+            int to = from;
+            while (to < events.size() && payloads.size() < MAX_ENTRIES) {
+                String payload = encoded.payload(to);
+                int size = payload.getBytes(StandardCharsets.UTF_8).length;
+                if (!payloads.isEmpty() && bytes + size > MAX_REQUEST_BYTES) {
+                    break;
+                }
+                payloads.add(payload);
+                bytes += size;
+                to++;
+            }
+            List<DomainEvent> request = events.subList(from, to);
+            inFlight.add(circuitBreaker.decorateCompletionStage(() -> sendRequest(request, payloads))
+                .get()
+                .toCompletableFuture());
+            from = to;
+        }
+        requests.add(inFlight.size());
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            failed.add(events.size());
+            Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+            log.warn("❌ Could not publish {} events to {}: {}", events.size(), destination(), cause.getMessage());
+            throw cause instanceof RuntimeException runtime ? runtime : ex;
+        }
+        published.add(events.size());
+        log.debug("📤 {} events published to {} in {} requests", events.size(), destination(), inFlight.size());
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    protected static IllegalStateException rejected(String destination, int rejected, int total, String reason) {
+        return new IllegalStateException(
+            rejected + " of " + total + " events were not accepted by " + destination + ": " + reason);
+    }
+}
@@ -0,0 +1,68 @@
+package com.inventory.adapters.output.messaging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.domain.event.DomainEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JSON de um lote de eventos num buffer só, um evento atrás do outro. O buffer e o
+ * vetor de fronteiras são reaproveitados de um lote para o outro: quem tem um
+ * EncodedEvents é o único que escreve nele (não é thread-safe).
+ */
+public class EncodedEvents {
+
+    private final Buffer buffer = new Buffer();
+    private int[] ends = new int[64];
+    private int size;
+
+    // ByteArrayOutputStream com acesso ao array interno, sem cópia
+    private static final class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(16 * 1024);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+    public EncodedEvents encode(ObjectMapper objectMapper, List<DomainEvent> events) {
+        buffer.reset();
+        size = 0;
+        if (ends.length < events.size()) {
+            ends = Arrays.copyOf(ends, Math.max(events.size(), ends.length * 2));
+        }
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+            // Sem separador entre valores raiz: as fronteiras são exatamente os eventos
+            generator.setRootValueSeparator(null);
+            for (DomainEvent event : events) {
+                objectMapper.writeValue(generator, event);
+                generator.flush();
+                ends[size++] = buffer.size();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not serialize event batch", ex);
+        }
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int bytes() {
+        return buffer.size();
+    }
+
+    public String payload(int index) {
+        int start = index == 0 ? 0 : ends[index - 1];
+        return new String(buffer.array(), start, ends[index] - start, StandardCharsets.UTF_8);
+    }
+}
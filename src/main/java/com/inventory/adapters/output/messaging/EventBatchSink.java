@@ -0,0 +1,14 @@
+package com.inventory.adapters.output.messaging;
+
+import com.inventory.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Destino de um lote já serializado: {@code encoded.payload(i)} é o JSON de
+ * {@code events.get(i)}. Só vale durante a chamada; o buffer é reaproveitado depois.
+ */
+@FunctionalInterface
+public interface EventBatchSink {
+    void send(List<DomainEvent> events, EncodedEvents encoded);
+}
@@ -12,7 +12,7 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class InMemoryEventPublisher implements EventPublisher {
+public class InMemoryEventPublisher implements EventPublisher, EventBatchSink {
     
     private final ObjectMapper objectMapper;
     
@@ -24,9 +24,7 @@ public class InMemoryEventPublisher implements EventPublisher {
             log.info("📤 EVENT PUBLISHED: {} ({})", 
                 event.eventType(), event.eventId());
             log.debug("Event payload: {}", eventJson);
-            
-            // TODO: Integrar com SNS/SQS quando disponível
-            // snsClient.publish(...)
+            // SNS/SQS: inventory.messaging.transport (MessagingConfig)
             
         } catch (Exception e) {
             log.error("Failed to publish event: {}", event.eventId(), e);
@@ -36,8 +34,24 @@ public class InMemoryEventPublisher implements EventPublisher {
     
     @Override
     public void publishBatch(List<DomainEvent> events) {
-        log.info("📤 Publishing batch of {} events", events.size());
-        events.forEach(this::publish);
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            send(events, new EncodedEvents().encode(objectMapper, events));
+        } catch (Exception e) {
+            log.error("Failed to publish batch of {} events", events.size(), e);
+        }
+    }
+    
+    // Um log por lote; o payload de cada evento só em debug
+    @Override
+    public void send(List<DomainEvent> events, EncodedEvents encoded) {
+        log.info("📤 EVENTS PUBLISHED: {} events ({} bytes)", events.size(), encoded.bytes());
+        if (log.isDebugEnabled()) {
+            for (int i = 0; i < encoded.size(); i++) {
+                log.debug("Event payload: {}", encoded.payload(i));
+            }
+        }
     }
 }
-
@@ -0,0 +1,271 @@
+package com.inventory.adapters.output.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.application.port.output.EventPublisher;
+import com.inventory.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publica fora da thread do request: {@code publish} só coloca o evento num ring buffer
+ * pré-alocado, e uma thread consumidora tira lotes de até {@code batchSize}, serializa
+ * cada lote num buffer reaproveitado (EncodedEvents) e entrega ao sink.
+ * <p>
+ * Buffer cheio: BLOCK espera vaga, DROP_OLDEST descarta o evento mais antigo ainda não
+ * lido e FAIL_FAST recusa o publish com IllegalStateException. O que está no buffer é
+ * perdido se o processo cair; para entrega garantida existe o outbox (OutboxConfig).
+ */
+@Slf4j
+public class RingBufferEventPublisher implements EventPublisher, AutoCloseable {
+
+    public enum Backpressure {
+        BLOCK,
+        DROP_OLDEST,
+        FAIL_FAST
+    }
+
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final EventBatchSink sink;
+    private final ObjectMapper objectMapper;
+    private final Backpressure backpressure;
+    private final int capacity;
+    private final int batchSize;
+
+    // Slots pré-alocados; posição = sequência & mask
+    private final DomainEvent[] slots;
+    private final long[] enqueuedAt;
+    private final int mask;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private volatile long head;
+    private volatile long tail;
+    private boolean consumerWaiting;
+    private int producersWaiting;
+    private volatile boolean running = true;
+    private final Thread consumer;
+
+    // Estado só da thread consumidora, reaproveitado entre lotes
+    private final List<DomainEvent> batch;
+    private final long[] batchEnqueuedAt;
+    private final EncodedEvents encoded = new EncodedEvents();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+
+    public RingBufferEventPublisher(
+            EventBatchSink sink,
+            ObjectMapper objectMapper,
+            int capacity,
+            int batchSize,
+            Backpressure backpressure) {
+        this.sink = sink;
+        this.objectMapper = objectMapper;
+        this.backpressure = backpressure;
+        this.capacity = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.batchSize = batchSize;
+        this.slots = new DomainEvent[this.capacity];
+        this.enqueuedAt = new long[this.capacity];
+        this.mask = this.capacity - 1;
+        this.batch = new ArrayList<>(batchSize);
+        this.batchEnqueuedAt = new long[batchSize];
+        this.consumer = Thread.ofPlatform().name("event-publisher").daemon().unstarted(this::consumeLoop);
+    }
+
+    public void start() {
+        consumer.start();
+        log.info("Event publisher ring buffer - capacity {}, batches of {}, {} when full",
+            capacity, batchSize, backpressure.name().toLowerCase());
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        publishBatch(List.of(event));
+    }
+
+    @Override
+    public void publishBatch(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Event publisher is closed");
+            }
+            // Tudo ou nada: um lote recusado não sai pela metade
+            if (backpressure == Backpressure.FAIL_FAST && capacity - (tail - head) < events.size()) {
+                rejected.add(events.size());
+                throw new IllegalStateException("Event buffer is full (" + capacity + " events)");
+            }
+            for (DomainEvent event : events) {
+                awaitRoom();
+                int slot = (int) (tail & mask);
+                slots[slot] = event;
+                enqueuedAt[slot] = now;
+                tail = tail + 1;
+            }
+            if (consumerWaiting) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long depth() {
+        return tail - head;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Tempo do publish até o sink retornar, somado por evento publicado; dividido por
+     * {@link #publishedCount()} dá a latência média.
+     */
+    public double latencySeconds() {
+        return latencyNanos.sum() / 1e9;
+    }
+
+    /**
+     * Para de aceitar eventos e espera até {@code timeout} pelos que já estão no buffer.
+     */
+    public void close(long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (consumer.isAlive()) {
+            consumer.join(unit.toMillis(timeout));
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        close(5, TimeUnit.SECONDS);
+    }
+
+    // Com o lock; volta com pelo menos um slot livre
+    private void awaitRoom() {
+        while (tail - head == capacity) {
+            switch (backpressure) {
+                case DROP_OLDEST -> {
+                    slots[(int) (head & mask)] = null;
+                    head = head + 1;
+                    dropped.increment();
+                }
+                case BLOCK -> {
+                    if (!running) {
+                        throw new IllegalStateException("Event publisher is closed");
+                    }
+                    producersWaiting++;
+                    try {
+                        notFull.awaitUninterruptibly();
+                    } finally {
+                        producersWaiting--;
+                    }
+                }
+                case FAIL_FAST -> throw new IllegalStateException("Event buffer is full (" + capacity + " events)");
+            }
+        }
+    }
+
+    private void consumeLoop() {
+        while (running || depth() > 0) {
+            if (take() == 0) {
+                continue;
+            }
+            try {
+                sink.send(batch, encoded.encode(objectMapper, batch));
+                long now = System.nanoTime();
+                long latency = 0;
+                for (int i = 0; i < batch.size(); i++) {
+                    latency += now - batchEnqueuedAt[i];
+                }
+                latencyNanos.add(latency);
+                published.add(batch.size());
+                batches.increment();
+            } catch (RuntimeException ex) {
+                // Sem retry aqui: quem precisa de entrega garantida publica pelo outbox
+                failed.add(batch.size());
+                log.warn("⚠️ Could not publish a batch of {} events: {}", batch.size(), ex.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Copia até batchSize eventos para o lote e libera os slots
+    private int take() {
+        lock.lock();
+        try {
+            if (tail == head) {
+                if (!running) {
+                    return 0;
+                }
+                consumerWaiting = true;
+                try {
+                    notEmpty.awaitNanos(IDLE_NANOS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    running = false;
+                } finally {
+                    consumerWaiting = false;
+                }
+            }
+            int count = (int) Math.min(tail - head, batchSize);
+            for (int i = 0; i < count; i++) {
+                int slot = (int) ((head + i) & mask);
+                batch.add(slots[slot]);
+                batchEnqueuedAt[i] = enqueuedAt[slot];
+                slots[slot] = null;
+            }
+            head = head + count;
+            if (count > 0 && producersWaiting > 0) {
+                notFull.signalAll();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
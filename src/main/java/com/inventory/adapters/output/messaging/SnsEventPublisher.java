@@ -0,0 +1,57 @@
+package com.inventory.adapters.output.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.domain.event.DomainEvent;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publica no tópico SNS com PublishBatch. O tipo do evento vai também como atributo
+ * eventType, para as assinaturas filtrarem sem abrir o JSON.
+ */
+public class SnsEventPublisher extends AwsBatchEventPublisher {
+
+    private final SnsAsyncClient sns;
+    private final String topicArn;
+
+    public SnsEventPublisher(SnsAsyncClient sns, String topicArn, ObjectMapper objectMapper, CircuitBreaker circuitBreaker) {
+        super(objectMapper, circuitBreaker);
+        this.sns = sns;
+        this.topicArn = topicArn;
+    }
+
+    @Override
+    protected CompletableFuture<Void> sendRequest(List<DomainEvent> events, List<String> payloads) {
+        List<PublishBatchRequestEntry> entries = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            entries.add(PublishBatchRequestEntry.builder()
+                .id(Integer.toString(i))
+                .message(payloads.get(i))
+                .messageAttributes(Map.of("eventType", MessageAttributeValue.builder()
+                    .dataType("String")
+                    .stringValue(events.get(i).eventType())
+                    .build()))
+                .build());
+        }
+        return sns.publishBatch(request -> request.topicArn(topicArn).publishBatchRequestEntries(entries))
+            .thenAccept(response -> {
+                if (response.hasFailed() && !response.failed().isEmpty()) {
+                    BatchResultErrorEntry first = response.failed().getFirst();
+                    throw rejected(topicArn, response.failed().size(), entries.size(), first.code() + " " + first.message());
+                }
+            });
+    }
+
+    @Override
+    protected String destination() {
+        return topicArn;
+    }
+}
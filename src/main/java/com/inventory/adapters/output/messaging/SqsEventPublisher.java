@@ -0,0 +1,51 @@
+package com.inventory.adapters.output.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.domain.event.DomainEvent;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Envia para a fila SQS com SendMessageBatch. Só o corpo: o consumidor da fila lê o
+ * tipo do próprio JSON.
+ */
+public class SqsEventPublisher extends AwsBatchEventPublisher {
+
+    private final SqsAsyncClient sqs;
+    private final String queueUrl;
+
+    public SqsEventPublisher(SqsAsyncClient sqs, String queueUrl, ObjectMapper objectMapper, CircuitBreaker circuitBreaker) {
+        super(objectMapper, circuitBreaker);
+        this.sqs = sqs;
+        this.queueUrl = queueUrl;
+    }
+
+    @Override
+    protected CompletableFuture<Void> sendRequest(List<DomainEvent> events, List<String> payloads) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            entries.add(SendMessageBatchRequestEntry.builder()
+                .id(Integer.toString(i))
+                .messageBody(payloads.get(i))
+                .build());
+        }
+        return sqs.sendMessageBatch(request -> request.queueUrl(queueUrl).entries(entries))
+            .thenAccept(response -> {
+                if (response.hasFailed() && !response.failed().isEmpty()) {
+                    BatchResultErrorEntry first = response.failed().getFirst();
+                    throw rejected(queueUrl, response.failed().size(), entries.size(), first.code() + " " + first.message());
+                }
+            });
+    }
+
+    @Override
+    protected String destination() {
+        return queueUrl;
+    }
+}
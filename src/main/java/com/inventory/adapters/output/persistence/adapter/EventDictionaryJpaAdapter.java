@@ -0,0 +1,126 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import com.inventory.adapters.output.persistence.codec.EventDictionary;
+import com.inventory.adapters.output.persistence.entity.EventDictionaryEntity;
+import com.inventory.adapters.output.persistence.repository.EventDictionaryJpaRepository;
+import com.inventory.config.EventCodecProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dicionário do payload binário na tabela event_dictionary, inteiro em memória depois
+ * da primeira leitura. Termos novos são gravados em autocommit por um pool próprio e
+ * pequeno: o id tem que existir mesmo que a transação do evento que o criou volte atrás,
+ * porque outras já podem tê-lo usado, e quem grava o evento já segura uma conexão do
+ * pool da aplicação (e o lock da linha do estoque). Pedir uma segunda conexão ao mesmo
+ * pool esgotava o Hikari numa rajada de SKUs novos; as conexões deste pool nunca
+ * esperam por outra.
+ */
+@Component
+@Slf4j
+public class EventDictionaryJpaAdapter implements EventDictionary {
+
+    private final EventDictionaryJpaRepository jpaRepository;
+    private final DataSourceProperties dataSourceProperties;
+    private final int poolSize;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> terms = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile HikariDataSource registrationPool;
+    private volatile JdbcTemplate registration;
+
+    public EventDictionaryJpaAdapter(
+            EventDictionaryJpaRepository jpaRepository,
+            DataSourceProperties dataSourceProperties,
+            EventCodecProperties properties) {
+        this.jpaRepository = jpaRepository;
+        this.dataSourceProperties = dataSourceProperties;
+        this.poolSize = properties.dictionaryPoolSize();
+    }
+
+    @Override
+    public int idOf(String term) {
+        load();
+        Integer id = ids.get(term);
+        return id != null ? id : register(term);
+    }
+
+    @Override
+    public String termOf(int id) {
+        load();
+        String term = terms.get(id);
+        if (term == null) {
+            // Termo criado por outra instância depois da carga
+            term = jpaRepository.findById(id)
+                .map(EventDictionaryEntity::getTerm)
+                .orElseThrow(() -> new IllegalStateException("Unknown event dictionary id: " + id));
+            cache(id, term);
+        }
+        return term;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (registrationPool != null) {
+            registrationPool.close();
+        }
+    }
+
+    private int register(String term) {
+        JdbcTemplate jdbc = registration();
+        try {
+            jdbc.update("INSERT INTO event_dictionary (term) VALUES (?)", term);
+        } catch (DuplicateKeyException ex) {
+            // Outra thread ou instância gravou o mesmo termo primeiro
+        }
+        Integer id = jdbc.queryForObject("SELECT id FROM event_dictionary WHERE term = ?", Integer.class, term);
+        log.debug("Event dictionary term registered: {} -> {}", term, id);
+        cache(id, term);
+        return id;
+    }
+
+    // Só abre o pool quando aparece o primeiro termo novo: com payload json ele nunca é usado
+    private JdbcTemplate registration() {
+        if (registration == null) {
+            synchronized (this) {
+                if (registration == null) {
+                    HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+                    pool.setPoolName("event-dictionary");
+                    pool.setMaximumPoolSize(poolSize);
+                    pool.setMinimumIdle(0);
+                    pool.setAutoCommit(true);
+                    registrationPool = pool;
+                    registration = new JdbcTemplate(pool);
+                }
+            }
+        }
+        return registration;
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                jpaRepository.findAll().forEach(entry -> cache(entry.getId(), entry.getTerm()));
+                loaded = true;
+            }
+        }
+    }
+
+    private void cache(int id, String term) {
+        ids.put(term, id);
+        terms.put(id, term);
+    }
+}
@@ -0,0 +1,40 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.application.port.output.EventRetentionSource;
+import com.inventory.domain.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class EventRetentionJpaAdapter implements EventRetentionSource {
+
+    // Limite de parâmetros por IN (...) que todos os bancos suportados aceitam
+    private static final int DELETE_CHUNK = 1000;
+
+    private final EventJpaRepository jpaRepository;
+    private final EventPersistenceMapper mapper;
+
+    @Override
+    public List<DomainEvent> findArchivable(LocalDateTime olderThan, int limit) {
+        return jpaRepository.findArchivable(olderThan, Limit.of(limit))
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void delete(List<String> eventIds) {
+        for (int first = 0; first < eventIds.size(); first += DELETE_CHUNK) {
+            jpaRepository.deleteAllByIdInBatch(eventIds.subList(first, Math.min(first + DELETE_CHUNK, eventIds.size())));
+        }
+    }
+}
@@ -1,41 +1,107 @@
 package com.inventory.adapters.output.persistence.adapter;
 
+import com.inventory.adapters.output.persistence.entity.EventEntity;
 import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
 import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.adapters.output.persistence.repository.EventStreamJpaRepository;
 import com.inventory.application.port.output.EventStore;
 import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EventStoreJpaAdapter implements EventStore {
     
+    private static final String CREATE_STREAM_SQL = "INSERT INTO event_streams (aggregate_id, version) VALUES (?, ?)";
+    
     private final EventJpaRepository jpaRepository;
+    private final EventStreamJpaRepository streamRepository;
     private final EventPersistenceMapper mapper;
+    private final EntityManager entityManager;
     
     @Override
     public void store(DomainEvent event) {
         log.debug("Storing event: {} ({})", event.eventId(), event.eventType());
         
-        var entity = mapper.toEntity(event);
-        jpaRepository.save(entity);
+        appendAfter(event.aggregateId(), reserveVersions(event.aggregateId(), 1), List.of(event));
+        flush();
         
         log.info("Event stored: {}", event.eventId());
     }
     
+    @Override
+    public void storeAll(List<DomainEvent> events) {
+        log.debug("Storing {} events", events.size());
+        
+        // Agregados em ordem: dois lotes com os mesmos agregados travam as linhas de event_streams
+        // na mesma sequência. Dentro do agregado, os eventos mantêm a ordem em que vieram
+        Map<String, List<DomainEvent>> byAggregate = new TreeMap<>();
+        for (DomainEvent event : events) {
+            byAggregate.computeIfAbsent(event.aggregateId(), id -> new ArrayList<>()).add(event);
+        }
+        byAggregate.forEach((aggregateId, stream) ->
+            appendAfter(aggregateId, reserveVersions(aggregateId, stream.size()), stream));
+        flush();
+        
+        log.info("Events stored: {}", events.size());
+    }
+    
+    @Override
+    public long append(String aggregateId, long expectedVersion, List<DomainEvent> events) {
+        long version = expectedVersion + events.size();
+        if (streamRepository.advanceFrom(aggregateId, expectedVersion, version) == 0) {
+            long current = currentVersion(aggregateId);
+            if (current != expectedVersion || !created(aggregateId, version)) {
+                throw new OptimisticLockingFailureException(
+                    "Aggregate " + aggregateId + " is at version " + current + ", expected " + expectedVersion);
+            }
+        }
+        appendAfter(aggregateId, expectedVersion, events);
+        flush();
+        return version;
+    }
+    
+    @Override
+    public long currentVersion(String aggregateId) {
+        return streamRepository.findVersion(aggregateId)
+            .orElseGet(() -> jpaRepository.findCurrentVersion(aggregateId));
+    }
+    
     @Override
     public List<DomainEvent> findByAggregateId(String aggregateId) {
         log.debug("Finding events by aggregateId: {}", aggregateId);
         
         return jpaRepository
-            .findByAggregateIdOrderByTimestampAsc(aggregateId)
+            .findByAggregateIdOrderByVersionAsc(aggregateId)
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+    
+    @Override
+    public List<DomainEvent> findByAggregateIdAndVersion(String aggregateId, long fromVersion, long toVersion) {
+        return jpaRepository
+            .findByAggregateIdAndVersionBetween(aggregateId, fromVersion, toVersion)
             .stream()
             .map(mapper::toDomain)
             .toList();
@@ -72,5 +138,99 @@ public class EventStoreJpaAdapter implements EventStore {
             .map(mapper::toDomain)
             .toList();
     }
+    
+    @Override
+    public EventPage findPageAfter(EventCursor after, int limit) {
+        List<EventEntity> rows;
+        if (after.isStart()) {
+            rows = jpaRepository.findReplayPage(Limit.of(limit));
+        } else {
+            // Cursor: "<timestamp>|<aggregateId>|<version>" do último evento lido
+            String[] position = replayPosition(after.value().split("\\|"));
+            rows = jpaRepository.findReplayPageAfter(
+                LocalDateTime.parse(position[0]),
+                position[1],
+                Long.parseLong(position[2]),
+                Limit.of(limit)
+            );
+        }
+        
+        List<DomainEvent> events = rows.stream().map(mapper::toDomain).toList();
+        EventCursor next = rows.isEmpty()
+            ? after
+            : new EventCursor(rows.getLast().getTimestamp() + "|" + rows.getLast().getAggregateId()
+                + "|" + rows.getLast().getVersion());
+        return new EventPage(events, next);
+    }
+    
+    // Checkpoints gravados antes da mudança de ordem: "<timestamp>|<eventId>". A posição sai do
+    // próprio evento; se ele já não está aqui, segue depois de todo aquele timestamp
+    private String[] replayPosition(String[] cursor) {
+        if (cursor.length == 3) {
+            return cursor;
+        }
+        return jpaRepository.findById(cursor[1])
+            .map(row -> new String[] {cursor[0], row.getAggregateId(), String.valueOf(row.getVersion())})
+            .orElse(new String[] {cursor[0], "\uffff", String.valueOf(Long.MAX_VALUE)});
+    }
+    
+    // Avança a linha do agregado em count e devolve a versão anterior. O UPDATE trava a linha
+    // até o commit: outro writer do mesmo agregado espera e continua do número seguinte
+    private long reserveVersions(String aggregateId, int count) {
+        if (streamRepository.advance(aggregateId, count) == 0) {
+            long current = jpaRepository.findCurrentVersion(aggregateId);
+            if (created(aggregateId, current + count)) {
+                return current;
+            }
+            // Outra transação criou a linha primeiro
+            if (streamRepository.advance(aggregateId, count) == 0) {
+                throw new IllegalStateException("Event stream " + aggregateId + " vanished while appending");
+            }
+        }
+        return streamRepository.findVersion(aggregateId).orElseThrow() - count;
+    }
+    
+    // Primeiro evento do agregado nesta tabela: parte do que já estiver em domain_events. O INSERT
+    // vai pela conexão da transação, num savepoint: perder a corrida pela linha desfaz só ele,
+    // sem marcar a transação do comando para rollback
+    private boolean created(String aggregateId, long version) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(CREATE_STREAM_SQL)) {
+                insert.setString(1, aggregateId);
+                insert.setLong(2, version);
+                insert.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException ex) {
+                connection.rollback(savepoint);
+                // Classe 23: violação de integridade, aqui a chave primária de event_streams
+                if (ex.getSQLState() != null && ex.getSQLState().startsWith("23")) {
+                    return false;
+                }
+                throw ex;
+            }
+        });
+    }
+    
+    // eventId é atribuído pela aplicação: persist evita o SELECT do merge e permite batch insert
+    private long appendAfter(String aggregateId, long version, List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            entityManager.persist(mapper.toEntity(event, ++version));
+        }
+        return version;
+    }
+    
+    // uk_aggregate_version é a rede de segurança: só falha se alguém gravar sem passar por event_streams
+    private void flush() {
+        try {
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw conflict(ex);
+        }
+    }
+    
+    private static OptimisticLockingFailureException conflict(DataIntegrityViolationException ex) {
+        return new OptimisticLockingFailureException("Concurrent append to the same aggregate", ex);
+    }
 }
-
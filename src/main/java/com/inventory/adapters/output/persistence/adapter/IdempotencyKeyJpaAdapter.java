@@ -0,0 +1,76 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import com.inventory.adapters.output.persistence.entity.IdempotencyKeyEntity;
+import com.inventory.adapters.output.persistence.repository.IdempotencyKeyJpaRepository;
+import com.inventory.application.port.output.IdempotencyKeyRepository;
+import com.inventory.domain.model.IdempotencyRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyJpaAdapter implements IdempotencyKeyRepository {
+
+    private final IdempotencyKeyJpaRepository jpaRepository;
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        return jpaRepository.findById(key)
+            .map(this::toDomain)
+            .filter(record -> !record.isExpired(LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean claim(String key, long fingerprint, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        if (tryInsert(key, fingerprint, now, expiresAt)) {
+            return true;
+        }
+
+        // Chave expirada ou claim órfão (instância caiu no meio do comando): pode ser retomada
+        if (jpaRepository.deleteExpired(key, now) > 0) {
+            log.debug("Taking over expired idempotency key: {}", key);
+            return tryInsert(key, fingerprint, now, expiresAt);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean extend(String key, LocalDateTime expiresAt) {
+        return jpaRepository.extendClaim(key, expiresAt) == 1;
+    }
+
+    @Override
+    public void complete(IdempotencyRecord record) {
+        jpaRepository.complete(record.key(), record.status(), record.body(), record.expiresAt());
+    }
+
+    @Override
+    public void release(String key) {
+        jpaRepository.deleteByKey(key);
+    }
+
+    private boolean tryInsert(String key, long fingerprint, LocalDateTime now, LocalDateTime expiresAt) {
+        try {
+            return jpaRepository.insertClaim(key, fingerprint, now, expiresAt) == 1;
+        } catch (DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+
+    private IdempotencyRecord toDomain(IdempotencyKeyEntity entity) {
+        return new IdempotencyRecord(
+            entity.getIdempotencyKey(),
+            entity.getFingerprint(),
+            entity.getStatus(),
+            entity.getResponseBody(),
+            entity.getExpiresAt()
+        );
+    }
+}
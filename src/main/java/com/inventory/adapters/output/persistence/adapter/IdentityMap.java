@@ -0,0 +1,59 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Entities an adapter loaded in the current transaction, by id. Lets {@code save} write
+ * back into the managed entity without looking it up again, and tells a brand-new
+ * aggregate apart from a loaded one without a query. Outside a transaction it stays
+ * empty and inactive, and adapters fall back to a lookup.
+ */
+final class IdentityMap<K, E> {
+
+    private final Function<E, K> idOf;
+
+    IdentityMap(Function<E, K> idOf) {
+        this.idOf = idOf;
+    }
+
+    boolean isActive() {
+        return TransactionSynchronizationManager.isSynchronizationActive();
+    }
+
+    E get(K id) {
+        Map<K, E> loaded = current(false);
+        return loaded == null ? null : loaded.get(id);
+    }
+
+    E register(E entity) {
+        Map<K, E> loaded = current(true);
+        if (loaded != null) {
+            loaded.put(idOf.apply(entity), entity);
+        }
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, E> current(boolean create) {
+        if (!isActive()) {
+            return null;
+        }
+        Map<K, E> loaded = (Map<K, E>) TransactionSynchronizationManager.getResource(this);
+        if (loaded == null && create) {
+            loaded = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, loaded);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(IdentityMap.this);
+                }
+            });
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,44 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import com.inventory.adapters.output.persistence.repository.InstanceLeaseJpaRepository;
+import com.inventory.application.port.output.InstanceLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class InstanceLeaseJpaAdapter implements InstanceLeaseRepository {
+
+    private final InstanceLeaseJpaRepository jpaRepository;
+
+    @Override
+    public boolean acquire(String name, String owner, LocalDateTime expiresAt) {
+        if (tryInsert(name, owner, expiresAt)) {
+            return true;
+        }
+        // A linha já existe: vale se é nossa ou se expirou. Dois candidatos a um lease vencido
+        // disputam o mesmo UPDATE, e o lock da linha deixa só o primeiro passar
+        return jpaRepository.takeOver(name, owner, LocalDateTime.now(), expiresAt) == 1;
+    }
+
+    @Override
+    public boolean renew(String name, String owner, LocalDateTime expiresAt) {
+        return jpaRepository.renew(name, owner, expiresAt) == 1;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        jpaRepository.deleteByNameAndOwner(name, owner);
+    }
+
+    private boolean tryInsert(String name, String owner, LocalDateTime expiresAt) {
+        try {
+            return jpaRepository.insertLease(name, owner, expiresAt) == 1;
+        } catch (DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory.adapters.output.persistence.entity.InventoryBucketEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryBucketJpaRepository;
+import com.inventory.application.port.output.StockBucketRepository;
+import com.inventory.domain.model.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryBucketJpaAdapter implements StockBucketRepository {
+
+    // Itens lembrados; os que saem por tamanho voltam a custar um COUNT na próxima consulta
+    private static final int MAX_CACHED_ITEMS = 10_000;
+
+    private final InventoryBucketJpaRepository jpaRepository;
+
+    // Quantidade de buckets por item, consultada em toda reserva; 0 = layout de linha única.
+    // Atualizado só após o commit de slice/unslice (assume uma instância escrevendo o layout).
+    // Limitado: qualquer par (loja, sku) de uma requisição entra aqui, inclusive os que não existem
+    private final Cache<InventoryKey, Integer> bucketCounts = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_ITEMS)
+        .build();
+
+    @Override
+    public int bucketCount(StoreId storeId, Sku sku) {
+        return bucketCounts.get(InventoryKey.of(storeId, sku),
+            key -> (int) jpaRepository.countByStoreIdAndSku(storeId.value(), sku.value()));
+    }
+
+    @Override
+    public List<StockBucket> findBuckets(StoreId storeId, Sku sku) {
+        return jpaRepository
+            .findByStoreIdAndSkuOrderByBucketAsc(storeId.value(), sku.value())
+            .stream()
+            .map(this::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<StockBucket> findBucketsWithLock(StoreId storeId, Sku sku) {
+        log.debug("Locking buckets - store: {}, sku: {}", storeId, sku);
+
+        return jpaRepository
+            .findByStoreIdAndSkuWithLock(storeId.value(), sku.value())
+            .stream()
+            .map(this::toDomain)
+            .toList();
+    }
+
+    @Override
+    public void saveBuckets(StoreId storeId, Sku sku, List<StockBucket> buckets) {
+        log.debug("Saving {} buckets - store: {}, sku: {}", buckets.size(), storeId, sku);
+
+        Map<Integer, InventoryBucketEntity> existing = jpaRepository
+            .findByStoreIdAndSkuOrderByBucketAsc(storeId.value(), sku.value())
+            .stream()
+            .collect(Collectors.toMap(InventoryBucketEntity::getBucket, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (StockBucket bucket : buckets) {
+            InventoryBucketEntity entity = existing.getOrDefault(bucket.index(),
+                InventoryBucketEntity.builder()
+                    .storeId(storeId.value())
+                    .sku(sku.value())
+                    .bucket(bucket.index())
+                    .build());
+
+            entity.setAvailableStock(bucket.stock().availableStock());
+            entity.setReservedStock(bucket.stock().reservedStock());
+            entity.setSoldStock(bucket.stock().soldStock());
+            entity.setLastUpdated(now);
+            jpaRepository.save(entity);
+        }
+
+        afterCommit(InventoryKey.of(storeId, sku), buckets.size());
+    }
+
+    @Override
+    public void deleteBuckets(StoreId storeId, Sku sku) {
+        int deleted = jpaRepository.deleteByStoreIdAndSku(storeId.value(), sku.value());
+        log.debug("Deleted {} buckets - store: {}, sku: {}", deleted, storeId, sku);
+
+        afterCommit(InventoryKey.of(storeId, sku), 0);
+    }
+
+    @Override
+    public boolean reserveFromBucket(StoreId storeId, Sku sku, int bucket, int quantity) {
+        return jpaRepository.reserveFromBucket(
+            storeId.value(), sku.value(), bucket, quantity, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    public boolean commitFromBucket(StoreId storeId, Sku sku, int bucket, int quantity) {
+        return jpaRepository.commitFromBucket(
+            storeId.value(), sku.value(), bucket, quantity, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    public boolean releaseToBucket(StoreId storeId, Sku sku, int bucket, int quantity) {
+        return jpaRepository.releaseToBucket(
+            storeId.value(), sku.value(), bucket, quantity, LocalDateTime.now()) == 1;
+    }
+
+    private void afterCommit(InventoryKey key, int count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bucketCounts.put(key, count);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bucketCounts.put(key, count);
+            }
+        });
+    }
+
+    private StockBucket toDomain(InventoryBucketEntity entity) {
+        return new StockBucket(
+            entity.getBucket(),
+            new Stock(entity.getAvailableStock(), entity.getReservedStock(), entity.getSoldStock())
+        );
+    }
+}
@@ -1,8 +1,10 @@
 package com.inventory.adapters.output.persistence.adapter;
 
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
 import com.inventory.adapters.output.persistence.mapper.InventoryPersistenceMapper;
 import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
 import com.inventory.application.port.output.InventoryRepository;
+import com.inventory.config.ConcurrencyProperties;
 import com.inventory.domain.model.Inventory;
 import com.inventory.domain.model.Sku;
 import com.inventory.domain.model.StoreId;
@@ -10,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Component
@@ -19,6 +22,8 @@ public class InventoryJpaAdapter implements InventoryRepository {
     
     private final InventoryJpaRepository jpaRepository;
     private final InventoryPersistenceMapper mapper;
+    private final ConcurrencyProperties concurrency;
+    private final IdentityMap<Long, InventoryEntity> loadedEntities = new IdentityMap<>(InventoryEntity::getId);
     
     @Override
     public Optional<Inventory> findByStoreIdAndSku(StoreId storeId, Sku sku) {
@@ -26,15 +31,26 @@ public class InventoryJpaAdapter implements InventoryRepository {
         
         return jpaRepository
             .findByStoreIdAndSku(storeId.value(), sku.value())
+            .map(loadedEntities::register)
             .map(mapper::toDomain);
     }
     
     @Override
     public Optional<Inventory> findByStoreIdAndSkuWithLock(StoreId storeId, Sku sku) {
-        log.debug("Finding inventory with lock - store: {}, sku: {}", storeId, sku);
+        log.debug("Finding inventory with {} lock - store: {}, sku: {}", 
+            concurrency.mode(), storeId, sku);
+        
+        if (concurrency.mode() == ConcurrencyProperties.Mode.OPTIMISTIC) {
+            // Sem lock de linha: o @Version da entidade gerenciada é verificado no UPDATE
+            return jpaRepository
+                .findByStoreIdAndSku(storeId.value(), sku.value())
+                .map(loadedEntities::register)
+                .map(mapper::toDomain);
+        }
         
         return jpaRepository
             .findByStoreIdAndSkuWithLock(storeId.value(), sku.value())
+            .map(loadedEntities::register)
             .map(mapper::toDomain);
     }
     
@@ -43,18 +59,18 @@ public class InventoryJpaAdapter implements InventoryRepository {
         log.debug("Saving inventory - sku: {}, available: {}", 
             inventory.getSku(), inventory.availableStock());
         
+        // Carregada nesta transação: escreve na entidade gerenciada, o flush grava só o que mudou
+        var loaded = inventory.getId() != null ? loadedEntities.get(inventory.getId()) : null;
+        if (loaded != null) {
+            return mapper.toDomain(applyChanges(loaded, inventory));
+        }
+        
         // Se a entidade já existe (tem ID), busca e atualiza para preservar version
         if (inventory.getId() != null) {
             var existingEntity = jpaRepository.findById(inventory.getId())
                 .orElseThrow(() -> new RuntimeException("Inventory not found with id: " + inventory.getId()));
             
-            // Atualiza apenas os campos modificáveis, preservando id e version
-            existingEntity.setAvailableStock(inventory.availableStock());
-            existingEntity.setReservedStock(inventory.reservedStock());
-            existingEntity.setSoldStock(inventory.soldStock());
-            existingEntity.setLastUpdated(inventory.getLastUpdated());
-            
-            var saved = jpaRepository.save(existingEntity);
+            var saved = jpaRepository.save(applyChanges(existingEntity, inventory));
             return mapper.toDomain(saved);
         } else {
             // Nova entidade, converte normalmente
@@ -68,5 +84,38 @@ public class InventoryJpaAdapter implements InventoryRepository {
     public boolean existsByStoreIdAndSku(StoreId storeId, Sku sku) {
         return jpaRepository.existsByStoreIdAndSku(storeId.value(), sku.value());
     }
+    
+    @Override
+    public boolean reserveIfAvailable(StoreId storeId, Sku sku, int quantity) {
+        int updated = jpaRepository.reserveIfAvailable(
+            storeId.value(), sku.value(), quantity, LocalDateTime.now());
+        log.debug("Guarded reserve - sku: {}, quantity: {}, rows: {}", sku, quantity, updated);
+        return updated == 1;
+    }
+    
+    @Override
+    public boolean commitReserved(StoreId storeId, Sku sku, int quantity) {
+        int updated = jpaRepository.commitReserved(
+            storeId.value(), sku.value(), quantity, LocalDateTime.now());
+        log.debug("Guarded commit - sku: {}, quantity: {}, rows: {}", sku, quantity, updated);
+        return updated == 1;
+    }
+    
+    @Override
+    public boolean releaseReserved(StoreId storeId, Sku sku, int quantity) {
+        int updated = jpaRepository.releaseReserved(
+            storeId.value(), sku.value(), quantity, LocalDateTime.now());
+        log.debug("Guarded release - sku: {}, quantity: {}, rows: {}", sku, quantity, updated);
+        return updated == 1;
+    }
+    
+    private InventoryEntity applyChanges(InventoryEntity entity, Inventory inventory) {
+        // Atualiza apenas os campos modificáveis, preservando id e version
+        entity.setAvailableStock(inventory.availableStock());
+        entity.setReservedStock(inventory.reservedStock());
+        entity.setSoldStock(inventory.soldStock());
+        entity.setLastUpdated(inventory.getLastUpdated());
+        return entity;
+    }
 }
 
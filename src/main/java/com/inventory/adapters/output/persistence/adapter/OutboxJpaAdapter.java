@@ -0,0 +1,65 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import com.inventory.adapters.output.persistence.codec.EventEnvelope;
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
+import com.inventory.adapters.output.persistence.entity.OutboxEventEntity;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.adapters.output.persistence.repository.OutboxEventJpaRepository;
+import com.inventory.application.port.output.EventOutbox;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.OutboxEntry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxJpaAdapter implements EventOutbox {
+
+    private final OutboxEventJpaRepository jpaRepository;
+    private final EventPersistenceMapper mapper;
+    private final EntityManager entityManager;
+
+    // Entra na transação do comando; fora de uma, o INSERT vai numa transação própria
+    @Override
+    @Transactional
+    public void add(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            entityManager.persist(OutboxEventEntity.builder()
+                .eventId(event.eventId())
+                .eventType(event.eventType())
+                .aggregateId(event.aggregateId())
+                .payloadFormat(mapper.payloadFormat().marker())
+                .payload(mapper.encode(event))
+                .timestamp(event.timestamp())
+                .build());
+        }
+    }
+
+    @Override
+    public List<OutboxEntry> findPending(int limit) {
+        return jpaRepository.findPending(Limit.of(limit))
+            .stream()
+            .map(entity -> new OutboxEntry(entity.getId(), mapper.decode(
+                EventPayloadFormat.of(entity.getPayloadFormat()),
+                new EventEnvelope(entity.getEventId(), entity.getEventType(), entity.getAggregateId(), entity.getTimestamp()),
+                entity.getPayload()
+            )))
+            .toList();
+    }
+
+    @Override
+    public long countPending() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    @Transactional
+    public void remove(List<Long> offsets) {
+        jpaRepository.deleteAllByIdInBatch(offsets);
+    }
+}
@@ -0,0 +1,40 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import com.inventory.adapters.output.persistence.entity.ProjectionCheckpointEntity;
+import com.inventory.adapters.output.persistence.repository.ProjectionCheckpointJpaRepository;
+import com.inventory.application.port.output.ProjectionCheckpointStore;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.ProjectionCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectionCheckpointJpaAdapter implements ProjectionCheckpointStore {
+
+    private final ProjectionCheckpointJpaRepository jpaRepository;
+
+    @Override
+    public Optional<ProjectionCheckpoint> find(String projection) {
+        return jpaRepository.findById(projection)
+            .map(entity -> new ProjectionCheckpoint(
+                entity.getProjection(),
+                EventCursor.of(entity.getPosition()),
+                entity.getEvents(),
+                entity.getUpdatedAt()
+            ));
+    }
+
+    @Override
+    public void save(ProjectionCheckpoint checkpoint) {
+        // Um checkpoint por projeção, sobrescrito a cada chunk
+        jpaRepository.save(ProjectionCheckpointEntity.builder()
+            .projection(checkpoint.projection())
+            .position(checkpoint.position().value())
+            .events(checkpoint.events())
+            .updatedAt(checkpoint.updatedAt())
+            .build());
+    }
+}
@@ -1,53 +1,125 @@
 package com.inventory.adapters.output.persistence.adapter;
 
+import com.inventory.adapters.output.persistence.entity.ReservationEntity;
 import com.inventory.adapters.output.persistence.entity.ReservationStatusEntity;
 import com.inventory.adapters.output.persistence.mapper.ReservationPersistenceMapper;
 import com.inventory.adapters.output.persistence.repository.ReservationJpaRepository;
 import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.domain.model.ExpiryCursor;
 import com.inventory.domain.model.Reservation;
+import com.inventory.domain.model.ReservationIdGenerator;
+import com.inventory.domain.model.ReservationQuery;
 import com.inventory.domain.model.ReservationStatus;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationJpaAdapter implements ReservationRepository {
     
+    // Linhas por ida ao banco no streaming; o resto do resultado fica no cursor JDBC
+    private static final int STREAM_FETCH_SIZE = 500;
+    
     private final ReservationJpaRepository jpaRepository;
     private final ReservationPersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final IdentityMap<Long, ReservationEntity> loadedEntities = new IdentityMap<>(ReservationEntity::getId);
     
     @Override
     public Optional<Reservation> findById(String reservationId) {
         log.debug("Finding reservation: {}", reservationId);
         
+        // Id fora do formato gerado (ex.: UUID antigo, digitado errado) não existe na tabela
+        var id = ReservationIdGenerator.parse(reservationId);
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+        
         return jpaRepository
-            .findById(reservationId)
+            .findById(id.getAsLong())
+            .map(loadedEntities::register)
             .map(mapper::toDomain);
     }
     
+    @Override
+    public Optional<Reservation> findByIdWithLock(String reservationId) {
+        var id = ReservationIdGenerator.parse(reservationId);
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        return jpaRepository
+            .findByIdWithLock(id.getAsLong())
+            .map(loadedEntities::register)
+            .map(mapper::toDomain);
+    }
+    
+    @Override
+    public List<Reservation> findAllById(Collection<String> reservationIds) {
+        var ids = reservationIds.stream()
+            .map(ReservationIdGenerator::parse)
+            .filter(OptionalLong::isPresent)
+            .map(OptionalLong::getAsLong)
+            .toList();
+        
+        return jpaRepository
+            .findAllById(ids)
+            .stream()
+            .map(loadedEntities::register)
+            .map(mapper::toDomain)
+            .toList();
+    }
+    
     @Override
     public Reservation save(Reservation reservation) {
         log.debug("Saving reservation: {}, status: {}", 
             reservation.getId(), reservation.getStatus());
         
-        // Verifica se a reserva já existe
-        var existingEntity = jpaRepository.findById(reservation.getId());
+        // Carregada nesta transação: escreve na entidade gerenciada, o flush grava só o que mudou
+        var loaded = loadedEntities.get(mapper.idToLong(reservation.getId()));
+        if (loaded != null) {
+            return mapper.toDomain(applyChanges(loaded, reservation));
+        }
+        
+        if (loadedEntities.isActive()) {
+            // Fora do identity map não quer dizer nova: pode ter vindo de uma página ou do streaming.
+            // O find olha o contexto de persistência antes do banco; reservas novas vão pelo saveAll
+            var existing = entityManager.find(ReservationEntity.class, mapper.idToLong(reservation.getId()));
+            if (existing != null) {
+                return mapper.toDomain(applyChanges(loadedEntities.register(existing), reservation));
+            }
+            var entity = loadedEntities.register(mapper.toEntity(reservation));
+            entityManager.persist(entity);
+            return mapper.toDomain(entity);
+        }
+        
+        // Sem transação: verifica se a reserva já existe
+        var existingEntity = jpaRepository.findById(mapper.idToLong(reservation.getId()));
         
         if (existingEntity.isPresent()) {
             // Atualiza a entidade existente para preservar o estado JPA
-            var entity = existingEntity.get();
-            entity.setQuantity(reservation.getQuantity());
-            entity.setStatus(mapper.statusToEntity(reservation.getStatus()));
-            entity.setCommittedAt(reservation.getCommittedAt());
-            // Mantém: id, storeId, sku, customerId, createdAt, expiresAt (imutáveis após criação)
-            
-            var saved = jpaRepository.save(entity);
+            var saved = jpaRepository.save(applyChanges(existingEntity.get(), reservation));
             return mapper.toDomain(saved);
         } else {
             // Nova reserva, converte normalmente
@@ -57,6 +129,22 @@ public class ReservationJpaAdapter implements ReservationRepository {
         }
     }
     
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        log.debug("Saving {} new reservations", reservations.size());
+        
+        // Reservas novas: persist direto (sem o SELECT do merge) para o Hibernate agrupar os INSERTs
+        var entities = reservations.stream()
+            .map(mapper::toEntity)
+            .map(loadedEntities::register)
+            .toList();
+        entities.forEach(entityManager::persist);
+        
+        return entities.stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+    
     @Override
     public List<Reservation> findByStatus(ReservationStatus status) {
         var entityStatus = ReservationStatusEntity.valueOf(status.name());
@@ -64,23 +152,125 @@ public class ReservationJpaAdapter implements ReservationRepository {
         return jpaRepository
             .findByStatus(entityStatus)
             .stream()
+            .map(loadedEntities::register)
             .map(mapper::toDomain)
             .toList();
     }
     
+    @Override
+    public long streamReservations(ReservationQuery query, int limit, Consumer<Reservation> sink) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReservationEntity> criteria = builder.createQuery(ReservationEntity.class);
+        Root<ReservationEntity> reservation = criteria.from(ReservationEntity.class);
+        
+        // Só os filtros informados entram no WHERE, para o banco escolher o índice certo
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.status() != null) {
+            predicates.add(builder.equal(reservation.get("status"), mapper.statusToEntity(query.status())));
+        }
+        if (query.storeId() != null) {
+            predicates.add(builder.equal(reservation.get("storeId"), query.storeId().value()));
+        }
+        if (query.sku() != null) {
+            predicates.add(builder.equal(reservation.get("sku"), query.sku().value()));
+        }
+        if (query.customerId() != null) {
+            predicates.add(builder.equal(reservation.get("customerId"), query.customerId()));
+        }
+        if (query.createdFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(reservation.get("createdAt"), query.createdFrom()));
+        }
+        if (query.createdTo() != null) {
+            predicates.add(builder.lessThan(reservation.get("createdAt"), query.createdTo()));
+        }
+        // Keyset pelo id (ordem de criação): a página seguinte parte do último id, sem OFFSET
+        if (query.after() != null) {
+            predicates.add(builder.greaterThan(reservation.get("id"), mapper.idToLong(query.after())));
+        }
+        criteria.where(predicates.toArray(Predicate[]::new))
+            .orderBy(builder.asc(reservation.get("id")));
+        
+        long streamed = 0;
+        try (Stream<ReservationEntity> rows = entityManager.createQuery(criteria)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<ReservationEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ReservationEntity entity = iterator.next();
+                // Solta a entidade já lida: o contexto de persistência não cresce com o resultado
+                entityManager.detach(entity);
+                sink.accept(mapper.toDomain(entity));
+                streamed++;
+            }
+        }
+        return streamed;
+    }
+    
     @Override
     public List<Reservation> findExpiredReservations(LocalDateTime before) {
         return jpaRepository
             .findExpiredReservations(before)
             .stream()
+            .map(loadedEntities::register)
+            .map(mapper::toDomain)
+            .toList();
+    }
+    
+    @Override
+    public List<Reservation> findExpiredReservations(LocalDateTime before, ExpiryCursor after, int limit) {
+        // Fora do identity map: o markExpired em massa deixaria as entidades desatualizadas. Um save
+        // de reserva desta página ainda acha a entidade pelo find, sem INSERT duplicado
+        var page = after == null
+            ? jpaRepository.findExpiredPage(before, Limit.of(limit))
+            : jpaRepository.findExpiredPageAfter(
+                before, after.expiresAt(), mapper.idToLong(after.reservationId()), Limit.of(limit));
+        
+        return page.stream()
             .map(mapper::toDomain)
             .toList();
     }
     
+    @Override
+    public List<String> lockReserved(Collection<String> reservationIds) {
+        return jpaRepository
+            .lockReserved(reservationIds.stream().map(mapper::idToLong).toList())
+            .stream()
+            .map(mapper::longToId)
+            .toList();
+    }
+    
+    @Override
+    public int markExpired(Collection<String> reservationIds) {
+        return jpaRepository.markExpired(reservationIds.stream()
+            .map(mapper::idToLong)
+            .toList());
+    }
+    
+    @Override
+    public int clearBuckets(StoreId storeId, Sku sku) {
+        // Em massa: as entidades já carregadas ficam com o bucket antigo, mas quem fatia não as usa
+        return jpaRepository.clearBuckets(storeId.value(), sku.value());
+    }
+    
+    @Override
+    public int sumQuantity(StoreId storeId, Sku sku, ReservationStatus status) {
+        return Math.toIntExact(jpaRepository.sumQuantity(storeId.value(), sku.value(), mapper.statusToEntity(status)));
+    }
+    
     @Override
     public void delete(Reservation reservation) {
         log.debug("Deleting reservation: {}", reservation.getId());
-        jpaRepository.deleteById(reservation.getId());
+        jpaRepository.deleteById(mapper.idToLong(reservation.getId()));
+    }
+    
+    private ReservationEntity applyChanges(ReservationEntity entity, Reservation reservation) {
+        entity.setQuantity(reservation.getQuantity());
+        entity.setStatus(mapper.statusToEntity(reservation.getStatus()));
+        entity.setCommittedAt(reservation.getCommittedAt());
+        // Mantém: id, storeId, sku, customerId, createdAt, expiresAt, bucket (imutáveis após criação)
+        return entity;
     }
 }
 
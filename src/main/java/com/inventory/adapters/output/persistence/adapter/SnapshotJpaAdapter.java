@@ -0,0 +1,87 @@
+package com.inventory.adapters.output.persistence.adapter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.output.persistence.entity.AggregateSnapshotEntity;
+import com.inventory.adapters.output.persistence.repository.AggregateSnapshotJpaRepository;
+import com.inventory.application.port.output.SnapshotStore;
+import com.inventory.domain.model.InventorySnapshot;
+import com.inventory.domain.model.StockMovement;
+import com.inventory.domain.model.StoreId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotJpaAdapter implements SnapshotStore {
+
+    private static final TypeReference<List<StoreState>> STATE = new TypeReference<>() {
+    };
+
+    private final AggregateSnapshotJpaRepository jpaRepository;
+    private final ObjectMapper objectMapper;
+
+    private record StoreState(String storeId, int available, int reserved, int sold) {
+    }
+
+    @Override
+    public Optional<InventorySnapshot> findLatest(String aggregateId) {
+        return jpaRepository.findById(aggregateId).map(this::toDomain);
+    }
+
+    @Override
+    public void save(InventorySnapshot snapshot) {
+        // Substitui o anterior: o rehydrate só usa o mais recente
+        jpaRepository.save(AggregateSnapshotEntity.builder()
+            .aggregateId(snapshot.aggregateId())
+            .eventCount(snapshot.eventCount())
+            .coveredUntil(snapshot.coveredUntil())
+            .takenAt(snapshot.takenAt())
+            .state(write(snapshot.stores()))
+            .build());
+    }
+
+    private InventorySnapshot toDomain(AggregateSnapshotEntity entity) {
+        return new InventorySnapshot(
+            entity.getAggregateId(),
+            read(entity.getState()),
+            entity.getEventCount(),
+            entity.getCoveredUntil(),
+            entity.getTakenAt()
+        );
+    }
+
+    private String write(Map<StoreId, StockMovement> stores) {
+        List<StoreState> state = stores.entrySet().stream()
+            .map(entry -> new StoreState(
+                entry.getKey().value(),
+                entry.getValue().available(),
+                entry.getValue().reserved(),
+                entry.getValue().sold()))
+            .toList();
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize snapshot", e);
+        }
+    }
+
+    private Map<StoreId, StockMovement> read(String state) {
+        try {
+            return objectMapper.readValue(state, STATE).stream()
+                .collect(Collectors.toMap(
+                    store -> StoreId.of(store.storeId()),
+                    store -> new StockMovement(store.available(), store.reserved(), store.sold())
+                ));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to deserialize snapshot", e);
+        }
+    }
+}
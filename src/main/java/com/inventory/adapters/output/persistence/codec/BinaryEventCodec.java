@@ -0,0 +1,194 @@
+package com.inventory.adapters.output.persistence.codec;
+
+import com.inventory.domain.event.*;
+import com.inventory.domain.model.ReservationIdGenerator;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * Payload binário, versão 1: [versão][tipo][campos]. eventId, eventType, aggregateId e
+ * timestamp vêm do envelope e não se repetem. Loja e SKU viram ids do dicionário,
+ * quantidades são varints, um reservationId gerado vai como os 8 bytes do id e os demais
+ * textos como UTF-8 com tamanho varint. Uma reserva ocupa ~20 bytes contra ~330 em JSON.
+ */
+@Component
+@RequiredArgsConstructor
+public class BinaryEventCodec implements EventCodec {
+
+    static final byte VERSION = 1;
+
+    private static final byte RESERVED = 1;
+    private static final byte COMMITTED = 2;
+    private static final byte RELEASED = 3;
+    private static final byte ADDED = 4;
+
+    private final EventDictionary dictionary;
+
+    @Override
+    public EventPayloadFormat format() {
+        return EventPayloadFormat.BINARY;
+    }
+
+    @Override
+    public byte[] encode(DomainEvent event) {
+        Output out = new Output();
+        out.put(VERSION);
+        switch (event) {
+            case StockReservedEvent e -> {
+                out.put(RESERVED);
+                reservation(out, e.reservationId(), e.storeId(), e.sku(), e.quantity());
+                out.string(e.customerId());
+            }
+            case StockCommittedEvent e -> {
+                out.put(COMMITTED);
+                reservation(out, e.reservationId(), e.storeId(), e.sku(), e.quantity());
+                out.string(e.customerId());
+            }
+            case StockReleasedEvent e -> {
+                out.put(RELEASED);
+                reservation(out, e.reservationId(), e.storeId(), e.sku(), e.quantity());
+                out.string(e.reason());
+            }
+            case StockAddedEvent e -> {
+                out.put(ADDED);
+                out.varint(dictionary.idOf(e.storeId().value()));
+                out.varint(dictionary.idOf(e.sku().value()));
+                out.varint(e.quantity());
+                out.string(e.reason());
+            }
+            default -> throw new IllegalArgumentException("Unknown event type: " + event.eventType());
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public DomainEvent decode(EventEnvelope envelope, byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary event version: " + version);
+        }
+        byte type = in.get();
+        return switch (type) {
+            case RESERVED -> new StockReservedEvent(
+                envelope.eventId(), envelope.eventType(), envelope.timestamp(), envelope.aggregateId(),
+                reservationId(in), storeId(in), sku(in), varint(in), string(in));
+            case COMMITTED -> new StockCommittedEvent(
+                envelope.eventId(), envelope.eventType(), envelope.timestamp(), envelope.aggregateId(),
+                reservationId(in), storeId(in), sku(in), varint(in), string(in));
+            case RELEASED -> new StockReleasedEvent(
+                envelope.eventId(), envelope.eventType(), envelope.timestamp(), envelope.aggregateId(),
+                reservationId(in), storeId(in), sku(in), varint(in), string(in));
+            case ADDED -> new StockAddedEvent(
+                envelope.eventId(), envelope.eventType(), envelope.timestamp(), envelope.aggregateId(),
+                storeId(in), sku(in), varint(in), string(in));
+            default -> throw new IllegalArgumentException("Unknown binary event type: " + type);
+        };
+    }
+
+    private void reservation(Output out, String reservationId, StoreId storeId, Sku sku, int quantity) {
+        OptionalLong generated = ReservationIdGenerator.parse(reservationId);
+        if (generated.isPresent()) {
+            out.put((byte) 1);
+            out.putLong(generated.getAsLong());
+        } else {
+            out.put((byte) 0);
+            out.string(reservationId);
+        }
+        out.varint(dictionary.idOf(storeId.value()));
+        out.varint(dictionary.idOf(sku.value()));
+        out.varint(quantity);
+    }
+
+    private static String reservationId(ByteBuffer in) {
+        return in.get() == 1 ? ReservationIdGenerator.format(in.getLong()) : string(in);
+    }
+
+    private StoreId storeId(ByteBuffer in) {
+        return StoreId.of(dictionary.termOf(varint(in)));
+    }
+
+    private Sku sku(ByteBuffer in) {
+        return Sku.of(dictionary.termOf(varint(in)));
+    }
+
+    // Varint sem sinal, 7 bits por byte, menos significativo primeiro
+    private static int varint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    // Tamanho + 1, para que 0 seja null
+    private static String string(ByteBuffer in) {
+        int length = varint(in);
+        if (length == 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.position(), length - 1, StandardCharsets.UTF_8);
+        in.position(in.position() + length - 1);
+        return value;
+    }
+
+    private static final class Output {
+
+        private byte[] bytes = new byte[32];
+        private int size;
+
+        void put(byte value) {
+            ensure(1);
+            bytes[size++] = value;
+        }
+
+        void putLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void varint(int value) {
+            ensure(5);
+            while ((value & ~0x7f) != 0) {
+                bytes[size++] = (byte) (value & 0x7f | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length + 1);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
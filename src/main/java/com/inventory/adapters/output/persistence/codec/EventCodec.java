@@ -0,0 +1,12 @@
+package com.inventory.adapters.output.persistence.codec;
+
+import com.inventory.domain.event.DomainEvent;
+
+public interface EventCodec {
+
+    EventPayloadFormat format();
+
+    byte[] encode(DomainEvent event);
+
+    DomainEvent decode(EventEnvelope envelope, byte[] payload);
+}
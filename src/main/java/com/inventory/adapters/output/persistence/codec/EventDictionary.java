@@ -0,0 +1,12 @@
+package com.inventory.adapters.output.persistence.codec;
+
+/**
+ * Dicionário de textos repetidos nos payloads (lojas, SKUs): cada termo ganha um id
+ * inteiro permanente, e o payload binário guarda só o id.
+ */
+public interface EventDictionary {
+
+    int idOf(String term);
+
+    String termOf(int id);
+}
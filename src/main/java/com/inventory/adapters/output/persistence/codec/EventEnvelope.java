@@ -0,0 +1,15 @@
+package com.inventory.adapters.output.persistence.codec;
+
+import java.time.LocalDateTime;
+
+/**
+ * Campos do evento que ficam fora do payload (colunas próprias na tabela, cabeçalho no
+ * segment log); um codec pode omiti-los no encode e recebê-los de volta no decode.
+ */
+public record EventEnvelope(
+    String eventId,
+    String eventType,
+    String aggregateId,
+    LocalDateTime timestamp
+) {
+}
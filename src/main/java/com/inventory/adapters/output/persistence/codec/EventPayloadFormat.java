@@ -0,0 +1,32 @@
+package com.inventory.adapters.output.persistence.codec;
+
+/**
+ * Formato do payload de um evento, gravado em cada linha (domain_events.payload_format)
+ * e em cada registro do segment log. Linhas antigas, sem marcador, são JSON.
+ */
+public enum EventPayloadFormat {
+    JSON((short) 0),
+    BINARY((short) 1);
+
+    private final short marker;
+
+    EventPayloadFormat(short marker) {
+        this.marker = marker;
+    }
+
+    public short marker() {
+        return marker;
+    }
+
+    public static EventPayloadFormat of(Short marker) {
+        if (marker == null) {
+            return JSON;
+        }
+        for (EventPayloadFormat format : values()) {
+            if (format.marker == marker) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown event payload format: " + marker);
+    }
+}
@@ -0,0 +1,78 @@
+package com.inventory.adapters.output.persistence.codec;
+
+import com.inventory.adapters.output.persistence.entity.EventEntity;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Regrava no formato configurado as linhas de domain_events que estão no outro. Anda
+ * pela tabela em ordem de eventId, uma página por transação, e pode rodar com a
+ * aplicação no ar: a leitura aceita os dois formatos e eventos não mudam depois de
+ * gravados, então não há escrita concorrente na mesma linha.
+ */
+@Component
+@Slf4j
+public class EventPayloadMigrator {
+
+    private final EventJpaRepository jpaRepository;
+    private final EventPersistenceMapper mapper;
+    private final TransactionTemplate transaction;
+
+    private record Page(String last, int rows, int rewritten) {
+    }
+
+    public EventPayloadMigrator(
+            EventJpaRepository jpaRepository,
+            EventPersistenceMapper mapper,
+            PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Devolve quantas linhas foram regravadas.
+     */
+    public long migrate(int batchSize) {
+        log.info("🧵 Re-encoding domain events as {}, {} per transaction", mapper.payloadFormat(), batchSize);
+        long begin = System.nanoTime();
+        long scanned = 0;
+        long rewritten = 0;
+        String after = "";
+
+        while (true) {
+            String from = after;
+            Page page = transaction.execute(status -> {
+                List<EventEntity> rows = jpaRepository.findPageAfter(from, Limit.of(batchSize));
+                int changed = 0;
+                for (EventEntity row : rows) {
+                    // Entidade gerenciada: o UPDATE sai no commit
+                    if (mapper.reencode(row)) {
+                        changed++;
+                    }
+                }
+                return new Page(rows.isEmpty() ? from : rows.getLast().getEventId(), rows.size(), changed);
+            });
+            scanned += page.rows();
+            rewritten += page.rewritten();
+            if (page.rows() < batchSize) {
+                break;
+            }
+            after = page.last();
+            if (scanned % (batchSize * 100L) == 0) {
+                log.info("Re-encoded {} of {} domain events scanned so far", rewritten, scanned);
+            }
+        }
+
+        log.info("✅ Domain events re-encoded - {} of {} rows in {} ms",
+            rewritten, scanned, (System.nanoTime() - begin) / 1_000_000);
+        return rewritten;
+    }
+}
@@ -0,0 +1,62 @@
+package com.inventory.adapters.output.persistence.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.inventory.domain.event.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JsonEventCodec implements EventCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public EventPayloadFormat format() {
+        return EventPayloadFormat.JSON;
+    }
+
+    @Override
+    public byte[] encode(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize event", e);
+        }
+    }
+
+    /**
+     * O mesmo payload com outro aggregateId; usado quando o agregado de linhas antigas muda.
+     */
+    public byte[] withAggregateId(byte[] payload, String aggregateId) {
+        try {
+            ObjectNode json = (ObjectNode) objectMapper.readTree(payload);
+            json.put("aggregateId", aggregateId);
+            return objectMapper.writeValueAsBytes(json);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to rewrite event aggregateId", e);
+        }
+    }
+
+    // O JSON carrega o evento inteiro: o envelope só escolhe a classe
+    @Override
+    public DomainEvent decode(EventEnvelope envelope, byte[] payload) {
+        try {
+            return switch (envelope.eventType()) {
+                case "StockReserved" ->
+                    objectMapper.readValue(payload, StockReservedEvent.class);
+                case "StockCommitted" ->
+                    objectMapper.readValue(payload, StockCommittedEvent.class);
+                case "StockReleased" ->
+                    objectMapper.readValue(payload, StockReleasedEvent.class);
+                case "StockAdded" ->
+                    objectMapper.readValue(payload, StockAddedEvent.class);
+                default ->
+                    throw new IllegalArgumentException("Unknown event type: " + envelope.eventType());
+            };
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to deserialize event", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.inventory.adapters.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "aggregate_snapshots")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregateSnapshotEntity {
+    
+    // Só o snapshot mais recente de cada agregado
+    @Id
+    @Column(name = "aggregate_id", length = 64)
+    private String aggregateId;
+    
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount;
+    
+    @Column(name = "covered_until", nullable = false)
+    private LocalDateTime coveredUntil;
+    
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+    
+    // JSON: [{"storeId":..., "available":..., "reserved":..., "sold":...}]
+    @Column(name = "state", nullable = false, columnDefinition = "TEXT")
+    private String state;
+}
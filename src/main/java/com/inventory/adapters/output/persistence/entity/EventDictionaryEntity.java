@@ -0,0 +1,25 @@
+package com.inventory.adapters.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "event_dictionary", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_event_dictionary_term", columnNames = "term")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventDictionaryEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    
+    @Column(name = "term", nullable = false, length = 50)
+    private String term;
+}
@@ -8,10 +8,17 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "domain_events", indexes = {
-    @Index(name = "idx_aggregate_id", columnList = "aggregate_id"),
+@Table(name = "domain_events", uniqueConstraints = {
+    // Número do evento no agregado: dois writers com a mesma versão esperada não passam os dois
+    @UniqueConstraint(name = "uk_aggregate_version", columnNames = {"aggregate_id", "version"})
+}, indexes = {
+    // Histórico por (loja, SKU) num intervalo de tempo: filtro e ordem saem do índice,
+    // a tabela só é lida para as linhas do intervalo
+    @Index(name = "idx_aggregate_timestamp_version", columnList = "aggregate_id, timestamp, version"),
     @Index(name = "idx_event_type", columnList = "event_type"),
-    @Index(name = "idx_timestamp", columnList = "timestamp")
+    // Replay em ordem (timestamp, agregado, versão), paginado por keyset: eventos do mesmo
+    // agregado com o mesmo timestamp saem na ordem em que foram gravados
+    @Index(name = "idx_timestamp_aggregate_version", columnList = "timestamp, aggregate_id, version")
 })
 @Data
 @Builder
@@ -26,22 +33,31 @@ public class EventEntity {
     @Column(name = "event_type", nullable = false, length = 50)
     private String eventType;
     
-    @Column(name = "aggregate_id", nullable = false, length = 50)
+    // "<storeId>:<sku>" (InventoryKey.aggregateId); linhas antigas só com o SKU até o backfill
+    @Column(name = "aggregate_id", nullable = false, length = 64)
     private String aggregateId;
     
     @Column(name = "aggregate_type", nullable = false, length = 50)
     private String aggregateType;
     
-    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    // JSON: payload; binário: binary_payload. Sem marcador (linhas antigas) = JSON
+    @Column(name = "payload_format")
+    private Short payloadFormat;
+    
+    @Column(name = "payload", columnDefinition = "TEXT")
     private String payload;
     
+    @Column(name = "binary_payload", length = 1024)
+    private byte[] binaryPayload;
+    
     @Column(name = "metadata", columnDefinition = "TEXT")
     private String metadata;
     
     @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
     
+    // 1, 2, 3... dentro do agregado, na ordem de gravação; o contador fica em event_streams
     @Column(name = "version", nullable = false)
-    private Integer version;
+    private Long version;
 }
 
@@ -0,0 +1,25 @@
+package com.inventory.adapters.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "event_streams")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventStreamEntity {
+    
+    @Id
+    @Column(name = "aggregate_id", length = 64)
+    private String aggregateId;
+    
+    // Versão do último evento gravado no agregado. Quem grava incrementa esta linha e fica com
+    // o lock dela até o commit, então os números saem em sequência, sem buracos
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
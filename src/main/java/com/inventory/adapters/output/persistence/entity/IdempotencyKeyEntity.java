@@ -0,0 +1,39 @@
+package com.inventory.adapters.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyEntity {
+    
+    @Id
+    @Column(name = "idempotency_key", length = 128)
+    private String idempotencyKey;
+    
+    @Column(name = "fingerprint", nullable = false)
+    private Long fingerprint;
+    
+    @Column(name = "status", nullable = false)
+    private Integer status;
+    
+    @Lob
+    @Column(name = "response_body")
+    private byte[] responseBody;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
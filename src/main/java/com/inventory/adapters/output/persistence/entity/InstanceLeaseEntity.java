@@ -0,0 +1,29 @@
+package com.inventory.adapters.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "instance_leases")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstanceLeaseEntity {
+    
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String name;
+    
+    // Id aleatório da instância que detém o lease
+    @Column(name = "owner", nullable = false, length = 64)
+    private String owner;
+    
+    // Sem renovação até aqui, outra instância pode assumir
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -5,12 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "inventory", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"store_id", "sku"})
 })
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
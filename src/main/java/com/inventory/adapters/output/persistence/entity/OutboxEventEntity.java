@@ -0,0 +1,42 @@
+package com.inventory.adapters.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+    
+    // Offset do relay. IDENTITY: o número sai no INSERT, dentro do lock do item, então
+    // os eventos de um item entram no outbox na ordem em que foram gravados
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false, unique = true, length = 50)
+    private String eventId;
+    
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+    
+    @Column(name = "aggregate_id", nullable = false, length = 64)
+    private String aggregateId;
+    
+    // Mesmo codec do event store (EventPayloadFormat)
+    @Column(name = "payload_format", nullable = false)
+    private Short payloadFormat;
+    
+    @Column(name = "payload", nullable = false, length = 4096)
+    private byte[] payload;
+    
+    @Column(name = "timestamp", nullable = false)
+    private LocalDateTime timestamp;
+}
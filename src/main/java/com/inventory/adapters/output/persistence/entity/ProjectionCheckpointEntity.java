@@ -0,0 +1,31 @@
+package com.inventory.adapters.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "projection_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionCheckpointEntity {
+    
+    @Id
+    @Column(name = "projection", length = 100)
+    private String projection;
+    
+    // Cursor do EventStore, opaco aqui; vazio = início
+    @Column(name = "event_cursor", nullable = false, length = 100)
+    private String position;
+    
+    @Column(name = "event_count", nullable = false)
+    private Long events;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
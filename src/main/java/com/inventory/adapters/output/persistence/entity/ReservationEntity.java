@@ -5,22 +5,25 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "reservations", indexes = {
     @Index(name = "idx_status", columnList = "status"),
-    @Index(name = "idx_expires_at", columnList = "expires_at")
+    @Index(name = "idx_status_expires_at", columnList = "status, expires_at, id"),
+    @Index(name = "idx_customer_id", columnList = "customer_id, id")
 })
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ReservationEntity {
     
+    // Gerado por ReservationIdGenerator: crescente, então os INSERTs vão para o fim do índice
     @Id
-    @Column(length = 50)
-    private String id;
+    private Long id;
     
     @Column(name = "store_id", nullable = false, length = 50)
     private String storeId;
@@ -46,5 +49,9 @@ public class ReservationEntity {
     
     @Column(name = "committed_at")
     private LocalDateTime committedAt;
+    
+    // Bucket de onde saíram as unidades (item fatiado); commit, release e expiração devolvem a ele
+    @Column(name = "bucket")
+    private Integer bucket;
 }
 
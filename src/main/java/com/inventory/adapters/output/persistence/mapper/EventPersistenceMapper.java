@@ -1,55 +1,94 @@
 package com.inventory.adapters.output.persistence.mapper;
 
+import com.inventory.adapters.output.persistence.codec.EventCodec;
+import com.inventory.adapters.output.persistence.codec.EventEnvelope;
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
 import com.inventory.adapters.output.persistence.entity.EventEntity;
+import com.inventory.config.EventCodecProperties;
 import com.inventory.domain.event.*;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
-@RequiredArgsConstructor
 public class EventPersistenceMapper {
     
-    private final ObjectMapper objectMapper;
-    
-    public EventEntity toEntity(DomainEvent event) {
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            
-            return EventEntity.builder()
-                .eventId(event.eventId())
-                .eventType(event.eventType())
-                .aggregateId(event.aggregateId())
-                .aggregateType("Inventory")
-                .payload(payload)
-                .timestamp(event.timestamp())
-                .version(1)
-                .build();
-                
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to serialize event", e);
-        }
+    private final Map<EventPayloadFormat, EventCodec> codecs = new EnumMap<>(EventPayloadFormat.class);
+    private final EventCodec writer;
+    
+    public EventPersistenceMapper(List<EventCodec> codecs, EventCodecProperties properties) {
+        codecs.forEach(codec -> this.codecs.put(codec.format(), codec));
+        this.writer = codec(properties.format());
+    }
+    
+    public EventEntity toEntity(DomainEvent event, long version) {
+        EventEntity entity = EventEntity.builder()
+            .eventId(event.eventId())
+            .eventType(event.eventType())
+            .aggregateId(event.aggregateId())
+            .aggregateType("Inventory")
+            .timestamp(event.timestamp())
+            .version(version)
+            .build();
+        setPayload(entity, writer.format(), writer.encode(event));
+        return entity;
     }
     
     public DomainEvent toDomain(EventEntity entity) {
-        try {
-            // Simple deserialization based on event type
-            return switch (entity.getEventType()) {
-                case "StockReserved" -> 
-                    objectMapper.readValue(entity.getPayload(), StockReservedEvent.class);
-                case "StockCommitted" -> 
-                    objectMapper.readValue(entity.getPayload(), StockCommittedEvent.class);
-                case "StockReleased" -> 
-                    objectMapper.readValue(entity.getPayload(), StockReleasedEvent.class);
-                case "StockAdded" -> 
-                    objectMapper.readValue(entity.getPayload(), StockAddedEvent.class);
-                default -> 
-                    throw new IllegalArgumentException("Unknown event type: " + entity.getEventType());
-            };
-            
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to deserialize event", e);
+        EventPayloadFormat format = EventPayloadFormat.of(entity.getPayloadFormat());
+        byte[] payload = format == EventPayloadFormat.JSON
+            ? entity.getPayload().getBytes(StandardCharsets.UTF_8)
+            : entity.getBinaryPayload();
+        return decode(format, envelope(entity), payload);
+    }
+    
+    /**
+     * Regrava o payload da linha no formato configurado; false se ela já estava nele.
+     */
+    public boolean reencode(EventEntity entity) {
+        if (EventPayloadFormat.of(entity.getPayloadFormat()) == writer.format()) {
+            return false;
+        }
+        setPayload(entity, writer.format(), writer.encode(toDomain(entity)));
+        return true;
+    }
+    
+    // Também usado pelo segment log, que guarda o envelope no cabeçalho do registro
+    public EventPayloadFormat payloadFormat() {
+        return writer.format();
+    }
+    
+    public byte[] encode(DomainEvent event) {
+        return writer.encode(event);
+    }
+    
+    public DomainEvent decode(EventPayloadFormat format, EventEnvelope envelope, byte[] payload) {
+        return codec(format).decode(envelope, payload);
+    }
+    
+    private EventCodec codec(EventPayloadFormat format) {
+        EventCodec codec = codecs.get(format);
+        if (codec == null) {
+            throw new IllegalStateException("No event codec for format " + format);
         }
+        return codec;
+    }
+    
+    private static void setPayload(EventEntity entity, EventPayloadFormat format, byte[] payload) {
+        entity.setPayloadFormat(format.marker());
+        if (format == EventPayloadFormat.JSON) {
+            entity.setPayload(new String(payload, StandardCharsets.UTF_8));
+            entity.setBinaryPayload(null);
+        } else {
+            entity.setPayload(null);
+            entity.setBinaryPayload(payload);
+        }
+    }
+    
+    private static EventEnvelope envelope(EventEntity entity) {
+        return new EventEnvelope(entity.getEventId(), entity.getEventType(), entity.getAggregateId(), entity.getTimestamp());
     }
 }
-
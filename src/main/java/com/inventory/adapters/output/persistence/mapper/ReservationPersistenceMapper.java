@@ -13,13 +13,30 @@ public interface ReservationPersistenceMapper {
     @Mapping(target = "storeId", source = "storeId", qualifiedByName = "storeIdToString")
     @Mapping(target = "sku", source = "sku", qualifiedByName = "skuToString")
     @Mapping(target = "status", source = "status", qualifiedByName = "statusToEntity")
+    @Mapping(target = "id", source = "id", qualifiedByName = "idToLong")
     ReservationEntity toEntity(Reservation domain);
     
     @Mapping(target = "storeId", source = "storeId", qualifiedByName = "stringToStoreId")
     @Mapping(target = "sku", source = "sku", qualifiedByName = "stringToSku")
     @Mapping(target = "status", source = "status", qualifiedByName = "entityToStatus")
+    @Mapping(target = "id", source = "id", qualifiedByName = "longToId")
     Reservation toDomain(ReservationEntity entity);
     
+    // Texto "RES-..." no domínio e na API, BIGINT na tabela
+    @Named("idToLong")
+    default Long idToLong(String id) {
+        if (id == null) {
+            return null;
+        }
+        return ReservationIdGenerator.parse(id).orElseThrow(
+            () -> new IllegalArgumentException("Not a generated reservation id: " + id));
+    }
+    
+    @Named("longToId")
+    default String longToId(Long id) {
+        return id != null ? ReservationIdGenerator.format(id) : null;
+    }
+    
     @Named("storeIdToString")
     default String storeIdToString(StoreId storeId) {
         return storeId != null ? storeId.value() : null;
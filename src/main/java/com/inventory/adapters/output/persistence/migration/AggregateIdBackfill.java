@@ -0,0 +1,141 @@
+package com.inventory.adapters.output.persistence.migration;
+
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
+import com.inventory.adapters.output.persistence.codec.JsonEventCodec;
+import com.inventory.adapters.output.persistence.entity.EventEntity;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.adapters.output.persistence.repository.AggregateSnapshotJpaRepository;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.adapters.output.persistence.repository.EventStreamJpaRepository;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.InventoryKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Separa os agregados antigos de domain_events, um por SKU com as lojas misturadas, em
+ * um agregado por (loja, SKU). Cada SKU antigo vai numa transação: os eventos de cada
+ * loja ganham o aggregate_id novo e são renumerados 1..k na ordem em que estavam, e o
+ * que já foi gravado no agregado novo depois da subida anda k versões para frente.
+ * <p>
+ * Pode rodar com a aplicação no ar. Um append no mesmo agregado durante a transação
+ * esbarra em uk_aggregate_version de um lado ou do outro: o comando é repetido pelo
+ * retry de conflito, e o SKU aqui é tentado de novo até {@link #ATTEMPTS} vezes.
+ */
+@Component
+@Slf4j
+public class AggregateIdBackfill {
+
+    private static final int ATTEMPTS = 3;
+
+    private final EventJpaRepository jpaRepository;
+    private final EventStreamJpaRepository streamRepository;
+    private final AggregateSnapshotJpaRepository snapshotJpaRepository;
+    private final EventPersistenceMapper mapper;
+    private final JsonEventCodec jsonCodec;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+
+    public AggregateIdBackfill(
+            EventJpaRepository jpaRepository,
+            EventStreamJpaRepository streamRepository,
+            AggregateSnapshotJpaRepository snapshotJpaRepository,
+            EventPersistenceMapper mapper,
+            JsonEventCodec jsonCodec,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        this.streamRepository = streamRepository;
+        this.snapshotJpaRepository = snapshotJpaRepository;
+        this.mapper = mapper;
+        this.jsonCodec = jsonCodec;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Devolve quantos eventos mudaram de agregado.
+     */
+    public long backfill(int batchSize) {
+        long begin = System.nanoTime();
+        long aggregates = 0;
+        long moved = 0;
+        String after = "";
+
+        while (true) {
+            List<String> legacy = jpaRepository.findLegacyAggregateIds(after, Limit.of(batchSize));
+            for (String aggregateId : legacy) {
+                moved += split(aggregateId);
+                aggregates++;
+            }
+            if (legacy.size() < batchSize) {
+                break;
+            }
+            after = legacy.getLast();
+        }
+
+        if (aggregates > 0) {
+            log.info("✅ Event aggregate ids backfilled - {} events of {} SKUs in {} ms",
+                moved, aggregates, (System.nanoTime() - begin) / 1_000_000);
+        }
+        return moved;
+    }
+
+    private int split(String legacyId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> {
+                    // Os UPDATEs em massa só tocam o agregado novo: sem flush das linhas
+                    // carregadas antes de cada um, elas saem todas no commit
+                    entityManager.setFlushMode(FlushModeType.COMMIT);
+                    List<EventEntity> rows = jpaRepository.findByAggregateIdOrderByVersionAsc(legacyId);
+                    Map<String, List<EventEntity>> byItem = new LinkedHashMap<>();
+                    for (EventEntity row : rows) {
+                        DomainEvent event = mapper.toDomain(row);
+                        byItem.computeIfAbsent(InventoryKey.of(event.storeId(), event.sku()).aggregateId(),
+                            id -> new ArrayList<>()).add(row);
+                    }
+                    byItem.forEach((aggregateId, stream) -> {
+                        // Primeiro o contador: um store() concorrente espera o commit e segue dele
+                        streamRepository.advance(aggregateId, stream.size());
+                        jpaRepository.moveVersionsAside(aggregateId, stream.size());
+                        jpaRepository.restoreMovedVersions(aggregateId);
+                        long version = 0;
+                        for (EventEntity row : stream) {
+                            // Entidade gerenciada: o UPDATE sai no flush
+                            row.setAggregateId(aggregateId);
+                            row.setVersion(++version);
+                            // O JSON repete o aggregateId; o binário o tira da coluna
+                            if (EventPayloadFormat.of(row.getPayloadFormat()) == EventPayloadFormat.JSON) {
+                                row.setPayload(new String(jsonCodec.withAggregateId(
+                                    row.getPayload().getBytes(StandardCharsets.UTF_8), aggregateId), StandardCharsets.UTF_8));
+                            }
+                        }
+                    });
+                    // O snapshot do SKU somava todas as lojas; os novos começam do zero
+                    snapshotJpaRepository.deleteById(legacyId);
+                    streamRepository.deleteById(legacyId);
+                    return rows.size();
+                });
+            } catch (DataIntegrityViolationException | OptimisticLockingFailureException ex) {
+                if (attempt == ATTEMPTS) {
+                    throw ex;
+                }
+                log.warn("⚠️ Concurrent append while backfilling {}, retrying ({}/{})", legacyId, attempt, ATTEMPTS);
+            }
+        }
+    }
+}
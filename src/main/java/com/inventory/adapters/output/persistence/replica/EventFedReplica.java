@@ -0,0 +1,302 @@
+package com.inventory.adapters.output.persistence.replica;
+
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.event.StockCommittedEvent;
+import com.inventory.domain.event.StockReleasedEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Réplica local de leitura: um segundo H2 com as tabelas de estoque, copiado do
+ * primário na subida e mantido pelos eventos de domínio já commitados (cada evento é
+ * um delta de available/reserved/sold). A réplica guarda o total do item na linha de
+ * inventory; a divisão em buckets não é replicada.
+ * <p>
+ * Quando a réplica deixa de acompanhar o primário (um evento de item que ela não tem, ou
+ * a fila cheia), ela passa a valer como desatualizada, as leituras vão para o primário e
+ * o applier refaz a cópia.
+ */
+@Slf4j
+public class EventFedReplica implements AutoCloseable {
+
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final Duration RETRY_DELAY = Duration.ofMillis(200);
+
+    private static final String APPLY_SQL = """
+        UPDATE inventory
+        SET available_stock = available_stock + ?,
+            reserved_stock = reserved_stock + ?,
+            sold_stock = sold_stock + ?,
+            last_updated = ?
+        WHERE store_id = ? AND sku = ?""";
+
+    // Item fatiado: a réplica passa a guardar o total dos buckets na linha
+    private static final String FOLD_BUCKETS_SQL = """
+        UPDATE inventory i
+        SET (available_stock, reserved_stock, sold_stock) = (
+            SELECT SUM(b.available_stock), SUM(b.reserved_stock), SUM(b.sold_stock)
+            FROM inventory_buckets b
+            WHERE b.store_id = i.store_id AND b.sku = i.sku)
+        WHERE EXISTS (
+            SELECT 1 FROM inventory_buckets b WHERE b.store_id = i.store_id AND b.sku = i.sku)""";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final BlockingQueue<Pending> queue;
+    private final ReentrantLock applyLock = new ReentrantLock();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+    private final Thread applier;
+
+    private volatile boolean bootstrapped;
+    private volatile boolean running = true;
+
+    private record Pending(DomainEvent event, long enqueuedAt) {
+    }
+
+    public EventFedReplica(DataSource primary, DataSource replica, int queueCapacity) {
+        this.primary = primary;
+        this.replica = replica;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.applier = Thread.ofPlatform().name("replica-applier").daemon().unstarted(this::applyLoop);
+    }
+
+    public void start() {
+        bootstrap();
+        applier.start();
+    }
+
+    /**
+     * Copia inventory e inventory_buckets do primário e descarta a fila: o que já estava
+     * nela foi commitado antes da cópia. Um commit que ainda não entrou na fila no
+     * momento da cópia é aplicado duas vezes; a janela é a da cópia, na subida ou
+     * depois de uma divergência.
+     */
+    public void bootstrap() {
+        applyLock.lock();
+        try {
+            bootstrapped = false;
+            queue.clear();
+            copyFromPrimary();
+            bootstrapped = true;
+            log.info("🪞 Read replica bootstrapped from the primary");
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not bootstrap the read replica", ex);
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    public void enqueue(List<DomainEvent> events) {
+        long now = System.nanoTime();
+        for (DomainEvent event : events) {
+            if (!queue.offer(new Pending(event, now)) && bootstrapped) {
+                // Fila cheia: o evento se perde, então a réplica só volta a valer depois de outra cópia
+                diverged("the apply queue is full (" + queue.size() + " events)");
+            }
+        }
+        LockSupport.unpark(applier);
+    }
+
+    /**
+     * Idade do evento commitado mais antigo ainda não aplicado; zero com a fila vazia e
+     * vazio enquanto a réplica não foi copiada ou está esperando outra cópia.
+     */
+    public Optional<Duration> lag() {
+        if (!bootstrapped) {
+            return Optional.empty();
+        }
+        Pending oldest = queue.peek();
+        return Optional.of(oldest == null ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - oldest.enqueuedAt()));
+    }
+
+    public double lagSeconds() {
+        return lag().map(lag -> lag.toNanos() / 1e9).orElse(Double.NaN);
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    public long appliedCount() {
+        return applied.sum();
+    }
+
+    public long skippedCount() {
+        return skipped.sum();
+    }
+
+    public long resyncCount() {
+        return resyncs.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(applier);
+    }
+
+    private void applyLoop() {
+        while (running) {
+            if (!bootstrapped) {
+                try {
+                    bootstrap();
+                    resyncs.increment();
+                } catch (RuntimeException ex) {
+                    log.warn("⚠️ Could not re-bootstrap the read replica: {}", ex.getMessage());
+                    LockSupport.parkNanos(RETRY_DELAY.toNanos());
+                }
+                continue;
+            }
+            if (queue.isEmpty()) {
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+            try {
+                applyBatch();
+            } catch (SQLException | RuntimeException ex) {
+                // Os eventos continuam na fila: o atraso cresce e as leituras caem no primário
+                log.warn("⚠️ Could not apply events to the read replica: {}", ex.getMessage());
+                LockSupport.parkNanos(RETRY_DELAY.toNanos());
+            }
+        }
+    }
+
+    private void applyBatch() throws SQLException {
+        applyLock.lock();
+        try {
+            // Lê sem remover: o lote só sai da fila (e do atraso) depois do commit na réplica
+            List<DomainEvent> batch = new ArrayList<>(BATCH_SIZE);
+            for (Pending pending : queue) {
+                if (batch.size() == BATCH_SIZE) {
+                    break;
+                }
+                batch.add(pending.event());
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            Map<InventoryKey, int[]> deltas = new LinkedHashMap<>();
+            for (DomainEvent event : batch) {
+                accumulate(deltas, event);
+            }
+            write(deltas);
+
+            for (int i = 0; i < batch.size(); i++) {
+                queue.poll();
+            }
+            applied.add(batch.size());
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void accumulate(Map<InventoryKey, int[]> deltas, DomainEvent event) {
+        switch (event) {
+            case StockReservedEvent e -> add(deltas, e.storeId(), e.sku(), -e.quantity(), e.quantity(), 0);
+            case StockCommittedEvent e -> add(deltas, e.storeId(), e.sku(), 0, -e.quantity(), e.quantity());
+            case StockReleasedEvent e -> add(deltas, e.storeId(), e.sku(), e.quantity(), -e.quantity(), 0);
+            case StockAddedEvent e -> add(deltas, e.storeId(), e.sku(), e.quantity(), 0, 0);
+            default -> {
+                // Eventos que não mexem no estoque
+            }
+        }
+    }
+
+    private void add(Map<InventoryKey, int[]> deltas, StoreId storeId, Sku sku, int available, int reserved, int sold) {
+        int[] delta = deltas.computeIfAbsent(InventoryKey.of(storeId, sku), key -> new int[3]);
+        delta[0] += available;
+        delta[1] += reserved;
+        delta[2] += sold;
+    }
+
+    private void write(Map<InventoryKey, int[]> deltas) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (Connection connection = replica.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement update = connection.prepareStatement(APPLY_SQL)) {
+                List<InventoryKey> keys = new ArrayList<>(deltas.keySet());
+                for (InventoryKey key : keys) {
+                    int[] delta = deltas.get(key);
+                    update.setInt(1, delta[0]);
+                    update.setInt(2, delta[1]);
+                    update.setInt(3, delta[2]);
+                    update.setTimestamp(4, now);
+                    update.setString(5, key.storeId().value());
+                    update.setString(6, key.sku().value());
+                    update.addBatch();
+                }
+                int[] counts = update.executeBatch();
+                connection.commit();
+
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] == 0) {
+                        // Item criado no primário depois da cópia, sem evento de criação
+                        skipped.increment();
+                        diverged("it has no row for " + keys.get(i));
+                    }
+                }
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+    }
+
+    private void diverged(String reason) {
+        if (bootstrapped) {
+            bootstrapped = false;
+            log.warn("⚠️ Read replica diverged from the primary, {}; reads go to the primary until it is copied again",
+                reason);
+            LockSupport.unpark(applier);
+        }
+    }
+
+    private void copyFromPrimary() throws SQLException {
+        try (Connection source = primary.getConnection();
+             Statement read = source.createStatement();
+             ResultSet script = read.executeQuery("SCRIPT TABLE inventory, inventory_buckets");
+             Connection target = replica.getConnection();
+             Statement write = target.createStatement()) {
+
+            write.execute("DROP TABLE IF EXISTS inventory_buckets, inventory");
+            while (script.next()) {
+                String statement = script.getString(1);
+                // Pula comentários e o CREATE USER do dump
+                if (!statement.startsWith("--") && !statement.startsWith("CREATE USER")) {
+                    write.execute(statement);
+                }
+            }
+            write.executeUpdate(FOLD_BUCKETS_SQL);
+            write.executeUpdate("DELETE FROM inventory_buckets");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.inventory.adapters.output.persistence.replica;
+
+import com.inventory.application.port.output.EventPublisher;
+import com.inventory.domain.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Publica normalmente e entrega os mesmos eventos à réplica depois do commit; evento
+ * de transação que fez rollback nunca chega nela.
+ */
+@RequiredArgsConstructor
+public class ReplicaFeedingEventPublisher implements EventPublisher {
+
+    private final EventPublisher delegate;
+    private final EventFedReplica replica;
+
+    @Override
+    public void publish(DomainEvent event) {
+        delegate.publish(event);
+        afterCommit(List.of(event));
+    }
+
+    @Override
+    public void publishBatch(List<DomainEvent> events) {
+        delegate.publishBatch(events);
+        afterCommit(List.copyOf(events));
+    }
+
+    private void afterCommit(List<DomainEvent> events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            replica.enqueue(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replica.enqueue(events);
+            }
+        });
+    }
+}
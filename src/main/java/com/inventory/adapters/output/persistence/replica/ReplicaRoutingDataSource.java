@@ -0,0 +1,96 @@
+package com.inventory.adapters.output.persistence.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Alvo das conexões read-only do LazyConnectionDataSourceProxy. Vai para a réplica só
+ * quando a transação é uma das consultas liberadas e a réplica está dentro do limite de
+ * atraso; qualquer outro caso (ou réplica fora do ar) cai no primário.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final EventFedReplica feed;
+    private final Duration maxStaleness;
+    private final Set<String> queries;
+
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder notRouted = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder unavailable = new LongAdder();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            EventFedReplica feed,
+            Duration maxStaleness,
+            Set<String> queries) {
+        this.primary = primary;
+        this.replica = replica;
+        this.feed = feed;
+        this.maxStaleness = maxStaleness;
+        this.queries = queries;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routed(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            // Leituras read-only genéricas (ex.: findById do Spring Data) podem tocar tabelas que a réplica não tem
+            notRouted.increment();
+            return primary.getConnection();
+        }
+        if (!feed.lag().map(lag -> lag.compareTo(maxStaleness) <= 0).orElse(false)) {
+            stale.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException ex) {
+            log.warn("⚠️ Replica unavailable, reading from the primary: {}", ex.getMessage());
+            unavailable.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public long replicaConnections() {
+        return replicaConnections.sum();
+    }
+
+    public long notRoutedConnections() {
+        return notRouted.sum();
+    }
+
+    public long staleConnections() {
+        return stale.sum();
+    }
+
+    public long unavailableConnections() {
+        return unavailable.sum();
+    }
+
+    private boolean routed(String transactionName) {
+        if (transactionName == null) {
+            return false;
+        }
+        // Nome da transação: <classe qualificada>.<método>
+        return queries.stream().anyMatch(query -> transactionName.endsWith("." + query));
+    }
+}
@@ -0,0 +1,9 @@
+package com.inventory.adapters.output.persistence.repository;
+
+import com.inventory.adapters.output.persistence.entity.AggregateSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AggregateSnapshotJpaRepository extends JpaRepository<AggregateSnapshotEntity, String> {
+}
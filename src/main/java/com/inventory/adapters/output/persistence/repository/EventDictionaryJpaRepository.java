@@ -0,0 +1,13 @@
+package com.inventory.adapters.output.persistence.repository;
+
+import com.inventory.adapters.output.persistence.entity.EventDictionaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EventDictionaryJpaRepository extends JpaRepository<EventDictionaryEntity, Integer> {
+    
+    Optional<EventDictionaryEntity> findByTerm(String term);
+}
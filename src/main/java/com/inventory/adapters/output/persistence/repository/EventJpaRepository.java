@@ -1,7 +1,9 @@
 package com.inventory.adapters.output.persistence.repository;
 
 import com.inventory.adapters.output.persistence.entity.EventEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,8 +16,22 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, String> {
     
     List<EventEntity> findByAggregateIdOrderByTimestampAsc(String aggregateId);
     
+    List<EventEntity> findByAggregateIdOrderByVersionAsc(String aggregateId);
+    
+    // Range scan em uk_aggregate_version
+    @Query("SELECT e FROM EventEntity e WHERE e.aggregateId = :aggregateId " +
+           "AND e.version BETWEEN :from AND :to ORDER BY e.version ASC")
+    List<EventEntity> findByAggregateIdAndVersionBetween(
+        @Param("aggregateId") String aggregateId,
+        @Param("from") long from,
+        @Param("to") long to
+    );
+    
+    @Query("SELECT COALESCE(MAX(e.version), 0) FROM EventEntity e WHERE e.aggregateId = :aggregateId")
+    long findCurrentVersion(@Param("aggregateId") String aggregateId);
+    
     @Query("SELECT e FROM EventEntity e WHERE e.aggregateId = :aggregateId " +
-           "AND e.timestamp BETWEEN :from AND :to ORDER BY e.timestamp ASC")
+           "AND e.timestamp BETWEEN :from AND :to ORDER BY e.version ASC")
     List<EventEntity> findByAggregateIdAndTimestampBetween(
         @Param("aggregateId") String aggregateId,
         @Param("from") LocalDateTime from,
@@ -23,5 +39,46 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, String> {
     );
     
     List<EventEntity> findByEventTypeOrderByTimestampDesc(String eventType);
+    
+    // Agregados ainda no formato antigo (só o SKU), para o backfill de aggregate_id
+    @Query("SELECT DISTINCT e.aggregateId FROM EventEntity e WHERE e.aggregateId > :after " +
+           "AND e.aggregateId NOT LIKE '%:%' ORDER BY e.aggregateId ASC")
+    List<String> findLegacyAggregateIds(@Param("after") String after, Limit limit);
+    
+    // Abre espaço para k eventos no começo do agregado em dois passos (negativo e de volta),
+    // sem passar por uma versão que ainda está em uso
+    @Modifying
+    @Query("UPDATE EventEntity e SET e.version = -(e.version + :shift) WHERE e.aggregateId = :aggregateId")
+    int moveVersionsAside(@Param("aggregateId") String aggregateId, @Param("shift") long shift);
+    
+    @Modifying
+    @Query("UPDATE EventEntity e SET e.version = -e.version WHERE e.aggregateId = :aggregateId AND e.version < 0")
+    int restoreMovedVersions(@Param("aggregateId") String aggregateId);
+    
+    // Retenção: eventos antigos já no snapshot do agregado, menos o último (que guarda a versão)
+    @Query("SELECT e FROM EventEntity e, AggregateSnapshotEntity s WHERE s.aggregateId = e.aggregateId " +
+           "AND e.timestamp < :olderThan AND e.timestamp <= s.coveredUntil " +
+           "AND e.version < (SELECT MAX(h.version) FROM EventEntity h WHERE h.aggregateId = e.aggregateId) " +
+           "ORDER BY e.aggregateId ASC, e.version ASC")
+    List<EventEntity> findArchivable(@Param("olderThan") LocalDateTime olderThan, Limit limit);
+    
+    @Query("SELECT e FROM EventEntity e WHERE e.eventId > :after ORDER BY e.eventId ASC")
+    List<EventEntity> findPageAfter(@Param("after") String after, Limit limit);
+    
+    // Ordem de replay: (timestamp, aggregateId, version), servida pelo idx_timestamp_aggregate_version.
+    // O eventId é aleatório: como desempate, trocava a ordem de eventos do mesmo agregado no mesmo instante
+    @Query("SELECT e FROM EventEntity e ORDER BY e.timestamp ASC, e.aggregateId ASC, e.version ASC")
+    List<EventEntity> findReplayPage(Limit limit);
+    
+    @Query("SELECT e FROM EventEntity e WHERE e.timestamp >= :timestamp " +
+           "AND (e.timestamp > :timestamp OR e.aggregateId > :aggregateId " +
+           "OR (e.aggregateId = :aggregateId AND e.version > :version)) " +
+           "ORDER BY e.timestamp ASC, e.aggregateId ASC, e.version ASC")
+    List<EventEntity> findReplayPageAfter(
+        @Param("timestamp") LocalDateTime timestamp,
+        @Param("aggregateId") String aggregateId,
+        @Param("version") long version,
+        Limit limit
+    );
 }
 
@@ -0,0 +1,32 @@
+package com.inventory.adapters.output.persistence.repository;
+
+import com.inventory.adapters.output.persistence.entity.EventStreamEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EventStreamJpaRepository extends JpaRepository<EventStreamEntity, String> {
+    
+    @Query("SELECT s.version FROM EventStreamEntity s WHERE s.aggregateId = :aggregateId")
+    Optional<Long> findVersion(@Param("aggregateId") String aggregateId);
+    
+    // store()/storeAll(): reserva count números depois do último, seja qual for
+    @Modifying
+    @Query("UPDATE EventStreamEntity s SET s.version = s.version + :count WHERE s.aggregateId = :aggregateId")
+    int advance(@Param("aggregateId") String aggregateId, @Param("count") long count);
+    
+    // append(): só avança se ninguém gravou depois da versão esperada
+    @Modifying
+    @Query("UPDATE EventStreamEntity s SET s.version = :version " +
+           "WHERE s.aggregateId = :aggregateId AND s.version = :expected")
+    int advanceFrom(
+        @Param("aggregateId") String aggregateId,
+        @Param("expected") long expected,
+        @Param("version") long version
+    );
+}
@@ -0,0 +1,59 @@
+package com.inventory.adapters.output.persistence.repository;
+
+import com.inventory.adapters.output.persistence.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+    
+    // INSERT puro: save() faria merge e nunca falharia numa chave já existente
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO idempotency_keys (idempotency_key, fingerprint, status, created_at, expires_at)
+        VALUES (:key, :fingerprint, 0, :now, :expiresAt)
+        """)
+    int insertClaim(
+        @Param("key") String key,
+        @Param("fingerprint") long fingerprint,
+        @Param("now") LocalDateTime now,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+    
+    // Só claims em andamento (status 0): uma resposta já gravada mantém o próprio expiresAt
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity k SET k.expiresAt = :expiresAt WHERE k.idempotencyKey = :key AND k.status = 0")
+    int extendClaim(@Param("key") String key, @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE IdempotencyKeyEntity k
+           SET k.status = :status, k.responseBody = :body, k.expiresAt = :expiresAt
+         WHERE k.idempotencyKey = :key
+        """)
+    int complete(
+        @Param("key") String key,
+        @Param("status") int status,
+        @Param("body") byte[] body,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.idempotencyKey = :key AND k.expiresAt < :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.idempotencyKey = :key")
+    int deleteByKey(@Param("key") String key);
+}
@@ -0,0 +1,61 @@
+package com.inventory.adapters.output.persistence.repository;
+
+import com.inventory.adapters.output.persistence.entity.InstanceLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface InstanceLeaseJpaRepository extends JpaRepository<InstanceLeaseEntity, String> {
+    
+    // INSERT puro: save() faria merge e tomaria o lease de quem já o tem
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO instance_leases (lease_name, owner, expires_at)
+        VALUES (:name, :owner, :expiresAt)
+        """)
+    int insertLease(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+    
+    // Assume o lease se já é nosso ou se o dono parou de renovar
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE InstanceLeaseEntity l
+           SET l.owner = :owner, l.expiresAt = :expiresAt
+         WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)
+        """)
+    int takeOver(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+    
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE InstanceLeaseEntity l
+           SET l.expiresAt = :expiresAt
+         WHERE l.name = :name AND l.owner = :owner
+        """)
+    int renew(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM InstanceLeaseEntity l WHERE l.name = :name AND l.owner = :owner")
+    int deleteByNameAndOwner(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,86 @@
+package com.inventory.adapters.output.persistence.repository;
+
+import com.inventory.adapters.output.persistence.entity.InventoryBucketEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InventoryBucketJpaRepository extends JpaRepository<InventoryBucketEntity, Long> {
+    
+    long countByStoreIdAndSku(String storeId, String sku);
+    
+    List<InventoryBucketEntity> findByStoreIdAndSkuOrderByBucketAsc(String storeId, String sku);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM InventoryBucketEntity b WHERE b.storeId = :storeId AND b.sku = :sku ORDER BY b.bucket")
+    List<InventoryBucketEntity> findByStoreIdAndSkuWithLock(
+        @Param("storeId") String storeId,
+        @Param("sku") String sku
+    );
+    
+    @Modifying
+    @Query("DELETE FROM InventoryBucketEntity b WHERE b.storeId = :storeId AND b.sku = :sku")
+    int deleteByStoreIdAndSku(@Param("storeId") String storeId, @Param("sku") String sku);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE InventoryBucketEntity b
+           SET b.availableStock = b.availableStock - :quantity,
+               b.reservedStock = b.reservedStock + :quantity,
+               b.lastUpdated = :now,
+               b.version = b.version + 1
+         WHERE b.storeId = :storeId AND b.sku = :sku AND b.bucket = :bucket
+           AND b.availableStock >= :quantity
+        """)
+    int reserveFromBucket(
+        @Param("storeId") String storeId,
+        @Param("sku") String sku,
+        @Param("bucket") int bucket,
+        @Param("quantity") int quantity,
+        @Param("now") LocalDateTime now
+    );
+    
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE InventoryBucketEntity b
+           SET b.reservedStock = b.reservedStock - :quantity,
+               b.soldStock = b.soldStock + :quantity,
+               b.lastUpdated = :now,
+               b.version = b.version + 1
+         WHERE b.storeId = :storeId AND b.sku = :sku AND b.bucket = :bucket
+           AND b.reservedStock >= :quantity
+        """)
+    int commitFromBucket(
+        @Param("storeId") String storeId,
+        @Param("sku") String sku,
+        @Param("bucket") int bucket,
+        @Param("quantity") int quantity,
+        @Param("now") LocalDateTime now
+    );
+    
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE InventoryBucketEntity b
+           SET b.reservedStock = b.reservedStock - :quantity,
+               b.availableStock = b.availableStock + :quantity,
+               b.lastUpdated = :now,
+               b.version = b.version + 1
+         WHERE b.storeId = :storeId AND b.sku = :sku AND b.bucket = :bucket
+           AND b.reservedStock >= :quantity
+        """)
+    int releaseToBucket(
+        @Param("storeId") String storeId,
+        @Param("sku") String sku,
+        @Param("bucket") int bucket,
+        @Param("quantity") int quantity,
+        @Param("now") LocalDateTime now
+    );
+}
@@ -4,10 +4,12 @@ import com.inventory.adapters.output.persistence.entity.InventoryEntity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -23,5 +25,56 @@ public interface InventoryJpaRepository extends JpaRepository<InventoryEntity, L
     );
     
     boolean existsByStoreIdAndSku(String storeId, String sku);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE InventoryEntity i
+           SET i.availableStock = i.availableStock - :quantity,
+               i.reservedStock = i.reservedStock + :quantity,
+               i.lastUpdated = :now,
+               i.version = i.version + 1
+         WHERE i.storeId = :storeId AND i.sku = :sku
+           AND i.availableStock >= :quantity
+        """)
+    int reserveIfAvailable(
+        @Param("storeId") String storeId,
+        @Param("sku") String sku,
+        @Param("quantity") int quantity,
+        @Param("now") LocalDateTime now
+    );
+    
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE InventoryEntity i
+           SET i.reservedStock = i.reservedStock - :quantity,
+               i.soldStock = i.soldStock + :quantity,
+               i.lastUpdated = :now,
+               i.version = i.version + 1
+         WHERE i.storeId = :storeId AND i.sku = :sku
+           AND i.reservedStock >= :quantity
+        """)
+    int commitReserved(
+        @Param("storeId") String storeId,
+        @Param("sku") String sku,
+        @Param("quantity") int quantity,
+        @Param("now") LocalDateTime now
+    );
+    
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE InventoryEntity i
+           SET i.reservedStock = i.reservedStock - :quantity,
+               i.availableStock = i.availableStock + :quantity,
+               i.lastUpdated = :now,
+               i.version = i.version + 1
+         WHERE i.storeId = :storeId AND i.sku = :sku
+           AND i.reservedStock >= :quantity
+        """)
+    int releaseReserved(
+        @Param("storeId") String storeId,
+        @Param("sku") String sku,
+        @Param("quantity") int quantity,
+        @Param("now") LocalDateTime now
+    );
 }
 
@@ -0,0 +1,18 @@
+package com.inventory.adapters.output.persistence.repository;
+
+import com.inventory.adapters.output.persistence.entity.OutboxEventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+    
+    // Sem "id > offset": um id menor pode ficar visível depois (commit fora de ordem);
+    // o que foi entregue sai da tabela, então o mais antigo pendente é sempre o primeiro
+    @Query("SELECT o FROM OutboxEventEntity o ORDER BY o.id ASC")
+    List<OutboxEventEntity> findPending(Limit limit);
+}
@@ -2,20 +2,76 @@ package com.inventory.adapters.output.persistence.repository;
 
 import com.inventory.adapters.output.persistence.entity.ReservationEntity;
 import com.inventory.adapters.output.persistence.entity.ReservationStatusEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, String> {
+public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, Long> {
     
     List<ReservationEntity> findByStatus(ReservationStatusEntity status);
     
+    // Commit, release e expiração leem o status com a linha travada: quem chega depois vê o status novo
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReservationEntity r WHERE r.id = :id")
+    Optional<ReservationEntity> findByIdWithLock(@Param("id") Long id);
+    
     @Query("SELECT r FROM ReservationEntity r WHERE r.status = 'RESERVED' AND r.expiresAt < :before")
     List<ReservationEntity> findExpiredReservations(@Param("before") LocalDateTime before);
+    
+    // Keyset em (expiresAt, id): cada página parte do fim da anterior, sem OFFSET.
+    // "status" no ORDER BY é constante, mas deixa o H2 percorrer o índice já ordenado
+    @Query("""
+        SELECT r FROM ReservationEntity r
+         WHERE r.status = 'RESERVED' AND r.expiresAt < :before
+         ORDER BY r.status, r.expiresAt, r.id
+        """)
+    List<ReservationEntity> findExpiredPage(@Param("before") LocalDateTime before, Limit limit);
+    
+    // O "expiresAt >= :afterExpiresAt" redundante faz o range do índice começar no cursor
+    @Query("""
+        SELECT r FROM ReservationEntity r
+         WHERE r.status = 'RESERVED' AND r.expiresAt < :before
+           AND r.expiresAt >= :afterExpiresAt
+           AND (r.expiresAt > :afterExpiresAt OR r.id > :afterId)
+         ORDER BY r.status, r.expiresAt, r.id
+        """)
+    List<ReservationEntity> findExpiredPageAfter(
+        @Param("before") LocalDateTime before,
+        @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+        @Param("afterId") Long afterId,
+        Limit limit
+    );
+    
+    // Lock pela PK; FOR UPDATE na query da página impediria o H2 de usar o índice para ordenar
+    @Query(value = "SELECT id FROM reservations WHERE id IN (:ids) AND status = 'RESERVED' FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockReserved(@Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query("UPDATE ReservationEntity r SET r.status = 'EXPIRED' WHERE r.id IN :ids AND r.status = 'RESERVED'")
+    int markExpired(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT COALESCE(SUM(r.quantity), 0) FROM ReservationEntity r "
+        + "WHERE r.storeId = :storeId AND r.sku = :sku AND r.status = :status")
+    long sumQuantity(
+        @Param("storeId") String storeId,
+        @Param("sku") String sku,
+        @Param("status") ReservationStatusEntity status
+    );
+    
+    @Modifying
+    @Query("UPDATE ReservationEntity r SET r.bucket = NULL "
+        + "WHERE r.storeId = :storeId AND r.sku = :sku AND r.status = 'RESERVED' AND r.bucket IS NOT NULL")
+    int clearBuckets(@Param("storeId") String storeId, @Param("sku") String sku);
 }
-
@@ -0,0 +1,58 @@
+package com.inventory.adapters.output.projection;
+
+import com.inventory.application.port.output.ProjectionHandler;
+import com.inventory.domain.event.*;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StockMovement;
+import com.inventory.domain.model.StoreId;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Movimento líquido de estoque por (loja, SKU), somado a partir do event store. Vive em
+ * memória e só é preenchido por rebuild; serve para conferir o estoque das tabelas
+ * contra o histórico de eventos.
+ */
+@Component
+public class StockMovementProjection implements ProjectionHandler {
+
+    public static final String NAME = "stock-movements";
+
+    private final Map<InventoryKey, StockMovement> movements = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void reset() {
+        movements.clear();
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        switch (event) {
+            case StockReservedEvent e -> add(e.storeId(), e.sku(), StockMovement.reserved(e.quantity()));
+            case StockCommittedEvent e -> add(e.storeId(), e.sku(), StockMovement.committed(e.quantity()));
+            case StockReleasedEvent e -> add(e.storeId(), e.sku(), StockMovement.released(e.quantity()));
+            case StockAddedEvent e -> add(e.storeId(), e.sku(), StockMovement.added(e.quantity()));
+            default -> throw new IllegalArgumentException("Cannot project event type: " + event.eventType());
+        }
+    }
+
+    public StockMovement find(StoreId storeId, Sku sku) {
+        return movements.getOrDefault(InventoryKey.of(storeId, sku), StockMovement.NONE);
+    }
+
+    public int size() {
+        return movements.size();
+    }
+
+    private void add(StoreId storeId, Sku sku, StockMovement movement) {
+        movements.merge(InventoryKey.of(storeId, sku), movement, StockMovement::plus);
+    }
+}
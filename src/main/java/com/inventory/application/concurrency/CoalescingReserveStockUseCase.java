@@ -0,0 +1,130 @@
+package com.inventory.application.concurrency;
+
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.ReservationId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Group commit for reservations: concurrent commands for the same (store, SKU)
+ * are collected into a micro-batch and applied by {@link ReserveStockBatchUseCase}
+ * in one transaction. The first caller of a batch is its leader: it waits for the
+ * window (or until the batch is full), runs the batch on its own thread and hands
+ * every follower its individual result.
+ */
+@Slf4j
+public class CoalescingReserveStockUseCase implements ReserveStockUseCase {
+
+    private final ReserveStockUseCase single;
+    private final ReserveStockBatchUseCase batch;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Predicate<ReserveStockCommand> bypass;
+
+    private final ConcurrentMap<InventoryKey, Batch> open = new ConcurrentHashMap<>();
+
+    public CoalescingReserveStockUseCase(
+            ReserveStockUseCase single,
+            ReserveStockBatchUseCase batch,
+            Duration window,
+            int maxBatchSize,
+            Predicate<ReserveStockCommand> bypass) {
+        this.single = single;
+        this.batch = batch;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.bypass = bypass;
+    }
+
+    @Override
+    public Result<ReservationId, DomainError> reserve(ReserveStockCommand command) {
+        if (bypass.test(command)) {
+            return single.reserve(command);
+        }
+
+        InventoryKey key = InventoryKey.of(command.storeId(), command.sku());
+        Entry entry = new Entry(command);
+        Batch[] joined = new Batch[1];
+
+        // Membership changes only inside compute(), so a batch is never joined after it left the map
+        open.compute(key, (k, current) -> {
+            Batch target = current != null ? current : new Batch();
+            target.entries.add(entry);
+            joined[0] = target;
+            if (target.entries.size() >= maxBatchSize) {
+                target.full.countDown();
+                return null;
+            }
+            return target;
+        });
+
+        Batch mine = joined[0];
+        if (mine.entries.get(0) == entry) {
+            lead(key, mine);
+        }
+
+        Result<ReservationId, DomainError> result = entry.result.join();
+        // null means the batch failed as a whole: fall back to the regular path
+        return result != null ? result : single.reserve(command);
+    }
+
+    private void lead(InventoryKey key, Batch mine) {
+        try {
+            mine.full.await(window.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        open.computeIfPresent(key, (k, current) -> current == mine ? null : current);
+
+        List<Entry> entries = mine.snapshot();
+        if (entries.size() == 1) {
+            entries.get(0).result.complete(null);
+            return;
+        }
+
+        List<ReserveStockCommand> commands = new ArrayList<>(entries.size());
+        entries.forEach(e -> commands.add(e.command));
+
+        try {
+            List<Result<ReservationId, DomainError>> results = batch.reserveAll(commands);
+            for (int i = 0; i < entries.size(); i++) {
+                entries.get(i).result.complete(results.get(i));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Batch of {} reservations for {} failed, retrying one by one: {}",
+                entries.size(), key, ex.getMessage());
+            entries.forEach(e -> e.result.complete(null));
+        }
+    }
+
+    private static final class Batch {
+        private final List<Entry> entries = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        private List<Entry> snapshot() {
+            synchronized (entries) {
+                return List.copyOf(entries);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final ReserveStockCommand command;
+        private final CompletableFuture<Result<ReservationId, DomainError>> result = new CompletableFuture<>();
+
+        private Entry(ReserveStockCommand command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.inventory.application.concurrency;
+
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.ReservationId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Single writer per (store, SKU): every stock command is routed by key hash to one
+ * of K partitions, each drained by its own thread, so two commands for the same item
+ * never run concurrently inside this instance and the row lock is never contended.
+ * A partition drains up to {@code maxBatchSize} queued commands at a time and applies
+ * the reservations for one key through {@link ReserveStockBatchUseCase}, in a single
+ * transaction. Queues are bounded: a full partition answers SYSTEM_BUSY at once.
+ */
+@Slf4j
+public class PartitionedCommandExecutor implements AutoCloseable {
+
+    public static final String BUSY = "SYSTEM_BUSY";
+
+    private final ReserveStockBatchUseCase batch;
+    private final ReservationRepository reservationRepository;
+    private final Predicate<InventoryKey> bypass;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+
+    private final List<BlockingQueue<Task>> queues;
+    private final List<Thread> workers;
+    private final LongAdder rejected = new LongAdder();
+    private volatile boolean running = true;
+
+    public PartitionedCommandExecutor(
+            ReserveStockBatchUseCase batch,
+            ReservationRepository reservationRepository,
+            Predicate<InventoryKey> bypass,
+            int partitions,
+            int queueCapacity,
+            int maxBatchSize,
+            ThreadFactory threads) {
+        this.batch = batch;
+        this.reservationRepository = reservationRepository;
+        this.bypass = bypass;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.queues = new ArrayList<>(partitions);
+        this.workers = new ArrayList<>(partitions);
+
+        for (int i = 0; i < partitions; i++) {
+            BlockingQueue<Task> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+            Thread worker = threads.newThread(() -> drain(queue));
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public ReserveStockUseCase reserving(ReserveStockUseCase single) {
+        return command -> {
+            InventoryKey key = InventoryKey.of(command.storeId(), command.sku());
+            if (bypass.test(key)) {
+                return single.reserve(command);
+            }
+            CompletableFuture<Result<ReservationId, DomainError>> result = new CompletableFuture<>();
+            return submit(new Reserve(key, command, single, result), result);
+        };
+    }
+
+    public CommitStockUseCase committing(CommitStockUseCase delegate) {
+        return command -> mutate(command.reservationId(), () -> delegate.commit(command));
+    }
+
+    public ReleaseStockUseCase releasing(ReleaseStockUseCase delegate) {
+        return command -> mutate(command.reservationId(), () -> delegate.release(command));
+    }
+
+    public int partitions() {
+        return queues.size();
+    }
+
+    public int queueDepth(int partition) {
+        return queues.get(partition).size();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (BlockingQueue<Task> queue : queues) {
+            List<Task> left = new ArrayList<>();
+            queue.drainTo(left);
+            left.forEach(task -> task.reject(busy(task.key())));
+        }
+    }
+
+    private <T> Result<T, DomainError> mutate(String reservationId, Supplier<Result<T, DomainError>> call) {
+        // Commit/release only know the reservation; its (store, SKU) decides the partition
+        InventoryKey key = reservationRepository.findById(reservationId)
+            .map(reservation -> InventoryKey.of(reservation.getStoreId(), reservation.getSku()))
+            .orElse(null);
+
+        if (key == null || bypass.test(key)) {
+            return call.get();
+        }
+        CompletableFuture<Result<T, DomainError>> result = new CompletableFuture<>();
+        return submit(new Mutation<>(key, call, result), result);
+    }
+
+    private <T> Result<T, DomainError> submit(Task task, CompletableFuture<Result<T, DomainError>> result) {
+        int partition = partitionOf(task.key());
+        if (!running || !queues.get(partition).offer(task)) {
+            rejected.increment();
+            log.warn("⚠️ Partition {} is full, rejecting command for {}", partition, task.key());
+            return Result.failure(busy(task.key()));
+        }
+        return result.join();
+    }
+
+    private int partitionOf(InventoryKey key) {
+        return Math.floorMod(key.hashCode(), queues.size());
+    }
+
+    private void drain(BlockingQueue<Task> queue) {
+        List<Task> tasks = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                tasks.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(tasks, maxBatchSize - 1);
+
+            try {
+                apply(tasks);
+            } catch (RuntimeException ex) {
+                log.error("❌ Partition failed applying {} commands", tasks.size(), ex);
+                tasks.forEach(task -> task.result().completeExceptionally(ex));
+            }
+            tasks.clear();
+        }
+    }
+
+    private void apply(List<Task> tasks) {
+        // Reservations are grouped per key; a commit/release first flushes the ones queued before it
+        Map<InventoryKey, List<Reserve>> pending = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            switch (task) {
+                case Reserve reserve -> pending
+                    .computeIfAbsent(reserve.key(), key -> new ArrayList<>())
+                    .add(reserve);
+                case Mutation<?> mutation -> {
+                    flush(pending.remove(mutation.key()));
+                    mutation.run();
+                }
+            }
+        }
+        pending.values().forEach(this::flush);
+    }
+
+    private void flush(List<Reserve> reserves) {
+        if (reserves == null) {
+            return;
+        }
+        if (reserves.size() == 1) {
+            reserves.get(0).runSingle();
+            return;
+        }
+
+        try {
+            List<Result<ReservationId, DomainError>> results = batch.reserveAll(
+                reserves.stream().map(Reserve::command).toList()
+            );
+            for (int i = 0; i < reserves.size(); i++) {
+                reserves.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Batch of {} reservations for {} failed, applying one by one: {}",
+                reserves.size(), reserves.get(0).key(), ex.getMessage());
+            reserves.forEach(Reserve::runSingle);
+        }
+    }
+
+    private DomainError busy(InventoryKey key) {
+        return new DomainError(
+            BUSY,
+            "Inventory is busy, please retry",
+            Map.of("item", key.toString(), "queueCapacity", queueCapacity)
+        );
+    }
+
+    private sealed interface Task permits Reserve, Mutation {
+        InventoryKey key();
+
+        CompletableFuture<?> result();
+
+        void reject(DomainError error);
+    }
+
+    private record Reserve(
+        InventoryKey key,
+        ReserveStockCommand command,
+        ReserveStockUseCase single,
+        CompletableFuture<Result<ReservationId, DomainError>> result
+    ) implements Task {
+
+        @Override
+        public void reject(DomainError error) {
+            result.complete(Result.failure(error));
+        }
+
+        void runSingle() {
+            try {
+                result.complete(single.reserve(command));
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        }
+    }
+
+    private record Mutation<T>(
+        InventoryKey key,
+        Supplier<Result<T, DomainError>> call,
+        CompletableFuture<Result<T, DomainError>> result
+    ) implements Task {
+
+        @Override
+        public void reject(DomainError error) {
+            result.complete(Result.failure(error));
+        }
+
+        void run() {
+            try {
+                result.complete(call.get());
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        }
+    }
+}
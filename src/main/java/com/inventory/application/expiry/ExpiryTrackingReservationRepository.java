@@ -0,0 +1,132 @@
+package com.inventory.application.expiry;
+
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.domain.model.ExpiryCursor;
+import com.inventory.domain.model.Reservation;
+import com.inventory.domain.model.ReservationQuery;
+import com.inventory.domain.model.ReservationStatus;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the expiry wheel in step with the reservations table: a reservation saved as
+ * RESERVED is scheduled at its {@code expiresAt}, any other status takes it off the
+ * wheel. Changes are applied after the transaction commits, so a rolled-back
+ * reservation is never tracked and a rolled-back commit does not lose its deadline.
+ */
+@RequiredArgsConstructor
+public class ExpiryTrackingReservationRepository implements ReservationRepository {
+
+    private final ReservationRepository delegate;
+    private final TimingWheel<String> wheel;
+
+    @Override
+    public Optional<Reservation> findById(String reservationId) {
+        return delegate.findById(reservationId);
+    }
+
+    @Override
+    public Optional<Reservation> findByIdWithLock(String reservationId) {
+        return delegate.findByIdWithLock(reservationId);
+    }
+
+    @Override
+    public List<Reservation> findAllById(Collection<String> reservationIds) {
+        return delegate.findAllById(reservationIds);
+    }
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        Reservation saved = delegate.save(reservation);
+        afterCommit(() -> track(List.of(saved)));
+        return saved;
+    }
+
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        List<Reservation> saved = delegate.saveAll(reservations);
+        afterCommit(() -> track(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Reservation> findByStatus(ReservationStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public long streamReservations(ReservationQuery query, int limit, Consumer<Reservation> sink) {
+        return delegate.streamReservations(query, limit, sink);
+    }
+
+    @Override
+    public List<Reservation> findExpiredReservations(LocalDateTime before) {
+        return delegate.findExpiredReservations(before);
+    }
+
+    @Override
+    public List<Reservation> findExpiredReservations(LocalDateTime before, ExpiryCursor after, int limit) {
+        return delegate.findExpiredReservations(before, after, limit);
+    }
+
+    @Override
+    public List<String> lockReserved(Collection<String> reservationIds) {
+        return delegate.lockReserved(reservationIds);
+    }
+
+    @Override
+    public int clearBuckets(StoreId storeId, Sku sku) {
+        return delegate.clearBuckets(storeId, sku);
+    }
+
+    @Override
+    public int sumQuantity(StoreId storeId, Sku sku, ReservationStatus status) {
+        return delegate.sumQuantity(storeId, sku, status);
+    }
+
+    @Override
+    public int markExpired(Collection<String> reservationIds) {
+        int expired = delegate.markExpired(reservationIds);
+        List<String> ids = List.copyOf(reservationIds);
+        afterCommit(() -> ids.forEach(wheel::cancel));
+        return expired;
+    }
+
+    @Override
+    public void delete(Reservation reservation) {
+        delegate.delete(reservation);
+        afterCommit(() -> wheel.cancel(reservation.getId()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void track(List<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            if (reservation.getStatus() == ReservationStatus.RESERVED) {
+                wheel.schedule(reservation.getId(), ReservationExpiryScheduler.deadlineOf(reservation));
+            } else {
+                wheel.cancel(reservation.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.inventory.application.expiry;
+
+import com.inventory.application.port.input.DomainError;
+import com.inventory.application.port.input.ExpireReservationsUseCase;
+import com.inventory.application.port.input.Result;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.domain.model.ExpiryCursor;
+import com.inventory.domain.model.Reservation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Turns the wheel once per tick and hands the reservations that came due to
+ * {@link ExpireReservationsUseCase} in batches. The cost of a tick is the number of
+ * reservations firing in it, not the number tracked; the table is only read once, on
+ * {@link #start()}, to pick up reservations created before this instance came up.
+ * A batch that fails is retried one reservation at a time, and a reservation that
+ * still fails goes back on the wheel for {@code retryDelay}.
+ */
+@Slf4j
+public class ReservationExpiryScheduler implements AutoCloseable {
+
+    // Upper bound for rebuild(): every live reservation expires before it
+    private static final LocalDateTime NO_DEADLINE = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    private final TimingWheel<String> wheel;
+    private final ExpireReservationsUseCase expireReservations;
+    private final ReservationRepository reservationRepository;
+    private final Duration tickInterval;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final ScheduledExecutorService ticker;
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public ReservationExpiryScheduler(
+            TimingWheel<String> wheel,
+            ExpireReservationsUseCase expireReservations,
+            ReservationRepository reservationRepository,
+            Duration tick,
+            int batchSize,
+            Duration retryDelay) {
+        this.wheel = wheel;
+        this.expireReservations = expireReservations;
+        this.reservationRepository = reservationRepository;
+        this.tickInterval = tick;
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("reservation-expiry").daemon().factory()
+        );
+    }
+
+    public static long deadlineOf(Reservation reservation) {
+        return toMillis(reservation.getExpiresAt());
+    }
+
+    public void start() {
+        rebuild();
+        ticker.scheduleWithFixedDelay(this::tick, tickInterval.toMillis(), tickInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules every reservation still holding stock, read in pages of {@code batchSize}
+     * in (expiresAt, id) order so the table is never loaded at once. Safe to run while
+     * new ones are being tracked: scheduling the same id twice keeps the latest deadline.
+     */
+    public int rebuild() {
+        int tracked = 0;
+        ExpiryCursor after = null;
+        List<Reservation> page;
+        do {
+            page = reservationRepository.findExpiredReservations(NO_DEADLINE, after, batchSize);
+            page.forEach(reservation -> wheel.schedule(reservation.getId(), deadlineOf(reservation)));
+            tracked += page.size();
+            if (!page.isEmpty()) {
+                after = ExpiryCursor.after(page.getLast());
+            }
+        } while (page.size() == batchSize);
+        log.info("⏰ Tracking {} live reservations for expiry", tracked);
+        return tracked;
+    }
+
+    /**
+     * Expires everything due up to now and returns how many reservations were released.
+     */
+    public int expireDue() {
+        List<String> due = wheel.advance(System.currentTimeMillis());
+        int released = 0;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<String> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            Integer count = expire(batch);
+            if (count != null) {
+                released += count;
+                continue;
+            }
+            // One bad reservation must not hold back the rest of the batch
+            for (String reservationId : batch) {
+                Integer single = expire(List.of(reservationId));
+                if (single != null) {
+                    released += single;
+                } else {
+                    failed.increment();
+                    wheel.schedule(reservationId, System.currentTimeMillis() + retryDelay.toMillis());
+                }
+            }
+        }
+        expired.add(released);
+        return released;
+    }
+
+    public int tracked() {
+        return wheel.size();
+    }
+
+    public long expiredCount() {
+        return expired.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        try {
+            expireDue();
+        } catch (RuntimeException ex) {
+            // An escaping exception would cancel the fixed-delay schedule
+            log.error("❌ Expiry tick failed", ex);
+        }
+    }
+
+    private Integer expire(List<String> reservationIds) {
+        try {
+            Result<Integer, DomainError> result = expireReservations.expire(reservationIds);
+            if (result.isSuccess()) {
+                return result.getValue();
+            }
+            log.warn("⚠️ Expiring {} reservations failed: {}", reservationIds.size(), result.getError().message());
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Expiring {} reservations failed: {}", reservationIds.size(), ex.getMessage());
+        }
+        return null;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,126 @@
+package com.inventory.application.expiry;
+
+import com.inventory.application.port.input.DomainError;
+import com.inventory.application.port.input.ExpireReservationsUseCase;
+import com.inventory.application.port.input.ExpirySweepPage;
+import com.inventory.application.port.input.Result;
+import com.inventory.domain.model.ExpiryCursor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Database-driven alternative to {@link ReservationExpiryScheduler}: every interval,
+ * walks the reservations that expired before the sweep started in (expiresAt, id)
+ * pages, one transaction per page. Memory is bounded by the page size, not by the
+ * backlog, and nothing is kept between sweeps, so any instance can take over.
+ */
+@Slf4j
+public class ReservationExpirySweeper implements AutoCloseable {
+
+    private final ExpireReservationsUseCase expireReservations;
+    private final Duration interval;
+    private final int pageSize;
+    private final ScheduledExecutorService timer;
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder sweeps = new LongAdder();
+    private final LongAdder sweepNanos = new LongAdder();
+    private final AtomicLong lastRows = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+
+    public ReservationExpirySweeper(ExpireReservationsUseCase expireReservations, Duration interval, int pageSize) {
+        this.expireReservations = expireReservations;
+        this.interval = interval;
+        this.pageSize = pageSize;
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("reservation-expiry-sweep").daemon().factory()
+        );
+    }
+
+    public void start() {
+        timer.scheduleWithFixedDelay(this::scheduledSweep, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Expires everything whose deadline passed before this call and returns how many
+     * reservations were released. Stops at the first page that fails; the next sweep
+     * starts over from the oldest reservation still RESERVED.
+     */
+    public synchronized int sweep() {
+        long begin = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now();
+        ExpiryCursor cursor = null;
+        LocalDateTime oldest = null;
+        int rows = 0;
+        int pages = 0;
+
+        do {
+            Result<ExpirySweepPage, DomainError> result = expireReservations.expirePage(cutoff, cursor, pageSize);
+            if (result.isFailure()) {
+                log.warn("⚠️ Expiry sweep stopped after {} pages: {}", pages, result.getError().message());
+                break;
+            }
+            ExpirySweepPage page = result.getValue();
+            if (oldest == null) {
+                oldest = page.oldestExpiresAt();
+            }
+            rows += page.expired();
+            pages++;
+            cursor = page.next();
+        } while (cursor != null);
+
+        long elapsed = System.nanoTime() - begin;
+        // How late the oldest reservation was when the sweep reached it
+        lastLagMillis.set(oldest == null ? 0 : Duration.between(oldest, cutoff).toMillis());
+        lastRows.set(rows);
+        expired.add(rows);
+        sweeps.increment();
+        sweepNanos.add(elapsed);
+
+        if (rows > 0) {
+            log.info("⏰ Expiry sweep released {} reservations in {} pages ({} ms)",
+                rows, pages, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return rows;
+    }
+
+    public long expiredCount() {
+        return expired.sum();
+    }
+
+    public long sweepCount() {
+        return sweeps.sum();
+    }
+
+    public double sweepSeconds() {
+        return sweepNanos.sum() / 1e9;
+    }
+
+    public long lastSweepRows() {
+        return lastRows.get();
+    }
+
+    public double lastSweepLagSeconds() {
+        return lastLagMillis.get() / 1e3;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+
+    private void scheduledSweep() {
+        try {
+            sweep();
+        } catch (RuntimeException ex) {
+            // An escaping exception would cancel the fixed-delay schedule
+            log.error("❌ Expiry sweep failed", ex);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.inventory.application.expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel: {@value #LEVELS} levels of {@value #SLOTS} slots, each level
+ * 64 times coarser than the one below, so one-second ticks cover about 194 days.
+ * Scheduling and cancelling are O(1); an entry is moved down a level at most
+ * {@value #LEVELS} - 1 times before it fires, whatever the number of entries.
+ * Deadlines further out than the top level are parked in its farthest slot and
+ * cascade again from there. Cancelled entries are only unlinked from the index and
+ * dropped when their slot comes up.
+ */
+public class TimingWheel<K> {
+
+    static final int LEVELS = 4;
+    static final int SLOTS = 64;
+    private static final int SLOT_BITS = 6;
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final List<List<List<Entry<K>>>> levels = new ArrayList<>(LEVELS);
+    private final Map<K, Entry<K>> index = new HashMap<>();
+    private List<Entry<K>> overdue = new ArrayList<>();
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<List<Entry<K>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new ArrayList<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    public synchronized void schedule(K key, long deadlineMillis) {
+        Entry<K> previous = index.remove(key);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        // Round up: never fire before the deadline
+        Entry<K> entry = new Entry<>(key, Math.ceilDiv(deadlineMillis, tickMillis));
+        index.put(key, entry);
+        place(entry);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = index.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Moves the wheel up to {@code nowMillis} and returns the keys whose deadline has
+     * passed, in deadline order per tick.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> due = new ArrayList<>();
+        collect(takeOverdue(), due);
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(1);
+            collect(takeSlot(0, currentTick), due);
+            collect(takeOverdue(), due);
+        }
+        return due;
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            overdue.add(entry);
+            return;
+        }
+
+        long slotTick = Math.min(entry.deadlineTick, currentTick + MAX_SPAN - 1);
+        int level = 0;
+        while (level < LEVELS - 1 && slotTick - currentTick >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        slotOf(level, slotTick).add(entry);
+    }
+
+    private void cascade(int level) {
+        if (level >= LEVELS) {
+            return;
+        }
+        // A level only turns once the level below has completed a full turn
+        if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+            return;
+        }
+        cascade(level + 1);
+        for (Entry<K> entry : takeSlot(level, currentTick)) {
+            if (!entry.cancelled) {
+                place(entry);
+            }
+        }
+    }
+
+    private List<Entry<K>> takeSlot(int level, long tick) {
+        List<Entry<K>> slot = slotOf(level, tick);
+        if (slot.isEmpty()) {
+            return List.of();
+        }
+        List<Entry<K>> taken = new ArrayList<>(slot);
+        slot.clear();
+        return taken;
+    }
+
+    private List<Entry<K>> takeOverdue() {
+        if (overdue.isEmpty()) {
+            return List.of();
+        }
+        List<Entry<K>> taken = overdue;
+        overdue = new ArrayList<>();
+        return taken;
+    }
+
+    private void collect(List<Entry<K>> entries, List<K> due) {
+        for (Entry<K> entry : entries) {
+            if (!entry.cancelled && index.remove(entry.key, entry)) {
+                due.add(entry.key);
+            }
+        }
+    }
+
+    private List<Entry<K>> slotOf(int level, long tick) {
+        return levels.get(level).get((int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1)));
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineTick;
+        private boolean cancelled;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.inventory.application.outbox;
+
+import com.inventory.application.port.output.EventOutbox;
+import com.inventory.application.port.output.EventPublisher;
+import com.inventory.domain.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Publishes by writing to the {@link EventOutbox} in the caller's transaction. The
+ * command pays for an insert while it holds the item's lock; serializing, logging and
+ * sending happen on the {@link OutboxRelay} after the commit, and a rollback takes
+ * the events with it.
+ */
+@RequiredArgsConstructor
+public class OutboxEventPublisher implements EventPublisher {
+
+    private final EventOutbox outbox;
+    private final OutboxRelay relay;
+
+    @Override
+    public void publish(DomainEvent event) {
+        publishBatch(List.of(event));
+    }
+
+    @Override
+    public void publishBatch(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        outbox.add(events);
+        afterCommit(relay::wakeUp);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
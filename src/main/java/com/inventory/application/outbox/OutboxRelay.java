@@ -0,0 +1,149 @@
+package com.inventory.application.outbox;
+
+import com.inventory.application.port.output.EventOutbox;
+import com.inventory.application.port.output.EventPublisher;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.OutboxEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes the outbox on its own thread, in batches of up to {@code batchSize} through
+ * {@link EventPublisher#publishBatch}. A batch that is not full waits until its oldest
+ * event is {@code linger} old, so a burst of commits goes out in one call instead of
+ * one call each. Commits wake the relay up; {@code pollInterval} only bounds the wait
+ * when a wake-up is missed.
+ * <p>
+ * Delivery is at least once: entries are removed after the batch was published, and a
+ * failure in between publishes them again. Each item's events leave in the order they
+ * were written, since their offsets are taken under the item's lock.
+ */
+@Slf4j
+public class OutboxRelay implements AutoCloseable {
+
+    private final EventOutbox outbox;
+    private final EventPublisher publisher;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration pollInterval;
+    private final Duration retryDelay;
+    private final Thread relay;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running = true;
+    private volatile long deliveredOffset;
+    private volatile long lagNanos;
+
+    public OutboxRelay(
+            EventOutbox outbox,
+            EventPublisher publisher,
+            int batchSize,
+            Duration linger,
+            Duration pollInterval,
+            Duration retryDelay) {
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.pollInterval = pollInterval;
+        this.retryDelay = retryDelay;
+        this.relay = Thread.ofPlatform().name("outbox-relay").daemon().unstarted(this::relayLoop);
+    }
+
+    public void start() {
+        relay.start();
+        log.info("Outbox relay - batches of {} events, linger {}", batchSize, linger);
+    }
+
+    /**
+     * Called after a transaction that wrote to the outbox commits.
+     */
+    public void wakeUp() {
+        LockSupport.unpark(relay);
+    }
+
+    /**
+     * One relay round: publishes a batch if one is due and returns how long to wait
+     * before the next round, zero when more may be pending already.
+     */
+    public Duration relayOnce() {
+        List<OutboxEntry> pending = outbox.findPending(batchSize);
+        if (pending.isEmpty()) {
+            lagNanos = 0;
+            return pollInterval;
+        }
+
+        Duration age = Duration.between(pending.getFirst().event().timestamp(), LocalDateTime.now());
+        lagNanos = Math.max(age.toNanos(), 0);
+        if (pending.size() < batchSize && age.compareTo(linger) < 0) {
+            return linger.minus(age);
+        }
+
+        List<DomainEvent> events = pending.stream().map(OutboxEntry::event).toList();
+        publisher.publishBatch(events);
+        outbox.remove(pending.stream().map(OutboxEntry::offset).toList());
+
+        deliveredOffset = pending.getLast().offset();
+        published.add(events.size());
+        batches.increment();
+        return pending.size() == batchSize ? Duration.ZERO : pollInterval;
+    }
+
+    /**
+     * Offset of the last entry delivered; entries up to it may still be pending when
+     * their transactions committed after later ones.
+     */
+    public long deliveredOffset() {
+        return deliveredOffset;
+    }
+
+    /**
+     * Age of the oldest pending event when the relay last looked; zero with the
+     * outbox empty.
+     */
+    public double lagSeconds() {
+        return lagNanos / 1e9;
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(relay);
+    }
+
+    private void relayLoop() {
+        while (running) {
+            Duration wait;
+            try {
+                wait = relayOnce();
+            } catch (RuntimeException ex) {
+                // Entries stay in the outbox and are published again on the next round
+                failed.increment();
+                log.warn("⚠️ Outbox relay round failed, retrying in {}: {}", retryDelay, ex.getMessage());
+                wait = retryDelay;
+            }
+            if (!wait.isZero()) {
+                LockSupport.parkNanos(wait.toNanos());
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.ExpiryCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ExpireReservationsUseCase {
+    Result<Integer, DomainError> expire(List<String> reservationIds);
+    Result<ExpirySweepPage, DomainError> expirePage(LocalDateTime before, ExpiryCursor after, int limit);
+}
@@ -0,0 +1,18 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.ExpiryCursor;
+import java.time.LocalDateTime;
+
+/**
+ * One page of an expiry sweep. {@code next} is null once the sweep reached the end.
+ */
+public record ExpirySweepPage(
+    int scanned,
+    int expired,
+    LocalDateTime oldestExpiresAt,
+    ExpiryCursor next
+) {
+    public static ExpirySweepPage empty() {
+        return new ExpirySweepPage(0, 0, null, null);
+    }
+}
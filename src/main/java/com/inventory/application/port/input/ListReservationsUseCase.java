@@ -0,0 +1,16 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.Reservation;
+import com.inventory.domain.model.ReservationQuery;
+
+import java.util.function.Consumer;
+
+public interface ListReservationsUseCase {
+
+    /**
+     * Hands up to {@code limit} matching reservations to {@code sink} in id order, one at
+     * a time as they are read, and returns how many were handed over. Nothing is
+     * collected, so memory does not depend on the size of the result.
+     */
+    long stream(ReservationQuery query, int limit, Consumer<Reservation> sink);
+}
@@ -0,0 +1,13 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StockBucket;
+import com.inventory.domain.model.StoreId;
+import java.util.List;
+
+public interface ManageStockSlicesUseCase {
+    Result<List<StockBucket>, DomainError> slice(StoreId storeId, Sku sku, int buckets);
+    Result<List<StockBucket>, DomainError> rebalance(StoreId storeId, Sku sku);
+    Result<InventoryView, DomainError> unslice(StoreId storeId, Sku sku);
+    List<StockBucket> findSlices(StoreId storeId, Sku sku);
+}
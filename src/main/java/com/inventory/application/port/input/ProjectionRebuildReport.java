@@ -0,0 +1,21 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.EventCursor;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one rebuild run. {@code events} counts what this run handled; a resumed
+ * run starts counting after the checkpoint it resumed from.
+ */
+public record ProjectionRebuildReport(
+    String projection,
+    long events,
+    Duration elapsed,
+    EventCursor position,
+    boolean resumed
+) {
+    public double eventsPerSecond() {
+        return elapsed.isZero() ? 0 : events / (elapsed.toNanos() / 1e9);
+    }
+}
@@ -0,0 +1,14 @@
+package com.inventory.application.port.input;
+
+import java.util.List;
+
+public interface RebuildProjectionUseCase {
+
+    /**
+     * Replays the event store into the named projection. From scratch the projection is
+     * reset first; with {@code resume} the replay continues after its last checkpoint.
+     */
+    Result<ProjectionRebuildReport, DomainError> rebuild(String projection, boolean resume);
+
+    List<String> projections();
+}
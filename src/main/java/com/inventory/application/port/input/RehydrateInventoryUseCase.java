@@ -0,0 +1,20 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.InventorySnapshot;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RehydrateInventoryUseCase {
+
+    /**
+     * Loads the latest snapshot of the aggregate and folds in only the events after it.
+     */
+    RehydratedInventory rehydrate(String aggregateId);
+
+    /**
+     * Folds the events timestamped up to {@code coveredUntil} into a new snapshot and
+     * saves it; empty when the latest snapshot already covers that point.
+     */
+    Optional<InventorySnapshot> takeSnapshot(String aggregateId, LocalDateTime coveredUntil);
+}
@@ -0,0 +1,13 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.InventorySnapshot;
+
+/**
+ * Current state of an event stream: the latest snapshot folded with the
+ * {@code replayedEvents} written after it.
+ */
+public record RehydratedInventory(
+    InventorySnapshot state,
+    long replayedEvents
+) {
+}
@@ -0,0 +1,34 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import java.util.List;
+import java.util.Objects;
+
+public record ReserveCartCommand(
+    String customerId,
+    List<Line> lines
+) {
+    public ReserveCartCommand {
+        Objects.requireNonNull(customerId, "customerId cannot be null");
+        Objects.requireNonNull(lines, "lines cannot be null");
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("cart must have at least one line");
+        }
+        lines = List.copyOf(lines);
+    }
+    
+    public record Line(
+        StoreId storeId,
+        Sku sku,
+        int quantity
+    ) {
+        public Line {
+            Objects.requireNonNull(storeId, "storeId cannot be null");
+            Objects.requireNonNull(sku, "sku cannot be null");
+            if (quantity <= 0) {
+                throw new IllegalArgumentException("quantity must be positive");
+            }
+        }
+    }
+}
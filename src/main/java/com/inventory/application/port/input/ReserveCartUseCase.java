@@ -0,0 +1,8 @@
+package com.inventory.application.port.input;
+
+import com.inventory.domain.model.ReservationId;
+import java.util.List;
+
+public interface ReserveCartUseCase {
+    Result<List<ReservationId>, DomainError> reserveCart(ReserveCartCommand command);
+}
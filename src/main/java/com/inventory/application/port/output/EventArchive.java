@@ -0,0 +1,22 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Cold tier of the event store: events moved out of the hot store, kept in immutable
+ * archives that are never rewritten. {@code write} returns once the new archive is
+ * durable, so the caller may then delete the events from the hot store.
+ * <p>
+ * Pages follow the order the archives were written in; within an archive, each
+ * aggregate's events keep their order.
+ */
+public interface EventArchive {
+    void write(List<DomainEvent> events);
+    List<DomainEvent> find(String aggregateId, LocalDateTime from, LocalDateTime to);
+    EventPage findPageAfter(EventCursor after, int limit);
+}
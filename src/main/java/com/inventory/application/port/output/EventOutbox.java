@@ -0,0 +1,18 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.OutboxEntry;
+
+import java.util.List;
+
+/**
+ * Events to publish, written in the transaction that produced them: they become
+ * visible to the relay when it commits and never if it rolls back. Entries leave the
+ * outbox once they were published.
+ */
+public interface EventOutbox {
+    void add(List<DomainEvent> events);
+    List<OutboxEntry> findPending(int limit);
+    long countPending();
+    void remove(List<Long> offsets);
+}
@@ -0,0 +1,16 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.event.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Events of the hot store that may move to the {@link EventArchive}: older than
+ * {@code olderThan}, covered by the aggregate's snapshot, and never the aggregate's
+ * last event, which keeps its version in the hot store. Ordered by aggregate and version.
+ */
+public interface EventRetentionSource {
+    List<DomainEvent> findArchivable(LocalDateTime olderThan, int limit);
+    void delete(List<String> eventIds);
+}
@@ -1,13 +1,27 @@
 package com.inventory.application.port.output;
 
 import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Events of an aggregate are numbered 1, 2, 3... in the order they are appended; the
+ * number of the last one is the aggregate's version. {@code store} and {@code storeAll}
+ * append after whatever is there, waiting for another writer of the same aggregate to
+ * commit first. {@code append} writes right after {@code expectedVersion} and throws
+ * {@link org.springframework.dao.OptimisticLockingFailureException} when another writer
+ * took that number first.
+ */
 public interface EventStore {
     void store(DomainEvent event);
+    void storeAll(List<DomainEvent> events);
+    long append(String aggregateId, long expectedVersion, List<DomainEvent> events);
+    long currentVersion(String aggregateId);
     List<DomainEvent> findByAggregateId(String aggregateId);
+    List<DomainEvent> findByAggregateIdAndVersion(String aggregateId, long fromVersion, long toVersion);
     List<DomainEvent> findByAggregateIdAndTimestamp(
         String aggregateId, 
         LocalDateTime from, 
@@ -15,5 +29,6 @@ public interface EventStore {
     );
     Optional<DomainEvent> findByEventId(String eventId);
     List<DomainEvent> findAll();
+    EventPage findPageAfter(EventCursor after, int limit);
 }
 
@@ -0,0 +1,13 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.model.IdempotencyRecord;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository {
+    Optional<IdempotencyRecord> find(String key);
+    boolean claim(String key, long fingerprint, LocalDateTime expiresAt);
+    boolean extend(String key, LocalDateTime expiresAt);
+    void complete(IdempotencyRecord record);
+    void release(String key);
+}
@@ -0,0 +1,15 @@
+package com.inventory.application.port.output;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exclusive, time-bounded ownership of a named resource shared by every instance.
+ * <p>
+ * The holder keeps the lease by renewing it before {@code expiresAt}; once it lapses any
+ * instance may acquire it. Every method is idempotent for the current owner.
+ */
+public interface InstanceLeaseRepository {
+    boolean acquire(String name, String owner, LocalDateTime expiresAt);
+    boolean renew(String name, String owner, LocalDateTime expiresAt);
+    void release(String name, String owner);
+}
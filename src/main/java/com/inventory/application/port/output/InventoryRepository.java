@@ -10,5 +10,8 @@ public interface InventoryRepository {
     Optional<Inventory> findByStoreIdAndSkuWithLock(StoreId storeId, Sku sku);
     Inventory save(Inventory inventory);
     boolean existsByStoreIdAndSku(StoreId storeId, Sku sku);
+    boolean reserveIfAvailable(StoreId storeId, Sku sku, int quantity);
+    boolean commitReserved(StoreId storeId, Sku sku, int quantity);
+    boolean releaseReserved(StoreId storeId, Sku sku, int quantity);
 }
 
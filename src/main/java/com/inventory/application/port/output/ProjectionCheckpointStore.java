@@ -0,0 +1,10 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.model.ProjectionCheckpoint;
+
+import java.util.Optional;
+
+public interface ProjectionCheckpointStore {
+    Optional<ProjectionCheckpoint> find(String projection);
+    void save(ProjectionCheckpoint checkpoint);
+}
@@ -0,0 +1,14 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.event.DomainEvent;
+
+/**
+ * A read model rebuilt from the event store. During a rebuild {@link #handle} is called
+ * from several threads at once, but never concurrently for two events of the same
+ * aggregate, and an aggregate's events arrive in the order they were appended.
+ */
+public interface ProjectionHandler {
+    String name();
+    void reset();
+    void handle(DomainEvent event);
+}
@@ -1,16 +1,39 @@
 package com.inventory.application.port.output;
 
+import com.inventory.domain.model.ExpiryCursor;
 import com.inventory.domain.model.Reservation;
+import com.inventory.domain.model.ReservationQuery;
 import com.inventory.domain.model.ReservationStatus;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+/**
+ * Reservations by id, plus the queries the services and the expiry path need.
+ * <p>
+ * {@link #save} writes any reservation, however it was read: one loaded in the current
+ * transaction is updated in place, any other id is looked up first and inserted only if
+ * it does not exist yet. {@link #saveAll} is for reservations that were just created and
+ * inserts them without that lookup, so it must not be handed one that already exists.
+ */
 public interface ReservationRepository {
     Optional<Reservation> findById(String reservationId);
+    Optional<Reservation> findByIdWithLock(String reservationId);
+    List<Reservation> findAllById(Collection<String> reservationIds);
     Reservation save(Reservation reservation);
+    List<Reservation> saveAll(List<Reservation> reservations);
     List<Reservation> findByStatus(ReservationStatus status);
+    long streamReservations(ReservationQuery query, int limit, Consumer<Reservation> sink);
     List<Reservation> findExpiredReservations(LocalDateTime before);
+    List<Reservation> findExpiredReservations(LocalDateTime before, ExpiryCursor after, int limit);
+    List<String> lockReserved(Collection<String> reservationIds);
+    int markExpired(Collection<String> reservationIds);
+    int clearBuckets(StoreId storeId, Sku sku);
+    int sumQuantity(StoreId storeId, Sku sku, ReservationStatus status);
     void delete(Reservation reservation);
 }
 
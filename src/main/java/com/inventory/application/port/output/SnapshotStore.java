@@ -0,0 +1,10 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.model.InventorySnapshot;
+
+import java.util.Optional;
+
+public interface SnapshotStore {
+    Optional<InventorySnapshot> findLatest(String aggregateId);
+    void save(InventorySnapshot snapshot);
+}
@@ -0,0 +1,17 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StockBucket;
+import com.inventory.domain.model.StoreId;
+import java.util.List;
+
+public interface StockBucketRepository {
+    int bucketCount(StoreId storeId, Sku sku);
+    List<StockBucket> findBuckets(StoreId storeId, Sku sku);
+    List<StockBucket> findBucketsWithLock(StoreId storeId, Sku sku);
+    void saveBuckets(StoreId storeId, Sku sku, List<StockBucket> buckets);
+    void deleteBuckets(StoreId storeId, Sku sku);
+    boolean reserveFromBucket(StoreId storeId, Sku sku, int bucket, int quantity);
+    boolean commitFromBucket(StoreId storeId, Sku sku, int bucket, int quantity);
+    boolean releaseToBucket(StoreId storeId, Sku sku, int bucket, int quantity);
+}
@@ -0,0 +1,14 @@
+package com.inventory.application.port.output;
+
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.Stock;
+import com.inventory.domain.model.StoreId;
+import java.util.Optional;
+
+public interface StockLedger {
+    boolean tracks(StoreId storeId, Sku sku);
+    void reserve(StoreId storeId, Sku sku, int quantity);
+    void commit(StoreId storeId, Sku sku, int quantity);
+    void release(StoreId storeId, Sku sku, int quantity);
+    Optional<Stock> snapshot(StoreId storeId, Sku sku);
+}
@@ -0,0 +1,174 @@
+package com.inventory.application.projection;
+
+import com.inventory.application.port.input.DomainError;
+import com.inventory.application.port.input.ProjectionRebuildReport;
+import com.inventory.application.port.input.RebuildProjectionUseCase;
+import com.inventory.application.port.input.Result;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.application.port.output.ProjectionCheckpointStore;
+import com.inventory.application.port.output.ProjectionHandler;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import com.inventory.domain.model.ProjectionCheckpoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays the event store into a projection in chunks of {@code chunkSize} events, so
+ * memory stays bounded whatever the size of the store. Each chunk is split by aggregate
+ * hash into {@code partitions} lanes that run in parallel; one aggregate always lands in
+ * the same lane and its events keep their order. The next chunk is read while the lanes
+ * of the current one run.
+ * <p>
+ * A checkpoint is saved once every lane of a chunk finished, so a rebuild that stops
+ * halfway resumes after the last whole chunk. Events of the chunk that was in flight are
+ * handled again on resume: handlers see each event at least once.
+ */
+@Slf4j
+public class ProjectionRebuilder implements RebuildProjectionUseCase {
+
+    private final EventStore eventStore;
+    private final ProjectionCheckpointStore checkpointStore;
+    private final Map<String, ProjectionHandler> handlers = new LinkedHashMap<>();
+    private final int chunkSize;
+    private final int partitions;
+    private final ThreadFactory threads;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final LongAdder replayed = new LongAdder();
+
+    public ProjectionRebuilder(
+            EventStore eventStore,
+            ProjectionCheckpointStore checkpointStore,
+            List<ProjectionHandler> handlers,
+            int chunkSize,
+            int partitions,
+            ThreadFactory threads) {
+        this.eventStore = eventStore;
+        this.checkpointStore = checkpointStore;
+        handlers.forEach(handler -> this.handlers.put(handler.name(), handler));
+        this.chunkSize = chunkSize;
+        this.partitions = partitions;
+        this.threads = threads;
+    }
+
+    @Override
+    public List<String> projections() {
+        return List.copyOf(handlers.keySet());
+    }
+
+    @Override
+    public Result<ProjectionRebuildReport, DomainError> rebuild(String projection, boolean resume) {
+        ProjectionHandler handler = handlers.get(projection);
+        if (handler == null) {
+            return Result.failure(DomainError.of("PROJECTION_NOT_FOUND", "Unknown projection: " + projection));
+        }
+        if (!running.add(projection)) {
+            return Result.failure(DomainError.of("REBUILD_IN_PROGRESS", "Projection is already being rebuilt: " + projection));
+        }
+        try {
+            return Result.success(replay(handler, resume));
+        } catch (RuntimeException ex) {
+            log.error("❌ Rebuild of projection {} failed", projection, ex);
+            return Result.failure(DomainError.of("REBUILD_FAILED", "Rebuild of " + projection + " failed: " + ex.getMessage()));
+        } finally {
+            running.remove(projection);
+        }
+    }
+
+    public long replayedCount() {
+        return replayed.sum();
+    }
+
+    private ProjectionRebuildReport replay(ProjectionHandler handler, boolean resume) {
+        ProjectionCheckpoint checkpoint = resume
+            ? checkpointStore.find(handler.name()).orElse(null)
+            : null;
+        EventCursor cursor = checkpoint == null ? EventCursor.START : checkpoint.position();
+        long total = checkpoint == null ? 0 : checkpoint.events();
+        if (checkpoint == null) {
+            handler.reset();
+        }
+
+        log.info("🔥 Rebuilding projection {} from {} - chunks of {}, {} lanes",
+            handler.name(), cursor, chunkSize, partitions);
+
+        long begin = System.nanoTime();
+        long events = 0;
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(threads)) {
+            EventPage page = eventStore.findPageAfter(cursor, chunkSize);
+            while (!page.events().isEmpty()) {
+                EventPage current = page;
+                Future<EventPage> next = current.events().size() < chunkSize
+                    ? null
+                    : executor.submit(() -> eventStore.findPageAfter(current.next(), chunkSize));
+
+                dispatch(handler, current.events(), executor);
+                events += current.events().size();
+                total += current.events().size();
+                replayed.add(current.events().size());
+                cursor = current.next();
+                checkpointStore.save(new ProjectionCheckpoint(handler.name(), cursor, total, LocalDateTime.now()));
+
+                if (next == null) {
+                    break;
+                }
+                page = await(next);
+            }
+        }
+
+        ProjectionRebuildReport report = new ProjectionRebuildReport(
+            handler.name(), events, Duration.ofNanos(System.nanoTime() - begin), cursor, checkpoint != null);
+        log.info("✅ Projection {} rebuilt - {} events in {} ms ({} events/s), {} in total",
+            handler.name(), events, report.elapsed().toMillis(), Math.round(report.eventsPerSecond()), total);
+        return report;
+    }
+
+    private void dispatch(ProjectionHandler handler, List<DomainEvent> events, ExecutorService executor) {
+        List<List<DomainEvent>> lanes = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            lanes.add(new ArrayList<>(events.size() / partitions + 1));
+        }
+        for (DomainEvent event : events) {
+            lanes.get(Math.floorMod(event.aggregateId().hashCode(), partitions)).add(event);
+        }
+
+        List<Future<?>> submitted = new ArrayList<>(partitions);
+        for (List<DomainEvent> lane : lanes) {
+            if (!lane.isEmpty()) {
+                submitted.add(executor.submit(() -> lane.forEach(handler::handle)));
+            }
+        }
+        for (Future<?> lane : submitted) {
+            await(lane);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during projection rebuild", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.inventory.application.retention;
+
+import com.inventory.application.port.output.EventArchive;
+import com.inventory.application.port.output.EventRetentionSource;
+import com.inventory.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves events older than {@code horizon} out of the hot store into the
+ * {@link EventArchive}, on its own thread every {@code interval}. Only events already
+ * folded into their aggregate's snapshot move, so rehydrating never has to read the
+ * archive; history reads still find them through the {@link TieredEventStore}.
+ * <p>
+ * Each batch is written to a new archive before it is deleted from the hot store. A
+ * crash in between leaves the batch in both tiers, and the next round archives it again;
+ * reads return each event once.
+ */
+@Slf4j
+public class EventRetention implements AutoCloseable {
+
+    private final EventRetentionSource source;
+    private final EventArchive archive;
+    private final Duration horizon;
+    private final Duration interval;
+    private final int batchSize;
+    private final ScheduledExecutorService worker;
+    private final LongAdder archived = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public EventRetention(
+            EventRetentionSource source,
+            EventArchive archive,
+            Duration horizon,
+            Duration interval,
+            int batchSize) {
+        this.source = source;
+        this.archive = archive;
+        this.horizon = horizon;
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.worker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("event-retention").daemon().factory()
+        );
+    }
+
+    public void start() {
+        worker.scheduleWithFixedDelay(this::runScheduled, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Event retention every {} - events older than {} move to the archive", interval, horizon);
+    }
+
+    /**
+     * Archives everything eligible right now, batch by batch, and returns how many
+     * events moved.
+     */
+    public long runOnce() {
+        LocalDateTime olderThan = LocalDateTime.now().minus(horizon);
+        long moved = 0;
+        while (true) {
+            List<DomainEvent> batch = source.findArchivable(olderThan, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            archive.write(batch);
+            source.delete(batch.stream().map(DomainEvent::eventId).toList());
+            archived.add(batch.size());
+            moved += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        if (moved > 0) {
+            log.info("✅ Event retention - {} events older than {} archived", moved, olderThan);
+        }
+        return moved;
+    }
+
+    public long archivedCount() {
+        return archived.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        worker.shutdownNow();
+    }
+
+    private void runScheduled() {
+        try {
+            runOnce();
+        } catch (Exception ex) {
+            failed.increment();
+            log.warn("⚠️ Event retention round failed, retrying in {}: {}", interval, ex.getMessage());
+        }
+    }
+}
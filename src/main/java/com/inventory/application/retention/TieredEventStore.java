@@ -0,0 +1,135 @@
+package com.inventory.application.retention;
+
+import com.inventory.application.port.output.EventArchive;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Event store over two tiers: the hot store, where every event is written, and the
+ * {@link EventArchive} that {@link EventRetention} moves old events into. An aggregate's
+ * archived events are always older than its hot ones, so history reads answer cold
+ * first, then hot. An event archived but not yet deleted from the hot store is returned
+ * once.
+ * <p>
+ * Versions stay in the hot store, which always keeps each aggregate's last event:
+ * version reads, lookups by event id and every write go to it alone. Replay pages go
+ * through the archive before the hot store; their cursors say which tier they are in.
+ */
+@RequiredArgsConstructor
+public class TieredEventStore implements EventStore {
+
+    private static final String COLD = "cold:";
+    private static final String HOT = "hot:";
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    private final EventStore delegate;
+    private final EventArchive archive;
+
+    @Override
+    public void store(DomainEvent event) {
+        delegate.store(event);
+    }
+
+    @Override
+    public void storeAll(List<DomainEvent> events) {
+        delegate.storeAll(events);
+    }
+
+    @Override
+    public long append(String aggregateId, long expectedVersion, List<DomainEvent> events) {
+        return delegate.append(aggregateId, expectedVersion, events);
+    }
+
+    @Override
+    public long currentVersion(String aggregateId) {
+        return delegate.currentVersion(aggregateId);
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateId(String aggregateId) {
+        return merge(archive.find(aggregateId, BEGINNING, END), delegate.findByAggregateId(aggregateId));
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateIdAndVersion(String aggregateId, long fromVersion, long toVersion) {
+        return delegate.findByAggregateIdAndVersion(aggregateId, fromVersion, toVersion);
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateIdAndTimestamp(String aggregateId, LocalDateTime from, LocalDateTime to) {
+        return merge(archive.find(aggregateId, from, to), delegate.findByAggregateIdAndTimestamp(aggregateId, from, to));
+    }
+
+    @Override
+    public Optional<DomainEvent> findByEventId(String eventId) {
+        return delegate.findByEventId(eventId);
+    }
+
+    @Override
+    public List<DomainEvent> findAll() {
+        List<DomainEvent> cold = new ArrayList<>();
+        EventPage page = archive.findPageAfter(EventCursor.START, 10_000);
+        cold.addAll(page.events());
+        while (!page.events().isEmpty()) {
+            page = archive.findPageAfter(page.next(), 10_000);
+            cold.addAll(page.events());
+        }
+        return merge(cold, delegate.findAll());
+    }
+
+    @Override
+    public EventPage findPageAfter(EventCursor after, int limit) {
+        // Cursors written before the archive existed belong to the hot store
+        if (after.value().startsWith(HOT)) {
+            return hotPageAfter(EventCursor.of(after.value().substring(HOT.length())), limit);
+        }
+        if (!after.isStart() && !after.value().startsWith(COLD)) {
+            return hotPageAfter(after, limit);
+        }
+
+        EventPage page = archive.findPageAfter(EventCursor.of(after.value().replaceFirst("^" + COLD, "")), limit);
+        if (page.events().size() == limit) {
+            return new EventPage(page.events(), new EventCursor(COLD + page.next().value()));
+        }
+        // Archive exhausted: the rest of the page comes from the start of the hot store
+        EventPage hot = hotPageAfter(EventCursor.START, limit - page.events().size());
+        List<DomainEvent> events = new ArrayList<>(page.events());
+        events.addAll(hot.events());
+        return new EventPage(events, hot.next());
+    }
+
+    private EventPage hotPageAfter(EventCursor after, int limit) {
+        EventPage page = delegate.findPageAfter(after, limit);
+        return new EventPage(page.events(), new EventCursor(HOT + page.next().value()));
+    }
+
+    private static List<DomainEvent> merge(List<DomainEvent> cold, List<DomainEvent> hot) {
+        if (cold.isEmpty()) {
+            return hot;
+        }
+        Set<String> seen = new HashSet<>();
+        List<DomainEvent> events = new ArrayList<>(cold.size() + hot.size());
+        for (DomainEvent event : cold) {
+            if (seen.add(event.eventId())) {
+                events.add(event);
+            }
+        }
+        for (DomainEvent event : hot) {
+            if (seen.add(event.eventId())) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
@@ -2,12 +2,15 @@ package com.inventory.application.service;
 
 import com.inventory.application.port.input.*;
 import com.inventory.application.port.output.*;
+import com.inventory.config.ConcurrencyProperties;
 import com.inventory.domain.event.StockCommittedEvent;
 import com.inventory.domain.exception.*;
 import com.inventory.domain.model.*;
+import com.inventory.domain.policy.BucketSelectionPolicy;
 import com.inventory.domain.policy.ExpirationPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,10 @@ public class CommitStockService implements CommitStockUseCase {
     private final EventPublisher eventPublisher;
     private final EventStore eventStore;
     private final ExpirationPolicy expirationPolicy;
+    private final StockLedger stockLedger;
+    private final ConcurrencyProperties concurrency;
+    private final StockBucketRepository stockBuckets;
+    private final BucketSelectionPolicy bucketSelection;
     
     @Override
     public Result<String, DomainError> commit(CommitStockCommand command) {
@@ -29,9 +36,10 @@ public class CommitStockService implements CommitStockUseCase {
         log.info("Committing reservation: {}", command.reservationId());
         
         try {
-            // 1. Load reservation
+            // 1. Load and lock the reservation: a concurrent commit, release or expiry
+            //    waits here and then sees the status this one writes
             Reservation reservation = reservationRepository
-                .findById(command.reservationId())
+                .findByIdWithLock(command.reservationId())
                 .orElseThrow(() -> new ReservationNotFoundException(
                     command.reservationId()
                 ));
@@ -57,30 +65,44 @@ public class CommitStockService implements CommitStockUseCase {
                 );
             }
             
-            // 4. Load inventory with lock
-            Inventory inventory = inventoryRepository
-                .findByStoreIdAndSkuWithLock(
+            // 4. Move stock reserved → sold
+            if (stockLedger.tracks(reservation.getStoreId(), reservation.getSku())) {
+                stockLedger.commit(
                     reservation.getStoreId(),
-                    reservation.getSku()
-                )
-                .orElseThrow(() -> new ProductNotFoundException(
                     reservation.getSku(),
-                    reservation.getStoreId()
-                ));
-            
-            // 5. Execute domain operation (reserved → sold)
-            inventory.commit(reservation.getQuantity());
+                    reservation.getQuantity()
+                );
+            } else if (stockBuckets.bucketCount(reservation.getStoreId(), reservation.getSku()) > 0) {
+                commitFromBuckets(reservation);
+            } else if (concurrency.mode() == ConcurrencyProperties.Mode.ATOMIC) {
+                if (!inventoryRepository.commitReserved(
+                        reservation.getStoreId(),
+                        reservation.getSku(),
+                        reservation.getQuantity())) {
+                    throw guardedUpdateFailure(reservation);
+                }
+            } else {
+                Inventory inventory = inventoryRepository
+                    .findByStoreIdAndSkuWithLock(
+                        reservation.getStoreId(),
+                        reservation.getSku()
+                    )
+                    .orElseThrow(() -> new ProductNotFoundException(
+                        reservation.getSku(),
+                        reservation.getStoreId()
+                    ));
+                
+                inventory.commit(reservation.getQuantity());
+                inventoryRepository.save(inventory);
+            }
             
-            // 6. Update reservation status
+            // 5. Update reservation status
             Reservation committedReservation = reservation.withStatus(
                 ReservationStatus.COMMITTED
             );
-            
-            // 7. Persist
-            inventoryRepository.save(inventory);
             reservationRepository.save(committedReservation);
             
-            // 8. Create and publish event
+            // 6. Create and publish event
             StockCommittedEvent event = StockCommittedEvent.create(
                 command.reservationId(),
                 reservation.getStoreId(),
@@ -101,6 +123,10 @@ public class CommitStockService implements CommitStockUseCase {
             log.error("❌ Domain error during commit: {}", ex.getMessage(), ex);
             return Result.failure(DomainError.from(ex));
             
+        } catch (OptimisticLockingFailureException ex) {
+            // Version conflict: roll back and let the caller retry
+            throw ex;
+            
         } catch (Exception ex) {
             log.error("❌ Unexpected error during commit", ex);
             return Result.failure(DomainError.of(
@@ -109,5 +135,33 @@ public class CommitStockService implements CommitStockUseCase {
             ));
         }
     }
+    
+    private DomainException guardedUpdateFailure(Reservation reservation) {
+        Inventory inventory = inventoryRepository
+            .findByStoreIdAndSku(reservation.getStoreId(), reservation.getSku())
+            .orElseThrow(() -> new ProductNotFoundException(
+                reservation.getSku(),
+                reservation.getStoreId()
+            ));
+        
+        return new InvalidStockOperationException("commit", String.format(
+            "Cannot commit %d units. Only %d reserved",
+            reservation.getQuantity(), inventory.reservedStock()
+        ));
+    }
+    
+    private void commitFromBuckets(Reservation reservation) {
+        // The bucket the units were reserved from, never a sibling that happens to hold as many
+        int bucket = bucketSelection.bucketOf(reservation);
+        if (!stockBuckets.commitFromBucket(
+                reservation.getStoreId(),
+                reservation.getSku(),
+                bucket,
+                reservation.getQuantity())) {
+            throw new InvalidStockOperationException("commit", String.format(
+                "Bucket %d does not hold %d reserved units", bucket, reservation.getQuantity()
+            ));
+        }
+    }
 }
 
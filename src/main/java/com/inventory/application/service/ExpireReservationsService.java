@@ -0,0 +1,272 @@
+package com.inventory.application.service;
+
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.*;
+import com.inventory.config.ConcurrencyProperties;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockReleasedEvent;
+import com.inventory.domain.exception.*;
+import com.inventory.domain.model.*;
+import com.inventory.domain.policy.BucketSelectionPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class ExpireReservationsService implements ExpireReservationsUseCase {
+
+    public static final String EXPIRY_REASON = "expired";
+
+    private final InventoryRepository inventoryRepository;
+    private final ReservationRepository reservationRepository;
+    private final EventPublisher eventPublisher;
+    private final EventStore eventStore;
+    private final StockLedger stockLedger;
+    private final ConcurrencyProperties concurrency;
+    private final StockBucketRepository stockBuckets;
+    private final BucketSelectionPolicy bucketSelection;
+
+    @Override
+    public Result<Integer, DomainError> expire(List<String> reservationIds) {
+
+        log.debug("Expiring {} reservations", reservationIds.size());
+
+        try {
+            // 1. Lock the ones still holding stock before reading them; a commit or release
+            //    that won the race keeps its reservation, and so does another instance's
+            //    wheel expiring the same rows
+            if (reservationIds.isEmpty()) {
+                return Result.success(0);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<String> locked = reservationRepository.lockReserved(reservationIds);
+            if (locked.isEmpty()) {
+                return Result.success(0);
+            }
+            List<Reservation> expired = reservationRepository.findAllById(locked).stream()
+                .filter(reservation -> reservation.getStatus() == ReservationStatus.RESERVED)
+                .filter(reservation -> !reservation.getExpiresAt().isAfter(now))
+                .toList();
+
+            if (expired.isEmpty()) {
+                return Result.success(0);
+            }
+
+            // 2. One release per inventory row, rows locked in canonical order
+            Map<InventoryKey, List<Reservation>> byItem = groupByItem(expired);
+            byItem.forEach(this::releaseItem);
+
+            // 3. Mark expired and emit one release event per reservation
+            List<Reservation> updated = new ArrayList<>(expired.size());
+            List<DomainEvent> events = new ArrayList<>(expired.size());
+            for (Reservation reservation : expired) {
+                updated.add(reservationRepository.save(
+                    reservation.withStatus(ReservationStatus.EXPIRED)
+                ));
+                events.add(StockReleasedEvent.create(
+                    reservation.getId(),
+                    reservation.getStoreId(),
+                    reservation.getSku(),
+                    reservation.getQuantity(),
+                    EXPIRY_REASON
+                ));
+            }
+
+            eventStore.storeAll(events);
+            eventPublisher.publishBatch(events);
+
+            log.info("⏰ Expired {} reservations across {} items", updated.size(), byItem.size());
+
+            return Result.success(updated.size());
+
+        } catch (DomainException ex) {
+            log.error("❌ Domain error during expiry: {}", ex.getMessage(), ex);
+            // Stock already returned for earlier items must not be committed: the scheduler
+            // retries each reservation of the batch on its own
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Result.failure(DomainError.from(ex));
+
+        } catch (OptimisticLockingFailureException ex) {
+            // Version conflict: roll back and let the scheduler retry
+            throw ex;
+
+        } catch (Exception ex) {
+            log.error("❌ Unexpected error during expiry", ex);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Result.failure(DomainError.of(
+                "INTERNAL_ERROR",
+                "An unexpected error occurred"
+            ));
+        }
+    }
+
+    /**
+     * Set-based variant for the sweep: one guarded UPDATE per inventory row regardless of
+     * the concurrency mode, one bulk UPDATE for the reservations and batched event
+     * inserts. The page rows are locked until commit, and commit and release lock the
+     * reservation before reading its status: whichever locks first wins, and the other
+     * sees the new status. So a sweeper never expires a reservation that was committed
+     * or released since the page was read, a commit or release never applies to one the
+     * sweep expired, and two sweepers never expire the same one. Reservations whose
+     * stock cannot be returned are left RESERVED and picked up again by the next sweep.
+     */
+    @Override
+    public Result<ExpirySweepPage, DomainError> expirePage(LocalDateTime before, ExpiryCursor after, int limit) {
+
+        try {
+            // 1. Next page in (expiresAt, id) order
+            List<Reservation> page = reservationRepository.findExpiredReservations(before, after, limit);
+            if (page.isEmpty()) {
+                return Result.success(ExpirySweepPage.empty());
+            }
+
+            // 2. Lock the page; a commit or release that got there first keeps its reservation
+            Set<String> locked = new HashSet<>(reservationRepository.lockReserved(
+                page.stream().map(Reservation::getId).toList()
+            ));
+            List<Reservation> expiring = page.stream()
+                .filter(reservation -> locked.contains(reservation.getId()))
+                .toList();
+
+            // 3. One UPDATE per inventory row for the whole page
+            List<Reservation> released = new ArrayList<>(expiring.size());
+            groupByItem(expiring).forEach((key, reservations) ->
+                released.addAll(releaseItemInBulk(key, reservations))
+            );
+
+            // 4. One UPDATE for the reservations, events inserted in JDBC batches
+            if (!released.isEmpty()) {
+                int marked = reservationRepository.markExpired(
+                    released.stream().map(Reservation::getId).toList()
+                );
+                if (marked != released.size()) {
+                    throw new IllegalStateException(String.format(
+                        "Expected to expire %d locked reservations, updated %d", released.size(), marked
+                    ));
+                }
+
+                List<DomainEvent> events = released.stream()
+                    .<DomainEvent>map(reservation -> StockReleasedEvent.create(
+                        reservation.getId(),
+                        reservation.getStoreId(),
+                        reservation.getSku(),
+                        reservation.getQuantity(),
+                        EXPIRY_REASON
+                    ))
+                    .toList();
+                eventStore.storeAll(events);
+                eventPublisher.publishBatch(events);
+            }
+
+            Reservation last = page.get(page.size() - 1);
+            return Result.success(new ExpirySweepPage(
+                page.size(),
+                released.size(),
+                page.get(0).getExpiresAt(),
+                page.size() < limit ? null : ExpiryCursor.after(last)
+            ));
+
+        } catch (OptimisticLockingFailureException ex) {
+            // Version conflict: roll back and let the sweeper retry
+            throw ex;
+
+        } catch (Exception ex) {
+            log.error("❌ Unexpected error during expiry sweep", ex);
+            // Stock already returned for part of the page must not be committed
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Result.failure(DomainError.of(
+                "INTERNAL_ERROR",
+                "An unexpected error occurred"
+            ));
+        }
+    }
+
+    private Map<InventoryKey, List<Reservation>> groupByItem(List<Reservation> reservations) {
+        // Sorted so rows are always locked in canonical order
+        Map<InventoryKey, List<Reservation>> byItem = new TreeMap<>();
+        for (Reservation reservation : reservations) {
+            byItem.computeIfAbsent(
+                InventoryKey.of(reservation.getStoreId(), reservation.getSku()),
+                key -> new ArrayList<>()
+            ).add(reservation);
+        }
+        return byItem;
+    }
+
+    private List<Reservation> releaseItemInBulk(InventoryKey key, List<Reservation> reservations) {
+        int quantity = reservations.stream().mapToInt(Reservation::getQuantity).sum();
+
+        if (stockLedger.tracks(key.storeId(), key.sku())) {
+            stockLedger.release(key.storeId(), key.sku(), quantity);
+            return reservations;
+        }
+        if (stockBuckets.bucketCount(key.storeId(), key.sku()) > 0) {
+            return reservations.stream()
+                .filter(this::releasedToBucket)
+                .toList();
+        }
+        if (inventoryRepository.releaseReserved(key.storeId(), key.sku(), quantity)) {
+            return reservations;
+        }
+
+        log.warn("⚠️ Cannot release {} expired units of {}; leaving {} reservations for the next sweep",
+            quantity, key, reservations.size());
+        return List.of();
+    }
+
+    private boolean releasedToBucket(Reservation reservation) {
+        // Back to the bucket the units were reserved from
+        return stockBuckets.releaseToBucket(
+            reservation.getStoreId(),
+            reservation.getSku(),
+            bucketSelection.bucketOf(reservation),
+            reservation.getQuantity());
+    }
+
+    private void releaseItem(InventoryKey key, List<Reservation> reservations) {
+        int quantity = reservations.stream().mapToInt(Reservation::getQuantity).sum();
+
+        if (stockLedger.tracks(key.storeId(), key.sku())) {
+            stockLedger.release(key.storeId(), key.sku(), quantity);
+        } else if (stockBuckets.bucketCount(key.storeId(), key.sku()) > 0) {
+            // Each reservation was taken from a single bucket; the total may not fit one
+            reservations.forEach(this::releaseFromBuckets);
+        } else if (concurrency.mode() == ConcurrencyProperties.Mode.ATOMIC) {
+            if (!inventoryRepository.releaseReserved(key.storeId(), key.sku(), quantity)) {
+                throw new InvalidStockOperationException("release", String.format(
+                    "Cannot release %d expired units of %s", quantity, key
+                ));
+            }
+        } else {
+            Inventory inventory = inventoryRepository
+                .findByStoreIdAndSkuWithLock(key.storeId(), key.sku())
+                .orElseThrow(() -> new ProductNotFoundException(key.sku(), key.storeId()));
+
+            inventory.release(quantity);
+            inventoryRepository.save(inventory);
+        }
+    }
+
+    private void releaseFromBuckets(Reservation reservation) {
+        if (!releasedToBucket(reservation)) {
+            throw new InvalidStockOperationException("release", String.format(
+                "Bucket %d does not hold %d reserved units",
+                bucketSelection.bucketOf(reservation), reservation.getQuantity()
+            ));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.inventory.application.service;
+
+import com.inventory.application.port.input.ListReservationsUseCase;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.domain.model.Reservation;
+import com.inventory.domain.model.ReservationQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListReservationsService implements ListReservationsUseCase {
+
+    private final ReservationRepository reservationRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long stream(ReservationQuery query, int limit, Consumer<Reservation> sink) {
+
+        log.debug("Listing reservations - {}, limit: {}", query, limit);
+
+        // The transaction, and so the JDBC cursor, stays open until the last row is handed over
+        long streamed = reservationRepository.streamReservations(query, limit, sink);
+
+        log.debug("Listed {} reservations", streamed);
+        return streamed;
+    }
+}
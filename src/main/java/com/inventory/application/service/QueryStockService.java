@@ -3,8 +3,11 @@ package com.inventory.application.service;
 import com.inventory.application.port.input.InventoryView;
 import com.inventory.application.port.input.QueryStockUseCase;
 import com.inventory.application.port.output.InventoryRepository;
+import com.inventory.application.port.output.StockBucketRepository;
+import com.inventory.application.port.output.StockLedger;
 import com.inventory.domain.model.Sku;
 import com.inventory.domain.model.StoreId;
+import com.inventory.domain.policy.BucketSelectionPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +21,9 @@ import java.util.Optional;
 public class QueryStockService implements QueryStockUseCase {
     
     private final InventoryRepository inventoryRepository;
+    private final StockLedger stockLedger;
+    private final StockBucketRepository stockBuckets;
+    private final BucketSelectionPolicy bucketSelection;
     
     @Override
     @Transactional(readOnly = true)
@@ -28,6 +34,12 @@ public class QueryStockService implements QueryStockUseCase {
         return inventoryRepository
             .findByStoreIdAndSku(storeId, sku)
             .map(inventory -> {
+                // Hot SKUs: the ledger is ahead of the write-behind row
+                stockLedger.snapshot(storeId, sku).ifPresent(inventory::setStock);
+                // Sliced items: the row is only a header, the stock lives in the buckets
+                if (stockBuckets.bucketCount(storeId, sku) > 0) {
+                    inventory.setStock(bucketSelection.total(stockBuckets.findBuckets(storeId, sku)));
+                }
                 log.debug("Inventory found - available: {}", 
                     inventory.availableStock());
                 return InventoryView.from(inventory);
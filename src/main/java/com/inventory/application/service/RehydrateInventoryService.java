@@ -0,0 +1,74 @@
+package com.inventory.application.service;
+
+import com.inventory.application.port.input.RehydrateInventoryUseCase;
+import com.inventory.application.port.input.RehydratedInventory;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.application.port.output.SnapshotStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.InventorySnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RehydrateInventoryService implements RehydrateInventoryUseCase {
+
+    // Upper bound of the tail query: the event store has no open-ended range
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final EventStore eventStore;
+    private final SnapshotStore snapshotStore;
+
+    @Override
+    @Transactional(readOnly = true)
+    public RehydratedInventory rehydrate(String aggregateId) {
+
+        InventorySnapshot snapshot = latest(aggregateId);
+        List<DomainEvent> tail = eventsAfter(snapshot, END_OF_TIME);
+
+        log.debug("Rehydrating {} - snapshot of {} events, {} replayed", aggregateId, snapshot.eventCount(), tail.size());
+
+        return new RehydratedInventory(snapshot.fold(tail), tail.size());
+    }
+
+    @Override
+    @Transactional
+    public Optional<InventorySnapshot> takeSnapshot(String aggregateId, LocalDateTime until) {
+
+        // The snapshot table keeps microseconds: a finer watermark would not survive the round trip
+        LocalDateTime coveredUntil = until.truncatedTo(ChronoUnit.MICROS);
+        InventorySnapshot latest = latest(aggregateId);
+        if (latest.coveredUntil() != null && !coveredUntil.isAfter(latest.coveredUntil())) {
+            return Optional.empty();
+        }
+
+        List<DomainEvent> events = eventsAfter(latest, coveredUntil);
+        InventorySnapshot snapshot = latest.fold(events).coveringUntil(coveredUntil, LocalDateTime.now());
+        snapshotStore.save(snapshot);
+
+        log.debug("Snapshot of {} taken - {} events folded, {} in total", aggregateId, events.size(), snapshot.eventCount());
+        return Optional.of(snapshot);
+    }
+
+    private InventorySnapshot latest(String aggregateId) {
+        return snapshotStore.findLatest(aggregateId).orElseGet(() -> InventorySnapshot.empty(aggregateId));
+    }
+
+    // Events after the snapshot and at or before `until`; the range query is inclusive on both ends
+    private List<DomainEvent> eventsAfter(InventorySnapshot snapshot, LocalDateTime until) {
+        List<DomainEvent> events = snapshot.coveredUntil() == null
+            ? eventStore.findByAggregateIdAndTimestamp(snapshot.aggregateId(), LocalDateTime.of(1970, 1, 1, 0, 0), until)
+            : eventStore.findByAggregateIdAndTimestamp(snapshot.aggregateId(), snapshot.coveredUntil(), until);
+        return events.stream()
+            .filter(event -> !snapshot.covers(event))
+            .toList();
+    }
+}
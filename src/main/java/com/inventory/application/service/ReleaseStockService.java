@@ -2,11 +2,14 @@ package com.inventory.application.service;
 
 import com.inventory.application.port.input.*;
 import com.inventory.application.port.output.*;
+import com.inventory.config.ConcurrencyProperties;
 import com.inventory.domain.event.StockReleasedEvent;
 import com.inventory.domain.exception.*;
 import com.inventory.domain.model.*;
+import com.inventory.domain.policy.BucketSelectionPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +23,10 @@ public class ReleaseStockService implements ReleaseStockUseCase {
     private final ReservationRepository reservationRepository;
     private final EventPublisher eventPublisher;
     private final EventStore eventStore;
+    private final StockLedger stockLedger;
+    private final ConcurrencyProperties concurrency;
+    private final StockBucketRepository stockBuckets;
+    private final BucketSelectionPolicy bucketSelection;
     
     @Override
     public Result<Void, DomainError> release(ReleaseStockCommand command) {
@@ -28,15 +35,17 @@ public class ReleaseStockService implements ReleaseStockUseCase {
             command.reservationId(), command.reason());
         
         try {
-            // 1. Load reservation
+            // 1. Load and lock the reservation: a concurrent commit, release or expiry
+            //    waits here and then sees the status this one writes
             Reservation reservation = reservationRepository
-                .findById(command.reservationId())
+                .findByIdWithLock(command.reservationId())
                 .orElseThrow(() -> new ReservationNotFoundException(
                     command.reservationId()
                 ));
             
-            // 2. Validate can be released
-            if (reservation.getStatus() == ReservationStatus.COMMITTED) {
+            // 2. Only a reservation still holding stock can give it back; an expired
+            //    or already released one returned its units before
+            if (reservation.getStatus() != ReservationStatus.RESERVED) {
                 throw new InvalidReservationStateException(
                     command.reservationId(),
                     reservation.getStatus(),
@@ -44,30 +53,44 @@ public class ReleaseStockService implements ReleaseStockUseCase {
                 );
             }
             
-            // 3. Load inventory with lock
-            Inventory inventory = inventoryRepository
-                .findByStoreIdAndSkuWithLock(
+            // 3. Return stock to available
+            if (stockLedger.tracks(reservation.getStoreId(), reservation.getSku())) {
+                stockLedger.release(
                     reservation.getStoreId(),
-                    reservation.getSku()
-                )
-                .orElseThrow(() -> new ProductNotFoundException(
                     reservation.getSku(),
-                    reservation.getStoreId()
-                ));
-            
-            // 4. Execute domain operation (return to available)
-            inventory.release(reservation.getQuantity());
+                    reservation.getQuantity()
+                );
+            } else if (stockBuckets.bucketCount(reservation.getStoreId(), reservation.getSku()) > 0) {
+                releaseFromBuckets(reservation);
+            } else if (concurrency.mode() == ConcurrencyProperties.Mode.ATOMIC) {
+                if (!inventoryRepository.releaseReserved(
+                        reservation.getStoreId(),
+                        reservation.getSku(),
+                        reservation.getQuantity())) {
+                    throw guardedUpdateFailure(reservation);
+                }
+            } else {
+                Inventory inventory = inventoryRepository
+                    .findByStoreIdAndSkuWithLock(
+                        reservation.getStoreId(),
+                        reservation.getSku()
+                    )
+                    .orElseThrow(() -> new ProductNotFoundException(
+                        reservation.getSku(),
+                        reservation.getStoreId()
+                    ));
+                
+                inventory.release(reservation.getQuantity());
+                inventoryRepository.save(inventory);
+            }
             
-            // 5. Update reservation
+            // 4. Update reservation
             Reservation releasedReservation = reservation.withStatus(
                 ReservationStatus.CANCELLED
             );
-            
-            // 6. Persist
-            inventoryRepository.save(inventory);
             reservationRepository.save(releasedReservation);
             
-            // 7. Create and publish event
+            // 5. Create and publish event
             StockReleasedEvent event = StockReleasedEvent.create(
                 command.reservationId(),
                 reservation.getStoreId(),
@@ -87,6 +110,10 @@ public class ReleaseStockService implements ReleaseStockUseCase {
             log.error("❌ Domain error during release: {}", ex.getMessage(), ex);
             return Result.failure(DomainError.from(ex));
             
+        } catch (OptimisticLockingFailureException ex) {
+            // Version conflict: roll back and let the caller retry
+            throw ex;
+            
         } catch (Exception ex) {
             log.error("❌ Unexpected error during release", ex);
             return Result.failure(DomainError.of(
@@ -95,5 +122,33 @@ public class ReleaseStockService implements ReleaseStockUseCase {
             ));
         }
     }
+    
+    private DomainException guardedUpdateFailure(Reservation reservation) {
+        Inventory inventory = inventoryRepository
+            .findByStoreIdAndSku(reservation.getStoreId(), reservation.getSku())
+            .orElseThrow(() -> new ProductNotFoundException(
+                reservation.getSku(),
+                reservation.getStoreId()
+            ));
+        
+        return new InvalidStockOperationException("release", String.format(
+            "Cannot release %d units. Only %d reserved",
+            reservation.getQuantity(), inventory.reservedStock()
+        ));
+    }
+    
+    private void releaseFromBuckets(Reservation reservation) {
+        // Back to the bucket the units were reserved from
+        int bucket = bucketSelection.bucketOf(reservation);
+        if (!stockBuckets.releaseToBucket(
+                reservation.getStoreId(),
+                reservation.getSku(),
+                bucket,
+                reservation.getQuantity())) {
+            throw new InvalidStockOperationException("release", String.format(
+                "Bucket %d does not hold %d reserved units", bucket, reservation.getQuantity()
+            ));
+        }
+    }
 }
 
@@ -0,0 +1,203 @@
+package com.inventory.application.service;
+
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.*;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.exception.DomainException;
+import com.inventory.domain.exception.InsufficientStockException;
+import com.inventory.domain.exception.ProductNotFoundException;
+import com.inventory.domain.model.*;
+import com.inventory.domain.policy.BucketSelectionPolicy;
+import com.inventory.domain.policy.ReservationPolicy;
+import com.inventory.domain.policy.ValidationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class ReserveCartService implements ReserveCartUseCase {
+
+    private final InventoryRepository inventoryRepository;
+    private final ReservationRepository reservationRepository;
+    private final EventPublisher eventPublisher;
+    private final EventStore eventStore;
+    private final ReservationPolicy reservationPolicy;
+    private final StockLedger stockLedger;
+    private final StockBucketRepository stockBuckets;
+    private final BucketSelectionPolicy bucketSelection;
+
+    @Override
+    public Result<List<ReservationId>, DomainError> reserveCart(ReserveCartCommand command) {
+
+        log.info("Reserving cart - customer: {}, lines: {}",
+            command.customerId(), command.lines().size());
+
+        try {
+            // 1. Lock every row the cart touches, always in canonical (storeId, sku) order
+            Map<InventoryKey, Inventory> locked = lockInCanonicalOrder(command.lines());
+
+            // 2. Validate all lines against the running stock before writing anything
+            List<Map<String, Object>> lineErrors = new ArrayList<>();
+            for (int i = 0; i < command.lines().size(); i++) {
+                ReserveCartCommand.Line line = command.lines().get(i);
+                Inventory inventory = locked.get(InventoryKey.of(line.storeId(), line.sku()));
+
+                List<String> errors = inventory != null
+                    ? validate(inventory, line.quantity())
+                    : maxQuantityErrors(line.quantity());
+
+                if (!errors.isEmpty()) {
+                    lineErrors.add(Map.of(
+                        "line", i,
+                        "storeId", line.storeId().value(),
+                        "sku", line.sku().value(),
+                        "errors", errors
+                    ));
+                } else if (inventory != null) {
+                    inventory.reserve(line.quantity());
+                }
+            }
+
+            if (!lineErrors.isEmpty()) {
+                log.warn("Cart validation failed: {}", lineErrors);
+                return rollback(new DomainError(
+                    "VALIDATION_ERROR",
+                    "Cart reservation failed, nothing was reserved",
+                    Map.of("lines", lineErrors)
+                ));
+            }
+
+            // 3. Hot SKUs admit through the ledger or their buckets; a rollback gives the units back
+            Map<ReserveCartCommand.Line, Integer> buckets = new IdentityHashMap<>();
+            command.lines().stream()
+                .filter(line -> !locked.containsKey(InventoryKey.of(line.storeId(), line.sku())))
+                .sorted(Comparator.comparing(line -> InventoryKey.of(line.storeId(), line.sku())))
+                .forEach(line -> buckets.put(line, admitOutsideRowLock(line)));
+
+            // 4. Persist: one UPDATE per row, batched reservation and event INSERTs
+            locked.values().forEach(inventoryRepository::save);
+
+            LocalDateTime now = LocalDateTime.now();
+            List<ReservationId> reservationIds = new ArrayList<>();
+            List<Reservation> reservations = new ArrayList<>();
+            List<DomainEvent> events = new ArrayList<>();
+
+            for (ReserveCartCommand.Line line : command.lines()) {
+                ReservationId reservationId = ReservationId.generate();
+                reservationIds.add(reservationId);
+
+                reservations.add(Reservation.builder()
+                    .id(reservationId.value())
+                    .storeId(line.storeId())
+                    .sku(line.sku())
+                    .quantity(line.quantity())
+                    .customerId(command.customerId())
+                    .status(ReservationStatus.RESERVED)
+                    .createdAt(now)
+                    .expiresAt(now.plus(reservationPolicy.getTtl()))
+                    .bucket(buckets.get(line))
+                    .build());
+
+                events.add(StockReservedEvent.create(
+                    reservationId.value(),
+                    line.storeId(),
+                    line.sku(),
+                    line.quantity(),
+                    command.customerId()
+                ));
+            }
+
+            reservationRepository.saveAll(reservations);
+            eventStore.storeAll(events);
+            eventPublisher.publishBatch(events);
+
+            log.info("✅ Cart reserved successfully - customer: {}, reservations: {}",
+                command.customerId(), reservationIds.size());
+
+            return Result.success(reservationIds);
+
+        } catch (DomainException ex) {
+            log.error("❌ Domain error during cart reservation: {}", ex.getMessage(), ex);
+            return rollback(DomainError.from(ex));
+
+        } catch (OptimisticLockingFailureException ex) {
+            // Version conflict: roll back and let the caller retry
+            throw ex;
+
+        } catch (Exception ex) {
+            log.error("❌ Unexpected error during cart reservation", ex);
+            return rollback(new DomainError(
+                "INTERNAL_ERROR",
+                "An unexpected error occurred",
+                Map.of("error", String.valueOf(ex.getMessage()))
+            ));
+        }
+    }
+
+    private Map<InventoryKey, Inventory> lockInCanonicalOrder(List<ReserveCartCommand.Line> lines) {
+        SortedSet<InventoryKey> keys = new TreeSet<>();
+        for (ReserveCartCommand.Line line : lines) {
+            if (!stockLedger.tracks(line.storeId(), line.sku())
+                    && stockBuckets.bucketCount(line.storeId(), line.sku()) == 0) {
+                keys.add(InventoryKey.of(line.storeId(), line.sku()));
+            }
+        }
+
+        Map<InventoryKey, Inventory> locked = new LinkedHashMap<>();
+        for (InventoryKey key : keys) {
+            Inventory inventory = inventoryRepository
+                .findByStoreIdAndSkuWithLock(key.storeId(), key.sku())
+                .orElseThrow(() -> new ProductNotFoundException(key.sku(), key.storeId()));
+            locked.put(key, inventory);
+        }
+
+        log.debug("Locked {} inventory rows in canonical order: {}", locked.size(), locked.keySet());
+        return locked;
+    }
+
+    // Returns the bucket the units came from, or null when the ledger admitted them
+    private Integer admitOutsideRowLock(ReserveCartCommand.Line line) {
+        if (stockLedger.tracks(line.storeId(), line.sku())) {
+            stockLedger.reserve(line.storeId(), line.sku(), line.quantity());
+            return null;
+        }
+
+        int buckets = stockBuckets.bucketCount(line.storeId(), line.sku());
+        for (int bucket : bucketSelection.probeOrder(buckets)) {
+            if (stockBuckets.reserveFromBucket(line.storeId(), line.sku(), bucket, line.quantity())) {
+                return bucket;
+            }
+        }
+
+        Stock total = bucketSelection.total(stockBuckets.findBuckets(line.storeId(), line.sku()));
+        throw new InsufficientStockException(line.sku(), line.quantity(), total.availableStock(), line.storeId());
+    }
+
+    private List<String> validate(Inventory inventory, int quantity) {
+        ValidationResult validation = reservationPolicy.validate(inventory, quantity);
+        return validation.hasErrors() ? validation.errors() : List.of();
+    }
+
+    private List<String> maxQuantityErrors(int quantity) {
+        int maxQuantity = reservationPolicy.getMaxQuantityPerReservation();
+        return quantity > maxQuantity
+            ? List.of(String.format("Quantity cannot exceed %d per reservation", maxQuantity))
+            : List.of();
+    }
+
+    private Result<List<ReservationId>, DomainError> rollback(DomainError error) {
+        // All-or-nothing: undo ledger admissions and any row already flushed
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        return Result.failure(error);
+    }
+}
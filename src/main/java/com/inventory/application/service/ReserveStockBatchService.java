@@ -0,0 +1,113 @@
+package com.inventory.application.service;
+
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.*;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.exception.ProductNotFoundException;
+import com.inventory.domain.model.*;
+import com.inventory.domain.policy.ReservationPolicy;
+import com.inventory.domain.policy.ValidationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class ReserveStockBatchService implements ReserveStockBatchUseCase {
+
+    private final InventoryRepository inventoryRepository;
+    private final ReservationRepository reservationRepository;
+    private final EventPublisher eventPublisher;
+    private final EventStore eventStore;
+    private final ReservationPolicy reservationPolicy;
+
+    @Override
+    public List<Result<ReservationId, DomainError>> reserveAll(List<ReserveStockCommand> commands) {
+
+        ReserveStockCommand first = commands.get(0);
+        InventoryKey key = InventoryKey.of(first.storeId(), first.sku());
+
+        for (ReserveStockCommand command : commands) {
+            if (!key.equals(InventoryKey.of(command.storeId(), command.sku()))) {
+                throw new IllegalArgumentException("All commands in a batch must target " + key);
+            }
+        }
+
+        log.info("Reserving stock in batch - store: {}, sku: {}, commands: {}",
+            first.storeId(), first.sku(), commands.size());
+
+        // 1. One lock acquisition for the whole batch
+        var loaded = inventoryRepository.findByStoreIdAndSkuWithLock(first.storeId(), first.sku());
+        if (loaded.isEmpty()) {
+            DomainError notFound = DomainError.from(new ProductNotFoundException(first.sku(), first.storeId()));
+            return commands.stream()
+                .map(command -> Result.<ReservationId, DomainError>failure(notFound))
+                .toList();
+        }
+        Inventory inventory = loaded.get();
+
+        // 2. Apply commands in arrival order; each one sees the stock left by the previous ones
+        List<Result<ReservationId, DomainError>> results = new ArrayList<>(commands.size());
+        List<Reservation> reservations = new ArrayList<>();
+        List<DomainEvent> events = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (ReserveStockCommand command : commands) {
+            ValidationResult validation = reservationPolicy.validate(inventory, command.quantity());
+            if (validation.hasErrors()) {
+                results.add(Result.failure(new DomainError(
+                    "VALIDATION_ERROR",
+                    "Reservation validation failed",
+                    Map.of("errors", validation.errors())
+                )));
+                continue;
+            }
+
+            inventory.reserve(command.quantity());
+            ReservationId reservationId = ReservationId.generate();
+
+            reservations.add(Reservation.builder()
+                .id(reservationId.value())
+                .storeId(command.storeId())
+                .sku(command.sku())
+                .quantity(command.quantity())
+                .customerId(command.customerId())
+                .status(ReservationStatus.RESERVED)
+                .createdAt(now)
+                .expiresAt(now.plus(reservationPolicy.getTtl()))
+                .build());
+
+            events.add(StockReservedEvent.create(
+                reservationId.value(),
+                command.storeId(),
+                command.sku(),
+                command.quantity(),
+                command.customerId()
+            ));
+
+            results.add(Result.success(reservationId));
+        }
+
+        // 3. One UPDATE plus batched INSERTs
+        if (!reservations.isEmpty()) {
+            inventoryRepository.save(inventory);
+            reservationRepository.saveAll(reservations);
+            eventStore.storeAll(events);
+            eventPublisher.publishBatch(events);
+        }
+
+        log.info("✅ Batch reserved - sku: {}, succeeded: {}/{}",
+            first.sku(), reservations.size(), commands.size());
+
+        return results;
+    }
+}
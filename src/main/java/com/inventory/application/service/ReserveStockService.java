@@ -2,18 +2,22 @@ package com.inventory.application.service;
 
 import com.inventory.application.port.input.*;
 import com.inventory.application.port.output.*;
+import com.inventory.config.ConcurrencyProperties;
 import com.inventory.domain.event.StockReservedEvent;
 import com.inventory.domain.exception.DomainException;
 import com.inventory.domain.exception.ProductNotFoundException;
 import com.inventory.domain.model.*;
+import com.inventory.domain.policy.BucketSelectionPolicy;
 import com.inventory.domain.policy.ReservationPolicy;
 import com.inventory.domain.policy.ValidationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -27,6 +31,10 @@ public class ReserveStockService implements ReserveStockUseCase {
     private final EventPublisher eventPublisher;
     private final EventStore eventStore;
     private final ReservationPolicy reservationPolicy;
+    private final StockLedger stockLedger;
+    private final ConcurrencyProperties concurrency;
+    private final StockBucketRepository stockBuckets;
+    private final BucketSelectionPolicy bucketSelection;
     
     @Override
     public Result<ReservationId, DomainError> reserve(ReserveStockCommand command) {
@@ -35,6 +43,19 @@ public class ReserveStockService implements ReserveStockUseCase {
             command.storeId(), command.sku(), command.quantity(), command.customerId());
         
         try {
+            if (stockLedger.tracks(command.storeId(), command.sku())) {
+                return reserveThroughLedger(command);
+            }
+            
+            int buckets = stockBuckets.bucketCount(command.storeId(), command.sku());
+            if (buckets > 0) {
+                return reserveFromBuckets(command, buckets);
+            }
+            
+            if (concurrency.mode() == ConcurrencyProperties.Mode.ATOMIC) {
+                return reserveWithGuardedUpdate(command);
+            }
+            
             // 1. Load aggregate with pessimistic lock
             Inventory inventory = inventoryRepository
                 .findByStoreIdAndSkuWithLock(command.storeId(), command.sku())
@@ -54,47 +75,16 @@ public class ReserveStockService implements ReserveStockUseCase {
             
             if (validation.hasErrors()) {
                 log.warn("Validation failed: {}", validation.errors());
-                return Result.failure(new DomainError(
-                    "VALIDATION_ERROR",
-                    "Reservation validation failed",
-                    Map.of("errors", validation.errors())
-                ));
+                return validationFailure(validation.errors());
             }
             
             // 3. Execute domain operation
             ReservationId reservationId = ReservationId.generate();
             inventory.reserve(command.quantity());
             
-            // 4. Create reservation
-            Reservation reservation = Reservation.builder()
-                .id(reservationId.value())
-                .storeId(command.storeId())
-                .sku(command.sku())
-                .quantity(command.quantity())
-                .customerId(command.customerId())
-                .status(ReservationStatus.RESERVED)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plus(reservationPolicy.getTtl()))
-                .build();
-            
-            // 5. Persist changes
+            // 4. Persist changes
             inventoryRepository.save(inventory);
-            reservationRepository.save(reservation);
-            
-            // 6. Create and publish domain event
-            StockReservedEvent event = StockReservedEvent.create(
-                reservationId.value(),
-                command.storeId(),
-                command.sku(),
-                command.quantity(),
-                command.customerId()
-            );
-            
-            eventStore.store(event);
-            eventPublisher.publish(event);
-            
-            log.info("✅ Stock reserved successfully - reservationId: {}, expiresAt: {}", 
-                reservationId, reservation.getExpiresAt());
+            recordReservation(reservationId, command);
             
             return Result.success(reservationId);
             
@@ -102,6 +92,10 @@ public class ReserveStockService implements ReserveStockUseCase {
             log.error("❌ Domain error during reservation: {}", ex.getMessage(), ex);
             return Result.failure(DomainError.from(ex));
             
+        } catch (OptimisticLockingFailureException ex) {
+            // Version conflict: roll back and let the caller retry
+            throw ex;
+            
         } catch (Exception ex) {
             log.error("❌ Unexpected error during reservation", ex);
             return Result.failure(new DomainError(
@@ -111,5 +105,126 @@ public class ReserveStockService implements ReserveStockUseCase {
             ));
         }
     }
+    
+    private Result<ReservationId, DomainError> reserveThroughLedger(ReserveStockCommand command) {
+        if (command.quantity() > reservationPolicy.getMaxQuantityPerReservation()) {
+            return maxQuantityFailure();
+        }
+        
+        // Admission happens in memory; the inventory row is written behind by the ledger
+        stockLedger.reserve(command.storeId(), command.sku(), command.quantity());
+        
+        ReservationId reservationId = ReservationId.generate();
+        try {
+            recordReservation(reservationId, command);
+        } catch (RuntimeException ex) {
+            stockLedger.release(command.storeId(), command.sku(), command.quantity());
+            throw ex;
+        }
+        
+        return Result.success(reservationId);
+    }
+    
+    private Result<ReservationId, DomainError> reserveWithGuardedUpdate(ReserveStockCommand command) {
+        if (command.quantity() > reservationPolicy.getMaxQuantityPerReservation()) {
+            return maxQuantityFailure();
+        }
+        
+        // One conditional UPDATE; zero rows means unknown product or not enough stock
+        if (!inventoryRepository.reserveIfAvailable(command.storeId(), command.sku(), command.quantity())) {
+            Inventory inventory = inventoryRepository
+                .findByStoreIdAndSku(command.storeId(), command.sku())
+                .orElseThrow(() -> new ProductNotFoundException(
+                    command.sku(), 
+                    command.storeId()
+                ));
+            
+            return validationFailure(List.of(String.format(
+                "Insufficient stock. Requested: %d, Available: %d",
+                command.quantity(), inventory.availableStock()
+            )));
+        }
+        
+        ReservationId reservationId = ReservationId.generate();
+        recordReservation(reservationId, command);
+        
+        return Result.success(reservationId);
+    }
+    
+    private Result<ReservationId, DomainError> reserveFromBuckets(ReserveStockCommand command, int buckets) {
+        if (command.quantity() > reservationPolicy.getMaxQuantityPerReservation()) {
+            return maxQuantityFailure();
+        }
+        
+        // Sliced item: first bucket (round-robin start) that covers the quantity wins
+        for (int bucket : bucketSelection.probeOrder(buckets)) {
+            if (stockBuckets.reserveFromBucket(command.storeId(), command.sku(), bucket, command.quantity())) {
+                log.debug("Reserved from bucket {} of {}", bucket, buckets);
+                ReservationId reservationId = ReservationId.generate();
+                recordReservation(reservationId, command, bucket);
+                return Result.success(reservationId);
+            }
+        }
+        
+        Stock total = bucketSelection.total(stockBuckets.findBuckets(command.storeId(), command.sku()));
+        return validationFailure(List.of(String.format(
+            total.availableStock() >= command.quantity()
+                ? "Insufficient stock in any single bucket. Requested: %d, Available: %d (rebalance the item)"
+                : "Insufficient stock. Requested: %d, Available: %d",
+            command.quantity(), total.availableStock()
+        )));
+    }
+    
+    private void recordReservation(ReservationId reservationId, ReserveStockCommand command) {
+        recordReservation(reservationId, command, null);
+    }
+    
+    private void recordReservation(ReservationId reservationId, ReserveStockCommand command, Integer bucket) {
+        
+        // Create reservation
+        Reservation reservation = Reservation.builder()
+            .id(reservationId.value())
+            .storeId(command.storeId())
+            .sku(command.sku())
+            .quantity(command.quantity())
+            .customerId(command.customerId())
+            .status(ReservationStatus.RESERVED)
+            .createdAt(LocalDateTime.now())
+            .expiresAt(LocalDateTime.now().plus(reservationPolicy.getTtl()))
+            .bucket(bucket)
+            .build();
+        
+        // Brand-new id: saveAll inserts it without looking it up first
+        reservationRepository.saveAll(List.of(reservation));
+        
+        // Create and publish domain event
+        StockReservedEvent event = StockReservedEvent.create(
+            reservationId.value(),
+            command.storeId(),
+            command.sku(),
+            command.quantity(),
+            command.customerId()
+        );
+        
+        eventStore.store(event);
+        eventPublisher.publish(event);
+        
+        log.info("✅ Stock reserved successfully - reservationId: {}, expiresAt: {}", 
+            reservationId, reservation.getExpiresAt());
+    }
+    
+    private Result<ReservationId, DomainError> maxQuantityFailure() {
+        return validationFailure(List.of(String.format(
+            "Quantity cannot exceed %d per reservation", 
+            reservationPolicy.getMaxQuantityPerReservation()
+        )));
+    }
+    
+    private Result<ReservationId, DomainError> validationFailure(List<String> errors) {
+        return Result.failure(new DomainError(
+            "VALIDATION_ERROR",
+            "Reservation validation failed",
+            Map.of("errors", errors)
+        ));
+    }
 }
-
@@ -0,0 +1,142 @@
+package com.inventory.application.service;
+
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.InventoryRepository;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.application.port.output.StockBucketRepository;
+import com.inventory.application.port.output.StockLedger;
+import com.inventory.domain.exception.DomainException;
+import com.inventory.domain.exception.InvalidStockOperationException;
+import com.inventory.domain.exception.ProductNotFoundException;
+import com.inventory.domain.model.*;
+import com.inventory.domain.policy.BucketSelectionPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class StockSlicingService implements ManageStockSlicesUseCase {
+
+    private final InventoryRepository inventoryRepository;
+    private final ReservationRepository reservationRepository;
+    private final StockBucketRepository stockBuckets;
+    private final StockLedger stockLedger;
+    private final BucketSelectionPolicy bucketSelection;
+
+    @Override
+    public Result<List<StockBucket>, DomainError> slice(StoreId storeId, Sku sku, int buckets) {
+
+        log.info("Slicing inventory - store: {}, sku: {}, buckets: {}", storeId, sku, buckets);
+
+        try {
+            bucketSelection.validateBucketCount(buckets);
+
+            if (stockLedger.tracks(storeId, sku)) {
+                throw new InvalidStockOperationException("slice", "item is served by the hot-SKU ledger");
+            }
+
+            // Row lock first, then buckets: same order as unslice
+            Inventory inventory = lockInventory(storeId, sku);
+            if (!stockBuckets.findBucketsWithLock(storeId, sku).isEmpty()) {
+                throw new InvalidStockOperationException("slice", "item is already sliced");
+            }
+
+            List<StockBucket> sliced = bucketSelection.slice(inventory.getStock(), buckets);
+            stockBuckets.saveBuckets(storeId, sku, sliced);
+            // Open reservations' units land in bucket 0; drop indices left from an earlier slicing
+            reservationRepository.clearBuckets(storeId, sku);
+
+            // The row stays as a header; its counters now live in the buckets
+            inventory.setStock(Stock.empty());
+            inventory.setLastUpdated(LocalDateTime.now());
+            inventoryRepository.save(inventory);
+
+            log.info("✅ Inventory sliced - sku: {}, buckets: {}", sku, buckets);
+            return Result.success(sliced);
+
+        } catch (DomainException ex) {
+            log.error("❌ Domain error during slicing: {}", ex.getMessage());
+            return Result.failure(DomainError.from(ex));
+
+        } catch (IllegalArgumentException ex) {
+            return Result.failure(new DomainError(
+                "VALIDATION_ERROR",
+                ex.getMessage(),
+                Map.of("buckets", buckets)
+            ));
+        }
+    }
+
+    @Override
+    public Result<List<StockBucket>, DomainError> rebalance(StoreId storeId, Sku sku) {
+
+        log.info("Rebalancing buckets - store: {}, sku: {}", storeId, sku);
+
+        List<StockBucket> current = stockBuckets.findBucketsWithLock(storeId, sku);
+        if (current.isEmpty()) {
+            return Result.failure(DomainError.from(
+                new InvalidStockOperationException("rebalance", "item is not sliced")
+            ));
+        }
+
+        List<StockBucket> rebalanced = bucketSelection.rebalance(current);
+        stockBuckets.saveBuckets(storeId, sku, rebalanced);
+
+        log.info("✅ Buckets rebalanced - sku: {}, available: {}",
+            sku, bucketSelection.total(rebalanced).availableStock());
+        return Result.success(rebalanced);
+    }
+
+    @Override
+    public Result<InventoryView, DomainError> unslice(StoreId storeId, Sku sku) {
+
+        log.info("Unslicing inventory - store: {}, sku: {}", storeId, sku);
+
+        try {
+            Inventory inventory = lockInventory(storeId, sku);
+            List<StockBucket> current = stockBuckets.findBucketsWithLock(storeId, sku);
+            if (current.isEmpty()) {
+                throw new InvalidStockOperationException("unslice", "item is not sliced");
+            }
+
+            // Fold the buckets back into the single row
+            Stock total = bucketSelection.total(current);
+            Stock header = inventory.getStock();
+            inventory.setStock(new Stock(
+                header.availableStock() + total.availableStock(),
+                header.reservedStock() + total.reservedStock(),
+                header.soldStock() + total.soldStock()
+            ));
+            inventory.setLastUpdated(LocalDateTime.now());
+            inventoryRepository.save(inventory);
+            stockBuckets.deleteBuckets(storeId, sku);
+
+            log.info("✅ Inventory unsliced - sku: {}, available: {}", sku, inventory.availableStock());
+            return Result.success(InventoryView.from(inventory));
+
+        } catch (DomainException ex) {
+            log.error("❌ Domain error during unslicing: {}", ex.getMessage());
+            return Result.failure(DomainError.from(ex));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockBucket> findSlices(StoreId storeId, Sku sku) {
+        return stockBuckets.findBuckets(storeId, sku);
+    }
+
+    private Inventory lockInventory(StoreId storeId, Sku sku) {
+        return inventoryRepository
+            .findByStoreIdAndSkuWithLock(storeId, sku)
+            .orElseThrow(() -> new ProductNotFoundException(sku, storeId));
+    }
+}
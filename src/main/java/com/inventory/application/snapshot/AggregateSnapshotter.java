@@ -0,0 +1,117 @@
+package com.inventory.application.snapshot;
+
+import com.inventory.application.port.input.RehydrateInventoryUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Takes aggregate snapshots on its own thread, off the command path. An aggregate is
+ * snapshotted once {@code everyEvents} events were committed for it since the last
+ * snapshot, or {@code interval} after the first of them, whichever comes first.
+ * <p>
+ * Events are timestamped when they are created, before their transaction commits, so
+ * a snapshot only covers events older than {@code settleTime}: by then every
+ * transaction that could still add an event to that range has finished. Events inside
+ * the window stay in the tail until the next snapshot.
+ */
+@Slf4j
+public class AggregateSnapshotter implements AutoCloseable {
+
+    private final RehydrateInventoryUseCase rehydrateInventory;
+    private final int everyEvents;
+    private final Duration interval;
+    private final Duration settleTime;
+    private final ScheduledExecutorService worker;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final LongAdder taken = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private static final class Pending {
+        private final long since = System.nanoTime();
+        private final AtomicInteger events = new AtomicInteger();
+        private final AtomicBoolean queued = new AtomicBoolean();
+    }
+
+    public AggregateSnapshotter(
+            RehydrateInventoryUseCase rehydrateInventory,
+            int everyEvents,
+            Duration interval,
+            Duration settleTime) {
+        this.rehydrateInventory = rehydrateInventory;
+        this.everyEvents = everyEvents;
+        this.interval = interval;
+        this.settleTime = settleTime;
+        this.worker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("aggregate-snapshots").daemon().factory()
+        );
+    }
+
+    public void start() {
+        long check = Math.min(interval.toMillis(), 1_000);
+        worker.scheduleWithFixedDelay(this::snapshotIdle, check, check, TimeUnit.MILLISECONDS);
+        log.info("Aggregate snapshots every {} events or {}", everyEvents, interval);
+    }
+
+    public void track(String aggregateId, int events) {
+        Pending entry = pending.computeIfAbsent(aggregateId, id -> new Pending());
+        if (entry.events.addAndGet(events) >= everyEvents) {
+            enqueue(aggregateId, entry);
+        }
+    }
+
+    public int pendingAggregates() {
+        return pending.size();
+    }
+
+    public long takenCount() {
+        return taken.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        worker.shutdownNow();
+    }
+
+    private void snapshotIdle() {
+        long now = System.nanoTime();
+        pending.forEach((aggregateId, entry) -> {
+            if (now - entry.since >= interval.toNanos()) {
+                enqueue(aggregateId, entry);
+            }
+        });
+    }
+
+    private void enqueue(String aggregateId, Pending entry) {
+        if (entry.queued.compareAndSet(false, true)) {
+            worker.execute(() -> snapshot(aggregateId, entry));
+        }
+    }
+
+    private void snapshot(String aggregateId, Pending entry) {
+        // Events committed from here on count towards the next snapshot
+        pending.remove(aggregateId, entry);
+        try {
+            rehydrateInventory.takeSnapshot(aggregateId, LocalDateTime.now().minus(settleTime))
+                .ifPresent(snapshot -> taken.increment());
+        } catch (Exception ex) {
+            failed.increment();
+            log.warn("⚠️ Snapshot of {} failed, retrying in {}: {}", aggregateId, interval, ex.getMessage());
+            // Back in the map without queueing: the interval check retries it
+            pending.computeIfAbsent(aggregateId, id -> new Pending()).events.addAndGet(entry.events.get());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.inventory.application.snapshot;
+
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Counts the events written per aggregate for the {@link AggregateSnapshotter}. Counts
+ * are handed over after the transaction commits, so rolled-back events never bring a
+ * snapshot forward; the command path pays for a map update and nothing else.
+ */
+@RequiredArgsConstructor
+public class SnapshotTrackingEventStore implements EventStore {
+
+    private final EventStore delegate;
+    private final AggregateSnapshotter snapshotter;
+
+    @Override
+    public void store(DomainEvent event) {
+        delegate.store(event);
+        afterCommit(() -> snapshotter.track(event.aggregateId(), 1));
+    }
+
+    @Override
+    public void storeAll(List<DomainEvent> events) {
+        delegate.storeAll(events);
+        List<String> aggregateIds = events.stream().map(DomainEvent::aggregateId).toList();
+        afterCommit(() -> aggregateIds.forEach(aggregateId -> snapshotter.track(aggregateId, 1)));
+    }
+
+    @Override
+    public long append(String aggregateId, long expectedVersion, List<DomainEvent> events) {
+        long version = delegate.append(aggregateId, expectedVersion, events);
+        afterCommit(() -> snapshotter.track(aggregateId, events.size()));
+        return version;
+    }
+
+    @Override
+    public long currentVersion(String aggregateId) {
+        return delegate.currentVersion(aggregateId);
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateId(String aggregateId) {
+        return delegate.findByAggregateId(aggregateId);
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateIdAndVersion(String aggregateId, long fromVersion, long toVersion) {
+        return delegate.findByAggregateIdAndVersion(aggregateId, fromVersion, toVersion);
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateIdAndTimestamp(String aggregateId, LocalDateTime from, LocalDateTime to) {
+        return delegate.findByAggregateIdAndTimestamp(aggregateId, from, to);
+    }
+
+    @Override
+    public Optional<DomainEvent> findByEventId(String eventId) {
+        return delegate.findByEventId(eventId);
+    }
+
+    @Override
+    public List<DomainEvent> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public EventPage findPageAfter(EventCursor after, int limit) {
+        return delegate.findPageAfter(after, limit);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
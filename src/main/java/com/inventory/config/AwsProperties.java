@@ -0,0 +1,37 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+
+/**
+ * Seção aws do application.yml. Sem access-key, as credenciais vêm da cadeia padrão
+ * do SDK (variáveis de ambiente, perfil, role da instância).
+ */
+@ConfigurationProperties(prefix = "aws")
+public record AwsProperties(
+    String region,
+    URI endpoint,
+    String accessKey,
+    String secretKey,
+    Sns sns,
+    Sqs sqs
+) {
+    public record Sns(String topicArn) {
+    }
+
+    public record Sqs(String queueUrl) {
+    }
+
+    public AwsProperties {
+        if (region == null) {
+            region = "us-east-1";
+        }
+        if (sns == null) {
+            sns = new Sns(null);
+        }
+        if (sqs == null) {
+            sqs = new Sqs(null);
+        }
+    }
+}
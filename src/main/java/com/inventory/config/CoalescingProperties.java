@@ -0,0 +1,21 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "inventory.coalescing")
+public record CoalescingProperties(
+    boolean enabled,
+    Duration window,
+    int maxBatchSize
+) {
+    public CoalescingProperties {
+        if (window == null) {
+            window = Duration.ofMillis(2);
+        }
+        if (maxBatchSize <= 0) {
+            maxBatchSize = 64;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.inventory.config;
+
+import com.inventory.application.concurrency.CoalescingReserveStockUseCase;
+import com.inventory.application.concurrency.PartitionedCommandExecutor;
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.application.port.output.StockBucketRepository;
+import com.inventory.application.port.output.StockLedger;
+import com.inventory.application.service.CommitStockService;
+import com.inventory.application.service.ReleaseStockService;
+import com.inventory.application.service.ReserveCartService;
+import com.inventory.application.service.ReserveStockService;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Exposes the stock command use cases wrapped in the "database" retry, so a
+ * version conflict in OPTIMISTIC mode re-runs the whole transaction with
+ * jittered backoff. Reservations can additionally be coalesced per SKU, or all
+ * three commands routed through single-writer partitions.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ConcurrencyConfig {
+
+    private static final String RETRY_INSTANCE = "database";
+
+    private final RetryRegistry retryRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrencyProperties properties;
+
+    @Bean
+    @Primary
+    public ReserveStockUseCase reserveStockUseCase(
+            ReserveStockService service,
+            ReserveStockBatchUseCase batchService,
+            StockLedger stockLedger,
+            StockBucketRepository stockBuckets,
+            CoalescingProperties coalescing,
+            ObjectProvider<PartitionedCommandExecutor> partitions) {
+        Retry retry = lockRetry("reserve");
+        ReserveStockUseCase retried = command -> withRetry(retry, () -> service.reserve(command));
+
+        // Partitions already batch per SKU, so they take precedence over coalescing
+        PartitionedCommandExecutor executor = partitions.getIfAvailable();
+        if (executor != null) {
+            return executor.reserving(retried);
+        }
+
+        if (!coalescing.enabled()) {
+            return retried;
+        }
+
+        log.info("🧺 Coalescing reservations - window: {}, max batch: {}", 
+            coalescing.window(), coalescing.maxBatchSize());
+
+        // Hot SKUs already avoid the single row (ledger or buckets); batching them would only add latency
+        return new CoalescingReserveStockUseCase(
+            retried,
+            batchService,
+            coalescing.window(),
+            coalescing.maxBatchSize(),
+            command -> stockLedger.tracks(command.storeId(), command.sku())
+                || stockBuckets.bucketCount(command.storeId(), command.sku()) > 0
+        );
+    }
+
+    @Bean
+    @Primary
+    public CommitStockUseCase commitStockUseCase(
+            CommitStockService service,
+            ObjectProvider<PartitionedCommandExecutor> partitions) {
+        Retry retry = lockRetry("commit");
+        CommitStockUseCase retried = command -> withRetry(retry, () -> service.commit(command));
+
+        PartitionedCommandExecutor executor = partitions.getIfAvailable();
+        return executor != null ? executor.committing(retried) : retried;
+    }
+
+    @Bean
+    @Primary
+    public ReleaseStockUseCase releaseStockUseCase(
+            ReleaseStockService service,
+            ObjectProvider<PartitionedCommandExecutor> partitions) {
+        Retry retry = lockRetry("release");
+        ReleaseStockUseCase retried = command -> withRetry(retry, () -> service.release(command));
+
+        PartitionedCommandExecutor executor = partitions.getIfAvailable();
+        return executor != null ? executor.releasing(retried) : retried;
+    }
+
+    @Bean
+    @Primary
+    public ReserveCartUseCase reserveCartUseCase(ReserveCartService service) {
+        Retry retry = lockRetry("cart");
+        return command -> withRetry(retry, () -> service.reserveCart(command));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "inventory.partitioning", name = "enabled", havingValue = "true")
+    public PartitionedCommandExecutor partitionedCommandExecutor(
+            ReserveStockBatchUseCase batchService,
+            ReservationRepository reservationRepository,
+            StockLedger stockLedger,
+            StockBucketRepository stockBuckets,
+            PartitioningProperties partitioning,
+            Environment environment) {
+
+        log.info("🧵 Single-writer partitions - partitions: {}, queue capacity: {}, max batch: {}",
+            partitioning.partitions(), partitioning.queueCapacity(), partitioning.maxBatchSize());
+
+        PartitionedCommandExecutor executor = new PartitionedCommandExecutor(
+            batchService,
+            reservationRepository,
+            key -> stockLedger.tracks(key.storeId(), key.sku())
+                || stockBuckets.bucketCount(key.storeId(), key.sku()) > 0,
+            partitioning.partitions(),
+            partitioning.queueCapacity(),
+            partitioning.maxBatchSize(),
+            // Partition threads block on JDBC like request threads; follow spring.threads.virtual
+            Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("inventory-partition-", 0).factory()
+                : Thread.ofPlatform().name("inventory-partition-", 0).daemon().factory()
+        );
+
+        for (int i = 0; i < executor.partitions(); i++) {
+            int partition = i;
+            Gauge.builder("inventory.partition.queue.depth", executor, e -> e.queueDepth(partition))
+                .description("Commands waiting in a single-writer partition")
+                .tag("partition", String.valueOf(partition))
+                .register(meterRegistry);
+        }
+        FunctionCounter.builder("inventory.partition.rejected", executor, PartitionedCommandExecutor::rejectedCount)
+            .description("Commands rejected because their partition queue was full")
+            .register(meterRegistry);
+
+        return executor;
+    }
+
+    private Retry lockRetry(String operation) {
+        Retry retry = retryRegistry.retry(
+            RETRY_INSTANCE + "-" + operation,
+            retryRegistry.retry(RETRY_INSTANCE).getRetryConfig()
+        );
+
+        Counter retries = Counter.builder("inventory.concurrency.retries")
+            .description("Stock command attempts repeated after a version conflict")
+            .tag("operation", operation)
+            .tag("mode", properties.mode().name().toLowerCase())
+            .register(meterRegistry);
+
+        retry.getEventPublisher().onRetry(event -> {
+            retries.increment();
+            log.debug("🔁 Retrying {} after version conflict (attempt {}, wait {}ms)",
+                operation, event.getNumberOfRetryAttempts(), event.getWaitInterval().toMillis());
+        });
+
+        return retry;
+    }
+
+    private <T> Result<T, DomainError> withRetry(Retry retry, Supplier<Result<T, DomainError>> call) {
+        try {
+            return retry.executeSupplier(call);
+        } catch (OptimisticLockingFailureException ex) {
+            log.warn("❌ Giving up after {} version conflicts: {}",
+                retry.getRetryConfig().getMaxAttempts(), ex.getMessage());
+            return Result.failure(new DomainError(
+                "CONCURRENT_MODIFICATION",
+                "Inventory was modified concurrently, please retry",
+                Map.of("attempts", retry.getRetryConfig().getMaxAttempts())
+            ));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "inventory.concurrency")
+public record ConcurrencyProperties(
+    Mode mode
+) {
+    public ConcurrencyProperties {
+        if (mode == null) {
+            mode = Mode.PESSIMISTIC;
+        }
+    }
+
+    public enum Mode {
+        // SELECT ... FOR UPDATE na linha de inventário durante toda a transação
+        PESSIMISTIC,
+        // Leitura sem lock; conflito detectado pelo @Version no UPDATE e refeito com retry
+        OPTIMISTIC,
+        // UPDATE condicional único (available >= ?), sucesso pelo número de linhas afetadas
+        ATOMIC
+    }
+}
@@ -0,0 +1,39 @@
+package com.inventory.config;
+
+import com.inventory.adapters.output.persistence.codec.EventPayloadMigrator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Formato dos payloads de evento. Com migrate=true, as linhas gravadas no outro formato
+ * são regravadas em segundo plano depois da subida; até lá a leitura aceita os dois.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class EventCodecConfig {
+
+    private final EventCodecProperties properties;
+    private final EventPayloadMigrator migrator;
+
+    @EventListener
+    public void startMigration(ApplicationReadyEvent event) {
+        log.info("📥 Domain event payload format: {}", properties.format().name().toLowerCase());
+        if (!properties.migrate()) {
+            return;
+        }
+        Thread.ofPlatform()
+            .name("event-payload-migration")
+            .daemon()
+            .start(() -> {
+                try {
+                    migrator.migrate(properties.migrationBatchSize());
+                } catch (Exception ex) {
+                    log.error("❌ Domain event re-encoding stopped: {}", ex.getMessage(), ex);
+                }
+            });
+    }
+}
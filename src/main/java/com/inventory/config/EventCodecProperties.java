@@ -0,0 +1,24 @@
+package com.inventory.config;
+
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "inventory.event-codec")
+public record EventCodecProperties(
+    EventPayloadFormat format,
+    boolean migrate,
+    int migrationBatchSize,
+    int dictionaryPoolSize
+) {
+    public EventCodecProperties {
+        if (format == null) {
+            format = EventPayloadFormat.JSON;
+        }
+        if (migrationBatchSize <= 0) {
+            migrationBatchSize = 1000;
+        }
+        if (dictionaryPoolSize <= 0) {
+            dictionaryPoolSize = 2;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.inventory.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.output.messaging.AwsBatchEventPublisher;
+import com.inventory.adapters.output.messaging.InMemoryEventPublisher;
+import com.inventory.adapters.output.messaging.RingBufferEventPublisher;
+import com.inventory.adapters.output.persistence.replica.EventFedReplica;
+import com.inventory.adapters.output.persistence.replica.ReplicaFeedingEventPublisher;
+import com.inventory.application.outbox.OutboxEventPublisher;
+import com.inventory.application.port.output.EventPublisher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventPublisher injetado nos serviços. Com o outbox ligado (OutboxConfig), publicar é
+ * gravar no outbox e o relay publica de forma síncrona, depois do commit. Sem ele, o
+ * publish vai direto ao transporte (MessagingConfig: SNS, SQS ou só o log), ou com
+ * ring-buffer a uma fila atendida por uma thread própria. Com a réplica ligada, os
+ * eventos também vão para ela no commit.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class EventPublisherConfig {
+
+    private final EventPublisherProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "inventory.publisher", name = "mode", havingValue = "ring-buffer")
+    public RingBufferEventPublisher ringBufferEventPublisher(
+            InMemoryEventPublisher inMemoryEventPublisher,
+            ObjectProvider<AwsBatchEventPublisher> aws,
+            ObjectMapper objectMapper) {
+        AwsBatchEventPublisher awsPublisher = aws.getIfAvailable();
+        RingBufferEventPublisher publisher = new RingBufferEventPublisher(
+            awsPublisher != null ? awsPublisher : inMemoryEventPublisher,
+            objectMapper,
+            properties.capacity(),
+            properties.batchSize(),
+            properties.backpressure()
+        );
+
+        Gauge.builder("inventory.publisher.depth", publisher, RingBufferEventPublisher::depth)
+            .description("Events waiting in the publisher ring buffer")
+            .register(meterRegistry);
+        FunctionTimer.builder("inventory.publisher.latency", publisher,
+                RingBufferEventPublisher::publishedCount, RingBufferEventPublisher::latencySeconds, TimeUnit.SECONDS)
+            .description("Time from publish until the batch holding the event was sent")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.publisher.batches", publisher, RingBufferEventPublisher::batchCount)
+            .description("Batches sent by the publisher thread")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.publisher.dropped", publisher, RingBufferEventPublisher::droppedCount)
+            .description("Events dropped unsent to make room (drop-oldest)")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.publisher.rejected", publisher, RingBufferEventPublisher::rejectedCount)
+            .description("Events refused because the buffer was full (fail-fast)")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.publisher.failures", publisher, RingBufferEventPublisher::failedCount)
+            .description("Events in batches the sink failed to send")
+            .register(meterRegistry);
+
+        // Já na criação: eventos publicados durante a subida não podem esperar a fila encher
+        publisher.start();
+        return publisher;
+    }
+
+    @Bean
+    @Primary
+    public EventPublisher eventPublisher(
+            InMemoryEventPublisher inMemoryEventPublisher,
+            ObjectProvider<AwsBatchEventPublisher> aws,
+            ObjectProvider<RingBufferEventPublisher> ringBuffer,
+            ObjectProvider<OutboxEventPublisher> outbox,
+            ObjectProvider<EventFedReplica> replica) {
+        EventPublisher publisher = outbox.getIfAvailable();
+        if (publisher == null) {
+            publisher = ringBuffer.getIfAvailable();
+        }
+        if (publisher == null) {
+            publisher = aws.getIfAvailable();
+        }
+        if (publisher == null) {
+            publisher = inMemoryEventPublisher;
+        }
+        EventFedReplica fedReplica = replica.getIfAvailable();
+        return fedReplica == null ? publisher : new ReplicaFeedingEventPublisher(publisher, fedReplica);
+    }
+}
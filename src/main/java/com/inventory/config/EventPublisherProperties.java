@@ -0,0 +1,34 @@
+package com.inventory.config;
+
+import com.inventory.adapters.output.messaging.RingBufferEventPublisher.Backpressure;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "inventory.publisher")
+public record EventPublisherProperties(
+    Mode mode,
+    int capacity,
+    int batchSize,
+    Backpressure backpressure
+) {
+    public enum Mode {
+        // Serializa e publica na thread de quem chamou
+        SYNC,
+        // Enfileira num ring buffer; uma thread própria serializa e publica em lotes
+        RING_BUFFER
+    }
+
+    public EventPublisherProperties {
+        if (mode == null) {
+            mode = Mode.SYNC;
+        }
+        if (capacity <= 0) {
+            capacity = 8192;
+        }
+        if (batchSize <= 0) {
+            batchSize = 256;
+        }
+        if (backpressure == null) {
+            backpressure = Backpressure.BLOCK;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.inventory.config;
+
+import com.inventory.adapters.output.eventlog.SegmentLogEventStore;
+import com.inventory.adapters.output.persistence.adapter.EventStoreJpaAdapter;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.adapters.output.persistence.migration.AggregateIdBackfill;
+import com.inventory.application.port.output.EventArchive;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.application.retention.TieredEventStore;
+import com.inventory.application.snapshot.AggregateSnapshotter;
+import com.inventory.application.snapshot.SnapshotTrackingEventStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+
+/**
+ * Backend do event store: o EventStoreJpaAdapter, ou com segment-log um log append-only
+ * em disco. O EventStore injetado nos serviços é o backend escolhido, lido junto com o
+ * arquivo frio quando a retenção está ligada (RetentionConfig) e decorado para contar
+ * eventos por agregado quando os snapshots estão ligados.
+ * <p>
+ * No backend JPA, eventos gravados antes do agregado (loja, SKU) são separados em
+ * segundo plano depois da subida. O segment log não é reescrito.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class EventStoreConfig {
+
+    private static final int BACKFILL_BATCH_SIZE = 100;
+
+    private final EventStoreProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AggregateIdBackfill aggregateIdBackfill;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "inventory.event-store", name = "backend", havingValue = "segment-log")
+    public SegmentLogEventStore segmentLogEventStore(EventPersistenceMapper mapper) throws IOException {
+        SegmentLogEventStore store = new SegmentLogEventStore(
+            properties.directory(),
+            Math.toIntExact(properties.segmentSize().toBytes()),
+            properties.fsync(),
+            mapper
+        );
+
+        FunctionCounter.builder("inventory.event-log.appended", store, SegmentLogEventStore::appendedCount)
+            .description("Events appended to the segment log")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.event-log.syncs", store, SegmentLogEventStore::syncCount)
+            .description("fsyncs of the active segment; appends per sync is the group-commit factor")
+            .register(meterRegistry);
+        Gauge.builder("inventory.event-log.segments", store, SegmentLogEventStore::segmentCount)
+            .description("Segment files in the event log")
+            .register(meterRegistry);
+
+        return store;
+    }
+
+    @Bean
+    @Primary
+    public EventStore eventStore(
+            EventStoreJpaAdapter jpaAdapter,
+            ObjectProvider<SegmentLogEventStore> segmentLog,
+            ObjectProvider<EventArchive> archive,
+            ObjectProvider<AggregateSnapshotter> snapshotter) {
+        EventStore backend = segmentLog.getIfAvailable();
+        if (backend == null) {
+            backend = jpaAdapter;
+        }
+        EventArchive cold = archive.getIfAvailable();
+        if (cold != null) {
+            backend = new TieredEventStore(backend, cold);
+        }
+        AggregateSnapshotter tracker = snapshotter.getIfAvailable();
+        return tracker == null ? backend : new SnapshotTrackingEventStore(backend, tracker);
+    }
+
+    @EventListener
+    public void startAggregateIdBackfill(ApplicationReadyEvent event) {
+        if (properties.backend() != EventStoreProperties.Backend.JPA || !properties.backfillAggregateIds()) {
+            return;
+        }
+        Thread.ofPlatform()
+            .name("event-aggregate-backfill")
+            .daemon()
+            .start(() -> {
+                try {
+                    aggregateIdBackfill.backfill(BACKFILL_BATCH_SIZE);
+                } catch (Exception ex) {
+                    log.error("❌ Event aggregate id backfill stopped: {}", ex.getMessage(), ex);
+                }
+            });
+    }
+}
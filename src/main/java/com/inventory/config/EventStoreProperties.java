@@ -0,0 +1,40 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "inventory.event-store")
+public record EventStoreProperties(
+    Backend backend,
+    Path directory,
+    DataSize segmentSize,
+    Boolean fsync,
+    Boolean backfillAggregateIds
+) {
+    public enum Backend {
+        // Tabela domain_events, na mesma transação do estoque
+        JPA,
+        // Log append-only em segmentos mapeados em memória, com fsync em grupo
+        SEGMENT_LOG
+    }
+
+    public EventStoreProperties {
+        if (backend == null) {
+            backend = Backend.JPA;
+        }
+        if (directory == null) {
+            directory = Path.of("data", "events");
+        }
+        if (segmentSize == null) {
+            segmentSize = DataSize.ofMegabytes(64);
+        }
+        if (fsync == null) {
+            fsync = true;
+        }
+        if (backfillAggregateIds == null) {
+            backfillAggregateIds = true;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.inventory.config;
+
+import com.inventory.adapters.output.persistence.adapter.ReservationJpaAdapter;
+import com.inventory.application.expiry.ExpiryTrackingReservationRepository;
+import com.inventory.application.expiry.ReservationExpiryScheduler;
+import com.inventory.application.expiry.ReservationExpirySweeper;
+import com.inventory.application.expiry.TimingWheel;
+import com.inventory.application.port.input.ExpireReservationsUseCase;
+import com.inventory.application.port.output.ReservationRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expira reservas pelo prazo (expiresAt). Modo wheel: timing wheel em memória, com o
+ * repositório de reservas decorado para agendar/cancelar cada reserva no commit e a
+ * tabela lida só na subida. Modo sweep: varredura periódica por páginas (expiresAt, id).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.expiry", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiryConfig {
+
+    private final ExpiryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "inventory.expiry", name = "mode", havingValue = "wheel", matchIfMissing = true)
+    public TimingWheel<String> reservationExpiryWheel() {
+        return new TimingWheel<>(properties.tick().toMillis(), System.currentTimeMillis());
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "inventory.expiry", name = "mode", havingValue = "wheel", matchIfMissing = true)
+    public ReservationRepository expiryTrackingReservationRepository(
+            ReservationJpaAdapter adapter,
+            TimingWheel<String> reservationExpiryWheel) {
+        return new ExpiryTrackingReservationRepository(adapter, reservationExpiryWheel);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "inventory.expiry", name = "mode", havingValue = "wheel", matchIfMissing = true)
+    public ReservationExpiryScheduler reservationExpiryScheduler(
+            TimingWheel<String> reservationExpiryWheel,
+            ExpireReservationsUseCase expireReservations,
+            ReservationJpaAdapter adapter) {
+
+        ReservationExpiryScheduler scheduler = new ReservationExpiryScheduler(
+            reservationExpiryWheel,
+            expireReservations,
+            adapter,
+            properties.tick(),
+            properties.batchSize(),
+            properties.retryDelay()
+        );
+
+        Gauge.builder("inventory.expiry.tracked", scheduler, ReservationExpiryScheduler::tracked)
+            .description("Live reservations waiting on the expiry wheel")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.expiry.expired", scheduler, ReservationExpiryScheduler::expiredCount)
+            .description("Reservations released because they expired")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.expiry.failures", scheduler, ReservationExpiryScheduler::failedCount)
+            .description("Reservations that could not be expired and were rescheduled")
+            .register(meterRegistry);
+
+        return scheduler;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "inventory.expiry", name = "mode", havingValue = "sweep")
+    public ReservationExpirySweeper reservationExpirySweeper(ExpireReservationsUseCase expireReservations) {
+
+        ReservationExpirySweeper sweeper = new ReservationExpirySweeper(
+            expireReservations,
+            properties.sweepInterval(),
+            properties.pageSize()
+        );
+
+        Gauge.builder("inventory.expiry.sweep.lag", sweeper, ReservationExpirySweeper::lastSweepLagSeconds)
+            .description("How long the oldest expired reservation had been waiting when the last sweep reached it")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("inventory.expiry.sweep.rows", sweeper, ReservationExpirySweeper::lastSweepRows)
+            .description("Reservations released by the last sweep")
+            .register(meterRegistry);
+        FunctionTimer.builder("inventory.expiry.sweep.duration", sweeper,
+                ReservationExpirySweeper::sweepCount, ReservationExpirySweeper::sweepSeconds, TimeUnit.SECONDS)
+            .description("Time spent per expiry sweep")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.expiry.expired", sweeper, ReservationExpirySweeper::expiredCount)
+            .description("Reservations released because they expired")
+            .register(meterRegistry);
+
+        return sweeper;
+    }
+
+    // Só depois da subida: a reconstrução lê a tabela e o DataInitializer já terminou
+    @EventListener
+    public void startExpiry(ApplicationReadyEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        log.info("⏰ Reservation expiry - mode: {}", properties.mode().name().toLowerCase());
+        context.getBeanProvider(ReservationExpiryScheduler.class).ifAvailable(ReservationExpiryScheduler::start);
+        context.getBeanProvider(ReservationExpirySweeper.class).ifAvailable(ReservationExpirySweeper::start);
+    }
+}
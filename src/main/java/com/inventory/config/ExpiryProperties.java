@@ -0,0 +1,44 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "inventory.expiry")
+public record ExpiryProperties(
+    boolean enabled,
+    Mode mode,
+    Duration tick,
+    int batchSize,
+    Duration retryDelay,
+    Duration sweepInterval,
+    int pageSize
+) {
+    public enum Mode {
+        // Timing wheel em memória: cada reserva dispara no seu prazo, tabela lida só na subida
+        WHEEL,
+        // Varredura periódica paginada na tabela, sem estado em memória entre execuções
+        SWEEP
+    }
+
+    public ExpiryProperties {
+        if (mode == null) {
+            mode = Mode.WHEEL;
+        }
+        if (tick == null) {
+            tick = Duration.ofSeconds(1);
+        }
+        if (batchSize <= 0) {
+            batchSize = 256;
+        }
+        if (retryDelay == null) {
+            retryDelay = Duration.ofSeconds(30);
+        }
+        if (sweepInterval == null) {
+            sweepInterval = Duration.ofSeconds(10);
+        }
+        if (pageSize <= 0) {
+            pageSize = 1000;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "inventory.hot-sku")
+public record HotSkuProperties(
+    boolean enabled,
+    Set<String> skus,
+    int stripes,
+    Duration flushInterval,
+    Duration leaseTtl
+) {
+    public HotSkuProperties {
+        // Lista vazia = todos os SKUs passam pelo ledger em memória
+        skus = skus != null ? Set.copyOf(skus) : Set.of();
+        if (stripes <= 0) {
+            stripes = 16;
+        }
+        if (flushInterval == null) {
+            flushInterval = Duration.ofMillis(100);
+        }
+        // Renovado a cada terço: uma instância que some libera o ledger em até um TTL
+        if (leaseTtl == null) {
+            leaseTtl = Duration.ofSeconds(30);
+        }
+    }
+}
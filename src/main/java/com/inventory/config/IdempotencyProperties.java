@@ -0,0 +1,30 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "inventory.idempotency")
+public record IdempotencyProperties(
+    Duration ttl,
+    DataSize maxMemory,
+    Duration inProgressTimeout,
+    DataSize maxBodySize
+) {
+    public IdempotencyProperties {
+        if (ttl == null) {
+            ttl = Duration.ofHours(24);
+        }
+        if (maxMemory == null) {
+            maxMemory = DataSize.ofMegabytes(256);
+        }
+        if (inProgressTimeout == null) {
+            inProgressTimeout = Duration.ofSeconds(30);
+        }
+        // O corpo fica inteiro em memória para o fingerprint; acima disso a requisição volta com 413
+        if (maxBodySize == null) {
+            maxBodySize = DataSize.ofMegabytes(1);
+        }
+    }
+}
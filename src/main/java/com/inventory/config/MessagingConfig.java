@@ -0,0 +1,119 @@
+package com.inventory.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.output.messaging.AwsBatchEventPublisher;
+import com.inventory.adapters.output.messaging.SnsEventPublisher;
+import com.inventory.adapters.output.messaging.SqsEventPublisher;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+/**
+ * Transporte dos eventos (inventory.messaging.transport). Com sns ou sqs, o publisher
+ * AWS substitui o InMemoryEventPublisher como destino do relay do outbox, do ring
+ * buffer ou do publish síncrono (EventPublisherConfig). Os clientes são async sobre
+ * Netty, com no máximo max-connections conexões, e passam pelo circuit breaker
+ * eventPublisher do resilience4j.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class MessagingConfig {
+
+    private static final String CIRCUIT_BREAKER = "eventPublisher";
+
+    private final MessagingProperties properties;
+    private final AwsProperties aws;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "inventory.messaging", name = "transport", havingValue = "sns")
+    public SnsAsyncClient snsAsyncClient() {
+        return configure(SnsAsyncClient.builder()).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "inventory.messaging", name = "transport", havingValue = "sns")
+    public SnsEventPublisher snsEventPublisher(
+            SnsAsyncClient snsAsyncClient,
+            ObjectMapper objectMapper,
+            CircuitBreakerRegistry circuitBreakers) {
+        String topicArn = aws.sns().topicArn();
+        if (topicArn == null || topicArn.isBlank()) {
+            throw new IllegalStateException("inventory.messaging.transport=sns needs aws.sns.topic-arn");
+        }
+        log.info("Events published to SNS topic {}", topicArn);
+        return registerMetrics(new SnsEventPublisher(
+            snsAsyncClient, topicArn, objectMapper, circuitBreakers.circuitBreaker(CIRCUIT_BREAKER)));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "inventory.messaging", name = "transport", havingValue = "sqs")
+    public SqsAsyncClient sqsAsyncClient() {
+        return configure(SqsAsyncClient.builder()).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "inventory.messaging", name = "transport", havingValue = "sqs")
+    public SqsEventPublisher sqsEventPublisher(
+            SqsAsyncClient sqsAsyncClient,
+            ObjectMapper objectMapper,
+            CircuitBreakerRegistry circuitBreakers) {
+        String queueUrl = aws.sqs().queueUrl();
+        if (queueUrl == null || queueUrl.isBlank()) {
+            throw new IllegalStateException("inventory.messaging.transport=sqs needs aws.sqs.queue-url");
+        }
+        log.info("Events sent to SQS queue {}", queueUrl);
+        return registerMetrics(new SqsEventPublisher(
+            sqsAsyncClient, queueUrl, objectMapper, circuitBreakers.circuitBreaker(CIRCUIT_BREAKER)));
+    }
+
+    private <B extends AwsClientBuilder<B, ?> & AwsAsyncClientBuilder<B, ?>> B configure(B builder) {
+        builder.region(Region.of(aws.region()))
+            .credentialsProvider(credentials())
+            .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(properties.maxConnections())
+                .connectionAcquisitionTimeout(properties.connectionAcquireTimeout()))
+            .overrideConfiguration(override -> override.apiCallTimeout(properties.apiCallTimeout()));
+        // LocalStack ou outro endpoint compatível; sem ele, o endpoint da região
+        if (aws.endpoint() != null) {
+            builder.endpointOverride(aws.endpoint());
+        }
+        return builder;
+    }
+
+    private AwsCredentialsProvider credentials() {
+        if (aws.accessKey() == null) {
+            return DefaultCredentialsProvider.create();
+        }
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(aws.accessKey(), aws.secretKey()));
+    }
+
+    private <P extends AwsBatchEventPublisher> P registerMetrics(P publisher) {
+        FunctionCounter.builder("inventory.messaging.requests", publisher, AwsBatchEventPublisher::requestCount)
+            .description("Batch requests sent to AWS; published / requests is the events per request")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.messaging.published", publisher, AwsBatchEventPublisher::publishedCount)
+            .description("Events accepted by AWS")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.messaging.failures", publisher, AwsBatchEventPublisher::failedCount)
+            .description("Events in batches that failed or were refused by the circuit breaker")
+            .register(meterRegistry);
+        return publisher;
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "inventory.messaging")
+public record MessagingProperties(
+    Transport transport,
+    int maxConnections,
+    Duration connectionAcquireTimeout,
+    Duration apiCallTimeout
+) {
+    public enum Transport {
+        // Só registra no log (InMemoryEventPublisher)
+        LOG,
+        // PublishBatch no tópico aws.sns.topic-arn
+        SNS,
+        // SendMessageBatch na fila aws.sqs.queue-url
+        SQS
+    }
+
+    public MessagingProperties {
+        if (transport == null) {
+            transport = Transport.LOG;
+        }
+        if (maxConnections <= 0) {
+            maxConnections = 16;
+        }
+        if (connectionAcquireTimeout == null) {
+            connectionAcquireTimeout = Duration.ofSeconds(2);
+        }
+        if (apiCallTimeout == null) {
+            apiCallTimeout = Duration.ofSeconds(10);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.inventory.config;
+
+import com.inventory.adapters.output.messaging.AwsBatchEventPublisher;
+import com.inventory.adapters.output.messaging.InMemoryEventPublisher;
+import com.inventory.adapters.output.persistence.adapter.OutboxJpaAdapter;
+import com.inventory.application.outbox.OutboxEventPublisher;
+import com.inventory.application.outbox.OutboxRelay;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Outbox transacional: os serviços publicam gravando em outbox_events na própria
+ * transação, e o relay publica em lotes depois do commit, no SNS/SQS quando
+ * inventory.messaging.transport pede (MessagingConfig) ou no InMemoryEventPublisher.
+ * O EventPublisher dos serviços é montado no EventPublisherConfig.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.outbox", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OutboxConfig {
+
+    private final OutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(destroyMethod = "close")
+    public OutboxRelay outboxRelay(
+            OutboxJpaAdapter outbox,
+            InMemoryEventPublisher inMemoryEventPublisher,
+            ObjectProvider<AwsBatchEventPublisher> aws) {
+        AwsBatchEventPublisher awsPublisher = aws.getIfAvailable();
+        OutboxRelay relay = new OutboxRelay(
+            outbox,
+            awsPublisher != null ? awsPublisher : inMemoryEventPublisher,
+            properties.batchSize(),
+            properties.linger(),
+            properties.pollInterval(),
+            properties.retryDelay()
+        );
+
+        Gauge.builder("inventory.outbox.lag", relay, OutboxRelay::lagSeconds)
+            .description("Age of the oldest event waiting in the outbox when the relay last looked")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("inventory.outbox.pending", outbox, OutboxJpaAdapter::countPending)
+            .description("Events in the outbox not yet published")
+            .register(meterRegistry);
+        Gauge.builder("inventory.outbox.delivered.offset", relay, OutboxRelay::deliveredOffset)
+            .description("Outbox offset of the last event published")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.outbox.published", relay, OutboxRelay::publishedCount)
+            .description("Events published from the outbox")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.outbox.batches", relay, OutboxRelay::batchCount)
+            .description("publishBatch calls made by the relay; published / batches is the batching factor")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.outbox.failures", relay, OutboxRelay::failedCount)
+            .description("Relay rounds that failed; their events are published again")
+            .register(meterRegistry);
+
+        return relay;
+    }
+
+    @Bean
+    public OutboxEventPublisher outboxEventPublisher(OutboxJpaAdapter outbox, OutboxRelay outboxRelay) {
+        return new OutboxEventPublisher(outbox, outboxRelay);
+    }
+
+    // Só depois da subida: o que ficou no outbox de uma execução anterior sai primeiro
+    @EventListener
+    public void startRelay(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBeanProvider(OutboxRelay.class).ifAvailable(OutboxRelay::start);
+    }
+}
@@ -0,0 +1,29 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "inventory.outbox")
+public record OutboxProperties(
+    boolean enabled,
+    int batchSize,
+    Duration linger,
+    Duration pollInterval,
+    Duration retryDelay
+) {
+    public OutboxProperties {
+        if (batchSize <= 0) {
+            batchSize = 100;
+        }
+        if (linger == null) {
+            linger = Duration.ofMillis(20);
+        }
+        if (pollInterval == null) {
+            pollInterval = Duration.ofSeconds(1);
+        }
+        if (retryDelay == null) {
+            retryDelay = Duration.ofSeconds(1);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "inventory.partitioning")
+public record PartitioningProperties(
+    boolean enabled,
+    int partitions,
+    int queueCapacity,
+    int maxBatchSize
+) {
+    public PartitioningProperties {
+        if (partitions <= 0) {
+            // Partition threads mostly wait on JDBC; stay below the Hikari pool (10)
+            partitions = 8;
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 1024;
+        }
+        if (maxBatchSize <= 0) {
+            maxBatchSize = 64;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.inventory.config;
+
+import com.inventory.application.port.output.EventStore;
+import com.inventory.application.port.output.ProjectionCheckpointStore;
+import com.inventory.application.port.output.ProjectionHandler;
+import com.inventory.application.projection.ProjectionRebuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Rebuild de projeções a partir do event store. As lanes rodam em virtual threads: um
+ * handler que grava em banco passa a maior parte do tempo esperando I/O.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectionConfig {
+
+    private final ProjectionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public ProjectionRebuilder projectionRebuilder(
+            EventStore eventStore,
+            ProjectionCheckpointStore checkpointStore,
+            List<ProjectionHandler> handlers) {
+
+        log.info("Projections {} - chunks of {}, {} lanes",
+            handlers.stream().map(ProjectionHandler::name).toList(), properties.chunkSize(), properties.partitions());
+
+        ProjectionRebuilder rebuilder = new ProjectionRebuilder(
+            eventStore,
+            checkpointStore,
+            handlers,
+            properties.chunkSize(),
+            properties.partitions(),
+            Thread.ofVirtual().name("projection-rebuild-", 0).factory()
+        );
+
+        FunctionCounter.builder("inventory.projections.replayed", rebuilder, ProjectionRebuilder::replayedCount)
+            .description("Events handed to projection handlers by rebuilds")
+            .register(meterRegistry);
+
+        return rebuilder;
+    }
+}
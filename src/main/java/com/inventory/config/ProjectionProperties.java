@@ -0,0 +1,18 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "inventory.projections")
+public record ProjectionProperties(
+    int chunkSize,
+    int partitions
+) {
+    public ProjectionProperties {
+        if (chunkSize <= 0) {
+            chunkSize = 1000;
+        }
+        if (partitions <= 0) {
+            partitions = 8;
+        }
+    }
+}
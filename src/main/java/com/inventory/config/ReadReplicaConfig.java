@@ -0,0 +1,132 @@
+package com.inventory.config;
+
+import com.inventory.adapters.output.persistence.replica.EventFedReplica;
+import com.inventory.adapters.output.persistence.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Transações read-only liberadas em inventory.read-replica.queries vão para um pool
+ * separado da réplica, desde que ela esteja dentro de max-staleness; o resto continua no
+ * pool do primário. Cada pool tem suas métricas hikaricp.* (tag pool=primary|replica).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.read-replica", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReadReplicaConfig {
+
+    private final ReadReplicaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.url());
+        dataSource.setUsername(properties.username());
+        dataSource.setPassword(properties.password());
+        dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+        // Réplica fora do ar não pode segurar a leitura: desiste cedo e lê do primário
+        dataSource.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public EventFedReplica eventFedReplica(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+
+        EventFedReplica replica = new EventFedReplica(primaryDataSource, replicaDataSource, properties.queueCapacity());
+
+        Gauge.builder("inventory.replica.lag", replica, EventFedReplica::lagSeconds)
+            .description("Age of the oldest committed event not yet applied to the read replica")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("inventory.replica.pending", replica, EventFedReplica::pending)
+            .description("Committed events waiting to be applied to the read replica")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.replica.applied", replica, EventFedReplica::appliedCount)
+            .description("Events applied to the read replica")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.replica.resyncs", replica, EventFedReplica::resyncCount)
+            .description("Copies of the primary taken after the read replica diverged from it")
+            .register(meterRegistry);
+
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            EventFedReplica eventFedReplica) {
+
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(
+            primaryDataSource,
+            replicaDataSource,
+            eventFedReplica,
+            properties.maxStaleness(),
+            properties.queries()
+        );
+
+        registerRouting(readOnly, "replica", "fresh", ReplicaRoutingDataSource::replicaConnections);
+        registerRouting(readOnly, "primary", "not-routed", ReplicaRoutingDataSource::notRoutedConnections);
+        registerRouting(readOnly, "primary", "stale", ReplicaRoutingDataSource::staleConnections);
+        registerRouting(readOnly, "primary", "unavailable", ReplicaRoutingDataSource::unavailableConnections);
+
+        // A conexão física só é escolhida no primeiro comando, quando o read-only da transação já é conhecido
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readOnly);
+        return dataSource;
+    }
+
+    // Só depois da subida: a cópia inicial precisa do schema e dos dados do DataInitializer
+    @EventListener
+    public void startReplica(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBean(EventFedReplica.class).start();
+        log.info("🪞 Read replica enabled - max staleness: {}ms, queries: {}",
+            properties.maxStaleness().toMillis(), properties.queries());
+    }
+
+    private void registerRouting(
+            ReplicaRoutingDataSource dataSource,
+            String target,
+            String reason,
+            ToDoubleFunction<ReplicaRoutingDataSource> count) {
+        FunctionCounter.builder("inventory.replica.connections", dataSource, count)
+            .description("Read-only connections by the pool that served them")
+            .tag("target", target)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "inventory.read-replica")
+public record ReadReplicaProperties(
+    boolean enabled,
+    String url,
+    String username,
+    String password,
+    int maximumPoolSize,
+    Duration connectionTimeout,
+    Duration maxStaleness,
+    int queueCapacity,
+    Set<String> queries
+) {
+    public ReadReplicaProperties {
+        if (url == null) {
+            url = "jdbc:h2:mem:inventory-replica;DB_CLOSE_DELAY=-1";
+        }
+        if (username == null) {
+            username = "sa";
+        }
+        if (password == null) {
+            password = "";
+        }
+        if (maximumPoolSize <= 0) {
+            maximumPoolSize = 10;
+        }
+        if (connectionTimeout == null) {
+            connectionTimeout = Duration.ofMillis(250);
+        }
+        if (maxStaleness == null) {
+            maxStaleness = Duration.ofSeconds(2);
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 100_000;
+        }
+        if (queries == null || queries.isEmpty()) {
+            queries = Set.of("QueryStockService.findByStoreAndSku");
+        }
+    }
+}
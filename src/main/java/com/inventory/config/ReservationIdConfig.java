@@ -0,0 +1,22 @@
+package com.inventory.config;
+
+import com.inventory.domain.model.ReservationIdGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationIdConfig {
+
+    private final ReservationIdProperties properties;
+
+    // Dois nós com o mesmo node-id podem gerar o mesmo id no mesmo milissegundo
+    @PostConstruct
+    void configureGenerator() {
+        ReservationIdGenerator.useNode(properties.nodeId());
+        log.info("🆔 Reservation ids generated as node {}", properties.nodeId());
+    }
+}
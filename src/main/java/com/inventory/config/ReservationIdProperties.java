@@ -0,0 +1,9 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "inventory.reservation-ids")
+public record ReservationIdProperties(
+    int nodeId
+) {
+}
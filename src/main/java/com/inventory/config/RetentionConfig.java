@@ -0,0 +1,76 @@
+package com.inventory.config;
+
+import com.inventory.adapters.output.archive.CompressedEventArchive;
+import com.inventory.adapters.output.persistence.adapter.EventRetentionJpaAdapter;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.application.retention.EventRetention;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+
+/**
+ * Retenção do event store: eventos mais velhos que o horizonte, já no snapshot do
+ * agregado, saem de domain_events para arquivos gzip imutáveis no diretório configurado.
+ * O EventStoreConfig passa a ler pelas duas camadas quando o arquivo existe.
+ * Só no backend JPA: o segment log não apaga eventos.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.retention", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RetentionConfig {
+
+    private final RetentionProperties properties;
+    private final EventStoreProperties eventStoreProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public CompressedEventArchive compressedEventArchive(EventPersistenceMapper mapper) throws IOException {
+        if (eventStoreProperties.backend() != EventStoreProperties.Backend.JPA) {
+            throw new IllegalStateException("inventory.retention needs the jpa event store backend");
+        }
+        CompressedEventArchive archive = new CompressedEventArchive(properties.directory(), mapper);
+
+        Gauge.builder("inventory.retention.archives", archive, CompressedEventArchive::archiveCount)
+            .description("Archive files in the cold tier of the event store")
+            .register(meterRegistry);
+        Gauge.builder("inventory.retention.archived.bytes", archive, CompressedEventArchive::archivedBytes)
+            .description("Compressed size of the archived events")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+
+        return archive;
+    }
+
+    @Bean(destroyMethod = "close")
+    public EventRetention eventRetention(EventRetentionJpaAdapter source, CompressedEventArchive archive) {
+        EventRetention retention = new EventRetention(
+            source,
+            archive,
+            properties.horizon(),
+            properties.interval(),
+            properties.batchSize()
+        );
+
+        FunctionCounter.builder("inventory.retention.archived", retention, EventRetention::archivedCount)
+            .description("Events moved from the hot store to the archive")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.retention.failures", retention, EventRetention::failedCount)
+            .description("Retention rounds that failed and were retried at the next interval")
+            .register(meterRegistry);
+
+        return retention;
+    }
+
+    @EventListener
+    public void startRetention(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBeanProvider(EventRetention.class).ifAvailable(EventRetention::start);
+    }
+}
@@ -0,0 +1,30 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "inventory.retention")
+public record RetentionProperties(
+    boolean enabled,
+    Duration horizon,
+    Duration interval,
+    int batchSize,
+    Path directory
+) {
+    public RetentionProperties {
+        if (horizon == null) {
+            horizon = Duration.ofDays(30);
+        }
+        if (interval == null) {
+            interval = Duration.ofHours(1);
+        }
+        if (batchSize <= 0) {
+            batchSize = 10_000;
+        }
+        if (directory == null) {
+            directory = Path.of("./data/archive");
+        }
+    }
+}
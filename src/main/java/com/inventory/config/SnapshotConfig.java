@@ -0,0 +1,54 @@
+package com.inventory.config;
+
+import com.inventory.application.port.input.RehydrateInventoryUseCase;
+import com.inventory.application.snapshot.AggregateSnapshotter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Snapshots de agregado em segundo plano. O snapshotter lê eventos pelo EventStore que
+ * ele mesmo decora (EventStoreConfig), por isso o caso de uso entra como @Lazy.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.snapshots", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SnapshotConfig {
+
+    private final SnapshotProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(destroyMethod = "close")
+    public AggregateSnapshotter aggregateSnapshotter(@Lazy RehydrateInventoryUseCase rehydrateInventory) {
+        AggregateSnapshotter snapshotter = new AggregateSnapshotter(
+            rehydrateInventory,
+            properties.everyEvents(),
+            properties.interval(),
+            properties.settleTime()
+        );
+
+        Gauge.builder("inventory.snapshots.pending", snapshotter, AggregateSnapshotter::pendingAggregates)
+            .description("Aggregates with events not yet in a snapshot")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.snapshots.taken", snapshotter, AggregateSnapshotter::takenCount)
+            .description("Aggregate snapshots saved")
+            .register(meterRegistry);
+        FunctionCounter.builder("inventory.snapshots.failures", snapshotter, AggregateSnapshotter::failedCount)
+            .description("Aggregate snapshots that failed and were retried later")
+            .register(meterRegistry);
+
+        return snapshotter;
+    }
+
+    @EventListener
+    public void startSnapshots(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBeanProvider(AggregateSnapshotter.class).ifAvailable(AggregateSnapshotter::start);
+    }
+}
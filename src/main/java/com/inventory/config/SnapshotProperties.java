@@ -0,0 +1,25 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "inventory.snapshots")
+public record SnapshotProperties(
+    boolean enabled,
+    int everyEvents,
+    Duration interval,
+    Duration settleTime
+) {
+    public SnapshotProperties {
+        if (everyEvents <= 0) {
+            everyEvents = 1000;
+        }
+        if (interval == null) {
+            interval = Duration.ofMinutes(1);
+        }
+        if (settleTime == null) {
+            settleTime = Duration.ofSeconds(5);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.inventory.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events while virtual threads are on and
+ * turns them into the {@code jvm.threads.virtual.pinned} timer, tagged with the first
+ * non-JDK frame that held the carrier. Each new site is logged once with its stack.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final VirtualThreadProperties properties;
+
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+            .withThreshold(properties.pinningThreshold())
+            .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+
+        log.info("🧵 Virtual threads enabled - reporting carrier pinning over {}ms",
+            properties.pinningThreshold().toMillis());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        String site = siteOf(event.getStackTrace());
+
+        Timer.builder("jvm.threads.virtual.pinned")
+            .description("Time virtual threads stayed pinned to their carrier thread")
+            .tag("site", site)
+            .register(meterRegistry)
+            .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("⚠️ Virtual thread pinned for {}ms at {}:\n{}",
+                event.getDuration().toMillis(), site, describe(event.getStackTrace()));
+        }
+    }
+
+    // Primeiro frame fora do JDK: é ali que está o synchronized/nativo a corrigir
+    private String siteOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        return stackTrace.getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .map(this::methodOf)
+            .filter(method -> !method.startsWith("java.")
+                && !method.startsWith("jdk.")
+                && !method.startsWith("sun."))
+            .findFirst()
+            .orElse("unknown");
+    }
+
+    private String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "  (no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+            .limit(LOGGED_FRAMES)
+            .map(frame -> "  at " + methodOf(frame) + ":" + frame.getLineNumber())
+            .collect(Collectors.joining("\n"));
+    }
+
+    private String methodOf(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,24 @@
+package com.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "inventory.virtual-threads")
+public record VirtualThreadProperties(
+    Duration pinningThreshold,
+    int maxInFlightRequests,
+    Duration admissionTimeout
+) {
+    public VirtualThreadProperties {
+        if (pinningThreshold == null) {
+            pinningThreshold = Duration.ofMillis(20);
+        }
+        if (maxInFlightRequests <= 0) {
+            maxInFlightRequests = 200;
+        }
+        if (admissionTimeout == null) {
+            admissionTimeout = Duration.ofSeconds(10);
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package com.inventory.domain.event;
 
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+
 import java.time.LocalDateTime;
 
 public interface DomainEvent {
     String eventId();
     String eventType();
     LocalDateTime timestamp();
+    /**
+     * Stream the event belongs to: one per (store, SKU), see {@link com.inventory.domain.model.InventoryKey#aggregateId()}.
+     */
     String aggregateId();
+    StoreId storeId();
+    Sku sku();
 }
@@ -1,5 +1,6 @@
 package com.inventory.domain.event;
 
+import com.inventory.domain.model.InventoryKey;
 import com.inventory.domain.model.Sku;
 import com.inventory.domain.model.StoreId;
 import java.time.LocalDateTime;
@@ -34,7 +35,7 @@ public record StockAddedEvent(
             UUID.randomUUID().toString(),
             "StockAdded",
             LocalDateTime.now(),
-            sku.value(),
+            InventoryKey.of(storeId, sku).aggregateId(),
             storeId,
             sku,
             quantity,
@@ -1,5 +1,6 @@
 package com.inventory.domain.event;
 
+import com.inventory.domain.model.InventoryKey;
 import com.inventory.domain.model.Sku;
 import com.inventory.domain.model.StoreId;
 import java.time.LocalDateTime;
@@ -35,7 +36,7 @@ public record StockCommittedEvent(
             UUID.randomUUID().toString(),
             "StockCommitted",
             LocalDateTime.now(),
-            sku.value(),
+            InventoryKey.of(storeId, sku).aggregateId(),
             reservationId,
             storeId,
             sku,
@@ -1,5 +1,6 @@
 package com.inventory.domain.event;
 
+import com.inventory.domain.model.InventoryKey;
 import com.inventory.domain.model.Sku;
 import com.inventory.domain.model.StoreId;
 import java.time.LocalDateTime;
@@ -33,7 +34,7 @@ public record StockReleasedEvent(
             UUID.randomUUID().toString(),
             "StockReleased",
             LocalDateTime.now(),
-            sku.value(),
+            InventoryKey.of(storeId, sku).aggregateId(),
             reservationId,
             storeId,
             sku,
@@ -0,0 +1,30 @@
+package com.inventory.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Position in an event store's replay order; the next page starts strictly after it.
+ * Only the store that produced it can read it: the event table keeps a timestamp, an
+ * aggregate id and a version in it, the segment log a byte position.
+ */
+public record EventCursor(String value) {
+
+    public static final EventCursor START = new EventCursor("");
+
+    public EventCursor {
+        Objects.requireNonNull(value, "value cannot be null");
+    }
+
+    public static EventCursor of(String value) {
+        return value == null || value.isEmpty() ? START : new EventCursor(value);
+    }
+
+    public boolean isStart() {
+        return value.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return isStart() ? "<start>" : value;
+    }
+}
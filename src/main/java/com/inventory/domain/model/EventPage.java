@@ -0,0 +1,19 @@
+package com.inventory.domain.model;
+
+import com.inventory.domain.event.DomainEvent;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Events in replay order and the cursor the following page starts after. An aggregate's
+ * events come in the order they were appended; a page shorter than asked for means the
+ * store had nothing more when it was read.
+ */
+public record EventPage(List<DomainEvent> events, EventCursor next) {
+
+    public EventPage {
+        events = List.copyOf(events);
+        Objects.requireNonNull(next, "next cannot be null");
+    }
+}
@@ -0,0 +1,20 @@
+package com.inventory.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Position in the (expiresAt, id) order of reservations; the next page starts strictly
+ * after it, so ties on expiresAt are neither skipped nor read twice.
+ */
+public record ExpiryCursor(LocalDateTime expiresAt, String reservationId) {
+
+    public ExpiryCursor {
+        Objects.requireNonNull(expiresAt, "expiresAt cannot be null");
+        Objects.requireNonNull(reservationId, "reservationId cannot be null");
+    }
+
+    public static ExpiryCursor after(Reservation reservation) {
+        return new ExpiryCursor(reservation.getExpiresAt(), reservation.getId());
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventory.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a command stored under the client's Idempotency-Key. A status of 0
+ * marks a claim whose command is still running.
+ */
+public record IdempotencyRecord(
+    String key,
+    long fingerprint,
+    int status,
+    byte[] body,
+    LocalDateTime expiresAt
+) {
+    public static final int IN_PROGRESS = 0;
+
+    public IdempotencyRecord {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key cannot be empty");
+        }
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("Idempotency expiry cannot be null");
+        }
+        if (body == null) {
+            body = new byte[0];
+        }
+    }
+
+    public boolean completed() {
+        return status != IN_PROGRESS;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,39 @@
+package com.inventory.domain.model;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+public record InventoryKey(StoreId storeId, Sku sku) implements Comparable<InventoryKey> {
+
+    // Ordem canônica de lock: quem trava várias linhas sempre segue (storeId, sku)
+    private static final Comparator<InventoryKey> CANONICAL_ORDER = Comparator
+        .comparing((InventoryKey key) -> key.storeId().value())
+        .thenComparing(key -> key.sku().value());
+
+    public InventoryKey {
+        Objects.requireNonNull(storeId, "storeId cannot be null");
+        Objects.requireNonNull(sku, "sku cannot be null");
+    }
+
+    public static InventoryKey of(StoreId storeId, Sku sku) {
+        return new InventoryKey(storeId, sku);
+    }
+
+    @Override
+    public int compareTo(InventoryKey other) {
+        return CANONICAL_ORDER.compare(this, other);
+    }
+
+    /**
+     * Id of the event stream of this item, {@code "<storeId>:<sku>"}. Events of the same
+     * SKU in different stores are separate aggregates.
+     */
+    public String aggregateId() {
+        return storeId.value() + ":" + sku.value();
+    }
+
+    @Override
+    public String toString() {
+        return aggregateId();
+    }
+}
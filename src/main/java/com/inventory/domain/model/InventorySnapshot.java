@@ -0,0 +1,58 @@
+package com.inventory.domain.model;
+
+import com.inventory.domain.event.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * State of one event stream folded up to {@code coveredUntil}: every event of the
+ * aggregate timestamped at or before it is in {@code stores}, none after it is.
+ * {@code eventCount} is how many events were folded in total.
+ */
+public record InventorySnapshot(
+    String aggregateId,
+    Map<StoreId, StockMovement> stores,
+    long eventCount,
+    LocalDateTime coveredUntil,
+    LocalDateTime takenAt
+) {
+    
+    public InventorySnapshot {
+        Objects.requireNonNull(aggregateId, "aggregateId cannot be null");
+        stores = Map.copyOf(stores);
+    }
+    
+    public static InventorySnapshot empty(String aggregateId) {
+        return new InventorySnapshot(aggregateId, Map.of(), 0, null, null);
+    }
+    
+    public boolean covers(DomainEvent event) {
+        return coveredUntil != null && !event.timestamp().isAfter(coveredUntil);
+    }
+    
+    public StockMovement of(StoreId storeId) {
+        return stores.getOrDefault(storeId, StockMovement.NONE);
+    }
+    
+    public InventorySnapshot fold(Collection<? extends DomainEvent> events) {
+        Map<StoreId, StockMovement> next = new HashMap<>(stores);
+        for (DomainEvent event : events) {
+            switch (event) {
+                case StockReservedEvent e -> next.merge(e.storeId(), StockMovement.reserved(e.quantity()), StockMovement::plus);
+                case StockCommittedEvent e -> next.merge(e.storeId(), StockMovement.committed(e.quantity()), StockMovement::plus);
+                case StockReleasedEvent e -> next.merge(e.storeId(), StockMovement.released(e.quantity()), StockMovement::plus);
+                case StockAddedEvent e -> next.merge(e.storeId(), StockMovement.added(e.quantity()), StockMovement::plus);
+                default -> throw new IllegalArgumentException("Cannot fold event type: " + event.eventType());
+            }
+        }
+        return new InventorySnapshot(aggregateId, next, eventCount + events.size(), coveredUntil, takenAt);
+    }
+    
+    public InventorySnapshot coveringUntil(LocalDateTime coveredUntil, LocalDateTime takenAt) {
+        return new InventorySnapshot(aggregateId, stores, eventCount, coveredUntil, takenAt);
+    }
+}
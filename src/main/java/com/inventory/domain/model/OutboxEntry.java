@@ -0,0 +1,19 @@
+package com.inventory.domain.model;
+
+import com.inventory.domain.event.DomainEvent;
+
+import java.util.Objects;
+
+/**
+ * An event waiting in the outbox to be published. {@code offset} grows in the order
+ * events were written to the outbox; the relay reports how far it delivered by it.
+ */
+public record OutboxEntry(
+    long offset,
+    DomainEvent event
+) {
+
+    public OutboxEntry {
+        Objects.requireNonNull(event, "event cannot be null");
+    }
+}
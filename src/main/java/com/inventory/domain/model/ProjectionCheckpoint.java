@@ -0,0 +1,21 @@
+package com.inventory.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * How far a projection rebuild got: every event up to {@code position} was handled,
+ * {@code events} of them in total since the rebuild started from scratch.
+ */
+public record ProjectionCheckpoint(
+    String projection,
+    EventCursor position,
+    long events,
+    LocalDateTime updatedAt
+) {
+
+    public ProjectionCheckpoint {
+        Objects.requireNonNull(projection, "projection cannot be null");
+        Objects.requireNonNull(position, "position cannot be null");
+    }
+}
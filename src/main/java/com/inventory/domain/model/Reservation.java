@@ -21,6 +21,8 @@ public class Reservation {
     private LocalDateTime createdAt;
     private LocalDateTime expiresAt;
     private LocalDateTime committedAt;
+    // Bucket the units were taken from when the item is sliced; null for the single row or the ledger
+    private Integer bucket;
     
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
@@ -47,6 +49,7 @@ public class Reservation {
             .committedAt(newStatus == ReservationStatus.COMMITTED 
                 ? LocalDateTime.now() 
                 : this.committedAt)
+            .bucket(this.bucket)
             .build();
     }
 }
@@ -1,7 +1,6 @@
 package com.inventory.domain.model;
 
 import java.util.Objects;
-import java.util.UUID;
 
 public record ReservationId(String value) {
     
@@ -13,7 +12,7 @@ public record ReservationId(String value) {
     }
     
     public static ReservationId generate() {
-        return new ReservationId("RES-" + UUID.randomUUID().toString());
+        return new ReservationId(ReservationIdGenerator.format(ReservationIdGenerator.shared().next()));
     }
     
     public static ReservationId of(String value) {
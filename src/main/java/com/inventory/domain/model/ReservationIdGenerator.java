@@ -0,0 +1,107 @@
+package com.inventory.domain.model;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style reservation ids: 41 bits of milliseconds since 2024-01-01, 10 bits of
+ * node and 12 bits of sequence in a positive long. Ids from one node are strictly
+ * increasing, so inserts append to the right edge of the primary-key index. When the
+ * sequence runs out within a millisecond, or the clock steps back, the generator keeps
+ * counting from the last id instead of waiting or repeating one.
+ * The text form is "RES-" plus 13 Crockford base32 digits, which sorts like the number.
+ */
+public final class ReservationIdGenerator {
+
+    public static final String PREFIX = "RES-";
+    public static final int MAX_NODE = (1 << 10) - 1;
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int DIGITS = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int[] VALUES = new int[128];
+
+    static {
+        Arrays.fill(VALUES, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = i;
+        }
+    }
+
+    private static volatile ReservationIdGenerator shared = new ReservationIdGenerator(0, System::currentTimeMillis);
+
+    private final long node;
+    private final LongSupplier clock;
+    // Last (timestamp << SEQUENCE_BITS | sequence) handed out
+    private final AtomicLong last = new AtomicLong();
+
+    ReservationIdGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public static void useNode(int node) {
+        shared = new ReservationIdGenerator(node, System::currentTimeMillis);
+    }
+
+    static ReservationIdGenerator shared() {
+        return shared;
+    }
+
+    public long next() {
+        while (true) {
+            long previous = last.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            long candidate = now > (previous >>> SEQUENCE_BITS)
+                ? now << SEQUENCE_BITS
+                : previous + 1;
+            if (last.compareAndSet(previous, candidate)) {
+                long timestamp = candidate >>> SEQUENCE_BITS;
+                return timestamp << (NODE_BITS + SEQUENCE_BITS)
+                    | node << SEQUENCE_BITS
+                    | candidate & SEQUENCE_MASK;
+            }
+        }
+    }
+
+    public static String format(long id) {
+        char[] text = new char[PREFIX.length() + DIGITS];
+        PREFIX.getChars(0, PREFIX.length(), text, 0);
+        for (int i = text.length - 1; i >= PREFIX.length(); i--) {
+            text[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(text);
+    }
+
+    public static OptionalLong parse(String value) {
+        if (value == null || value.length() != PREFIX.length() + DIGITS || !value.startsWith(PREFIX)) {
+            return OptionalLong.empty();
+        }
+        long id = 0;
+        for (int i = PREFIX.length(); i < value.length(); i++) {
+            char c = value.charAt(i);
+            int digit = c < VALUES.length ? VALUES[c] : -1;
+            if (digit < 0) {
+                return OptionalLong.empty();
+            }
+            id = id << 5 | digit;
+        }
+        // 13 digits hold 65 bits: the first one may only use 4
+        return value.charAt(PREFIX.length()) > ALPHABET[15] ? OptionalLong.empty() : OptionalLong.of(id);
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.inventory.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for listing reservations; every one is optional. Results come in id order,
+ * which is creation order, and {@code after} is the last reservation id of the previous
+ * page. The creation window is [createdFrom, createdTo).
+ */
+public record ReservationQuery(
+    ReservationStatus status,
+    StoreId storeId,
+    Sku sku,
+    String customerId,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo,
+    String after
+) {
+
+    public ReservationQuery {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        if (after != null && ReservationIdGenerator.parse(after).isEmpty()) {
+            throw new IllegalArgumentException("Invalid cursor: " + after);
+        }
+    }
+
+    public static ReservationQuery all() {
+        return new ReservationQuery(null, null, null, null, null, null, null);
+    }
+}
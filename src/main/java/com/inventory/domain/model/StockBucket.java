@@ -0,0 +1,15 @@
+package com.inventory.domain.model;
+
+public record StockBucket(
+    int index,
+    Stock stock
+) {
+    public StockBucket {
+        if (index < 0) {
+            throw new IllegalArgumentException("Bucket index cannot be negative");
+        }
+        if (stock == null) {
+            throw new IllegalArgumentException("Bucket stock cannot be null");
+        }
+    }
+}
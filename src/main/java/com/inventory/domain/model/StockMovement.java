@@ -0,0 +1,40 @@
+package com.inventory.domain.model;
+
+/**
+ * Net change to one store's stock of a SKU, as folded from its events. Signed: events
+ * only describe movements, so the fold starts from zero rather than from the stock the
+ * item had before its first event. Adding movements is commutative, so the order in
+ * which events are folded does not matter.
+ */
+public record StockMovement(
+    int available,
+    int reserved,
+    int sold
+) {
+    
+    public static final StockMovement NONE = new StockMovement(0, 0, 0);
+    
+    public static StockMovement reserved(int quantity) {
+        return new StockMovement(-quantity, quantity, 0);
+    }
+    
+    public static StockMovement committed(int quantity) {
+        return new StockMovement(0, -quantity, quantity);
+    }
+    
+    public static StockMovement released(int quantity) {
+        return new StockMovement(quantity, -quantity, 0);
+    }
+    
+    public static StockMovement added(int quantity) {
+        return new StockMovement(quantity, 0, 0);
+    }
+    
+    public StockMovement plus(StockMovement other) {
+        return new StockMovement(
+            available + other.available,
+            reserved + other.reserved,
+            sold + other.sold
+        );
+    }
+}
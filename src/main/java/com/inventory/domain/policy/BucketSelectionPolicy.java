@@ -0,0 +1,85 @@
+package com.inventory.domain.policy;
+
+import com.inventory.domain.model.Reservation;
+import com.inventory.domain.model.Stock;
+import com.inventory.domain.model.StockBucket;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class BucketSelectionPolicy {
+    
+    private static final int MAX_BUCKETS = 64;
+    
+    private final AtomicInteger next = new AtomicInteger();
+    
+    // Round-robin: cada chamada começa num bucket diferente e percorre os irmãos em seguida
+    public int[] probeOrder(int bucketCount) {
+        int start = Math.floorMod(next.getAndIncrement(), bucketCount);
+        int[] order = new int[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            order[i] = (start + i) % bucketCount;
+        }
+        return order;
+    }
+    
+    // Reparte o disponível igualmente; reservado e vendido ficam no bucket 0
+    public List<StockBucket> slice(Stock stock, int bucketCount) {
+        validateBucketCount(bucketCount);
+        
+        List<StockBucket> buckets = new ArrayList<>(bucketCount);
+        int share = stock.availableStock() / bucketCount;
+        int remainder = stock.availableStock() % bucketCount;
+        
+        for (int i = 0; i < bucketCount; i++) {
+            int available = share + (i < remainder ? 1 : 0);
+            buckets.add(new StockBucket(i, i == 0
+                ? new Stock(available, stock.reservedStock(), stock.soldStock())
+                : Stock.withAvailable(available)));
+        }
+        return buckets;
+    }
+    
+    // O bucket gravado na reserva; sem ele, a reserva é anterior ao fatiamento e o slice pôs o reservado dela no bucket 0
+    public int bucketOf(Reservation reservation) {
+        return reservation.getBucket() != null ? reservation.getBucket() : 0;
+    }
+    
+    public List<StockBucket> rebalance(List<StockBucket> buckets) {
+        int total = buckets.stream().mapToInt(b -> b.stock().availableStock()).sum();
+        int share = total / buckets.size();
+        int remainder = total % buckets.size();
+        
+        List<StockBucket> rebalanced = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            Stock current = buckets.get(i).stock();
+            rebalanced.add(new StockBucket(buckets.get(i).index(), new Stock(
+                share + (i < remainder ? 1 : 0),
+                current.reservedStock(),
+                current.soldStock()
+            )));
+        }
+        return rebalanced;
+    }
+    
+    public Stock total(List<StockBucket> buckets) {
+        return buckets.stream()
+            .map(StockBucket::stock)
+            .reduce(Stock.empty(), (a, b) -> new Stock(
+                a.availableStock() + b.availableStock(),
+                a.reservedStock() + b.reservedStock(),
+                a.soldStock() + b.soldStock()
+            ));
+    }
+    
+    public void validateBucketCount(int bucketCount) {
+        if (bucketCount < 2 || bucketCount > MAX_BUCKETS) {
+            throw new IllegalArgumentException(String.format(
+                "Bucket count must be between 2 and %d", MAX_BUCKETS
+            ));
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.inventory.adapters.input.rest.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.application.port.output.IdempotencyKeyRepository;
+import com.inventory.config.IdempotencyProperties;
+import com.inventory.domain.model.IdempotencyRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private final InMemoryIdempotencyKeys repository = new InMemoryIdempotencyKeys();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyFilter filter = filter();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final FilterChain reserve = (request, response) -> {
+        int n = executions.incrementAndGet();
+        request.getInputStream().readAllBytes();
+        response.setContentType("application/json");
+        ((HttpServletResponse) response).setStatus(201);
+        response.getOutputStream().write(("{\"reservationId\":\"RES-" + n + "\"}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    void shouldReplayTheOriginalResponseWithoutRunningTheCommandAgain() throws Exception {
+        // Given
+        MockHttpServletResponse first = send("KEY-1", "{\"quantity\":1}", reserve);
+
+        // When
+        MockHttpServletResponse retry = send("KEY-1", "{\"quantity\":1}", reserve);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).contains("RES-1");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(meterRegistry.counter("inventory.idempotency.replays", "source", "memory").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFallBackToTheDurableStoreWhenTheResponseIsNotInMemory() throws Exception {
+        // Given - answered by another instance (or before a restart)
+        send("KEY-2", "{\"quantity\":1}", reserve);
+
+        // When
+        IdempotencyFilter other = filter();
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        other.doFilter(request("KEY-2", "{\"quantity\":1}"), retry, reserve);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getContentAsString()).contains("RES-1");
+        assertThat(meterRegistry.counter("inventory.idempotency.replays", "source", "database").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectAKeyReusedForADifferentRequest() throws Exception {
+        // Given
+        send("KEY-3", "{\"quantity\":1}", reserve);
+
+        // When
+        MockHttpServletResponse reused = send("KEY-3", "{\"quantity\":2}", reserve);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    void shouldRunConcurrentDuplicatesOnlyOnce() throws Exception {
+        // Given - the first request is held inside the command
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            running.countDown();
+            await(finish);
+            reserve.doFilter(request, response);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Future<MockHttpServletResponse> first = executor.submit(() -> send("KEY-4", "{}", slow));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - three retries arrive while it runs
+        List<Future<MockHttpServletResponse>> retries = IntStream.range(0, 3)
+            .mapToObj(i -> executor.submit(() -> send("KEY-4", "{}", slow)))
+            .toList();
+        Thread.sleep(100);
+        finish.countDown();
+
+        // Then - all of them get the first response
+        String original = first.get(5, TimeUnit.SECONDS).getContentAsString();
+        for (Future<MockHttpServletResponse> retry : retries) {
+            assertThat(retry.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo(original);
+        }
+        assertThat(executions).hasValue(1);
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldLetTheChainReadTheBufferedBodyThroughAReadListener() throws Exception {
+        // Given - a handler that reads the body asynchronously
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> callbacks = new CopyOnWriteArrayList<>();
+        FilterChain asyncReader = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    callbacks.add("onDataAvailable");
+                    while (input.isReady() && !input.isFinished()) {
+                        read.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    callbacks.add("onAllDataRead");
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    callbacks.add("onError");
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // When
+        send("KEY-6", "{\"quantity\":1}", asyncReader);
+
+        // Then
+        assertThat(callbacks).containsExactly("onDataAvailable", "onAllDataRead");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"quantity\":1}");
+    }
+
+    @Test
+    void shouldNotStoreServerErrors() throws Exception {
+        // Given
+        FilterChain busy = (request, response) -> ((HttpServletResponse) response).setStatus(503);
+        send("KEY-5", "{}", busy);
+
+        // When - the retry runs the command again
+        MockHttpServletResponse retry = send("KEY-5", "{}", reserve);
+
+        // Then
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+        assertThat(repository.find("KEY-5")).get().extracting(IdempotencyRecord::status).isEqualTo(201);
+    }
+
+    @Test
+    void shouldRejectABodyAboveTheLimitWithoutRunningTheCommand() throws Exception {
+        // Given - a 16-byte limit; one request declares its length, the other streams it
+        IdempotencyFilter limited = filter(new IdempotencyProperties(null, null, null, DataSize.ofBytes(16)));
+        MockHttpServletRequest declared = request("KEY-6", "{\"quantity\":1000000}");
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/v1/inventory/reserve") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.addHeader(IdempotencyFilter.HEADER, "KEY-7");
+        chunked.setContent("{\"quantity\":1000000}".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        limited.doFilter(declared, first, reserve);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        limited.doFilter(chunked, second, reserve);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(413);
+        assertThat(second.getStatus()).isEqualTo(413);
+        assertThat(second.getContentAsString()).contains("PAYLOAD_TOO_LARGE");
+        assertThat(executions).hasValue(0);
+        assertThat(repository.find("KEY-6")).isEmpty();
+        assertThat(repository.find("KEY-7")).isEmpty();
+    }
+
+    @Test
+    void shouldKeepTheClaimAliveWhileASlowCommandRuns() throws Exception {
+        // Given - the command runs for several in-progress timeouts
+        IdempotencyFilter shortClaims = filter(new IdempotencyProperties(null, null, Duration.ofMillis(90), null));
+        List<LocalDateTime> claimExpiry = new CopyOnWriteArrayList<>();
+        FilterChain slow = (request, response) -> {
+            await(new CountDownLatch(1), 400);
+            claimExpiry.add(repository.find("KEY-8").orElseThrow().expiresAt());
+            reserve.doFilter(request, response);
+        };
+
+        // When
+        LocalDateTime started = LocalDateTime.now();
+        shortClaims.doFilter(request("KEY-8", "{}"), new MockHttpServletResponse(), slow);
+
+        // Then - renewed past the original deadline before the command finished
+        assertThat(claimExpiry).hasSize(1);
+        assertThat(claimExpiry.get(0)).isAfter(started.plus(Duration.ofMillis(300)));
+        assertThat(repository.find("KEY-8")).get().extracting(IdempotencyRecord::status).isEqualTo(201);
+    }
+
+    private IdempotencyFilter filter() {
+        return filter(new IdempotencyProperties(null, null, null, null));
+    }
+
+    private IdempotencyFilter filter(IdempotencyProperties properties) {
+        return new IdempotencyFilter(
+            repository,
+            properties,
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            meterRegistry
+        );
+    }
+
+    private MockHttpServletResponse send(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(key, body), response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/inventory/reserve");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static void await(CountDownLatch latch) {
+        await(latch, 5_000);
+    }
+
+    private static void await(CountDownLatch latch, long millis) {
+        try {
+            latch.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class InMemoryIdempotencyKeys implements IdempotencyKeyRepository {
+
+        private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<IdempotencyRecord> find(String key) {
+            return Optional.ofNullable(records.get(key));
+        }
+
+        @Override
+        public boolean claim(String key, long fingerprint, LocalDateTime expiresAt) {
+            return records.putIfAbsent(key, new IdempotencyRecord(
+                key, fingerprint, IdempotencyRecord.IN_PROGRESS, null, expiresAt)) == null;
+        }
+
+        @Override
+        public boolean extend(String key, LocalDateTime expiresAt) {
+            return records.computeIfPresent(key, (k, record) -> record.completed() ? record
+                : new IdempotencyRecord(k, record.fingerprint(), record.status(), null, expiresAt)) != null;
+        }
+
+        @Override
+        public void complete(IdempotencyRecord record) {
+            records.put(record.key(), record);
+        }
+
+        @Override
+        public void release(String key) {
+            records.remove(key);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.inventory.adapters.input.rest.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightRequestLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InFlightRequestLimitFilter filter = new InFlightRequestLimitFilter(
+        new VirtualThreadProperties(null, 1, Duration.ofMillis(100)),
+        new ObjectMapper().registerModule(new JavaTimeModule()),
+        meterRegistry
+    );
+
+    @Test
+    void shouldRejectApiRequestsWhenNoSlotFreesUpInTime() throws Exception {
+        // Given - the only slot is held by a request still running
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> first = executor.submit(() -> {
+            filter.doFilter(apiRequest(), new MockHttpServletResponse(), (request, response) -> {
+                running.countDown();
+                await(finish);
+            });
+            return null;
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), rejected, new MockFilterChain());
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("SYSTEM_BUSY");
+        assertThat(meterRegistry.counter("inventory.http.rejected").count()).isEqualTo(1);
+
+        // And the slot is released once the first request completes
+        finish.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), admitted, new MockFilterChain());
+        assertThat(admitted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldNotLimitNonApiPaths() throws Exception {
+        // Given - a request for /api/ holds the only slot forever
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(), (request, response) -> {
+            MockHttpServletResponse actuator = new MockHttpServletResponse();
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), actuator, new MockFilterChain());
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+
+            // Then
+            assertThat(actuator.getStatus()).isEqualTo(200);
+        });
+    }
+
+    private MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/v1/inventory/STORE-01/SKU123");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
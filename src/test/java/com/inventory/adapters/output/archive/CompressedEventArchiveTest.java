@@ -0,0 +1,124 @@
+package com.inventory.adapters.output.archive;
+
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
+import com.inventory.adapters.output.persistence.codec.JsonEventCodec;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.config.EventCodecProperties;
+import com.inventory.config.JacksonConfig;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedEventArchiveTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-01");
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private final EventPersistenceMapper mapper = new EventPersistenceMapper(
+        List.of(new JsonEventCodec(new JacksonConfig().objectMapper())),
+        new EventCodecProperties(EventPayloadFormat.JSON, false, 0, 0)
+    );
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldFindAnAggregatesEventsByTimeRangeAcrossArchives() throws IOException {
+        // Given - two archives, each with two aggregates
+        CompressedEventArchive archive = new CompressedEventArchive(directory, mapper);
+        List<DomainEvent> first = new ArrayList<>();
+        List<DomainEvent> second = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            first.add(added("SKU000001", START.plusMinutes(i)));
+        }
+        for (int i = 0; i < 3; i++) {
+            first.add(added("SKU000002", START.plusMinutes(i)));
+        }
+        for (int i = 4; i < 8; i++) {
+            second.add(added("SKU000001", START.plusMinutes(i)));
+        }
+        archive.write(first);
+        archive.write(second);
+
+        // When
+        List<DomainEvent> found = archive.find(id("SKU000001"), START.plusMinutes(2), START.plusMinutes(5));
+
+        // Then
+        assertThat(found).containsExactly(first.get(2), first.get(3), second.get(0), second.get(1));
+        assertThat(archive.find(id("SKU000002"), START, START.plusMinutes(10))).containsExactlyElementsOf(first.subList(4, 7));
+        assertThat(archive.find(id("SKU000003"), START, START.plusMinutes(10))).isEmpty();
+        assertThat(archive.archiveCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReopenFromTheIndexesAndDropAnArchiveWithoutOne() throws IOException {
+        // Given
+        List<DomainEvent> events = List.of(added("SKU000001", START), added("SKU000001", START.plusMinutes(1)));
+        new CompressedEventArchive(directory, mapper).write(events);
+        // An archive whose index was never written: a write interrupted before it finished
+        Files.write(directory.resolve("00000002.events"), new byte[] {1, 2, 3});
+
+        // When
+        CompressedEventArchive reopened = new CompressedEventArchive(directory, mapper);
+
+        // Then
+        assertThat(reopened.find(id("SKU000001"), START, START.plusMinutes(1))).containsExactlyElementsOf(events);
+        assertThat(reopened.archiveCount()).isEqualTo(1);
+        assertThat(directory.resolve("00000002.events")).doesNotExist();
+    }
+
+    @Test
+    void shouldPageThroughEveryArchiveInWriteOrder() throws IOException {
+        // Given
+        CompressedEventArchive archive = new CompressedEventArchive(directory, mapper);
+        List<DomainEvent> all = new ArrayList<>();
+        for (int batch = 0; batch < 3; batch++) {
+            List<DomainEvent> events = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                events.add(added("SKU00000" + (i % 2), START.plusMinutes(batch * 10 + i)));
+            }
+            // Archived as retention reads them: ordered by aggregate
+            events.sort((a, b) -> a.aggregateId().compareTo(b.aggregateId()));
+            archive.write(events);
+            all.addAll(events);
+        }
+
+        // When
+        List<DomainEvent> read = new ArrayList<>();
+        EventPage page = archive.findPageAfter(EventCursor.START, 4);
+        read.addAll(page.events());
+        while (page.events().size() == 4) {
+            page = archive.findPageAfter(page.next(), 4);
+            read.addAll(page.events());
+        }
+
+        // Then
+        assertThat(read).containsExactlyElementsOf(all);
+        assertThat(archive.findPageAfter(page.next(), 4).events()).isEmpty();
+    }
+
+    private static String id(String sku) {
+        return InventoryKey.of(STORE, Sku.of(sku)).aggregateId();
+    }
+
+    private static StockAddedEvent added(String sku, LocalDateTime timestamp) {
+        StockAddedEvent event = StockAddedEvent.create(STORE, Sku.of(sku), 5, "RESTOCK");
+        return new StockAddedEvent(event.eventId(), event.eventType(), timestamp, event.aggregateId(),
+            event.storeId(), event.sku(), event.quantity(), event.reason());
+    }
+}
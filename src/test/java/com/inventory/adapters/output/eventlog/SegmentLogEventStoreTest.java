@@ -0,0 +1,315 @@
+package com.inventory.adapters.output.eventlog;
+
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
+import com.inventory.adapters.output.persistence.codec.JsonEventCodec;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.config.EventCodecProperties;
+import com.inventory.config.JacksonConfig;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentLogEventStoreTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-01");
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    private final EventPersistenceMapper mapper = new EventPersistenceMapper(
+        List.of(new JsonEventCodec(new JacksonConfig().objectMapper())),
+        new EventCodecProperties(EventPayloadFormat.JSON, false, 0, 0)
+    );
+
+    @TempDir
+    private Path directory;
+
+    private SegmentLogEventStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldReadBackEventsByAggregateTimeRangeAndId() throws IOException {
+        // Given
+        store = open(SEGMENT_BYTES);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<DomainEvent> first = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            DomainEvent event = reserved("SKU000001", start.plusMinutes(i));
+            first.add(event);
+            store.store(event);
+            store.store(reserved("SKU000002", start.plusMinutes(i)));
+        }
+
+        // When / Then
+        assertThat(store.findByAggregateId(id("SKU000001"))).containsExactlyElementsOf(first);
+        assertThat(store.findByAggregateIdAndTimestamp(id("SKU000001"), start.plusMinutes(1), start.plusMinutes(3)))
+            .containsExactlyElementsOf(first.subList(1, 4));
+        assertThat(store.findByEventId(first.get(2).eventId())).contains(first.get(2));
+        assertThat(store.findByEventId("missing")).isEmpty();
+        assertThat(store.findByAggregateId(id("SKU999999"))).isEmpty();
+        assertThat(store.findAll()).hasSize(10);
+    }
+
+    @Test
+    void shouldRollSegmentsAndReopenFromTheirIndexFiles() throws IOException {
+        // Given - ~300 bytes per record, a few thousand of them over 64KB segments
+        store = open(SEGMENT_BYTES);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<DomainEvent> hot = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            DomainEvent event = reserved("SKU" + String.format("%06d", i % 50), start.plusSeconds(i));
+            if (i % 50 == 7) {
+                hot.add(event);
+            }
+            store.store(event);
+        }
+        assertThat(store.segmentCount()).isGreaterThan(5);
+
+        // When
+        store.close();
+        store = open(SEGMENT_BYTES);
+
+        // Then
+        assertThat(Files.list(directory).filter(path -> path.toString().endsWith(".idx")).count())
+            .isEqualTo(store.segmentCount() - 1);
+        assertThat(store.findByAggregateId(id("SKU000007"))).containsExactlyElementsOf(hot);
+        assertThat(store.findAll()).hasSize(2_000);
+        store.store(reserved("SKU000007", start.plusDays(1)));
+        assertThat(store.findByAggregateId(id("SKU000007"))).hasSize(hot.size() + 1);
+    }
+
+    @Test
+    void shouldPageThroughTheLogInAppendOrderAcrossSegments() throws IOException {
+        // Given - enough events to span several segments
+        store = open(SEGMENT_BYTES);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<DomainEvent> appended = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            DomainEvent event = reserved("SKU" + String.format("%06d", i % 30), start.plusSeconds(i));
+            appended.add(event);
+            store.store(event);
+        }
+        assertThat(store.segmentCount()).isGreaterThan(2);
+
+        // When
+        List<DomainEvent> paged = new ArrayList<>();
+        EventCursor cursor = EventCursor.START;
+        EventPage page;
+        do {
+            page = store.findPageAfter(cursor, 64);
+            paged.addAll(page.events());
+            cursor = page.next();
+        } while (page.events().size() == 64);
+
+        // Then - and the last cursor picks up what is appended later
+        assertThat(paged).containsExactlyElementsOf(appended);
+        DomainEvent later = reserved("SKU000001", start.plusDays(1));
+        store.store(later);
+        assertThat(store.findPageAfter(cursor, 64).events()).containsExactly(later);
+    }
+
+    @Test
+    void shouldTruncateATornTailOnRecovery() throws IOException {
+        // Given - three events, then a crash halfway through the third and a half-written fourth
+        store = open(SEGMENT_BYTES);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        DomainEvent one = reserved("SKU000001", start);
+        DomainEvent two = reserved("SKU000001", start.plusSeconds(1));
+        store.store(one);
+        store.store(two);
+        store.store(reserved("SKU000001", start.plusSeconds(2)));
+        store.close();
+
+        Path segment = directory.resolve("00000000.log");
+        int thirdAt;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            int position = 0;
+            for (int i = 0; i < 2; i++) {
+                header.clear();
+                channel.read(header, position);
+                position += LogSegment.HEADER_BYTES + header.getInt(0);
+            }
+            thirdAt = position;
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), thirdAt + LogSegment.HEADER_BYTES + 20);
+            channel.write(ByteBuffer.allocate(8).putInt(0, 500).putInt(4, 42), thirdAt + 4_000);
+        }
+
+        // When
+        store = open(SEGMENT_BYTES);
+
+        // Then
+        assertThat(store.findByAggregateId(id("SKU000001"))).containsExactly(one, two);
+        DomainEvent after = reserved("SKU000001", start.plusSeconds(3));
+        store.store(after);
+        store.close();
+        store = open(SEGMENT_BYTES);
+        assertThat(store.findAll()).containsExactly(one, two, after);
+    }
+
+    @Test
+    void shouldAppendATransactionsEventsOnlyWhenItCommits() throws IOException {
+        // Given
+        store = open(SEGMENT_BYTES);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        DomainEvent committed = added("SKU000003", now);
+
+        // When - a committed transaction
+        TransactionSynchronizationManager.initSynchronization();
+        store.storeAll(List.of(committed));
+        assertThat(store.findAll()).isEmpty();
+        complete(true);
+
+        // And one rolled back
+        TransactionSynchronizationManager.initSynchronization();
+        store.store(added("SKU000003", now.plusSeconds(1)));
+        complete(false);
+
+        // Then
+        assertThat(store.findByAggregateId(id("SKU000003"))).containsExactly(committed);
+        assertThat(TransactionSynchronizationManager.hasResource(store)).isFalse();
+    }
+
+    @Test
+    void shouldNumberEventsPerAggregateAndRejectAStaleExpectedVersion() throws IOException {
+        // Given
+        store = open(SEGMENT_BYTES);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        DomainEvent first = added("SKU000004", now);
+        DomainEvent second = added("SKU000004", now);
+        DomainEvent third = added("SKU000004", now);
+        assertThat(store.append(id("SKU000004"), 0, List.of(first, second))).isEqualTo(2);
+        store.store(added("SKU000005", now));
+
+        // When / Then - a writer that read version 1 is turned away, one that read 2 is not
+        assertThatThrownBy(() -> store.append(id("SKU000004"), 1, List.of(third)))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(store.append(id("SKU000004"), 2, List.of(third))).isEqualTo(3);
+        assertThat(store.findByAggregateIdAndVersion(id("SKU000004"), 2, 3)).containsExactly(second, third);
+
+        // And the versions are recounted from the log after a restart
+        store.close();
+        store = open(SEGMENT_BYTES);
+        assertThat(store.currentVersion(id("SKU000004"))).isEqualTo(3);
+        assertThat(store.currentVersion(id("SKU000005"))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecheckTheExpectedVersionWhenTheTransactionCommits() throws IOException {
+        // Given - a transaction reads version 0 and buffers its append
+        store = open(SEGMENT_BYTES);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        TransactionSynchronizationManager.initSynchronization();
+        store.append(id("SKU000006"), 0, List.of(added("SKU000006", now)));
+        assertThat(store.currentVersion(id("SKU000006"))).isEqualTo(1);
+        List<TransactionSynchronization> slow = TransactionSynchronizationManager.getSynchronizations();
+        Object buffered = TransactionSynchronizationManager.unbindResource(store);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When - another writer gets there first
+        DomainEvent winner = added("SKU000006", now.plusSeconds(1));
+        store.append(id("SKU000006"), 0, List.of(winner));
+
+        // Then
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.bindResource(store, buffered);
+        assertThatThrownBy(() -> slow.forEach(synchronization -> synchronization.beforeCommit(false)))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        slow.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(store.findByAggregateId(id("SKU000006"))).containsExactly(winner);
+    }
+
+    @Test
+    void shouldShareFsyncsBetweenConcurrentAppends() throws Exception {
+        // Given
+        store = open(1 << 20);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When
+        List<Future<?>> appends = new ArrayList<>();
+        for (int thread = 0; thread < 16; thread++) {
+            int id = thread;
+            appends.add(executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    store.store(added("SKU" + String.format("%06d", id), LocalDateTime.now()));
+                }
+            }));
+        }
+        for (Future<?> append : appends) {
+            append.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - appends that overlapped rode the same fsync; each aggregate kept its order
+        assertThat(store.appendedCount()).isEqualTo(1_600);
+        assertThat(store.syncCount()).isPositive().isLessThan(1_600L);
+        assertThat(store.findByAggregateId(id("SKU000005")))
+            .hasSize(100)
+            .isSortedAccordingTo((a, b) -> a.timestamp().compareTo(b.timestamp()));
+    }
+
+    private void complete(boolean commit) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (commit) {
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        int status = commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private SegmentLogEventStore open(int segmentBytes) throws IOException {
+        return new SegmentLogEventStore(directory, segmentBytes, true, mapper);
+    }
+
+    private static String id(String sku) {
+        return InventoryKey.of(STORE, Sku.of(sku)).aggregateId();
+    }
+
+    private static StockReservedEvent reserved(String sku, LocalDateTime timestamp) {
+        StockReservedEvent event = StockReservedEvent.create("RES-0000000000001", STORE, Sku.of(sku), 2, "CUST-1");
+        return new StockReservedEvent(event.eventId(), event.eventType(), timestamp, event.aggregateId(),
+            event.reservationId(), event.storeId(), event.sku(), event.quantity(), event.customerId());
+    }
+
+    private static StockAddedEvent added(String sku, LocalDateTime timestamp) {
+        StockAddedEvent event = StockAddedEvent.create(STORE, Sku.of(sku), 5, "RESTOCK");
+        return new StockAddedEvent(event.eventId(), event.eventType(), timestamp, event.aggregateId(),
+            event.storeId(), event.sku(), event.quantity(), event.reason());
+    }
+}
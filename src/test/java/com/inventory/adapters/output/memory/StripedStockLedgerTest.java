@@ -0,0 +1,240 @@
+package com.inventory.adapters.output.memory;
+
+import com.inventory.application.port.output.InstanceLeaseRepository;
+import com.inventory.application.port.output.InventoryRepository;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.config.HotSkuProperties;
+import com.inventory.domain.exception.InsufficientStockException;
+import com.inventory.domain.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class StripedStockLedgerTest {
+
+    private final StoreId storeId = StoreId.of("STORE-01");
+    private final Sku sku = Sku.of("SKU123");
+
+    private InventoryRepository inventoryRepository;
+    private ReservationRepository reservationRepository;
+    private InstanceLeaseRepository leaseRepository;
+    private StripedStockLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository = mock(InventoryRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        leaseRepository = mock(InstanceLeaseRepository.class);
+        when(leaseRepository.acquire(eq(StripedStockLedger.LEASE), anyString(), any())).thenReturn(true);
+        ledger = ledger(new HotSkuProperties(true, Set.of(), 16, Duration.ofHours(1), null));
+        ledger.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledger.stop();
+    }
+
+    @Test
+    void shouldNeverOversellUnderContention() throws Exception {
+        // Given
+        givenInventory(1_000);
+        int clients = 64;
+        int attemptsPerClient = 50;
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+
+        // When
+        for (int i = 0; i < clients; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < attemptsPerClient; attempt++) {
+                    try {
+                        ledger.reserve(storeId, sku, 1);
+                        reserved.incrementAndGet();
+                    } catch (InsufficientStockException ex) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        Stock stock = ledger.snapshot(storeId, sku).orElseThrow();
+        assertThat(reserved.get()).isEqualTo(1_000);
+        assertThat(rejected.get()).isEqualTo(clients * attemptsPerClient - 1_000);
+        assertThat(stock.availableStock()).isZero();
+        assertThat(stock.reservedStock()).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldGatherQuantityAcrossStripes() {
+        // Given - 20 units spread over 16 stripes, no single stripe holds 10
+        givenInventory(20);
+
+        // When
+        ledger.reserve(storeId, sku, 10);
+
+        // Then
+        Stock stock = ledger.snapshot(storeId, sku).orElseThrow();
+        assertThat(stock.availableStock()).isEqualTo(10);
+        assertThat(stock.reservedStock()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldRejectWhenStockIsInsufficient() {
+        // Given
+        givenInventory(5);
+
+        // When/Then
+        assertThatThrownBy(() -> ledger.reserve(storeId, sku, 6))
+            .isInstanceOf(InsufficientStockException.class);
+        assertThat(ledger.snapshot(storeId, sku).orElseThrow().availableStock()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldMoveStockOnCommitAndRelease() {
+        // Given
+        givenInventory(100);
+        ledger.reserve(storeId, sku, 30);
+
+        // When
+        ledger.commit(storeId, sku, 20);
+        ledger.release(storeId, sku, 10);
+
+        // Then
+        assertThat(ledger.snapshot(storeId, sku)).contains(new Stock(80, 0, 20));
+    }
+
+    @Test
+    void shouldWriteDirtyCountersBehind() {
+        // Given
+        givenInventory(100);
+        ledger.reserve(storeId, sku, 7);
+
+        // When
+        ledger.flush();
+        ledger.flush();
+
+        // Then - second flush has nothing dirty to write
+        ArgumentCaptor<Inventory> captor = ArgumentCaptor.forClass(Inventory.class);
+        verify(inventoryRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getStock()).isEqualTo(new Stock(93, 7, 0));
+    }
+
+    @Test
+    void shouldOnlyTrackConfiguredSkus() {
+        // Given
+        StripedStockLedger selective = ledger(new HotSkuProperties(true, Set.of("SKU123"), 16, Duration.ofHours(1), null));
+
+        // Then
+        assertThat(selective.tracks(storeId, sku)).isTrue();
+        assertThat(selective.tracks(storeId, Sku.of("SKU456"))).isFalse();
+    }
+
+    @Test
+    void shouldRebuildCountersFromReservationsWhenTheRowMissedAFlush() {
+        // Given - the row was flushed at 93/7/0, then 5 more were reserved and 3 committed before a crash
+        givenInventory(new Stock(93, 7, 0));
+        when(reservationRepository.sumQuantity(storeId, sku, ReservationStatus.RESERVED)).thenReturn(9);
+        when(reservationRepository.sumQuantity(storeId, sku, ReservationStatus.COMMITTED)).thenReturn(3);
+
+        // When
+        ledger.reserve(storeId, sku, 1);
+
+        // Then - the 5 lost admissions are not handed out again, and the corrected row is written
+        assertThat(ledger.snapshot(storeId, sku)).contains(new Stock(87, 10, 3));
+        ledger.flush();
+        ArgumentCaptor<Inventory> captor = ArgumentCaptor.forClass(Inventory.class);
+        verify(inventoryRepository).save(captor.capture());
+        assertThat(captor.getValue().getStock()).isEqualTo(new Stock(87, 10, 3));
+    }
+
+    @Test
+    void shouldRefuseToStartWhileAnotherInstanceHoldsTheLease() {
+        // Given
+        when(leaseRepository.acquire(eq(StripedStockLedger.LEASE), anyString(), any())).thenReturn(false);
+        StripedStockLedger second = ledger(new HotSkuProperties(true, Set.of(), 16, Duration.ofHours(1), null));
+
+        // When/Then
+        assertThatThrownBy(second::start)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("single instance");
+    }
+
+    @Test
+    void shouldStopAdmittingAndFlushingOnceTheLeaseIsReleased() {
+        // Given
+        givenInventory(100);
+        ledger.reserve(storeId, sku, 7);
+
+        // When
+        ledger.stop();
+
+        // Then - the final flush wrote the counters, nothing more is admitted or written
+        verify(leaseRepository).release(eq(StripedStockLedger.LEASE), anyString());
+        assertThatThrownBy(() -> ledger.reserve(storeId, sku, 1))
+            .isInstanceOf(IllegalStateException.class);
+        ledger.flush();
+        verify(inventoryRepository, times(1)).save(any(Inventory.class));
+    }
+
+    private StripedStockLedger ledger(HotSkuProperties properties) {
+        return new StripedStockLedger(
+            inventoryRepository,
+            reservationRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            properties,
+            leaseRepository
+        );
+    }
+
+    private void givenInventory(int available) {
+        givenInventory(Stock.withAvailable(available));
+    }
+
+    private void givenInventory(Stock stock) {
+        when(inventoryRepository.findByStoreIdAndSku(storeId, sku))
+            .thenReturn(Optional.of(inventory(stock)));
+        when(inventoryRepository.findByStoreIdAndSkuWithLock(storeId, sku))
+            .thenAnswer(inv -> Optional.of(inventory(stock)));
+        when(inventoryRepository.save(any(Inventory.class)))
+            .thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    private Inventory inventory(Stock stock) {
+        return Inventory.builder()
+            .id(1L)
+            .storeId(storeId)
+            .sku(sku)
+            .productName("Test Product")
+            .stock(stock)
+            .lastUpdated(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.inventory.adapters.output.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.config.JacksonConfig;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AwsBatchEventPublisherTest {
+
+    private static final String TOPIC_ARN = "arn:aws:sns:us-east-1:000000000000:inventory-events";
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.of("eventPublisher", CircuitBreakerConfig.custom()
+        .slidingWindowSize(4)
+        .minimumNumberOfCalls(4)
+        .failureRateThreshold(50)
+        .waitDurationInOpenState(Duration.ofMinutes(1))
+        .build());
+
+    // One stand-in and client pair for the class: closing a Netty client takes seconds
+    private static AwsStandIn standIn;
+    private static SnsAsyncClient sns;
+    private static SqsAsyncClient sqs;
+
+    @BeforeAll
+    static void startStandIn() throws Exception {
+        standIn = new AwsStandIn();
+        sns = SnsAsyncClient.builder()
+            .endpointOverride(standIn.endpoint())
+            .region(Region.US_EAST_1)
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+            .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(4))
+            // Failures reach the circuit breaker at once
+            .overrideConfiguration(override -> override.retryPolicy(RetryPolicy.none()))
+            .build();
+        sqs = SqsAsyncClient.builder()
+            .endpointOverride(standIn.endpoint())
+            .region(Region.US_EAST_1)
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+            .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(4))
+            .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        standIn.reset();
+    }
+
+    @AfterAll
+    static void stopStandIn() {
+        sns.close();
+        sqs.close();
+        standIn.close();
+    }
+
+    @Test
+    void shouldPublishToSnsInRequestsOfTenEvents() throws Exception {
+        // Given
+        SnsEventPublisher publisher = new SnsEventPublisher(sns, TOPIC_ARN, objectMapper, circuitBreaker);
+        List<DomainEvent> events = events(23);
+
+        // When
+        publisher.publishBatch(events);
+
+        // Then
+        assertThat(standIn.entriesPerRequest()).containsExactlyInAnyOrder(10, 10, 3);
+        assertThat(standIn.messages()).extracting(AwsStandIn.Message::body)
+            .containsExactlyInAnyOrderElementsOf(json(events));
+        assertThat(standIn.messages()).extracting(AwsStandIn.Message::eventType).containsOnly("StockAdded");
+        assertThat(publisher.requestCount()).isEqualTo(3);
+        assertThat(publisher.publishedCount()).isEqualTo(23);
+    }
+
+    @Test
+    void shouldSendToSqsInRequestsOfTenEvents() throws Exception {
+        // Given
+        SqsEventPublisher publisher = new SqsEventPublisher(
+            sqs, standIn.endpoint() + "/000000000000/inventory-events", objectMapper, circuitBreaker);
+        List<DomainEvent> events = events(12);
+
+        // When
+        publisher.publishBatch(events);
+        publisher.publish(events.getFirst());
+
+        // Then
+        assertThat(standIn.entriesPerRequest()).containsExactlyInAnyOrder(10, 2, 1);
+        assertThat(standIn.messages()).extracting(AwsStandIn.Message::action).containsOnly("SendMessageBatch");
+        assertThat(standIn.messages().subList(0, 12)).extracting(AwsStandIn.Message::body)
+            .containsExactlyInAnyOrderElementsOf(json(events));
+        assertThat(publisher.publishedCount()).isEqualTo(13);
+    }
+
+    @Test
+    void shouldFailTheBatchWhenEntriesAreRefused() {
+        // Given
+        SnsEventPublisher publisher = new SnsEventPublisher(sns, TOPIC_ARN, objectMapper, circuitBreaker);
+        standIn.rejectEntries(true);
+
+        // When / Then - the caller (the outbox relay) publishes the batch again
+        assertThatThrownBy(() -> publisher.publishBatch(events(3)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("3 of 3 events were not accepted");
+        assertThat(publisher.failedCount()).isEqualTo(3);
+        assertThat(publisher.publishedCount()).isZero();
+    }
+
+    @Test
+    void shouldStopCallingAwsOnceTheCircuitBreakerOpens() {
+        // Given - enough failed requests to fill the sliding window
+        SnsEventPublisher publisher = new SnsEventPublisher(sns, TOPIC_ARN, objectMapper, circuitBreaker);
+        standIn.failRequests(true);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> publisher.publish(events(1).getFirst())).isInstanceOf(RuntimeException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        int requests = standIn.requestCount();
+
+        // When / Then
+        standIn.failRequests(false);
+        assertThatThrownBy(() -> publisher.publishBatch(events(15))).isInstanceOf(CallNotPermittedException.class);
+        assertThat(standIn.requestCount()).isEqualTo(requests);
+        assertThat(publisher.failedCount()).isEqualTo(19);
+    }
+
+    private List<String> json(List<DomainEvent> events) throws Exception {
+        List<String> json = new ArrayList<>();
+        for (DomainEvent event : events) {
+            json.add(objectMapper.writeValueAsString(event));
+        }
+        return json;
+    }
+
+    private static List<DomainEvent> events(int count) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(StockAddedEvent.create(StoreId.of("STORE-01"), Sku.of("SKU" + (100000 + i)), i + 1, "Restock"));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,213 @@
+package com.inventory.adapters.output.messaging;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the SNS PublishBatch and SQS SendMessageBatch endpoints (AWS
+ * query protocol), so the SDK clients can be exercised without LocalStack. It accepts
+ * any topic, queue and signature, records every entry, and can be told to answer with
+ * a server error or to refuse every entry.
+ */
+public class AwsStandIn implements AutoCloseable {
+
+    private static final Pattern ENTRY = Pattern.compile(
+        "^(?:PublishBatchRequestEntries\\.member|SendMessageBatchRequestEntry)\\.(\\d+)\\.(.+)$");
+
+    static {
+        // Without it every response waits on Nagle plus the client's delayed ACK (~40 ms)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    public record Message(String action, String body, String eventType) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final List<Message> messages = new CopyOnWriteArrayList<>();
+    private final List<Integer> entriesPerRequest = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile boolean failRequests;
+    private volatile boolean rejectEntries;
+
+    public AwsStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newFixedThreadPool(16);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    public List<Message> messages() {
+        return messages;
+    }
+
+    public List<Integer> entriesPerRequest() {
+        return entriesPerRequest;
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    public void failRequests(boolean fail) {
+        this.failRequests = fail;
+    }
+
+    public void rejectEntries(boolean reject) {
+        this.rejectEntries = reject;
+    }
+
+    public void reset() {
+        messages.clear();
+        entriesPerRequest.clear();
+        requests.set(0);
+        failRequests = false;
+        rejectEntries = false;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            Map<String, String> form = parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            String action = form.getOrDefault("Action", "");
+            if (failRequests) {
+                respond(exchange, 500, "<ErrorResponse><Error><Type>Receiver</Type><Code>InternalFailure</Code>"
+                    + "<Message>stand-in failure</Message></Error><RequestId>" + UUID.randomUUID() + "</RequestId></ErrorResponse>");
+                return;
+            }
+            List<Map<String, String>> entries = entries(form);
+            entriesPerRequest.add(entries.size());
+            switch (action) {
+                case "PublishBatch" -> respond(exchange, 200, publishBatch(entries));
+                case "SendMessageBatch" -> respond(exchange, 200, sendMessageBatch(entries));
+                default -> respond(exchange, 400, "<ErrorResponse><Error><Type>Sender</Type><Code>InvalidAction</Code>"
+                    + "<Message>" + action + "</Message></Error></ErrorResponse>");
+            }
+        }
+    }
+
+    private String publishBatch(List<Map<String, String>> entries) {
+        StringBuilder successful = new StringBuilder();
+        StringBuilder failed = new StringBuilder();
+        for (Map<String, String> entry : entries) {
+            String id = entry.get("Id");
+            if (rejectEntries) {
+                failed.append("<member><Id>").append(id).append("</Id><Code>InternalError</Code>")
+                    .append("<Message>refused by stand-in</Message><SenderFault>false</SenderFault></member>");
+                continue;
+            }
+            messages.add(new Message("PublishBatch", entry.get("Message"), attribute(entry, "eventType")));
+            successful.append("<member><Id>").append(id).append("</Id><MessageId>")
+                .append(UUID.randomUUID()).append("</MessageId></member>");
+        }
+        return "<PublishBatchResponse xmlns=\"http://sns.amazonaws.com/doc/2010-03-31/\"><PublishBatchResult>"
+            + "<Successful>" + successful + "</Successful><Failed>" + failed + "</Failed>"
+            + "</PublishBatchResult><ResponseMetadata><RequestId>" + UUID.randomUUID()
+            + "</RequestId></ResponseMetadata></PublishBatchResponse>";
+    }
+
+    private String sendMessageBatch(List<Map<String, String>> entries) {
+        StringBuilder result = new StringBuilder();
+        for (Map<String, String> entry : entries) {
+            String id = entry.get("Id");
+            if (rejectEntries) {
+                result.append("<BatchResultErrorEntry><Id>").append(id).append("</Id><SenderFault>false</SenderFault>")
+                    .append("<Code>InternalError</Code><Message>refused by stand-in</Message></BatchResultErrorEntry>");
+                continue;
+            }
+            String body = entry.get("MessageBody");
+            messages.add(new Message("SendMessageBatch", body, null));
+            // The SDK checks the MD5 of each accepted message body
+            result.append("<SendMessageBatchResultEntry><Id>").append(id).append("</Id><MessageId>")
+                .append(UUID.randomUUID()).append("</MessageId><MD5OfMessageBody>").append(md5(body))
+                .append("</MD5OfMessageBody></SendMessageBatchResultEntry>");
+        }
+        return "<SendMessageBatchResponse xmlns=\"http://queue.amazonaws.com/doc/2012-11-05/\"><SendMessageBatchResult>"
+            + result + "</SendMessageBatchResult><ResponseMetadata><RequestId>" + UUID.randomUUID()
+            + "</RequestId></ResponseMetadata></SendMessageBatchResponse>";
+    }
+
+    private static List<Map<String, String>> entries(Map<String, String> form) {
+        Map<Integer, Map<String, String>> byIndex = new TreeMap<>();
+        form.forEach((key, value) -> {
+            Matcher matcher = ENTRY.matcher(key);
+            if (matcher.matches()) {
+                byIndex.computeIfAbsent(Integer.parseInt(matcher.group(1)), index -> new TreeMap<>())
+                    .put(matcher.group(2), value);
+            }
+        });
+        return new ArrayList<>(byIndex.values());
+    }
+
+    // SNS: MessageAttributes.entry.N.Name / MessageAttributes.entry.N.Value.StringValue
+    private static String attribute(Map<String, String> entry, String name) {
+        for (Map.Entry<String, String> field : entry.entrySet()) {
+            if (field.getKey().endsWith(".Name") && field.getValue().equals(name)) {
+                String prefix = field.getKey().substring(0, field.getKey().length() - ".Name".length());
+                return entry.get(prefix + ".Value.StringValue");
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new TreeMap<>();
+        for (String pair : body.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String xml) throws IOException {
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String md5(String body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.inventory.adapters.output.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.output.messaging.RingBufferEventPublisher.Backpressure;
+import com.inventory.config.JacksonConfig;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferEventPublisherTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final List<List<DomainEvent>> batches = new CopyOnWriteArrayList<>();
+    private final List<String> payloads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private RingBufferEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
+
+    @Test
+    void shouldSerializeEachBatchAndHandItToTheSink() throws Exception {
+        // Given
+        publisher = new RingBufferEventPublisher(this::record, objectMapper, 64, 4, Backpressure.BLOCK);
+        List<DomainEvent> events = events(10);
+
+        // When - queued before the consumer starts, so it finds full batches
+        publisher.publishBatch(events);
+        publisher.start();
+        publisher.close(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(batches).extracting(List::size).containsExactly(4, 4, 2);
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(events);
+        for (int i = 0; i < events.size(); i++) {
+            assertThat(payloads.get(i)).isEqualTo(objectMapper.writeValueAsString(events.get(i)));
+        }
+        assertThat(publisher.publishedCount()).isEqualTo(10);
+        assertThat(publisher.batchCount()).isEqualTo(3);
+        assertThat(publisher.depth()).isZero();
+    }
+
+    @Test
+    void shouldDropTheOldestEventsWhenFull() throws InterruptedException {
+        // Given - consumer not started, nothing leaves the buffer
+        publisher = new RingBufferEventPublisher(this::record, objectMapper, 4, 4, Backpressure.DROP_OLDEST);
+        List<DomainEvent> events = events(6);
+
+        // When
+        publisher.publishBatch(events);
+        publisher.start();
+        publisher.close(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(publisher.droppedCount()).isEqualTo(2);
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(events.subList(2, 6));
+    }
+
+    @Test
+    void shouldRefuseAPublishThatDoesNotFitWhenFailingFast() {
+        // Given
+        publisher = new RingBufferEventPublisher(this::record, objectMapper, 4, 4, Backpressure.FAIL_FAST);
+        publisher.publishBatch(events(3));
+
+        // When / Then - all or nothing
+        assertThatThrownBy(() -> publisher.publishBatch(events(2)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("full");
+        assertThat(publisher.rejectedCount()).isEqualTo(2);
+        assertThat(publisher.depth()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldBlockAProducerUntilTheConsumerMakesRoom() throws Exception {
+        // Given - the sink holds the first batch until released
+        publisher = new RingBufferEventPublisher(this::recordWhenReleased, objectMapper, 2, 2, Backpressure.BLOCK);
+        publisher.start();
+        publisher.publishBatch(events(2));
+
+        // When
+        Thread producer = Thread.ofPlatform().start(() -> publisher.publishBatch(events(4)));
+        producer.join(200);
+
+        // Then
+        assertThat(producer.isAlive()).isTrue();
+        release.countDown();
+        producer.join(5_000);
+        assertThat(producer.isAlive()).isFalse();
+        publisher.close(5, TimeUnit.SECONDS);
+        assertThat(publisher.publishedCount()).isEqualTo(6);
+        assertThat(publisher.droppedCount()).isZero();
+    }
+
+    private void record(List<DomainEvent> events, EncodedEvents encoded) {
+        batches.add(List.copyOf(events));
+        for (int i = 0; i < encoded.size(); i++) {
+            payloads.add(encoded.payload(i));
+        }
+    }
+
+    private void recordWhenReleased(List<DomainEvent> events, EncodedEvents encoded) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        record(events, encoded);
+    }
+
+    private static List<DomainEvent> events(int count) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(StockAddedEvent.create(StoreId.of("STORE-01"), Sku.of("SKU123"), i + 1, "RESTOCK"));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,101 @@
+package com.inventory.adapters.output.persistence.codec;
+
+import com.inventory.config.JacksonConfig;
+import com.inventory.domain.event.*;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BinaryEventCodecTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-01");
+    private static final Sku SKU = Sku.of("SKU123456");
+
+    private final InMemoryDictionary dictionary = new InMemoryDictionary();
+    private final BinaryEventCodec codec = new BinaryEventCodec(dictionary);
+    private final JsonEventCodec json = new JsonEventCodec(new JacksonConfig().objectMapper());
+
+    @Test
+    void shouldRoundTripEveryEventType() {
+        String reservationId = ReservationId.generate().value();
+        List<DomainEvent> events = List.of(
+            StockReservedEvent.create(reservationId, STORE, SKU, 3, "CUST-001"),
+            StockCommittedEvent.create(reservationId, STORE, SKU, 3, "CUST-001"),
+            StockReleasedEvent.create(reservationId, STORE, SKU, 3, "EXPIRED"),
+            StockReleasedEvent.create(reservationId, STORE, SKU, 3, null),
+            StockAddedEvent.create(STORE, SKU, 500_000, "Devolução")
+        );
+
+        for (DomainEvent event : events) {
+            assertThat(codec.decode(envelope(event), codec.encode(event))).isEqualTo(event);
+        }
+    }
+
+    @Test
+    void shouldKeepReservationIdsThatWereNotGenerated() {
+        StockReservedEvent event = StockReservedEvent.create("legacy-42", STORE, SKU, 1, "CUST-001");
+
+        assertThat(codec.decode(envelope(event), codec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void shouldBeAnOrderOfMagnitudeSmallerThanJson() {
+        StockReservedEvent event = StockReservedEvent.create(ReservationId.generate().value(), STORE, SKU, 3, "CUST-001");
+
+        byte[] binary = codec.encode(event);
+
+        // version, type, generated id (1 + 8), store, SKU, quantity, customer (1 + 8)
+        assertThat(binary).hasSize(23);
+        assertThat(json.encode(event).length).isGreaterThan(binary.length * 10);
+    }
+
+    @Test
+    void shouldCodeStoresAndSkusThroughTheDictionary() {
+        codec.encode(StockAddedEvent.create(STORE, SKU, 1, null));
+        codec.encode(StockAddedEvent.create(StoreId.of("STORE-02"), SKU, 1, null));
+
+        assertThat(dictionary.terms).containsExactly("STORE-01", "SKU123456", "STORE-02");
+    }
+
+    @Test
+    void shouldRejectUnknownVersions() {
+        StockAddedEvent event = StockAddedEvent.create(STORE, SKU, 1, null);
+        byte[] payload = codec.encode(event);
+        payload[0] = 9;
+
+        assertThatThrownBy(() -> codec.decode(envelope(event), payload))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version: 9");
+    }
+
+    private static EventEnvelope envelope(DomainEvent event) {
+        return new EventEnvelope(event.eventId(), event.eventType(), event.aggregateId(), event.timestamp());
+    }
+
+    private static final class InMemoryDictionary implements EventDictionary {
+
+        private final List<String> terms = new ArrayList<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        @Override
+        public int idOf(String term) {
+            return ids.computeIfAbsent(term, value -> {
+                terms.add(value);
+                return terms.size();
+            });
+        }
+
+        @Override
+        public String termOf(int id) {
+            return terms.get(id - 1);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.inventory.application.concurrency;
+
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingReserveStockUseCaseTest {
+
+    private final StoreId storeId = StoreId.of("STORE-01");
+    private final Sku sku = Sku.of("SKU123");
+
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private final ReserveStockUseCase single = command -> {
+        singleCalls.incrementAndGet();
+        return Result.success(ReservationId.generate());
+    };
+
+    @Test
+    void shouldCombineConcurrentCommandsIntoOneBatch() throws Exception {
+        // Given - a long window, so only the size limit closes the batch
+        CoalescingReserveStockUseCase coalescer = coalescer(
+            commands -> {
+                batchSizes.add(commands.size());
+                return commands.stream()
+                    .map(c -> Result.<ReservationId, DomainError>success(ReservationId.generate()))
+                    .toList();
+            },
+            Duration.ofSeconds(10), 8
+        );
+
+        // When
+        List<Result<ReservationId, DomainError>> results = runConcurrently(coalescer, 8);
+
+        // Then
+        assertThat(batchSizes).containsExactly(8);
+        assertThat(singleCalls).hasValue(0);
+        assertThat(results).allMatch(Result::isSuccess);
+        assertThat(results.stream().map(r -> r.getValue().value()).distinct()).hasSize(8);
+    }
+
+    @Test
+    void shouldHandBackPerCommandFailures() throws Exception {
+        // Given - the batch rejects every second command
+        CoalescingReserveStockUseCase coalescer = coalescer(
+            commands -> {
+                List<Result<ReservationId, DomainError>> results = new ArrayList<>();
+                for (int i = 0; i < commands.size(); i++) {
+                    results.add(i % 2 == 0
+                        ? Result.success(ReservationId.generate())
+                        : Result.failure(DomainError.of("VALIDATION_ERROR", "Insufficient stock")));
+                }
+                return results;
+            },
+            Duration.ofSeconds(10), 4
+        );
+
+        // When
+        List<Result<ReservationId, DomainError>> results = runConcurrently(coalescer, 4);
+
+        // Then
+        assertThat(results).filteredOn(Result::isSuccess).hasSize(2);
+        assertThat(results).filteredOn(Result::isFailure)
+            .allMatch(r -> r.getError().code().equals("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void shouldFallBackToSinglePathWhenBatchFails() throws Exception {
+        // Given
+        CoalescingReserveStockUseCase coalescer = coalescer(
+            commands -> {
+                throw new IllegalStateException("connection lost");
+            },
+            Duration.ofSeconds(10), 4
+        );
+
+        // When
+        List<Result<ReservationId, DomainError>> results = runConcurrently(coalescer, 4);
+
+        // Then
+        assertThat(results).allMatch(Result::isSuccess);
+        assertThat(singleCalls).hasValue(4);
+    }
+
+    @Test
+    void shouldRunLoneCommandThroughSinglePathAfterWindow() {
+        // Given
+        CoalescingReserveStockUseCase coalescer = coalescer(
+            commands -> {
+                throw new AssertionError("a lone command must not be batched");
+            },
+            Duration.ofMillis(1), 8
+        );
+
+        // When
+        var result = coalescer.reserve(new ReserveStockCommand(storeId, sku, 1, "CUST-1"));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(singleCalls).hasValue(1);
+    }
+
+    @Test
+    void shouldBypassExcludedCommands() {
+        // Given
+        CoalescingReserveStockUseCase coalescer = new CoalescingReserveStockUseCase(
+            single,
+            commands -> {
+                throw new AssertionError("bypassed commands must not be batched");
+            },
+            Duration.ofSeconds(10), 8,
+            command -> true
+        );
+
+        // When
+        var result = coalescer.reserve(new ReserveStockCommand(storeId, sku, 1, "CUST-1"));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(singleCalls).hasValue(1);
+    }
+
+    private CoalescingReserveStockUseCase coalescer(
+            ReserveStockBatchUseCase batch, Duration window, int maxBatchSize) {
+        return new CoalescingReserveStockUseCase(single, batch, window, maxBatchSize, command -> false);
+    }
+
+    private List<Result<ReservationId, DomainError>> runConcurrently(
+            CoalescingReserveStockUseCase coalescer, int clients) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Result<ReservationId, DomainError>>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            String customer = "CUST-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return coalescer.reserve(new ReserveStockCommand(storeId, sku, 1, customer));
+            }));
+        }
+        start.countDown();
+
+        List<Result<ReservationId, DomainError>> results = new ArrayList<>();
+        for (Future<Result<ReservationId, DomainError>> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return results;
+    }
+}
@@ -0,0 +1,221 @@
+package com.inventory.application.concurrency;
+
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.domain.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PartitionedCommandExecutorTest {
+
+    private final StoreId storeId = StoreId.of("STORE-01");
+    private final Sku sku = Sku.of("SKU123");
+
+    private final List<String> applied = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch blocking = new CountDownLatch(1);
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private PartitionedCommandExecutor executor;
+
+    // "BLOCKER" holds the partition thread until the test lets it go
+    private final ReserveStockUseCase single = command -> {
+        if (command.customerId().equals("BLOCKER")) {
+            blocking.countDown();
+            await(unblock);
+        }
+        applied.add(command.customerId());
+        return Result.success(ReservationId.generate());
+    };
+
+    private final ReserveStockBatchUseCase batch = commands -> {
+        batchSizes.add(commands.size());
+        return commands.stream()
+            .peek(command -> applied.add(command.customerId()))
+            .map(command -> Result.<ReservationId, DomainError>success(ReservationId.generate()))
+            .toList();
+    };
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        callers.shutdownNow();
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    void shouldNeverRunTwoCommandsForTheSameKeyAtOnce() throws Exception {
+        // Given - the single path tracks how many commands per key are in flight
+        Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        Map<String, Integer> maxInFlight = new ConcurrentHashMap<>();
+        Map<String, String> threads = new ConcurrentHashMap<>();
+        ReserveStockUseCase tracking = command -> {
+            String key = command.sku().value();
+            int now = inFlight.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.merge(key, now, Math::max);
+            threads.merge(key, Thread.currentThread().getName(),
+                (a, b) -> a.equals(b) ? a : "MOVED");
+            Thread.onSpinWait();
+            inFlight.get(key).decrementAndGet();
+            return Result.success(ReservationId.generate());
+        };
+        executor = executor(4, 1024, 1);
+        ReserveStockUseCase partitioned = executor.reserving(tracking);
+
+        // When - 400 commands spread over 4 SKUs
+        List<Future<Result<ReservationId, DomainError>>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Sku target = Sku.of("SKU" + (100 + i % 4));
+            for (int j = 0; j < 25; j++) {
+                futures.add(callers.submit(() ->
+                    partitioned.reserve(new ReserveStockCommand(storeId, target, 1, "CUST"))));
+            }
+        }
+
+        // Then
+        for (Future<Result<ReservationId, DomainError>> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+        }
+        assertThat(maxInFlight.values()).allMatch(max -> max == 1);
+        assertThat(threads.values()).allMatch(name -> name.startsWith("inventory-partition-"));
+    }
+
+    @Test
+    void shouldBatchReservationsQueuedForTheSameKey() throws Exception {
+        // Given - the partition is busy with a first command
+        executor = executor(1, 1024, 64);
+        ReserveStockUseCase partitioned = executor.reserving(single);
+        Future<Result<ReservationId, DomainError>> blocker = reserveAsync(partitioned, "BLOCKER");
+        assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - five more arrive meanwhile
+        List<Future<Result<ReservationId, DomainError>>> queued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            queued.add(reserveAsync(partitioned, "CUST-" + i));
+        }
+        awaitQueueDepth(5);
+        unblock.countDown();
+
+        // Then - one batch of five after the blocker
+        assertThat(blocker.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        for (Future<Result<ReservationId, DomainError>> future : queued) {
+            assertThat(future.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        }
+        assertThat(batchSizes).containsExactly(5);
+    }
+
+    @Test
+    void shouldApplyReservationsQueuedBeforeACommitFirst() throws Exception {
+        // Given
+        Reservation reservation = Reservation.builder().id("RES-1").storeId(storeId).sku(sku).build();
+        when(reservationRepository.findById("RES-1")).thenReturn(Optional.of(reservation));
+        executor = executor(1, 1024, 64);
+        ReserveStockUseCase partitioned = executor.reserving(single);
+        CommitStockUseCase commit = executor.committing(command -> {
+            applied.add("COMMIT");
+            return Result.success(command.orderId());
+        });
+
+        Future<Result<ReservationId, DomainError>> blocker = reserveAsync(partitioned, "BLOCKER");
+        assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - reserve A, commit, reserve B queue up behind the blocker
+        Future<Result<ReservationId, DomainError>> first = reserveAsync(partitioned, "A");
+        awaitQueueDepth(1);
+        Future<Result<String, DomainError>> committed =
+            callers.submit(() -> commit.commit(new CommitStockCommand("RES-1", "ORDER-1")));
+        awaitQueueDepth(2);
+        Future<Result<ReservationId, DomainError>> second = reserveAsync(partitioned, "B");
+        awaitQueueDepth(3);
+        unblock.countDown();
+
+        // Then - arrival order is kept for the key
+        blocker.get(5, TimeUnit.SECONDS);
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(committed.get(5, TimeUnit.SECONDS).getValue()).isEqualTo("ORDER-1");
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(applied).containsExactly("BLOCKER", "A", "COMMIT", "B");
+    }
+
+    @Test
+    void shouldAnswerBusyWhenThePartitionQueueIsFull() throws Exception {
+        // Given - capacity 2, partition blocked, queue filled
+        executor = executor(1, 2, 64);
+        ReserveStockUseCase partitioned = executor.reserving(single);
+        reserveAsync(partitioned, "BLOCKER");
+        assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+        reserveAsync(partitioned, "CUST-1");
+        reserveAsync(partitioned, "CUST-2");
+        awaitQueueDepth(2);
+
+        // When
+        Result<ReservationId, DomainError> result =
+            partitioned.reserve(new ReserveStockCommand(storeId, sku, 1, "CUST-3"));
+
+        // Then - rejected at once, without waiting for the partition
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getError().code()).isEqualTo(PartitionedCommandExecutor.BUSY);
+        assertThat(executor.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunBypassedKeysOnTheCallerThread() {
+        // Given
+        executor = new PartitionedCommandExecutor(batch, reservationRepository, key -> true, 1, 16, 64, threads());
+        String caller = Thread.currentThread().getName();
+        List<String> ranOn = new ArrayList<>();
+
+        // When
+        executor.reserving(command -> {
+            ranOn.add(Thread.currentThread().getName());
+            return Result.success(ReservationId.generate());
+        }).reserve(new ReserveStockCommand(storeId, sku, 1, "CUST"));
+
+        // Then
+        assertThat(ranOn).containsExactly(caller);
+    }
+
+    private PartitionedCommandExecutor executor(int partitions, int queueCapacity, int maxBatchSize) {
+        return new PartitionedCommandExecutor(
+            batch, reservationRepository, key -> false, partitions, queueCapacity, maxBatchSize, threads());
+    }
+
+    private ThreadFactory threads() {
+        return Thread.ofPlatform().name("inventory-partition-", 0).daemon().factory();
+    }
+
+    private Future<Result<ReservationId, DomainError>> reserveAsync(ReserveStockUseCase useCase, String customer) {
+        return callers.submit(() -> useCase.reserve(new ReserveStockCommand(storeId, sku, 1, customer)));
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        do {
+            Thread.sleep(20);
+        } while (executor.queueDepth(0) != depth && System.nanoTime() < deadline);
+        assertThat(executor.queueDepth(0)).isEqualTo(depth);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.inventory.application.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1_000;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void shouldFireEachKeyInTheFirstTickAtOrAfterItsDeadline() {
+        // Given - deadlines on every level, from 1 tick to ~3 days ahead
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        long[] offsets = {1, 63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 300_000};
+        for (long offset : offsets) {
+            wheel.schedule("k" + offset, START + offset * TICK);
+        }
+
+        // When / Then
+        long tick = 0;
+        for (long offset : offsets) {
+            assertThat(wheel.advance(START + (offset - 1) * TICK)).isEmpty();
+            assertThat(wheel.advance(START + offset * TICK)).containsExactly("k" + offset);
+            tick = offset;
+        }
+        assertThat(wheel.advance(START + (tick + 100_000) * TICK)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldFireEverythingDueWhenAdvancedAcrossManyTicksAtOnce() {
+        // Given
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK, START);
+        Random random = new Random(42);
+        List<Integer> dueWithinADay = new ArrayList<>();
+        for (int key = 0; key < 10_000; key++) {
+            long offset = 1 + random.nextInt(2 * 86_400);
+            wheel.schedule(key, START + offset * TICK);
+            if (offset <= 86_400) {
+                dueWithinADay.add(key);
+            }
+        }
+
+        // When - the ticker was stalled for a day
+        List<Integer> fired = wheel.advance(START + 86_400 * TICK);
+
+        // Then
+        assertThat(fired).containsExactlyInAnyOrderElementsOf(dueWithinADay);
+        assertThat(wheel.size()).isEqualTo(10_000 - dueWithinADay.size());
+    }
+
+    @Test
+    void shouldNotFireCancelledOrRescheduledKeys() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        wheel.schedule("cancelled", START + 10 * TICK);
+        wheel.schedule("moved", START + 10 * TICK);
+        wheel.schedule("kept", START + 10 * TICK);
+
+        // When
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.cancel("unknown")).isFalse();
+        wheel.schedule("moved", START + 5_000 * TICK);
+
+        // Then
+        assertThat(wheel.advance(START + 10 * TICK)).containsExactly("kept");
+        assertThat(wheel.advance(START + 5_000 * TICK)).containsExactly("moved");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldFirePastDeadlinesOnTheNextAdvance() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        wheel.advance(START + 100 * TICK);
+
+        // When - a reservation restored on startup that already expired
+        wheel.schedule("late", START);
+        wheel.schedule("partial-tick", START + 100 * TICK + 1);
+
+        // Then - deadlines are rounded up to a tick, never fired early
+        assertThat(wheel.advance(START + 100 * TICK)).containsExactly("late");
+        assertThat(wheel.advance(START + 101 * TICK - 1)).isEmpty();
+        assertThat(wheel.advance(START + 101 * TICK)).containsExactly("partial-tick");
+    }
+
+    @Test
+    void shouldKeepDeadlinesBeyondTheWheelSpan() {
+        // Given - 64^4 ticks is ~194 days at one second
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        long span = 1L << 24;
+        wheel.schedule("far", START + (span + 1_000) * TICK);
+
+        // When / Then
+        assertThat(wheel.advance(START + span * TICK)).isEmpty();
+        assertThat(wheel.advance(START + (span + 999) * TICK)).isEmpty();
+        assertThat(wheel.advance(START + (span + 1_000) * TICK)).containsExactly("far");
+    }
+}
@@ -0,0 +1,144 @@
+package com.inventory.application.outbox;
+
+import com.inventory.application.port.output.EventOutbox;
+import com.inventory.application.port.output.EventPublisher;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.OutboxEntry;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxRelayTest {
+
+    private static final Duration LINGER = Duration.ofSeconds(5);
+    private static final Duration POLL = Duration.ofSeconds(1);
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final List<List<DomainEvent>> batches = new ArrayList<>();
+    private final OutboxRelay relay = new OutboxRelay(outbox, new RecordingPublisher(), 3, LINGER, POLL, POLL);
+
+    @Test
+    void shouldHoldAnIncompleteBatchUntilItsOldestEventLingered() {
+        // Given
+        outbox.add(List.of(added(LocalDateTime.now())));
+
+        // When
+        Duration wait = relay.relayOnce();
+
+        // Then
+        assertThat(batches).isEmpty();
+        assertThat(wait).isPositive().isLessThanOrEqualTo(LINGER);
+        assertThat(outbox.countPending()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishAFullBatchAtOnceAndAskForTheNextRightAway() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            outbox.add(List.of(added(LocalDateTime.now())));
+        }
+
+        // When
+        Duration wait = relay.relayOnce();
+
+        // Then
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).hasSize(3);
+        assertThat(wait).isZero();
+        assertThat(relay.deliveredOffset()).isEqualTo(3);
+        assertThat(outbox.countPending()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishWhatLingeredLongEnoughAndRecordTheLag() {
+        // Given
+        outbox.add(List.of(added(LocalDateTime.now().minusSeconds(6)), added(LocalDateTime.now())));
+
+        // When
+        Duration wait = relay.relayOnce();
+
+        // Then
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).hasSize(2);
+        assertThat(wait).isEqualTo(POLL);
+        assertThat(relay.lagSeconds()).isGreaterThanOrEqualTo(6);
+        assertThat(relay.publishedCount()).isEqualTo(2);
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    @Test
+    void shouldKeepEntriesWhenPublishingFails() {
+        // Given
+        OutboxRelay failing = new OutboxRelay(outbox, new EventPublisher() {
+            @Override
+            public void publish(DomainEvent event) {
+                throw new IllegalStateException("broker down");
+            }
+
+            @Override
+            public void publishBatch(List<DomainEvent> events) {
+                throw new IllegalStateException("broker down");
+            }
+        }, 1, LINGER, POLL, POLL);
+        outbox.add(List.of(added(LocalDateTime.now())));
+
+        // When / Then - the relay loop counts the failure and retries later
+        assertThatThrownBy(failing::relayOnce).isInstanceOf(IllegalStateException.class);
+        assertThat(outbox.countPending()).isEqualTo(1);
+        assertThat(failing.deliveredOffset()).isZero();
+    }
+
+    private static DomainEvent added(LocalDateTime timestamp) {
+        StockAddedEvent event = StockAddedEvent.create(StoreId.of("STORE-01"), Sku.of("SKU123"), 5, "RESTOCK");
+        return new StockAddedEvent(event.eventId(), event.eventType(), timestamp, event.aggregateId(),
+            event.storeId(), event.sku(), event.quantity(), event.reason());
+    }
+
+    private class RecordingPublisher implements EventPublisher {
+
+        @Override
+        public void publish(DomainEvent event) {
+            publishBatch(List.of(event));
+        }
+
+        @Override
+        public void publishBatch(List<DomainEvent> events) {
+            batches.add(List.copyOf(events));
+        }
+    }
+
+    private static class InMemoryOutbox implements EventOutbox {
+
+        private final List<OutboxEntry> entries = new ArrayList<>();
+        private long offset;
+
+        @Override
+        public void add(List<DomainEvent> events) {
+            events.forEach(event -> entries.add(new OutboxEntry(++offset, event)));
+        }
+
+        @Override
+        public List<OutboxEntry> findPending(int limit) {
+            return List.copyOf(entries.subList(0, Math.min(limit, entries.size())));
+        }
+
+        @Override
+        public long countPending() {
+            return entries.size();
+        }
+
+        @Override
+        public void remove(List<Long> offsets) {
+            entries.removeIf(entry -> offsets.contains(entry.offset()));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.inventory.application.projection;
+
+import com.inventory.application.port.input.DomainError;
+import com.inventory.application.port.input.ProjectionRebuildReport;
+import com.inventory.application.port.input.Result;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.application.port.output.ProjectionCheckpointStore;
+import com.inventory.application.port.output.ProjectionHandler;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectionRebuilderTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-01");
+
+    private final List<DomainEvent> log = new ArrayList<>();
+    private final EventStore eventStore = mock(EventStore.class);
+    private final Map<String, ProjectionCheckpoint> checkpoints = new ConcurrentHashMap<>();
+    private final RecordingHandler handler = new RecordingHandler();
+
+    private final ProjectionCheckpointStore checkpointStore = new ProjectionCheckpointStore() {
+        @Override
+        public Optional<ProjectionCheckpoint> find(String projection) {
+            return Optional.ofNullable(checkpoints.get(projection));
+        }
+
+        @Override
+        public void save(ProjectionCheckpoint checkpoint) {
+            checkpoints.put(checkpoint.projection(), checkpoint);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        // 20 aggregates, 10 events each, interleaved as they would be appended
+        for (int i = 0; i < 200; i++) {
+            StockAddedEvent event = StockAddedEvent.create(STORE, Sku.of("SKU" + String.format("%03d", i % 20)), i + 1, "Restock");
+            log.add(event);
+        }
+        // Cursor: index of the next event in the log
+        when(eventStore.findPageAfter(any(), anyInt())).thenAnswer(invocation -> {
+            EventCursor after = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            int from = after.isStart() ? 0 : Integer.parseInt(after.value());
+            int to = Math.min(from + limit, log.size());
+            return new EventPage(log.subList(from, to), new EventCursor(String.valueOf(to)));
+        });
+    }
+
+    @Test
+    void shouldReplayEveryEventKeepingEachAggregatesOrder() {
+        // Given
+        ProjectionRebuilder rebuilder = rebuilder(7, 4);
+
+        // When
+        Result<ProjectionRebuildReport, DomainError> result = rebuilder.rebuild("recording", false);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getValue().events()).isEqualTo(200);
+        assertThat(result.getValue().resumed()).isFalse();
+        assertThat(handler.seen).hasSize(200);
+        for (int aggregate = 0; aggregate < 20; aggregate++) {
+            String aggregateId = "SKU" + String.format("%03d", aggregate);
+            assertThat(handler.seen.stream().filter(event -> event.aggregateId().equals(aggregateId)).toList())
+                .containsExactlyElementsOf(log.stream().filter(event -> event.aggregateId().equals(aggregateId)).toList());
+        }
+        assertThat(handler.concurrentSameAggregate).isEmpty();
+        assertThat(checkpoints.get("recording").position().value()).isEqualTo("200");
+        assertThat(checkpoints.get("recording").events()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldResumeAfterTheLastWholeChunk() {
+        // Given - the handler breaks on the 75th event: chunks of 10, so 70 are checkpointed
+        ProjectionRebuilder rebuilder = rebuilder(10, 4);
+        handler.failAt = log.get(74).eventId();
+        assertThat(rebuilder.rebuild("recording", false).isFailure()).isTrue();
+        assertThat(checkpoints.get("recording").events()).isEqualTo(70);
+
+        // When
+        handler.failAt = null;
+        handler.resets = 0;
+        Result<ProjectionRebuildReport, DomainError> resumed = rebuilder.rebuild("recording", true);
+
+        // Then - no reset, only the events after the checkpoint
+        assertThat(resumed.isSuccess()).isTrue();
+        assertThat(resumed.getValue().resumed()).isTrue();
+        assertThat(resumed.getValue().events()).isEqualTo(130);
+        assertThat(handler.resets).isZero();
+        assertThat(checkpoints.get("recording").events()).isEqualTo(200);
+        assertThat(handler.seen).containsAll(log);
+    }
+
+    @Test
+    void shouldRejectAnUnknownProjection() {
+        Result<ProjectionRebuildReport, DomainError> result = rebuilder(10, 2).rebuild("missing", false);
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getError().code()).isEqualTo("PROJECTION_NOT_FOUND");
+    }
+
+    private ProjectionRebuilder rebuilder(int chunkSize, int partitions) {
+        return new ProjectionRebuilder(eventStore, checkpointStore, List.of(handler), chunkSize, partitions,
+            Thread.ofVirtual().factory());
+    }
+
+    private static final class RecordingHandler implements ProjectionHandler {
+
+        private final List<DomainEvent> seen = new CopyOnWriteArrayList<>();
+        private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+        private final List<String> concurrentSameAggregate = new CopyOnWriteArrayList<>();
+        private volatile String failAt;
+        private volatile int resets;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void reset() {
+            resets++;
+            seen.clear();
+        }
+
+        @Override
+        public void handle(DomainEvent event) {
+            if (event.eventId().equals(failAt)) {
+                throw new IllegalStateException("Read model unavailable");
+            }
+            if (!inFlight.add(event.aggregateId())) {
+                concurrentSameAggregate.add(event.aggregateId());
+            }
+            Thread.yield();
+            seen.add(event);
+            inFlight.remove(event.aggregateId());
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.inventory.application.service;
 
 import com.inventory.application.port.input.*;
 import com.inventory.application.port.output.*;
+import com.inventory.config.ConcurrencyProperties;
 import com.inventory.domain.event.StockReservedEvent;
 import com.inventory.domain.model.*;
+import com.inventory.domain.policy.BucketSelectionPolicy;
 import com.inventory.domain.policy.ReservationPolicy;
 import com.inventory.domain.policy.ValidationResult;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +42,18 @@ class ReserveStockServiceTest {
     @Mock
     private ReservationPolicy reservationPolicy;
     
+    @Mock
+    private StockLedger stockLedger;
+    
+    @Mock
+    private ConcurrencyProperties concurrency;
+    
+    @Mock
+    private StockBucketRepository stockBuckets;
+    
+    @Mock
+    private BucketSelectionPolicy bucketSelection;
+    
     @InjectMocks
     private ReserveStockService service;
     
@@ -69,7 +83,7 @@ class ReserveStockServiceTest {
             .thenReturn(Duration.ofMinutes(15));
         when(inventoryRepository.save(any(Inventory.class)))
             .thenReturn(inventory);
-        when(reservationRepository.save(any(Reservation.class)))
+        when(reservationRepository.saveAll(anyList()))
             .thenAnswer(inv -> inv.getArgument(0));
         
         // When
@@ -83,7 +97,7 @@ class ReserveStockServiceTest {
         // Verify interactions
         verify(inventoryRepository).findByStoreIdAndSkuWithLock(storeId, sku);
         verify(inventoryRepository).save(any(Inventory.class));
-        verify(reservationRepository).save(any(Reservation.class));
+        verify(reservationRepository).saveAll(argThat(saved -> saved.size() == 1));
         verify(eventStore).store(any(StockReservedEvent.class));
         verify(eventPublisher).publish(any(StockReservedEvent.class));
         
@@ -155,7 +169,7 @@ class ReserveStockServiceTest {
         when(reservationPolicy.getTtl())
             .thenReturn(Duration.ofMinutes(15));
         when(inventoryRepository.save(any())).thenReturn(inventory);
-        when(reservationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(reservationRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
         
         ArgumentCaptor<StockReservedEvent> eventCaptor = 
             ArgumentCaptor.forClass(StockReservedEvent.class);
@@ -174,6 +188,52 @@ class ReserveStockServiceTest {
         assertThat(event.customerId()).isEqualTo("CUST-001");
     }
     
+    @Test
+    void shouldReserveWithSingleGuardedUpdateInAtomicMode() {
+        // Given
+        ReserveStockCommand command = new ReserveStockCommand(
+            storeId, sku, 10, "CUST-001"
+        );
+        
+        when(concurrency.mode()).thenReturn(ConcurrencyProperties.Mode.ATOMIC);
+        when(reservationPolicy.getMaxQuantityPerReservation()).thenReturn(100);
+        when(reservationPolicy.getTtl()).thenReturn(Duration.ofMinutes(15));
+        when(inventoryRepository.reserveIfAvailable(storeId, sku, 10)).thenReturn(true);
+        when(reservationRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        
+        // When
+        Result<ReservationId, DomainError> result = service.reserve(command);
+        
+        // Then - no load-modify-save round trip
+        assertThat(result.isSuccess()).isTrue();
+        verify(inventoryRepository, never()).findByStoreIdAndSkuWithLock(any(), any());
+        verify(inventoryRepository, never()).save(any());
+        verify(eventPublisher).publish(any(StockReservedEvent.class));
+    }
+    
+    @Test
+    void shouldReportInsufficientStockWhenGuardedUpdateMatchesNoRow() {
+        // Given
+        ReserveStockCommand command = new ReserveStockCommand(
+            storeId, sku, 10, "CUST-001"
+        );
+        
+        when(concurrency.mode()).thenReturn(ConcurrencyProperties.Mode.ATOMIC);
+        when(reservationPolicy.getMaxQuantityPerReservation()).thenReturn(100);
+        when(inventoryRepository.reserveIfAvailable(storeId, sku, 10)).thenReturn(false);
+        when(inventoryRepository.findByStoreIdAndSku(storeId, sku))
+            .thenReturn(Optional.of(createInventory(5, 0, 0)));
+        
+        // When
+        Result<ReservationId, DomainError> result = service.reserve(command);
+        
+        // Then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getError().code()).isEqualTo("VALIDATION_ERROR");
+        verify(reservationRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publish(any());
+    }
+    
     private Inventory createInventory(int available, int reserved, int sold) {
         return Inventory.builder()
             .id(1L)
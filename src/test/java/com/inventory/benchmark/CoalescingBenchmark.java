@@ -0,0 +1,135 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.ReserveStockCommand;
+import com.inventory.application.port.input.ReserveStockUseCase;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 64 clients on one SKU: the plain ReserveStockService path vs. coalesced micro-batches.
+ * Run with {@code mvn test -Pbenchmark -Dtest=CoalescingBenchmark}.
+ */
+@Tag("benchmark")
+class CoalescingBenchmark {
+
+    private static final int CLIENTS = 64;
+    private static final Duration RUN_TIME = Duration.ofSeconds(5);
+    private static final int INITIAL_STOCK = 10_000_000;
+    private static final StoreId STORE = StoreId.of("STORE-01");
+
+    @Test
+    void reservationsPerSecondAndP99() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add(measure("ReserveStockService", false));
+        rows.add(measure("Coalesced (2ms, 64)", true));
+
+        System.out.printf("%n=== Single-SKU reservations, %d clients, %ds ===%n", CLIENTS, RUN_TIME.toSeconds());
+        System.out.printf("%-22s %12s %10s %10s%n", "path", "reserv/s", "p50 (ms)", "p99 (ms)");
+        rows.forEach(System.out::println);
+    }
+
+    private String measure(String label, boolean coalescing) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:coalescing-" + coalescing + ";LOCK_TIMEOUT=30000",
+                    "--inventory.coalescing.enabled=" + coalescing,
+                    "--inventory.coalescing.window=2ms",
+                    "--inventory.coalescing.max-batch-size=64",
+                    "--logging.level.com.inventory=WARN"
+                )) {
+
+            ReserveStockUseCase reserveStockUseCase = context.getBean(ReserveStockUseCase.class);
+            Sku sku = seed(context.getBean(InventoryJpaRepository.class), "SKU900001");
+
+            // Warm-up
+            run(reserveStockUseCase, sku, Duration.ofSeconds(1));
+
+            long[] latencies = run(reserveStockUseCase, sku, RUN_TIME);
+            Arrays.sort(latencies);
+
+            return String.format("%-22s %,12.0f %10.2f %10.2f",
+                label,
+                latencies.length / (double) RUN_TIME.toSeconds(),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99));
+        }
+    }
+
+    private long[] run(ReserveStockUseCase reserveStockUseCase, Sku sku, Duration duration) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CLIENTS; i++) {
+            String customer = "BENCH-" + i;
+            futures.add(clients.submit(() -> {
+                start.await();
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    var result = reserveStockUseCase.reserve(
+                        new ReserveStockCommand(STORE, sku, 1, customer)
+                    );
+                    if (result.isSuccess()) {
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - begin;
+                    }
+                }
+                return Arrays.copyOf(samples, count);
+            }));
+        }
+
+        start.countDown();
+        long[] all = new long[0];
+        for (Future<long[]> future : futures) {
+            long[] samples = future.get(duration.toSeconds() + 60, TimeUnit.SECONDS);
+            long[] merged = Arrays.copyOf(all, all.length + samples.length);
+            System.arraycopy(samples, 0, merged, all.length, samples.length);
+            all = merged;
+        }
+        clients.shutdown();
+        return all;
+    }
+
+    private double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private Sku seed(InventoryJpaRepository inventoryJpaRepository, String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Benchmark item")
+            .availableStock(INITIAL_STOCK)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
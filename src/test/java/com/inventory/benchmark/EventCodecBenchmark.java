@@ -0,0 +1,138 @@
+package com.inventory.benchmark;
+
+import com.inventory.adapters.output.persistence.codec.BinaryEventCodec;
+import com.inventory.adapters.output.persistence.codec.EventCodec;
+import com.inventory.adapters.output.persistence.codec.EventDictionary;
+import com.inventory.adapters.output.persistence.codec.EventEnvelope;
+import com.inventory.adapters.output.persistence.codec.JsonEventCodec;
+import com.inventory.config.JacksonConfig;
+import com.inventory.domain.event.*;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Encode and decode throughput and payload size of the JSON and binary event codecs,
+ * on a mix of the four event types over 1000 stores and 5000 SKUs. Each measurement is
+ * the median of {@code benchmark.iterations} passes over the events, after as many
+ * warm-up passes. The dictionary is in memory, as it is after the first lookup.
+ * Run with {@code mvn test -Pbenchmark -Dtest=EventCodecBenchmark}.
+ */
+@Tag("benchmark")
+class EventCodecBenchmark {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 100_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+
+    @Test
+    void comparesCodecs() {
+        List<DomainEvent> events = events();
+        List<EventEnvelope> envelopes = events.stream()
+            .map(event -> new EventEnvelope(event.eventId(), event.eventType(), event.aggregateId(), event.timestamp()))
+            .toList();
+
+        System.out.printf("%n=== %,d events, median of %d passes ===%n", EVENTS, ITERATIONS);
+        System.out.printf("%-8s %14s %14s %12s%n", "codec", "encode ops/s", "decode ops/s", "bytes/event");
+        for (EventCodec codec : List.of(new JsonEventCodec(new JacksonConfig().objectMapper()),
+                new BinaryEventCodec(new InMemoryDictionary()))) {
+            byte[][] payloads = new byte[EVENTS][];
+            long bytes = 0;
+            for (int i = 0; i < EVENTS; i++) {
+                payloads[i] = codec.encode(events.get(i));
+                bytes += payloads[i].length;
+            }
+
+            double encode = measure(() -> {
+                long sink = 0;
+                for (DomainEvent event : events) {
+                    sink += codec.encode(event).length;
+                }
+                return sink;
+            });
+            double decode = measure(() -> {
+                long sink = 0;
+                for (int i = 0; i < EVENTS; i++) {
+                    sink += codec.decode(envelopes.get(i), payloads[i]).hashCode();
+                }
+                return sink;
+            });
+
+            System.out.printf("%-8s %,14.0f %,14.0f %,12.1f%n",
+                codec.format().name().toLowerCase(), encode, decode, (double) bytes / EVENTS);
+
+            for (int i = 0; i < EVENTS; i += 997) {
+                assertThat(codec.decode(envelopes.get(i), payloads[i])).isEqualTo(events.get(i));
+            }
+        }
+    }
+
+    private static double measure(Pass pass) {
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += pass.run();
+        }
+        double[] rates = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long begin = System.nanoTime();
+            sink += pass.run();
+            rates[i] = EVENTS / ((System.nanoTime() - begin) / 1e9);
+        }
+        // Keeps the results alive
+        assertThat(sink).isNotEqualTo(Long.MIN_VALUE);
+        Arrays.sort(rates);
+        return rates[ITERATIONS / 2];
+    }
+
+    private static List<DomainEvent> events() {
+        List<DomainEvent> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            StoreId store = StoreId.of("STORE-" + String.format("%03d", i % 1000));
+            Sku sku = Sku.of("SKU" + String.format("%06d", i % 5000));
+            String reservationId = ReservationId.generate().value();
+            events.add(switch (i % 4) {
+                case 0 -> StockReservedEvent.create(reservationId, store, sku, 1 + i % 5, "CUST-" + i % 10_000);
+                case 1 -> StockCommittedEvent.create(reservationId, store, sku, 1 + i % 5, "CUST-" + i % 10_000);
+                case 2 -> StockReleasedEvent.create(reservationId, store, sku, 1 + i % 5, "EXPIRED");
+                default -> StockAddedEvent.create(store, sku, 100, "Restock");
+            });
+        }
+        return events;
+    }
+
+    @FunctionalInterface
+    private interface Pass {
+        long run();
+    }
+
+    private static final class InMemoryDictionary implements EventDictionary {
+
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final Map<Integer, String> terms = new ConcurrentHashMap<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        public int idOf(String term) {
+            return ids.computeIfAbsent(term, value -> {
+                int id = next.incrementAndGet();
+                terms.put(id, value);
+                return id;
+            });
+        }
+
+        @Override
+        public String termOf(int id) {
+            return terms.get(id);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.inventory.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.output.messaging.InMemoryEventPublisher;
+import com.inventory.adapters.output.messaging.RingBufferEventPublisher;
+import com.inventory.adapters.output.messaging.RingBufferEventPublisher.Backpressure;
+import com.inventory.application.port.output.EventPublisher;
+import com.inventory.config.JacksonConfig;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code publish} on the calling thread: the synchronous InMemoryEventPublisher
+ * (serialize and log per event) against the ring buffer (enqueue only; its thread
+ * serializes and logs once per batch). Logging runs at INFO through a real pattern
+ * encoder into a discarding stream, so formatting is paid but not console I/O.
+ * "bursts" publishes {@link #BURST} events at a time and lets the buffer drain before
+ * the next burst, untimed, as requests between idle gaps would; "saturated" publishes
+ * without pause, so the ring buffer runs full and callers wait for its thread (on the
+ * 1 vCPU box they share the core). "drained" is the wall time of the saturated run
+ * until the last event left the buffer.
+ * Run with {@code mvn test -Pbenchmark -Dtest=EventPublisherBenchmark}.
+ */
+@Tag("benchmark")
+class EventPublisherBenchmark {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 500_000);
+    private static final int BURST = 1_000;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final DomainEvent event = StockReservedEvent.create(
+        "RES-0000000000001", StoreId.of("STORE-01"), Sku.of("SKU123"), 1, "CUST-BENCH");
+
+    @Test
+    void comparesRequestPathCostPerPublish() throws Exception {
+        logToNowhere();
+        InMemoryEventPublisher sync = new InMemoryEventPublisher(objectMapper);
+
+        System.out.printf("%n=== %,d publishes from one thread ===%n", EVENTS);
+        System.out.printf("%-22s %20s %20s %14s%n", "publisher", "ns/publish (bursts)", "ns/publish (saturated)", "drained (ms)");
+        for (int round = 0; round < 2; round++) {
+            // Primeira rodada é aquecimento do JIT
+            double syncBursts = bursts(sync, null);
+            double syncSaturated = saturated(sync);
+            RingBufferEventPublisher ringBuffer = ringBuffer(sync);
+            double ringBursts = bursts(ringBuffer, ringBuffer);
+            ringBuffer.close(1, TimeUnit.MINUTES);
+            ringBuffer = ringBuffer(sync);
+            long begin = System.nanoTime();
+            double ringSaturated = saturated(ringBuffer);
+            ringBuffer.close(1, TimeUnit.MINUTES);
+            double drained = (System.nanoTime() - begin) / 1e6;
+            if (round == 1) {
+                System.out.printf("%-22s %,20.0f %,20.0f %14s%n", "sync", syncBursts, syncSaturated, "-");
+                System.out.printf("%-22s %,20.0f %,20.0f %,14.0f%n", "ring buffer (block)", ringBursts, ringSaturated, drained);
+            }
+        }
+    }
+
+    private RingBufferEventPublisher ringBuffer(InMemoryEventPublisher sink) {
+        RingBufferEventPublisher ringBuffer = new RingBufferEventPublisher(sink, objectMapper, 8192, 256, Backpressure.BLOCK);
+        ringBuffer.start();
+        return ringBuffer;
+    }
+
+    private double bursts(EventPublisher publisher, RingBufferEventPublisher ringBuffer) throws InterruptedException {
+        long timed = 0;
+        for (int burst = 0; burst < EVENTS / BURST; burst++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < BURST; i++) {
+                publisher.publish(event);
+            }
+            timed += System.nanoTime() - begin;
+            while (ringBuffer != null && ringBuffer.depth() > 0) {
+                Thread.sleep(1);
+            }
+        }
+        return timed / (double) (EVENTS / BURST * BURST);
+    }
+
+    private double saturated(EventPublisher publisher) {
+        long begin = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            publisher.publish(event);
+        }
+        return (System.nanoTime() - begin) / (double) EVENTS;
+    }
+
+    // Logback com um encoder de verdade, escrevendo num stream que descarta tudo
+    private static void logToNowhere() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+        context.getLogger("com.inventory").setLevel(Level.INFO);
+    }
+}
@@ -0,0 +1,117 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Appends {@code benchmark.events} events (default 50k), one per transaction as the
+ * reservation path does, from 16 threads over 1000 aggregates, then replays them: the
+ * whole store, and one aggregate at a time for 100 aggregates. Runs once on the JPA
+ * table (H2 file database) and once on the segment log with fsync.
+ * Run with {@code mvn test -Pbenchmark -Dtest=EventStoreBenchmark}.
+ */
+@Tag("benchmark")
+class EventStoreBenchmark {
+
+    private static final StoreId STORE = StoreId.of("STORE-01");
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 50_000);
+    private static final int THREADS = 16;
+    private static final int AGGREGATES = 1_000;
+    private static final int REPLAYED_AGGREGATES = 100;
+
+    @Test
+    void comparesAppendAndReplayAcrossBackends() throws Exception {
+        System.out.printf("%n=== %,d events, one per transaction, %d threads ===%n", EVENTS, THREADS);
+        System.out.printf("%-12s %12s %14s %18s%n", "backend", "appends/s", "full replay ms", "aggregate replay ms");
+        run("jpa");
+        run("segment-log");
+    }
+
+    private void run(String backend) throws Exception {
+        Path directory = Files.createTempDirectory("event-store-" + backend);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .profiles("test")
+                .run(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("db").toAbsolutePath(),
+                    "--spring.jpa.hibernate.ddl-auto=create",
+                    "--inventory.expiry.enabled=false",
+                    "--inventory.event-store.backend=" + backend,
+                    "--inventory.event-store.directory=" + directory.resolve("events").toAbsolutePath(),
+                    "--logging.level.com.inventory=WARN"
+                )) {
+
+            EventStore eventStore = context.getBean(EventStore.class);
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            long begin = System.nanoTime();
+            List<Future<?>> appenders = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int first = thread;
+                appenders.add(executor.submit(() -> {
+                    for (int i = first; i < EVENTS; i += THREADS) {
+                        StockReservedEvent event = event(i);
+                        transaction.executeWithoutResult(status -> eventStore.store(event));
+                    }
+                }));
+            }
+            for (Future<?> appender : appenders) {
+                appender.get();
+            }
+            double appendSeconds = (System.nanoTime() - begin) / 1e9;
+            executor.shutdown();
+
+            begin = System.nanoTime();
+            int replayed = eventStore.findAll().size();
+            double fullMillis = (System.nanoTime() - begin) / 1e6;
+
+            begin = System.nanoTime();
+            int perAggregate = 0;
+            for (int aggregate = 0; aggregate < REPLAYED_AGGREGATES; aggregate++) {
+                perAggregate += eventStore.findByAggregateId(InventoryKey.of(STORE, sku(aggregate)).aggregateId()).size();
+            }
+            double aggregateMillis = (System.nanoTime() - begin) / 1e6;
+
+            System.out.printf("%-12s %,12.0f %,14.0f %,18.1f%n",
+                backend, EVENTS / appendSeconds, fullMillis, aggregateMillis / REPLAYED_AGGREGATES);
+
+            assertThat(replayed).isEqualTo(EVENTS);
+            assertThat(perAggregate).isEqualTo(EVENTS / AGGREGATES * REPLAYED_AGGREGATES);
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static StockReservedEvent event(int i) {
+        return StockReservedEvent.create("RES-" + i, STORE, sku(i % AGGREGATES), 1, "CUST-" + i);
+    }
+
+    private static Sku sku(int aggregate) {
+        return Sku.of("SKU8" + String.format("%05d", aggregate));
+    }
+}
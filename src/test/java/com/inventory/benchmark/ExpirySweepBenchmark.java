@@ -0,0 +1,167 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.ReservationJpaRepository;
+import com.inventory.application.expiry.ReservationExpirySweeper;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.ReservationIdGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sweeps {@code benchmark.rows} expired reservations (default 1M) spread over 100 items
+ * and samples the live heap (after a full GC) every 250 ms while it runs. For contrast,
+ * it first measures the live heap of the same backlog loaded with the unpaged
+ * {@code findExpiredReservations}. Uses an H2 file database so the table itself is not
+ * on the heap. Run with {@code mvn test -Pbenchmark -Dtest=ExpirySweepBenchmark}.
+ */
+@Tag("benchmark")
+class ExpirySweepBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int ITEMS = 100;
+    private static final int PAGE_SIZE = 1_000;
+    private static final String STORE = "STORE-SWEEP";
+
+    @Test
+    void sweepsTheBacklogInBoundedMemory() throws Exception {
+        Path directory = Files.createTempDirectory("expiry-sweep");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(
+                    "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("sweep").toAbsolutePath(),
+                    "--spring.jpa.hibernate.ddl-auto=create",
+                    "--inventory.expiry.mode=sweep",
+                    "--inventory.expiry.sweep-interval=1h",
+                    "--inventory.expiry.page-size=" + PAGE_SIZE,
+                    "--logging.level.com.inventory=WARN"
+                )) {
+
+            seed(context);
+            ReservationExpirySweeper sweeper = context.getBean(ReservationExpirySweeper.class);
+
+            long baseline = liveHeap();
+            var unpaged = context.getBean(ReservationJpaRepository.class)
+                .findExpiredReservations(LocalDateTime.now());
+            long unpagedHeap = liveHeap() - baseline;
+            int unpagedRows = unpaged.size();
+            unpaged = null;
+
+            baseline = liveHeap();
+            AtomicLong peak = new AtomicLong(baseline);
+            Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peak.accumulateAndGet(liveHeap(), Math::max);
+                    try {
+                        Thread.sleep(250);
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+            });
+
+            long begin = System.nanoTime();
+            int released = sweeper.sweep();
+            double seconds = (System.nanoTime() - begin) / 1e9;
+            sampler.interrupt();
+            sampler.join();
+
+            long sweepHeap = peak.get() - baseline;
+            System.out.printf("%n=== Expiry of %,d reservations over %d items ===%n", ROWS, ITEMS);
+            System.out.printf("%-24s %12s %14s%n", "path", "rows/s", "live heap (MB)");
+            System.out.printf("%-24s %12s %,14.1f%n", "unpaged list (load only)", "-", unpagedHeap / 1e6);
+            System.out.printf("%-24s %,12.0f %,14.1f%n", "sweep, pages of " + PAGE_SIZE, released / seconds, sweepHeap / 1e6);
+
+            assertThat(unpagedRows).isEqualTo(ROWS);
+            assertThat(released).isEqualTo(ROWS);
+            assertThat(count(context, "SELECT COUNT(*) FROM reservations WHERE status = 'RESERVED'")).isZero();
+            assertThat(count(context, "SELECT SUM(reserved_stock) FROM inventory WHERE store_id = '" + STORE + "'")).isZero();
+            // Pages are committed and dropped one by one: the live set must not grow with the backlog
+            assertThat(sweepHeap).isLessThan(64L << 20);
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) throws Exception {
+        InventoryJpaRepository inventoryJpaRepository = context.getBean(InventoryJpaRepository.class);
+        int perItem = ROWS / ITEMS;
+        for (int item = 0; item < ITEMS; item++) {
+            inventoryJpaRepository.save(InventoryEntity.builder()
+                .storeId(STORE)
+                .sku(sku(item))
+                .productName("Swept item")
+                .availableStock(0)
+                .reservedStock(perItem + (item < ROWS % ITEMS ? 1 : 0))
+                .soldStock(0)
+                .lastUpdated(LocalDateTime.now())
+                .build());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try (Connection connection = context.getBean(DataSource.class).getConnection();
+             PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO reservations (id, store_id, sku, quantity, customer_id, status, created_at, expires_at)
+                VALUES (?, ?, ?, 1, 'CUST-SWEEP', 'RESERVED', ?, ?)""")) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < ROWS; i++) {
+                // Deadlines spread over the last hour, many of them shared
+                LocalDateTime expiresAt = now.minusSeconds(1 + i % 3_600);
+                insert.setLong(1, ReservationIdGenerator.parse(ReservationId.generate().value()).getAsLong());
+                insert.setString(2, STORE);
+                insert.setString(3, sku(i % ITEMS));
+                insert.setTimestamp(4, Timestamp.valueOf(expiresAt.minusMinutes(15)));
+                insert.setTimestamp(5, Timestamp.valueOf(expiresAt));
+                insert.addBatch();
+                if ((i + 1) % 10_000 == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private long count(ConfigurableApplicationContext context, String sql) throws Exception {
+        try (Connection connection = context.getBean(DataSource.class).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static String sku(int item) {
+        return "SKU8" + String.format("%05d", item);
+    }
+
+    private static long liveHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,120 @@
+package com.inventory.benchmark;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.ReserveStockCommand;
+import com.inventory.application.port.input.ReserveStockUseCase;
+import com.inventory.application.port.output.StockLedger;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.Stock;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 64 clients hammering one SKU: pessimistic row lock vs. the striped in-memory ledger.
+ * Run with {@code mvn test -Pbenchmark -Dtest=HotSkuReservationBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:hot-sku-benchmark;LOCK_TIMEOUT=30000",
+    "inventory.hot-sku.enabled=true",
+    "inventory.hot-sku.skus=SKU900001",
+    "logging.level.com.inventory=WARN"
+})
+@ActiveProfiles("test")
+class HotSkuReservationBenchmark {
+
+    private static final int CLIENTS = 64;
+    private static final Duration RUN_TIME = Duration.ofSeconds(5);
+    private static final int INITIAL_STOCK = 10_000_000;
+    private static final StoreId STORE = StoreId.of("STORE-01");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Test
+    void reservationsPerSecondOnOneSku() throws Exception {
+        Sku lockedSku = seed("SKU900002");
+        Sku hotSku = seed("SKU900001");
+
+        // Warm-up
+        run(lockedSku, Duration.ofSeconds(1));
+        run(hotSku, Duration.ofSeconds(1));
+
+        long locked = run(lockedSku, RUN_TIME);
+        long ledger = run(hotSku, RUN_TIME);
+
+        System.out.printf("%n=== Single-SKU reservations, %d clients, %ds ===%n", CLIENTS, RUN_TIME.toSeconds());
+        System.out.printf("PESSIMISTIC_WRITE row lock : %,10.0f reservations/s%n", perSecond(locked));
+        System.out.printf("Striped in-memory ledger   : %,10.0f reservations/s%n", perSecond(ledger));
+
+        Stock stock = stockLedger.snapshot(STORE, hotSku).orElseThrow();
+        assertThat(stock.availableStock() + stock.reservedStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(stock.availableStock()).isGreaterThanOrEqualTo(0);
+    }
+
+    private long run(Sku sku, Duration duration) throws InterruptedException {
+        AtomicLong succeeded = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        for (int i = 0; i < CLIENTS; i++) {
+            String customer = "BENCH-" + i;
+            clients.submit(() -> {
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    var result = reserveStockUseCase.reserve(
+                        new ReserveStockCommand(STORE, sku, 1, customer)
+                    );
+                    if (result.isSuccess()) {
+                        succeeded.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        clients.shutdown();
+        clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return succeeded.get();
+    }
+
+    private double perSecond(long count) {
+        return count / (double) RUN_TIME.toSeconds();
+    }
+
+    private Sku seed(String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Benchmark item")
+            .availableStock(INITIAL_STOCK)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
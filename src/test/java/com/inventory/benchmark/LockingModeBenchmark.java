@@ -0,0 +1,145 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.ReserveStockCommand;
+import com.inventory.application.port.input.ReserveStockUseCase;
+import com.inventory.config.ConcurrencyProperties.Mode;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pessimistic row lock vs. optimistic @Version + retry vs. guarded UPDATE,
+ * 64 clients spread over 64 SKUs (low contention) and all on one SKU (high contention).
+ * Run with {@code mvn test -Pbenchmark -Dtest=LockingModeBenchmark}.
+ */
+@Tag("benchmark")
+class LockingModeBenchmark {
+
+    private static final int CLIENTS = 64;
+    private static final Duration RUN_TIME = Duration.ofSeconds(5);
+    private static final int INITIAL_STOCK = 10_000_000;
+    private static final StoreId STORE = StoreId.of("STORE-01");
+
+    @Test
+    void reservationsPerSecondByLockingMode() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (Mode mode : Mode.values()) {
+            try (ConfigurableApplicationContext context = start(mode)) {
+                rows.add(measure(context, mode, "low  (64 SKUs)", CLIENTS));
+                rows.add(measure(context, mode, "high (1 SKU)  ", 1));
+            }
+        }
+
+        System.out.printf("%n=== Reservations by locking mode, %d clients, %ds ===%n", CLIENTS, RUN_TIME.toSeconds());
+        System.out.printf("%-12s %-15s %12s %10s %18s%n", "mode", "contention", "reserv/s", "retries", "conn usage (ms)");
+        rows.forEach(System.out::println);
+    }
+
+    private ConfigurableApplicationContext start(Mode mode) {
+        return new SpringApplicationBuilder(InventoryServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:locking-" + mode.name().toLowerCase() + ";LOCK_TIMEOUT=30000",
+                "--inventory.concurrency.mode=" + mode.name().toLowerCase(),
+                "--logging.level.com.inventory=WARN"
+            );
+    }
+
+    private String measure(ConfigurableApplicationContext context, Mode mode, String label, int skus) throws Exception {
+        ReserveStockUseCase reserveStockUseCase = context.getBean(ReserveStockUseCase.class);
+        InventoryJpaRepository inventoryJpaRepository = context.getBean(InventoryJpaRepository.class);
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+        List<Sku> targets = new ArrayList<>();
+        String prefix = skus == 1 ? "SKU8" : "SKU7";
+        for (int i = 0; i < skus; i++) {
+            targets.add(seed(inventoryJpaRepository, String.format("%s%05d", prefix, i)));
+        }
+
+        // Warm-up
+        run(reserveStockUseCase, targets, Duration.ofSeconds(1));
+
+        double retriesBefore = retries(meterRegistry);
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").timer();
+        long usageCountBefore = usage != null ? usage.count() : 0;
+        double usageTotalBefore = usage != null ? usage.totalTime(TimeUnit.MILLISECONDS) : 0;
+
+        long succeeded = run(reserveStockUseCase, targets, RUN_TIME);
+
+        double retries = retries(meterRegistry) - retriesBefore;
+        double meanUsage = usage != null && usage.count() > usageCountBefore
+            ? (usage.totalTime(TimeUnit.MILLISECONDS) - usageTotalBefore) / (usage.count() - usageCountBefore)
+            : Double.NaN;
+
+        return String.format("%-12s %-15s %,12.0f %,10.0f %18.2f",
+            mode, label, succeeded / (double) RUN_TIME.toSeconds(), retries, meanUsage);
+    }
+
+    private long run(ReserveStockUseCase reserveStockUseCase, List<Sku> targets, Duration duration) throws InterruptedException {
+        AtomicLong succeeded = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        for (int i = 0; i < CLIENTS; i++) {
+            Sku sku = targets.get(i % targets.size());
+            String customer = "BENCH-" + i;
+            clients.submit(() -> {
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    var result = reserveStockUseCase.reserve(
+                        new ReserveStockCommand(STORE, sku, 1, customer)
+                    );
+                    if (result.isSuccess()) {
+                        succeeded.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        clients.shutdown();
+        clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return succeeded.get();
+    }
+
+    private double retries(MeterRegistry meterRegistry) {
+        return meterRegistry.find("inventory.concurrency.retries").counters().stream()
+            .mapToDouble(counter -> counter.count())
+            .sum();
+    }
+
+    private Sku seed(InventoryJpaRepository inventoryJpaRepository, String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Benchmark item")
+            .availableStock(INITIAL_STOCK)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
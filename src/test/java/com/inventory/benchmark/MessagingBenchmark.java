@@ -0,0 +1,85 @@
+package com.inventory.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.output.messaging.AwsStandIn;
+import com.inventory.adapters.output.messaging.SnsEventPublisher;
+import com.inventory.config.JacksonConfig;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Events per second through SnsEventPublisher into the in-process AWS stand-in, at 1
+ * and 10 events per PublishBatch request. "calls of 100" is how the outbox relay
+ * publishes: ten requests of ten in flight at once on the client's pool of 16.
+ * Loopback has no network latency, so the gap against real SNS (tens of ms per
+ * request) is wider than what this shows; the gain here is request overhead alone.
+ * Run with {@code mvn test -Pbenchmark -Dtest=MessagingBenchmark}.
+ */
+@Tag("benchmark")
+class MessagingBenchmark {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 5_000);
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void eventsPerSecondByEventsPerRequest() throws Exception {
+        try (AwsStandIn standIn = new AwsStandIn();
+             SnsAsyncClient sns = SnsAsyncClient.builder()
+                 .endpointOverride(standIn.endpoint())
+                 .region(Region.US_EAST_1)
+                 .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                 .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(16))
+                 .build()) {
+            SnsEventPublisher publisher = new SnsEventPublisher(
+                sns, "arn:aws:sns:us-east-1:000000000000:inventory-events", objectMapper, CircuitBreaker.ofDefaults("bench"));
+            List<DomainEvent> events = events();
+
+            System.out.printf("%n=== %,d events to SNS (stand-in) ===%n", EVENTS);
+            System.out.printf("%-34s %12s %12s %14s%n", "publishBatch", "requests", "events/s", "us/event");
+            for (int round = 0; round < 2; round++) {
+                // Primeira rodada é aquecimento do JIT e das conexões
+                boolean print = round == 1;
+                measure("calls of 1  (1 event/request)", publisher, standIn, events, 1, print);
+                measure("calls of 10 (10 events/request)", publisher, standIn, events, 10, print);
+                measure("calls of 100 (10 x 10 in flight)", publisher, standIn, events, 100, print);
+            }
+        }
+    }
+
+    private void measure(String label, SnsEventPublisher publisher, AwsStandIn standIn,
+                         List<DomainEvent> events, int perCall, boolean print) {
+        standIn.reset();
+        long begin = System.nanoTime();
+        for (int from = 0; from < events.size(); from += perCall) {
+            publisher.publishBatch(events.subList(from, Math.min(from + perCall, events.size())));
+        }
+        long elapsed = System.nanoTime() - begin;
+        if (print) {
+            System.out.printf("%-34s %,12d %,12.0f %,14.1f%n", label, standIn.requestCount(),
+                EVENTS / (elapsed / 1e9), elapsed / 1e3 / EVENTS);
+        }
+    }
+
+    private static List<DomainEvent> events() {
+        List<DomainEvent> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(StockReservedEvent.create(
+                "RES-%013d".formatted(i), StoreId.of("STORE-01"), Sku.of("SKU123"), 1, "CUST-BENCH"));
+        }
+        return events;
+    }
+}
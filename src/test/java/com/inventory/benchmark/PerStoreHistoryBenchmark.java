@@ -0,0 +1,134 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.adapters.output.persistence.migration.AggregateIdBackfill;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * History of one SKU in one store over a time range, with the SKU stocked in
+ * {@link #STORES} stores and {@code benchmark.events-per-store} events each (default 50).
+ * The events are first written as before, one stream per SKU: the read scans every store's
+ * events in the range and keeps one store's. Then the backfill splits them into one stream
+ * per (store, SKU) and the same reads go to that stream alone. JPA event table on an H2
+ * file database.
+ * Run with {@code mvn test -Pbenchmark -Dtest=PerStoreHistoryBenchmark}.
+ */
+@Tag("benchmark")
+class PerStoreHistoryBenchmark {
+
+    private static final int STORES = 1_000;
+    private static final int EVENTS_PER_STORE = Integer.getInteger("benchmark.events-per-store", 50);
+    private static final int READS = 200;
+    private static final int BATCH = 5_000;
+    private static final Sku SKU = Sku.of("SKU600001");
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void comparesSkuWideAndPerStoreStreams() throws Exception {
+        Path directory = Files.createTempDirectory("per-store-history");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .profiles("test")
+                .run(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("db").toAbsolutePath(),
+                    "--spring.jpa.hibernate.ddl-auto=create",
+                    "--inventory.expiry.enabled=false",
+                    "--inventory.snapshots.enabled=false",
+                    "--inventory.event-store.backfill-aggregate-ids=false",
+                    "--logging.level.com.inventory=WARN"
+                )) {
+
+            EventStore eventStore = context.getBean(EventStore.class);
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            int events = STORES * EVENTS_PER_STORE;
+            for (int first = 0; first < events; first += BATCH) {
+                List<DomainEvent> batch = new ArrayList<>(BATCH);
+                for (int i = first; i < Math.min(first + BATCH, events); i++) {
+                    batch.add(legacyEvent(i));
+                }
+                transaction.executeWithoutResult(status -> eventStore.storeAll(batch));
+            }
+
+            // The middle half of the history, one event per second across all stores
+            LocalDateTime from = START.plusSeconds(events / 4);
+            LocalDateTime to = START.plusSeconds(events * 3L / 4 - 1);
+            int expected = EVENTS_PER_STORE / 2;
+
+            System.out.printf("%n=== %,d stores x %,d events of one SKU, %,d history reads ===%n",
+                STORES, EVENTS_PER_STORE, READS);
+            System.out.printf("%-22s %14s %16s%n", "stream", "rows read", "ms per read");
+
+            double skuWide = read(transaction, store -> {
+                List<DomainEvent> all = eventStore.findByAggregateIdAndTimestamp(SKU.value(), from, to);
+                long kept = all.stream().filter(event -> event.storeId().equals(store(store))).count();
+                assertThat(kept).isEqualTo(expected);
+                return all.size();
+            }, "per SKU (before)");
+
+            long begin = System.nanoTime();
+            long moved = context.getBean(AggregateIdBackfill.class).backfill(100);
+            System.out.printf("%-22s %,14d %,16.0f (ms, total)%n", "backfill", moved, (System.nanoTime() - begin) / 1e6);
+            assertThat(moved).isEqualTo(events);
+
+            double perStore = read(transaction, store -> {
+                List<DomainEvent> history = eventStore.findByAggregateIdAndTimestamp(
+                    InventoryKey.of(store(store), SKU).aggregateId(), from, to);
+                assertThat(history).hasSize(expected);
+                return history.size();
+            }, "per (store, SKU)");
+
+            System.out.printf("speed-up: %.0fx%n", skuWide / perStore);
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static double read(TransactionTemplate transaction, IntUnaryOperator history, String stream) {
+        // One warm-up read, then READS stores spread over all of them
+        transaction.execute(status -> history.applyAsInt(0));
+        long rows = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            int store = i * (STORES / READS);
+            rows += transaction.execute(status -> history.applyAsInt(store));
+        }
+        double millis = (System.nanoTime() - begin) / 1e6 / READS;
+        System.out.printf("%-22s %,14d %,16.2f%n", stream, rows / READS, millis);
+        return millis;
+    }
+
+    private static StoreId store(int store) {
+        return StoreId.of("STORE-" + String.format("%04d", store));
+    }
+
+    // Written as the factories did before: aggregateId = SKU, stores interleaved
+    private static DomainEvent legacyEvent(int i) {
+        StockReservedEvent event = StockReservedEvent.create("RES-" + i, store(i % STORES), SKU, 1, "CUST-" + i);
+        return new StockReservedEvent(event.eventId(), event.eventType(), START.plusSeconds(i), SKU.value(),
+            event.reservationId(), event.storeId(), event.sku(), event.quantity(), event.customerId());
+    }
+}
@@ -0,0 +1,125 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.adapters.output.projection.StockMovementProjection;
+import com.inventory.application.port.input.ProjectionRebuildReport;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.application.port.output.ProjectionCheckpointStore;
+import com.inventory.application.port.output.ProjectionHandler;
+import com.inventory.application.projection.ProjectionRebuilder;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays {@code benchmark.events} events (default 100k) over 1000 aggregates from the
+ * JPA event table (H2 file database) into two projections: the in-memory stock movement
+ * view, and one that waits {@link #HANDLER_IO_MICROS}µs per event as a handler writing to
+ * a database would. Compares {@code findAll()} handled on one thread with the rebuilder
+ * on 1 and 8 lanes, chunks of 1000.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ProjectionRebuildBenchmark}.
+ */
+@Tag("benchmark")
+class ProjectionRebuildBenchmark {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 100_000);
+    private static final int AGGREGATES = 1_000;
+    private static final int CHUNK = 1_000;
+    private static final long HANDLER_IO_MICROS = 50;
+
+    @Test
+    void comparesSingleThreadedReplayWithPartitionedRebuild() throws Exception {
+        Path directory = Files.createTempDirectory("projection-rebuild");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .profiles("test")
+                .run(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("db").toAbsolutePath(),
+                    "--spring.jpa.hibernate.ddl-auto=create",
+                    "--inventory.expiry.enabled=false",
+                    "--inventory.snapshots.enabled=false",
+                    "--logging.level.com.inventory=WARN"
+                )) {
+
+            EventStore eventStore = context.getBean(EventStore.class);
+            ProjectionCheckpointStore checkpointStore = context.getBean(ProjectionCheckpointStore.class);
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            for (int first = 0; first < EVENTS; first += CHUNK) {
+                List<DomainEvent> batch = new ArrayList<>(CHUNK);
+                for (int i = first; i < Math.min(first + CHUNK, EVENTS); i++) {
+                    batch.add(StockReservedEvent.create("RES-" + i, StoreId.of("STORE-01"),
+                        Sku.of("SKU7" + String.format("%05d", i % AGGREGATES)), 1, "CUST-" + i));
+                }
+                transaction.executeWithoutResult(status -> eventStore.storeAll(batch));
+            }
+
+            System.out.printf("%n=== %,d events over %,d aggregates, chunks of %,d ===%n", EVENTS, AGGREGATES, CHUNK);
+            System.out.printf("%-16s %-22s %14s %12s%n", "handler", "replay", "events/s", "elapsed ms");
+            for (ProjectionHandler handler : List.of(new StockMovementProjection(), new BlockingProjection())) {
+                handler.reset();
+                long begin = System.nanoTime();
+                List<DomainEvent> all = eventStore.findAll();
+                all.forEach(handler::handle);
+                double seconds = (System.nanoTime() - begin) / 1e9;
+                print(handler.name(), "findAll, 1 thread", all.size() / seconds, seconds * 1e3);
+                assertThat(all).hasSize(EVENTS);
+
+                for (int lanes : new int[] {1, 8}) {
+                    ProjectionRebuilder rebuilder = new ProjectionRebuilder(eventStore, checkpointStore,
+                        List.of(handler), CHUNK, lanes, Thread.ofVirtual().factory());
+                    ProjectionRebuildReport report = rebuilder.rebuild(handler.name(), false).getValue();
+                    print(handler.name(), "rebuilder, " + lanes + " lanes", report.eventsPerSecond(),
+                        report.elapsed().toMillis());
+                    assertThat(report.events()).isEqualTo(EVENTS);
+                }
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void print(String handler, String replay, double eventsPerSecond, double millis) {
+        System.out.printf("%-16s %-22s %,14.0f %,12.0f%n", handler, replay, eventsPerSecond, millis);
+    }
+
+    private static final class BlockingProjection implements ProjectionHandler {
+
+        private final LongAdder handled = new LongAdder();
+
+        @Override
+        public String name() {
+            return "blocking-io";
+        }
+
+        @Override
+        public void reset() {
+            handled.reset();
+        }
+
+        @Override
+        public void handle(DomainEvent event) {
+            LockSupport.parkNanos(HANDLER_IO_MICROS * 1_000);
+            handled.increment();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.replica.EventFedReplica;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.QueryStockUseCase;
+import com.inventory.application.port.input.ReserveStockCommand;
+import com.inventory.application.port.input.ReserveStockUseCase;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mixed load: writers reserve on a few hot rows (pessimistic locks held on pooled
+ * connections) while readers query stock, with a small primary pool. Compares every
+ * read on the primary against stock queries routed to the event-fed replica.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ReadReplicaBenchmark}.
+ */
+@Tag("benchmark")
+class ReadReplicaBenchmark {
+
+    private static final int WRITERS = 16;
+    private static final int READERS = 16;
+    private static final int PRIMARY_POOL = 4;
+    private static final int SKUS = 4;
+    private static final Duration RUN_TIME = Duration.ofSeconds(10);
+    private static final int INITIAL_STOCK = 10_000_000;
+    private static final StoreId STORE = StoreId.of("STORE-01");
+
+    @Test
+    void readLatencyUnderReserveTraffic() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (boolean replica : new boolean[] {false, true}) {
+            try (ConfigurableApplicationContext context = start(replica)) {
+                rows.add(measure(context, replica));
+            }
+        }
+
+        System.out.printf("%n=== %d readers + %d writers on %d SKUs, primary pool %d, %ds ===%n",
+            READERS, WRITERS, SKUS, PRIMARY_POOL, RUN_TIME.toSeconds());
+        System.out.printf("%-10s %10s %12s %12s %10s %22s%n",
+            "reads on", "reads/s", "read p50 ms", "read p99 ms", "reserv/s", "primary acquire (ms)");
+        rows.forEach(System.out::println);
+    }
+
+    private ConfigurableApplicationContext start(boolean replica) {
+        String name = replica ? "replica" : "primary-only";
+        return new SpringApplicationBuilder(InventoryServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:read-" + name + ";LOCK_TIMEOUT=30000",
+                "--spring.datasource.hikari.pool-name=primary",
+                "--spring.datasource.hikari.maximum-pool-size=" + PRIMARY_POOL,
+                "--spring.datasource.hikari.connection-timeout=60000",
+                "--inventory.read-replica.enabled=" + replica,
+                "--inventory.read-replica.url=jdbc:h2:mem:read-" + name + "-copy;DB_CLOSE_DELAY=-1",
+                "--inventory.read-replica.maximum-pool-size=" + READERS,
+                "--logging.level.com.inventory=WARN"
+            );
+    }
+
+    private String measure(ConfigurableApplicationContext context, boolean replica) throws Exception {
+        ReserveStockUseCase reserveStockUseCase = context.getBean(ReserveStockUseCase.class);
+        QueryStockUseCase queryStockUseCase = context.getBean(QueryStockUseCase.class);
+        InventoryJpaRepository inventoryJpaRepository = context.getBean(InventoryJpaRepository.class);
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+        List<Sku> targets = new ArrayList<>();
+        for (int i = 0; i < SKUS; i++) {
+            targets.add(seed(inventoryJpaRepository, String.format("SKU6%05d", i)));
+        }
+        if (replica) {
+            context.getBean(EventFedReplica.class).bootstrap();
+        }
+
+        // Warm-up
+        run(reserveStockUseCase, queryStockUseCase, targets, Duration.ofSeconds(2), null);
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", "primary").timer();
+        long acquireCountBefore = acquire != null ? acquire.count() : 0;
+        double acquireTotalBefore = acquire != null ? acquire.totalTime(TimeUnit.MILLISECONDS) : 0;
+
+        Timer reads = Timer.builder("benchmark.reads")
+            .publishPercentiles(0.5, 0.99)
+            .register(new SimpleMeterRegistry());
+        long reserved = run(reserveStockUseCase, queryStockUseCase, targets, RUN_TIME, reads);
+
+        double meanAcquire = acquire != null && acquire.count() > acquireCountBefore
+            ? (acquire.totalTime(TimeUnit.MILLISECONDS) - acquireTotalBefore) / (acquire.count() - acquireCountBefore)
+            : Double.NaN;
+        ValueAtPercentile[] percentiles = reads.takeSnapshot().percentileValues();
+
+        return String.format("%-10s %,10.0f %12.2f %12.2f %,10.0f %22.2f",
+            replica ? "replica" : "primary",
+            reads.count() / (double) RUN_TIME.toSeconds(),
+            percentiles[0].value(TimeUnit.MILLISECONDS),
+            percentiles[1].value(TimeUnit.MILLISECONDS),
+            reserved / (double) RUN_TIME.toSeconds(),
+            meanAcquire);
+    }
+
+    private long run(
+            ReserveStockUseCase reserveStockUseCase,
+            QueryStockUseCase queryStockUseCase,
+            List<Sku> targets,
+            Duration duration,
+            Timer reads) throws InterruptedException {
+
+        AtomicLong reserved = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(WRITERS + READERS);
+
+        for (int i = 0; i < WRITERS; i++) {
+            Sku sku = targets.get(i % targets.size());
+            String customer = "BENCH-" + i;
+            clients.submit(() -> {
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    if (reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, 1, customer)).isSuccess()) {
+                        reserved.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        for (int i = 0; i < READERS; i++) {
+            Sku sku = targets.get(i % targets.size());
+            clients.submit(() -> {
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    queryStockUseCase.findByStoreAndSku(STORE, sku);
+                    if (reads != null) {
+                        reads.record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        clients.shutdown();
+        clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return reserved.get();
+    }
+
+    private Sku seed(InventoryJpaRepository inventoryJpaRepository, String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Benchmark item")
+            .availableStock(INITIAL_STOCK)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
@@ -0,0 +1,135 @@
+package com.inventory.benchmark;
+
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.ReservationIdGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Cost of generating reservation ids (random UUID string vs. time-ordered long), and
+ * insert throughput into a reservations table that already holds {@code benchmark.rows}
+ * rows (default 2M), keyed by VARCHAR UUID vs. BIGINT. Uses an H2 file database so the
+ * primary-key index outgrows the page cache, as it would in production.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ReservationIdBenchmark}; the 50M-row case
+ * is {@code -Dbenchmark.rows=50000000} (several GB of disk and a long prefill).
+ */
+@Tag("benchmark")
+class ReservationIdBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 2_000_000);
+    private static final int MEASURED_INSERTS = 200_000;
+    private static final int TRANSACTION_SIZE = 100;
+    private static final int GENERATED = 5_000_000;
+
+    @Test
+    void generationAndInsertThroughput() throws Exception {
+        System.out.printf("%n=== Id generation, %,d ids, 1 thread ===%n", GENERATED);
+        System.out.printf("%-14s %10s%n", "id", "ns/id");
+        for (int round = 0; round < 2; round++) {
+            // Primeira rodada é aquecimento do JIT
+            double uuid = generationCost(() -> "RES-" + UUID.randomUUID());
+            double ordered = generationCost(() -> ReservationId.generate().value());
+            if (round == 1) {
+                System.out.printf("%-14s %10.1f%n", "uuid string", uuid);
+                System.out.printf("%-14s %10.1f%n", "time-ordered", ordered);
+            }
+        }
+
+        Path directory = Files.createTempDirectory("reservation-ids");
+        try {
+            String uuid = inserts(directory, "uuid string", "VARCHAR(40)", i -> "RES-" + UUID.randomUUID());
+            String ordered = inserts(directory, "time-ordered", "BIGINT",
+                i -> ReservationIdGenerator.parse(ReservationId.generate().value()).getAsLong());
+
+            System.out.printf("%n=== Inserts after %,d rows, %,d rows in transactions of %d ===%n",
+                ROWS, MEASURED_INSERTS, TRANSACTION_SIZE);
+            System.out.printf("%-14s %12s %12s%n", "key", "rows/s", "db size (MB)");
+            System.out.println(uuid);
+            System.out.println(ordered);
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private double generationCost(Supplier<String> generator) {
+        long begin = System.nanoTime();
+        int length = 0;
+        for (int i = 0; i < GENERATED; i++) {
+            length += generator.get().length();
+        }
+        long elapsed = System.nanoTime() - begin;
+        if (length == 0) {
+            throw new IllegalStateException();
+        }
+        return elapsed / (double) GENERATED;
+    }
+
+    private String inserts(Path directory, String label, String keyType, LongFunction<Object> key) throws SQLException {
+        String file = label.replace(' ', '-');
+        String url = "jdbc:h2:file:" + directory.resolve(file).toAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                    CREATE TABLE reservations (
+                        id %s PRIMARY KEY,
+                        store_id VARCHAR(50) NOT NULL,
+                        sku VARCHAR(20) NOT NULL,
+                        quantity INT NOT NULL,
+                        customer_id VARCHAR(50) NOT NULL,
+                        status VARCHAR(20) NOT NULL,
+                        created_at TIMESTAMP NOT NULL,
+                        expires_at TIMESTAMP NOT NULL
+                    )""".formatted(keyType));
+            }
+            connection.setAutoCommit(false);
+
+            insert(connection, key, 0, ROWS, 10_000);
+
+            long begin = System.nanoTime();
+            insert(connection, key, ROWS, MEASURED_INSERTS, TRANSACTION_SIZE);
+            double seconds = (System.nanoTime() - begin) / 1e9;
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CHECKPOINT SYNC");
+            }
+            long bytes = Files.size(directory.resolve(file + ".mv.db"));
+            return String.format("%-14s %,12.0f %,12.0f", label, MEASURED_INSERTS / seconds, bytes / 1e6);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void insert(Connection connection, LongFunction<Object> key, long from, int count, int perTransaction)
+            throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expires = Timestamp.valueOf(LocalDateTime.now().plusMinutes(15));
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO reservations VALUES (?, 'STORE-01', 'SKU123', 1, 'CUST-BENCH', 'RESERVED', ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                insert.setObject(1, key.apply(from + i));
+                insert.setTimestamp(2, now);
+                insert.setTimestamp(3, expires);
+                insert.addBatch();
+                if ((i + 1) % perTransaction == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+}
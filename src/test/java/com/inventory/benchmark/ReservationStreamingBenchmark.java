@@ -0,0 +1,172 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.adapters.output.persistence.entity.ReservationStatusEntity;
+import com.inventory.adapters.output.persistence.repository.ReservationJpaRepository;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.ReservationIdGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lists {@code benchmark.rows} RESERVED reservations (default 1M) through the NDJSON
+ * endpoint, following the keyset cursor page by page over real HTTP, and samples the
+ * live heap (after a full GC) every 250 ms. For contrast, it first measures the live heap
+ * of the same rows loaded with the unpaged {@code findByStatus}. Uses an H2 file database
+ * so the table itself is not on the heap.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ReservationStreamingBenchmark}.
+ */
+@Tag("benchmark")
+class ReservationStreamingBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int PAGE_SIZE = 100_000;
+
+    @Test
+    void listsEveryReservationInBoundedMemory() throws Exception {
+        Path directory = Files.createTempDirectory("reservation-listing");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .profiles("test")
+                .run(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("listing").toAbsolutePath(),
+                    "--spring.jpa.hibernate.ddl-auto=create",
+                    "--inventory.expiry.enabled=false",
+                    "--logging.level.com.inventory=WARN"
+                )) {
+
+            seed(context);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            long baseline = liveHeap();
+            var unpaged = context.getBean(ReservationJpaRepository.class).findByStatus(ReservationStatusEntity.RESERVED);
+            long unpagedHeap = liveHeap() - baseline;
+            int unpagedRows = unpaged.size();
+            unpaged = null;
+
+            baseline = liveHeap();
+            AtomicLong peak = new AtomicLong(baseline);
+            Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peak.accumulateAndGet(liveHeap(), Math::max);
+                    try {
+                        Thread.sleep(250);
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+            });
+
+            long begin = System.nanoTime();
+            long[] listed = list(port);
+            double seconds = (System.nanoTime() - begin) / 1e9;
+            sampler.interrupt();
+            sampler.join();
+
+            long streamHeap = peak.get() - baseline;
+            System.out.printf("%n=== Listing %,d RESERVED reservations ===%n", ROWS);
+            System.out.printf("%-28s %12s %10s %14s%n", "path", "rows/s", "MB sent", "live heap (MB)");
+            System.out.printf("%-28s %12s %10s %,14.1f%n", "findByStatus (load only)", "-", "-", unpagedHeap / 1e6);
+            System.out.printf("%-28s %,12.0f %,10.1f %,14.1f%n",
+                "NDJSON, pages of " + PAGE_SIZE, listed[0] / seconds, listed[1] / 1e6, streamHeap / 1e6);
+
+            assertThat(unpagedRows).isEqualTo(ROWS);
+            assertThat(listed[0]).isEqualTo(ROWS);
+            // Rows are written to the socket as they are read: the live set must not grow with the result
+            assertThat(streamHeap).isLessThan(64L << 20);
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    // Follows the cursor to the end; returns {lines, bytes}
+    private long[] list(int port) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        long lines = 0;
+        long bytes = 0;
+        String after = null;
+        int pageLines;
+        do {
+            String uri = "http://localhost:" + port + "/api/v1/inventory/reservations?status=RESERVED&limit=" + PAGE_SIZE
+                + (after == null ? "" : "&after=" + after);
+            HttpResponse<InputStream> response = client.send(
+                HttpRequest.newBuilder(URI.create(uri)).build(),
+                HttpResponse.BodyHandlers.ofInputStream()
+            );
+            assertThat(response.statusCode()).isEqualTo(200);
+
+            pageLines = 0;
+            String last = null;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    pageLines++;
+                    bytes += line.length() + 1;
+                    last = line;
+                }
+            }
+            lines += pageLines;
+            if (last != null) {
+                // {"reservationId":"RES-...", ...}
+                int start = last.indexOf("RES-");
+                after = last.substring(start, start + 17);
+            }
+        } while (pageLines == PAGE_SIZE);
+        return new long[] {lines, bytes};
+    }
+
+    private void seed(ConfigurableApplicationContext context) throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        try (Connection connection = context.getBean(DataSource.class).getConnection();
+             PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO reservations (id, store_id, sku, quantity, customer_id, status, created_at, expires_at)
+                VALUES (?, 'STORE-LIST', ?, 1, ?, 'RESERVED', ?, ?)""")) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < ROWS; i++) {
+                insert.setLong(1, ReservationIdGenerator.parse(ReservationId.generate().value()).getAsLong());
+                insert.setString(2, "SKU9" + String.format("%05d", i % 100));
+                insert.setString(3, "CUST-" + i % 10_000);
+                insert.setTimestamp(4, Timestamp.valueOf(now));
+                insert.setTimestamp(5, Timestamp.valueOf(now.plusMinutes(15)));
+                insert.addBatch();
+                if ((i + 1) % 10_000 == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static long liveHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
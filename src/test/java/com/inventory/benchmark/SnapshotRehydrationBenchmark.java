@@ -0,0 +1,143 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.application.port.input.RehydrateInventoryUseCase;
+import com.inventory.application.port.input.RehydratedInventory;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.InventorySnapshot;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rehydration time of one aggregate as its history grows: {@code benchmark.sizes} events
+ * (default 10k, 100k and 1M) behind a snapshot, plus a tail of {@link #TAIL} newer events.
+ * Compares loading the snapshot and replaying the tail against replaying the whole
+ * history; each is the median of a few runs. JPA event table on an H2 file database.
+ * Run with {@code mvn test -Pbenchmark -Dtest=SnapshotRehydrationBenchmark}.
+ */
+@Tag("benchmark")
+class SnapshotRehydrationBenchmark {
+
+    private static final int[] SIZES = Arrays.stream(System.getProperty("benchmark.sizes", "10000,100000,1000000")
+        .split(",")).mapToInt(Integer::parseInt).toArray();
+    private static final int TAIL = 100;
+    private static final int BATCH = 5_000;
+    private static final StoreId STORE = StoreId.of("STORE-01");
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void keepsRehydrationFlatAsHistoryGrows() throws Exception {
+        Path directory = Files.createTempDirectory("snapshot-rehydration");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .profiles("test")
+                .run(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("db").toAbsolutePath(),
+                    "--spring.jpa.hibernate.ddl-auto=create",
+                    "--inventory.expiry.enabled=false",
+                    "--inventory.snapshots.enabled=false",
+                    "--logging.level.com.inventory=WARN"
+                )) {
+
+            EventStore eventStore = context.getBean(EventStore.class);
+            RehydrateInventoryUseCase rehydration = context.getBean(RehydrateInventoryUseCase.class);
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            System.out.printf("%n=== one aggregate, snapshot + %d tail events vs full replay ===%n", TAIL);
+            System.out.printf("%-10s %14s %16s %16s%n", "history", "snapshot ms", "rehydrate ms", "full replay ms");
+            for (int a = 0; a < SIZES.length; a++) {
+                int history = SIZES[a];
+                Sku sku = Sku.of("SKU9" + String.format("%05d", a));
+                String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+
+                // History, then a snapshot covering it, then the tail
+                append(eventStore, transaction, sku, 0, history);
+                long begin = System.nanoTime();
+                rehydration.takeSnapshot(aggregateId, START.plusNanos(history * 1_000L));
+                double snapshotMillis = (System.nanoTime() - begin) / 1e6;
+                append(eventStore, transaction, sku, history, history + TAIL);
+
+                RehydratedInventory rehydrated = rehydration.rehydrate(aggregateId);
+                double rehydrateMillis = median(20, () -> rehydration.rehydrate(aggregateId).replayedEvents());
+                double replayMillis = median(3, () -> transaction.execute(status ->
+                    InventorySnapshot.empty(aggregateId).fold(eventStore.findByAggregateId(aggregateId)).eventCount()));
+
+                System.out.printf("%,10d %,14.0f %,16.1f %,16.1f%n", history, snapshotMillis, rehydrateMillis, replayMillis);
+
+                assertThat(rehydrated.replayedEvents()).isEqualTo(TAIL);
+                assertThat(rehydrated.state().eventCount()).isEqualTo(history + TAIL);
+                assertThat(rehydrated.state().of(STORE).reserved()).isEqualTo(expectedReserved(history + TAIL));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void append(EventStore eventStore, TransactionTemplate transaction, Sku sku, int from, int to) {
+        for (int first = from; first < to; first += BATCH) {
+            List<DomainEvent> batch = new ArrayList<>(BATCH);
+            for (int i = first; i < Math.min(first + BATCH, to); i++) {
+                batch.add(event(sku, i));
+            }
+            transaction.executeWithoutResult(status -> eventStore.storeAll(batch));
+        }
+    }
+
+    // One event per microsecond, so the snapshot watermark falls exactly between history and tail
+    private static DomainEvent event(Sku sku, int i) {
+        LocalDateTime timestamp = START.plusNanos((i + 1) * 1_000L);
+        if (i % 10 == 0) {
+            StockAddedEvent event = StockAddedEvent.create(STORE, sku, 10, "Restock");
+            return new StockAddedEvent(event.eventId(), event.eventType(), timestamp, event.aggregateId(),
+                event.storeId(), event.sku(), event.quantity(), event.reason());
+        }
+        StockReservedEvent event = StockReservedEvent.create("RES-" + i, STORE, sku, 1, "CUST-" + i % 1_000);
+        return new StockReservedEvent(event.eventId(), event.eventType(), timestamp, event.aggregateId(),
+            event.reservationId(), event.storeId(), event.sku(), event.quantity(), event.customerId());
+    }
+
+    private static long expectedReserved(int events) {
+        return events - (events + 9) / 10;
+    }
+
+    private static double median(int runs, Run run) {
+        double[] millis = new double[runs];
+        long sink = 0;
+        for (int i = 0; i < runs; i++) {
+            long begin = System.nanoTime();
+            sink += run.run();
+            millis[i] = (System.nanoTime() - begin) / 1e6;
+        }
+        assertThat(sink).isPositive();
+        Arrays.sort(millis);
+        return millis[runs / 2];
+    }
+
+    @FunctionalInterface
+    private interface Run {
+        long run();
+    }
+}
@@ -0,0 +1,192 @@
+package com.inventory.benchmark;
+
+import com.inventory.InventoryServiceApplication;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Full HTTP stack with 10k concurrent client connections, half reserving and half
+ * querying, on platform threads (Tomcat pool) vs. virtual threads.
+ * Run with {@code mvn test -Pbenchmark -Dtest=VirtualThreadsBenchmark};
+ * {@code -Dbenchmark.connections=N} changes the connection count.
+ */
+@Tag("benchmark")
+class VirtualThreadsBenchmark {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 10_000);
+    private static final Duration RUN_TIME = Duration.ofSeconds(10);
+    private static final Duration WARM_UP = Duration.ofSeconds(10);
+    private static final int WARM_UP_CONNECTIONS = 32;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SKUS = 64;
+    private static final String STORE = "STORE-01";
+
+    @Test
+    void reserveAndQueryUnderTenThousandConnections() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add(measure("platform threads", false));
+        rows.add(measure("virtual threads", true));
+
+        System.out.printf("%n=== %,d connections (50%% reserve, 50%% query), %ds ===%n",
+            CONNECTIONS, RUN_TIME.toSeconds());
+        System.out.printf("%-18s %10s %10s %10s %10s %10s %12s%n",
+            "threads", "ok/s", "p50 (ms)", "p99 (ms)", "errors", "timeouts", "pinned");
+        rows.forEach(System.out::println);
+    }
+
+    private String measure(String label, boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .profiles("test")
+                .run(
+                    "--server.port=0",
+                    "--spring.threads.virtual.enabled=" + virtual,
+                    "--spring.datasource.url=jdbc:h2:mem:virtual-" + virtual + ";LOCK_TIMEOUT=30000",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.inventory=WARN",
+                    "--logging.level.org.hibernate=WARN"
+                )) {
+
+            InventoryJpaRepository inventoryJpaRepository = context.getBean(InventoryJpaRepository.class);
+            for (int i = 0; i < SKUS; i++) {
+                seed(inventoryJpaRepository, sku(i));
+            }
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            URI base = URI.create("http://localhost:" + port + "/api/v1/inventory");
+
+            // Warm-up: JIT and Hibernate first-execution costs, with a modest connection count
+            run(base, WARM_UP_CONNECTIONS, WARM_UP);
+
+            Result result = run(base, CONNECTIONS, RUN_TIME);
+            Arrays.sort(result.latencies);
+
+            Timer pinned = context.getBean(MeterRegistry.class).find("jvm.threads.virtual.pinned").timer();
+
+            return String.format("%-18s %,10.0f %10.2f %10.2f %,10d %,10d %12s",
+                label,
+                result.latencies.length / (double) RUN_TIME.toSeconds(),
+                percentile(result.latencies, 0.50),
+                percentile(result.latencies, 0.99),
+                result.errors,
+                result.timeouts,
+                !virtual ? "n/a" : pinned == null ? "0" : String.format("%d/%.0fms",
+                    pinned.count(), pinned.totalTime(TimeUnit.MILLISECONDS)));
+        }
+    }
+
+    private Result run(URI base, int connections, Duration duration) throws Exception {
+        // Async client on a few platform threads: virtual client threads would share the
+        // server's carrier threads and measure the client instead of the server
+        ExecutorService clientThreads = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .executor(clientThreads)
+            .build();
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder errors = new LongAdder();
+        LongAdder timeouts = new LongAdder();
+        List<CompletableFuture<Void>> connectionsDone = new ArrayList<>(connections);
+
+        for (int i = 0; i < connections; i++) {
+            HttpRequest request = i % 2 == 0
+                ? HttpRequest.newBuilder(base.resolve(base.getPath() + "/reserve"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                        "{\"storeId\":\"%s\",\"sku\":\"%s\",\"quantity\":1,\"customerId\":\"BENCH-%d\"}",
+                        STORE, sku(i % SKUS), i)))
+                    .build()
+                : HttpRequest.newBuilder(base.resolve(base.getPath() + "/" + STORE + "/" + sku(i % SKUS)))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+
+            connectionsDone.add(loop(client, request, deadline, latencies, errors, timeouts));
+        }
+
+        CompletableFuture.allOf(connectionsDone.toArray(CompletableFuture[]::new))
+            .get(duration.toSeconds() + REQUEST_TIMEOUT.toSeconds() + 60, TimeUnit.SECONDS);
+        clientThreads.shutdownNow();
+
+        return new Result(latencies.stream().mapToLong(Long::longValue).toArray(), errors.sum(), timeouts.sum());
+    }
+
+    private CompletableFuture<Void> loop(
+            HttpClient client,
+            HttpRequest request,
+            long deadline,
+            Queue<Long> latencies,
+            LongAdder errors,
+            LongAdder timeouts) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long begin = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, ex) -> {
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                    (cause instanceof HttpTimeoutException ? timeouts : errors).increment();
+                } else if (response.statusCode() >= 300) {
+                    errors.increment();
+                } else {
+                    latencies.add(System.nanoTime() - begin);
+                }
+                return null;
+            })
+            .thenCompose(ignored -> loop(client, request, deadline, latencies, errors, timeouts));
+    }
+
+    private record Result(long[] latencies, long errors, long timeouts) {
+    }
+
+    private double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private String sku(int i) {
+        return "SKU8" + String.format("%05d", i);
+    }
+
+    private void seed(InventoryJpaRepository inventoryJpaRepository, String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE)
+            .sku(sku)
+            .productName("Benchmark item")
+            .availableStock(10_000_000)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+    }
+}
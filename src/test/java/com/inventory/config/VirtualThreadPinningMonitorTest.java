@@ -0,0 +1,57 @@
+package com.inventory.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor =
+        new VirtualThreadPinningMonitor(meterRegistry, new VirtualThreadProperties(Duration.ofMillis(10), 0, null));
+
+    private final Object lock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void shouldReportVirtualThreadsBlockingInsideSynchronized() throws Exception {
+        // Given
+        monitor.start();
+
+        // When - sleeping while holding a monitor pins the carrier thread
+        Thread.ofVirtual().start(this::sleepHoldingLock).join();
+
+        // Then - JFR streams events in chunks, so poll for a while
+        Timer pinned = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (pinned == null && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+            pinned = meterRegistry.find("jvm.threads.virtual.pinned").timer();
+        }
+
+        assertThat(pinned).isNotNull();
+        assertThat(pinned.count()).isGreaterThanOrEqualTo(1);
+        assertThat(pinned.getId().getTag("site")).isEqualTo(
+            VirtualThreadPinningMonitorTest.class.getName() + ".sleepHoldingLock");
+    }
+
+    private void sleepHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.inventory.domain.model;
+
+import com.inventory.domain.event.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InventorySnapshotTest {
+    
+    private final StoreId store = StoreId.of("STORE-01");
+    private final StoreId otherStore = StoreId.of("STORE-02");
+    private final Sku sku = Sku.of("SKU123");
+    
+    @Test
+    void shouldFoldEventsIntoSignedMovementsPerStore() {
+        // Given
+        List<DomainEvent> events = List.of(
+            StockAddedEvent.create(store, sku, 10, "Restock"),
+            StockReservedEvent.create("RES-1", store, sku, 4, "CUST-1"),
+            StockCommittedEvent.create("RES-1", store, sku, 3, "CUST-1"),
+            StockReleasedEvent.create("RES-1", store, sku, 1, "EXPIRED"),
+            StockReservedEvent.create("RES-2", otherStore, sku, 2, "CUST-2")
+        );
+        
+        // When
+        InventorySnapshot snapshot = InventorySnapshot.empty(sku.value()).fold(events);
+        
+        // Then
+        assertThat(snapshot.of(store)).isEqualTo(new StockMovement(7, 0, 3));
+        assertThat(snapshot.of(otherStore)).isEqualTo(new StockMovement(-2, 2, 0));
+        assertThat(snapshot.of(StoreId.of("STORE-03"))).isEqualTo(StockMovement.NONE);
+        assertThat(snapshot.eventCount()).isEqualTo(5);
+    }
+    
+    @Test
+    void shouldNotDependOnFoldOrder() {
+        // Given
+        DomainEvent reserved = StockReservedEvent.create("RES-1", store, sku, 4, "CUST-1");
+        DomainEvent committed = StockCommittedEvent.create("RES-1", store, sku, 4, "CUST-1");
+        InventorySnapshot empty = InventorySnapshot.empty(sku.value());
+        
+        // When / Then
+        assertThat(empty.fold(List.of(committed)).fold(List.of(reserved)))
+            .isEqualTo(empty.fold(List.of(reserved, committed)));
+    }
+    
+    @Test
+    void shouldCoverEventsUpToItsWatermark() {
+        // Given
+        LocalDateTime watermark = LocalDateTime.of(2025, 1, 1, 12, 0);
+        InventorySnapshot snapshot = InventorySnapshot.empty(sku.value()).coveringUntil(watermark, watermark);
+        
+        // When / Then
+        assertThat(snapshot.covers(addedAt(watermark.minusNanos(1000)))).isTrue();
+        assertThat(snapshot.covers(addedAt(watermark))).isTrue();
+        assertThat(snapshot.covers(addedAt(watermark.plusNanos(1000)))).isFalse();
+        assertThat(InventorySnapshot.empty(sku.value()).covers(addedAt(watermark))).isFalse();
+    }
+    
+    private DomainEvent addedAt(LocalDateTime timestamp) {
+        StockAddedEvent event = StockAddedEvent.create(store, sku, 1, null);
+        return new StockAddedEvent(event.eventId(), event.eventType(), timestamp, event.aggregateId(),
+            event.storeId(), event.sku(), event.quantity(), event.reason());
+    }
+}
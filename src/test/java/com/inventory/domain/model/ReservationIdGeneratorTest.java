@@ -0,0 +1,112 @@
+package com.inventory.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReservationIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-10-18T12:00:00Z").toEpochMilli();
+
+    @Test
+    void shouldGenerateIncreasingIdsThatSortLikeTheirNumbers() {
+        // Given
+        ReservationIdGenerator generator = new ReservationIdGenerator(7, System::currentTimeMillis);
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+
+        // Then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids.stream().map(ReservationIdGenerator::format).toList()).isSorted();
+        assertThat(ids).allMatch(id -> (id >>> 12 & 0x3FF) == 7);
+    }
+
+    @Test
+    void shouldKeepCountingWhenTheSequenceRunsOutOrTheClockStepsBack() {
+        // Given - a clock frozen, then moved one second back
+        AtomicLong clock = new AtomicLong(NOW);
+        ReservationIdGenerator generator = new ReservationIdGenerator(1, clock::get);
+
+        // When - more ids than the 4096 a millisecond holds
+        long previous = 0;
+        for (int i = 0; i < 5_000; i++) {
+            long id = generator.next();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        clock.addAndGet(-1_000);
+        long afterStepBack = generator.next();
+
+        // Then
+        assertThat(afterStepBack).isGreaterThan(previous);
+        assertThat(ReservationIdGenerator.timestampOf(afterStepBack)).isAfter(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void shouldNotRepeatIdsAcrossThreads() throws Exception {
+        // Given
+        ReservationIdGenerator generator = new ReservationIdGenerator(3, System::currentTimeMillis);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.next());
+                }
+                return ids;
+            }));
+        }
+
+        // Then
+        Set<Long> all = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            List<Long> ids = future.get(10, TimeUnit.SECONDS);
+            assertThat(ids).isSorted();
+            all.addAll(ids);
+        }
+        executor.shutdown();
+        assertThat(all).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void shouldRoundTripTheTextForm() {
+        long id = new ReservationIdGenerator(1023, () -> NOW).next();
+
+        String text = ReservationIdGenerator.format(id);
+
+        assertThat(text).startsWith("RES-").hasSize(17);
+        assertThat(ReservationIdGenerator.parse(text)).hasValue(id);
+        assertThat(ReservationIdGenerator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(ReservationIdGenerator.parse(ReservationIdGenerator.format(Long.MAX_VALUE))).hasValue(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldNotParseOtherIdentifiers() {
+        assertThat(ReservationIdGenerator.parse("RES-550e8400-e29b-41d4-a716-446655440000")).isEmpty();
+        assertThat(ReservationIdGenerator.parse("RES-UNKNOWN")).isEmpty();
+        assertThat(ReservationIdGenerator.parse("RES-00000000000IL")).isEmpty();
+        assertThat(ReservationIdGenerator.parse("RES-G000000000000")).isEmpty();
+        assertThat(ReservationIdGenerator.parse(null)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectNodesOutsideTenBits() {
+        assertThatThrownBy(() -> new ReservationIdGenerator(1024, System::currentTimeMillis))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
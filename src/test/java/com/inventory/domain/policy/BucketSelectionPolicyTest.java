@@ -0,0 +1,70 @@
+package com.inventory.domain.policy;
+
+import com.inventory.domain.model.Stock;
+import com.inventory.domain.model.StockBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BucketSelectionPolicyTest {
+    
+    private BucketSelectionPolicy policy;
+    
+    @BeforeEach
+    void setUp() {
+        policy = new BucketSelectionPolicy();
+    }
+    
+    @Test
+    void shouldSpreadAvailableStockEvenly() {
+        // When
+        List<StockBucket> buckets = policy.slice(new Stock(10, 3, 2), 4);
+        
+        // Then
+        assertThat(buckets).extracting(b -> b.stock().availableStock()).containsExactly(3, 3, 2, 2);
+        assertThat(buckets.get(0).stock().reservedStock()).isEqualTo(3);
+        assertThat(buckets.get(0).stock().soldStock()).isEqualTo(2);
+        assertThat(policy.total(buckets)).isEqualTo(new Stock(10, 3, 2));
+    }
+    
+    @Test
+    void shouldStartEachProbeOnADifferentBucket() {
+        // When
+        int[] first = policy.probeOrder(4);
+        int[] second = policy.probeOrder(4);
+        
+        // Then - every bucket is visited once, starting one step further each call
+        assertThat(first).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(second[0]).isEqualTo((first[0] + 1) % 4);
+        assertThat(second[1]).isEqualTo((second[0] + 1) % 4);
+    }
+    
+    @Test
+    void shouldRebalanceWithoutChangingTotals() {
+        // Given - bucket 1 drained by reservations
+        List<StockBucket> buckets = List.of(
+            new StockBucket(0, new Stock(9, 1, 0)),
+            new StockBucket(1, new Stock(0, 5, 0)),
+            new StockBucket(2, new Stock(4, 0, 1))
+        );
+        
+        // When
+        List<StockBucket> rebalanced = policy.rebalance(buckets);
+        
+        // Then
+        assertThat(rebalanced).extracting(b -> b.stock().availableStock()).containsExactly(5, 4, 4);
+        assertThat(rebalanced).extracting(b -> b.stock().reservedStock()).containsExactly(1, 5, 0);
+        assertThat(policy.total(rebalanced)).isEqualTo(policy.total(buckets));
+    }
+    
+    @Test
+    void shouldRejectBucketCountOutOfRange() {
+        assertThatThrownBy(() -> policy.slice(new Stock(10, 0, 0), 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> policy.validateBucketCount(65))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
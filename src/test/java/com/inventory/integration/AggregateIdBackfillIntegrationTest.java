@@ -0,0 +1,92 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.EventEntity;
+import com.inventory.adapters.output.persistence.mapper.EventPersistenceMapper;
+import com.inventory.adapters.output.persistence.migration.AggregateIdBackfill;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:aggregate-backfill-test",
+    "inventory.event-store.backfill-aggregate-ids=false"
+})
+@ActiveProfiles("test")
+class AggregateIdBackfillIntegrationTest {
+
+    private static final StoreId NORTH = StoreId.of("STORE-21");
+    private static final StoreId SOUTH = StoreId.of("STORE-22");
+    private static final Sku SKU = Sku.of("SKU210001");
+
+    @Autowired
+    private AggregateIdBackfill backfill;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventPersistenceMapper mapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldSplitASkuWideStreamIntoOneStreamPerStore() {
+        // Given - the SKU's stream from before the change, stores interleaved
+        List<DomainEvent> legacy = List.of(legacy(NORTH), legacy(SOUTH), legacy(NORTH), legacy(SOUTH));
+        for (int i = 0; i < legacy.size(); i++) {
+            eventJpaRepository.save(mapper.toEntity(legacy.get(i), i + 1));
+        }
+        // And an event written under the new identity after the upgrade
+        DomainEvent recent = StockAddedEvent.create(NORTH, SKU, 5, "Restock");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventStore.store(recent));
+        String north = InventoryKey.of(NORTH, SKU).aggregateId();
+        String south = InventoryKey.of(SOUTH, SKU).aggregateId();
+
+        // When
+        long moved = backfill.backfill(10);
+
+        // Then - legacy events first, renumbered from 1; the recent one moved after them
+        assertThat(moved).isEqualTo(4);
+        assertThat(eventJpaRepository.findByAggregateIdOrderByVersionAsc(north))
+            .extracting(EventEntity::getEventId, EventEntity::getVersion)
+            .containsExactly(
+                tuple(legacy.get(0).eventId(), 1L),
+                tuple(legacy.get(2).eventId(), 2L),
+                tuple(recent.eventId(), 3L));
+        assertThat(eventStore.currentVersion(north)).isEqualTo(3);
+        assertThat(eventStore.findByAggregateId(south))
+            .extracting(DomainEvent::eventId, DomainEvent::aggregateId)
+            .containsExactly(
+                tuple(legacy.get(1).eventId(), south),
+                tuple(legacy.get(3).eventId(), south));
+        assertThat(eventJpaRepository.findLegacyAggregateIds("", Limit.of(10))).isEmpty();
+        assertThat(backfill.backfill(10)).isZero();
+    }
+
+    // As the factories wrote it before: aggregateId = SKU
+    private static DomainEvent legacy(StoreId store) {
+        StockAddedEvent event = StockAddedEvent.create(store, SKU, 5, "Restock");
+        return new StockAddedEvent(event.eventId(), event.eventType(), event.timestamp(), SKU.value(),
+            event.storeId(), event.sku(), event.quantity(), event.reason());
+    }
+}
@@ -0,0 +1,165 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:atomic-test;LOCK_TIMEOUT=30000",
+    "inventory.concurrency.mode=atomic"
+})
+@ActiveProfiles("test")
+class AtomicStockUpdateIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-08");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @Autowired
+    private QueryStockUseCase queryStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Test
+    void shouldNeverOversellUnderConcurrentReservations() throws Exception {
+        // Given - fewer units than requests
+        Sku sku = seed("SKU600001", 100);
+        int clients = 32;
+        int attemptsPerClient = 5;
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        hammer(clients, () -> {
+            for (int attempt = 0; attempt < attemptsPerClient; attempt++) {
+                var result = reserveStockUseCase.reserve(
+                    new ReserveStockCommand(STORE, sku, 1, "CUST-1")
+                );
+                if (result.isSuccess()) {
+                    reserved.incrementAndGet();
+                } else {
+                    assertThat(result.getError().code()).isEqualTo("VALIDATION_ERROR");
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        InventoryView view = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+        assertThat(reserved.get()).isEqualTo(100);
+        assertThat(rejected.get()).isEqualTo(clients * attemptsPerClient - 100);
+        assertThat(view.availableStock()).isZero();
+        assertThat(view.reservedStock()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldKeepCountersBalancedUnderMixedTransitions() throws Exception {
+        // Given
+        Sku sku = seed("SKU600002", 1_000);
+        int clients = 16;
+        int roundsPerClient = 10;
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger released = new AtomicInteger();
+
+        // When - every client reserves, then commits or releases what it reserved
+        hammer(clients, () -> {
+            List<ReservationId> mine = new ArrayList<>();
+            for (int round = 0; round < roundsPerClient; round++) {
+                mine.add(reserveStockUseCase
+                    .reserve(new ReserveStockCommand(STORE, sku, 3, "CUST-2"))
+                    .getValue());
+            }
+            for (int i = 0; i < mine.size(); i++) {
+                if (i % 2 == 0) {
+                    assertThat(commitStockUseCase
+                        .commit(new CommitStockCommand(mine.get(i).value(), "ORDER-" + i))
+                        .isSuccess()).isTrue();
+                    committed.addAndGet(3);
+                } else {
+                    assertThat(releaseStockUseCase
+                        .release(new ReleaseStockCommand(mine.get(i).value(), "cancelled"))
+                        .isSuccess()).isTrue();
+                    released.addAndGet(3);
+                }
+            }
+        });
+
+        // Then
+        InventoryView view = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+        assertThat(view.reservedStock()).isZero();
+        assertThat(view.soldStock()).isEqualTo(committed.get());
+        assertThat(view.availableStock()).isEqualTo(1_000 - committed.get());
+        assertThat(committed.get() + released.get()).isEqualTo(clients * roundsPerClient * 3);
+    }
+
+    @Test
+    void shouldReportUnknownProduct() {
+        // When
+        var result = reserveStockUseCase.reserve(
+            new ReserveStockCommand(STORE, Sku.of("SKU600999"), 1, "CUST-3")
+        );
+
+        // Then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getError().code()).isEqualTo("PRODUCT_NOT_FOUND");
+    }
+
+    private void hammer(int clients, ThrowingRunnable work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                work.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Atomic item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
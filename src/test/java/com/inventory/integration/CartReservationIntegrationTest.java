@@ -0,0 +1,155 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.input.rest.dto.*;
+import com.inventory.application.port.input.ReserveCartCommand;
+import com.inventory.application.port.input.ReserveCartUseCase;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cart-test")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CartReservationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReserveCartUseCase reserveCartUseCase;
+
+    private static final String BASE_URL = "/api/v1/inventory";
+
+    @Test
+    void shouldReserveEveryLineOfTheCart() throws Exception {
+        // Given
+        ReserveCartRequest request = new ReserveCartRequest("CUST-010", List.of(
+            new ReserveCartRequest.Line("STORE-02", "SKU456", 4),
+            new ReserveCartRequest.Line("STORE-01", "SKU789", 5),
+            new ReserveCartRequest.Line("STORE-01", "SKU789", 1)
+        ));
+
+        // When/Then - one reservation per line, in request order
+        mockMvc.perform(post(BASE_URL + "/reserve/cart")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.reservations.length()").value(3))
+            .andExpect(jsonPath("$.reservations[0].sku").value("SKU456"))
+            .andExpect(jsonPath("$.reservations[0].status").value("RESERVED"))
+            .andExpect(jsonPath("$.reservations[1].quantity").value(5))
+            .andExpect(jsonPath("$.reservations[2].reservationId").exists());
+
+        mockMvc.perform(get(BASE_URL + "/STORE-01/SKU789"))
+            .andExpect(jsonPath("$.availableStock").value(69))
+            .andExpect(jsonPath("$.reservedStock").value(6));
+
+        mockMvc.perform(get(BASE_URL + "/STORE-02/SKU456"))
+            .andExpect(jsonPath("$.availableStock").value(36))
+            .andExpect(jsonPath("$.reservedStock").value(4));
+    }
+
+    @Test
+    void shouldReserveNothingWhenOneLineFails() throws Exception {
+        // Given - the second line asks for more than STORE-03 has
+        ReserveCartRequest request = new ReserveCartRequest("CUST-011", List.of(
+            new ReserveCartRequest.Line("STORE-02", "SKU123", 10),
+            new ReserveCartRequest.Line("STORE-03", "SKU789", 61)
+        ));
+
+        // When/Then
+        mockMvc.perform(post(BASE_URL + "/reserve/cart")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("VALIDATION_ERROR"))
+            .andExpect(jsonPath("$.details.lines.length()").value(1))
+            .andExpect(jsonPath("$.details.lines[0].line").value(1));
+
+        mockMvc.perform(get(BASE_URL + "/STORE-02/SKU123"))
+            .andExpect(jsonPath("$.availableStock").value(80))
+            .andExpect(jsonPath("$.reservedStock").value(0));
+    }
+
+    @Test
+    void shouldFailWholeCartWhenAProductIsUnknown() throws Exception {
+        // Given
+        ReserveCartRequest request = new ReserveCartRequest("CUST-012", List.of(
+            new ReserveCartRequest.Line("STORE-02", "SKU123", 1),
+            new ReserveCartRequest.Line("STORE-02", "SKU999", 1)
+        ));
+
+        // When/Then
+        mockMvc.perform(post(BASE_URL + "/reserve/cart")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("PRODUCT_NOT_FOUND"));
+
+        mockMvc.perform(get(BASE_URL + "/STORE-02/SKU123"))
+            .andExpect(jsonPath("$.reservedStock").value(0));
+    }
+
+    @Test
+    void shouldRejectEmptyCart() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/reserve/cart")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ReserveCartRequest("CUST-013", List.of()))))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldNotDeadlockWhenCartsLockTheSameRowsInOppositeOrder() throws Exception {
+        // Given - half the carts list the rows A,B and the other half B,A
+        ReserveCartCommand.Line a = new ReserveCartCommand.Line(StoreId.of("STORE-01"), Sku.of("SKU123"), 1);
+        ReserveCartCommand.Line b = new ReserveCartCommand.Line(StoreId.of("STORE-01"), Sku.of("SKU456"), 1);
+        int clients = 8;
+        int cartsPerClient = 3;
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < clients; i++) {
+            List<ReserveCartCommand.Line> lines = i % 2 == 0 ? List.of(a, b) : List.of(b, a);
+            futures.add(executor.submit(() -> {
+                start.await();
+                int reserved = 0;
+                for (int cart = 0; cart < cartsPerClient; cart++) {
+                    if (reserveCartUseCase.reserveCart(new ReserveCartCommand("CUST-014", lines)).isSuccess()) {
+                        reserved++;
+                    }
+                }
+                return reserved;
+            }));
+        }
+        start.countDown();
+
+        // Then - every cart succeeds; none is killed by a lock timeout
+        int reserved = 0;
+        for (Future<Integer> future : futures) {
+            reserved += future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertThat(reserved).isEqualTo(clients * cartsPerClient);
+    }
+}
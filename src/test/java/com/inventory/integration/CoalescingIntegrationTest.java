@@ -0,0 +1,107 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.ReservationJpaRepository;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:coalescing-test;LOCK_TIMEOUT=30000",
+    "inventory.coalescing.enabled=true",
+    "inventory.coalescing.window=20ms",
+    "inventory.coalescing.max-batch-size=16"
+})
+@ActiveProfiles("test")
+class CoalescingIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-07");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private QueryStockUseCase queryStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Test
+    void shouldApplyBatchedReservationsAndRejectTheOverflowIndividually() throws Exception {
+        // Given - room for 25 reservations of 2 units, 40 concurrent requests
+        Sku sku = seed("SKU500001", 50);
+        int clients = 40;
+        long reservationsBefore = reservationJpaRepository.count();
+        long eventsBefore = eventJpaRepository.count();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < clients; i++) {
+            String customer = "CUST-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                var result = reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, 2, customer));
+                if (result.isSuccess()) {
+                    succeeded.incrementAndGet();
+                } else if (result.getError().code().equals("VALIDATION_ERROR")) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(succeeded.get()).isEqualTo(25);
+        assertThat(rejected.get()).isEqualTo(15);
+
+        InventoryView view = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+        assertThat(view.availableStock()).isZero();
+        assertThat(view.reservedStock()).isEqualTo(50);
+
+        assertThat(reservationJpaRepository.count() - reservationsBefore).isEqualTo(25);
+        assertThat(eventJpaRepository.count() - eventsBefore).isEqualTo(25);
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Coalesced item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
@@ -0,0 +1,140 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.codec.EventPayloadFormat;
+import com.inventory.adapters.output.persistence.codec.EventPayloadMigrator;
+import com.inventory.adapters.output.persistence.entity.EventEntity;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.EventDictionaryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.ReserveStockCommand;
+import com.inventory.application.port.input.ReserveStockUseCase;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:event-codec-test",
+    "inventory.event-codec.format=binary",
+    "spring.datasource.hikari.maximum-pool-size=4",
+    "spring.datasource.hikari.connection-timeout=3000"
+})
+@ActiveProfiles("test")
+class EventCodecIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-17");
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventDictionaryJpaRepository eventDictionaryJpaRepository;
+
+    @Autowired
+    private EventPayloadMigrator migrator;
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Test
+    void shouldReadOldJsonRowsNextToBinaryOnesAndReEncodeThem() {
+        // Given - a row written before the format marker existed, then a new binary one
+        Sku sku = seed("SKU170001");
+        StockAddedEvent legacy = StockAddedEvent.create(STORE, sku, 5, "Initial load");
+        legacy = new StockAddedEvent(legacy.eventId(), legacy.eventType(),
+            legacy.timestamp().minusMinutes(1).truncatedTo(ChronoUnit.MICROS), legacy.aggregateId(),
+            legacy.storeId(), legacy.sku(), legacy.quantity(), legacy.reason());
+        eventJpaRepository.save(EventEntity.builder()
+            .eventId(legacy.eventId())
+            .eventType(legacy.eventType())
+            .aggregateId(legacy.aggregateId())
+            .aggregateType("Inventory")
+            .payload("""
+                {"eventId":"%s","eventType":"StockAdded","timestamp":"%s","aggregateId":"%s",\
+                "storeId":{"value":"STORE-17"},"sku":{"value":"SKU170001"},"quantity":5,"reason":"Initial load"}"""
+                .formatted(legacy.eventId(), legacy.timestamp(), legacy.aggregateId()))
+            .timestamp(legacy.timestamp())
+            .version(1L)
+            .build());
+        reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, 2, "CUST-CODEC"));
+
+        // When
+        List<DomainEvent> before = eventStore.findByAggregateId(InventoryKey.of(STORE, sku).aggregateId());
+        long rewritten = migrator.migrate(1);
+
+        // Then
+        assertThat(before).hasSize(2);
+        assertThat(before.get(0)).isEqualTo(legacy);
+        assertThat(before.get(1).eventType()).isEqualTo("StockReserved");
+        assertThat(rewritten).isGreaterThanOrEqualTo(1);
+        assertThat(eventJpaRepository.findByAggregateIdOrderByTimestampAsc(InventoryKey.of(STORE, sku).aggregateId())).allSatisfy(row -> {
+            assertThat(EventPayloadFormat.of(row.getPayloadFormat())).isEqualTo(EventPayloadFormat.BINARY);
+            assertThat(row.getPayload()).isNull();
+            assertThat(row.getBinaryPayload().length).isLessThan(40);
+        });
+        assertThat(eventStore.findByAggregateId(InventoryKey.of(STORE, sku).aggregateId())).containsExactlyElementsOf(before);
+        assertThat(eventDictionaryJpaRepository.findByTerm(STORE.value())).isPresent();
+        assertThat(migrator.migrate(10)).isZero();
+    }
+
+    @Test
+    void shouldRegisterNewTermsWithoutASecondConnectionFromTheApplicationPool() throws Exception {
+        // Given - more concurrent first reservations of unseen SKUs than the pool has connections
+        List<Sku> skus = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            skus.add(seed("SKU17%04d".formatted(100 + i)));
+        }
+
+        // When
+        List<Future<Boolean>> reservations = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(skus.size())) {
+            for (Sku sku : skus) {
+                reservations.add(executor.submit(() ->
+                    reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, 1, "CUST-CODEC")).isSuccess()));
+            }
+        }
+
+        // Then
+        for (Future<Boolean> reservation : reservations) {
+            assertThat(reservation.get()).isTrue();
+        }
+        assertThat(skus).allSatisfy(sku ->
+            assertThat(eventDictionaryJpaRepository.findByTerm(sku.value())).isPresent());
+    }
+
+    private Sku seed(String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Encoded item")
+            .availableStock(10)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
@@ -0,0 +1,136 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.EventEntity;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.application.port.input.RehydrateInventoryUseCase;
+import com.inventory.application.port.input.RehydratedInventory;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.application.retention.EventRetention;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:event-retention-test",
+    "inventory.retention.enabled=true",
+    "inventory.retention.horizon=30d"
+})
+@ActiveProfiles("test")
+class EventRetentionIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-23");
+
+    @DynamicPropertySource
+    static void archiveDirectory(DynamicPropertyRegistry registry) {
+        Path directory = Path.of(System.getProperty("java.io.tmpdir"), "event-archive-test-" + UUID.randomUUID());
+        registry.add("inventory.retention.directory", directory::toString);
+    }
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private EventRetention eventRetention;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private RehydrateInventoryUseCase rehydrateInventory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldArchiveSnapshottedHistoryAndStillAnswerTimeRangeReads() {
+        // Given - five events from 40 days ago, one from now, and a snapshot covering the old ones
+        Sku sku = Sku.of("SKU230001");
+        String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+        List<DomainEvent> history = history(sku);
+        assertThat(rehydrateInventory.takeSnapshot(aggregateId, LocalDateTime.now().minusDays(10))).isPresent();
+
+        // When
+        long moved = eventRetention.runOnce();
+
+        // Then - the hot store keeps the latest event and its version
+        assertThat(moved).isEqualTo(5);
+        assertThat(eventJpaRepository.findByAggregateIdOrderByVersionAsc(aggregateId))
+            .extracting(EventEntity::getEventId, EventEntity::getVersion)
+            .containsExactly(tuple(history.getLast().eventId(), 6L));
+        assertThat(eventStore.currentVersion(aggregateId)).isEqualTo(6);
+        // And history reads answer from both tiers
+        assertThat(eventStore.findByAggregateIdAndTimestamp(
+                aggregateId, history.get(1).timestamp(), LocalDateTime.now()))
+            .containsExactlyElementsOf(history.subList(1, 6));
+        assertThat(eventStore.findByAggregateId(aggregateId)).containsExactlyElementsOf(history);
+        RehydratedInventory current = rehydrateInventory.rehydrate(aggregateId);
+        assertThat(current.replayedEvents()).isEqualTo(1);
+        assertThat(current.state().eventCount()).isEqualTo(6);
+        // Nothing left to move
+        assertThat(eventRetention.runOnce()).isZero();
+    }
+
+    @Test
+    void shouldReplayTheArchiveBeforeTheHotStore() {
+        // Given
+        Sku sku = Sku.of("SKU230002");
+        String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+        List<DomainEvent> history = history(sku);
+        rehydrateInventory.takeSnapshot(aggregateId, LocalDateTime.now().minusDays(10));
+        eventRetention.runOnce();
+
+        // When
+        List<DomainEvent> replayed = new ArrayList<>();
+        EventPage page = eventStore.findPageAfter(EventCursor.START, 2);
+        replayed.addAll(page.events());
+        while (page.events().size() == 2) {
+            page = eventStore.findPageAfter(page.next(), 2);
+            replayed.addAll(page.events());
+        }
+
+        // Then - this aggregate's events once each, in order
+        assertThat(replayed.stream().filter(event -> event.aggregateId().equals(aggregateId)).toList())
+            .containsExactlyElementsOf(history);
+    }
+
+    private List<DomainEvent> history(Sku sku) {
+        // The event table keeps microseconds
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime old = now.minusDays(40);
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(added(sku, old.plusMinutes(i)));
+        }
+        events.add(added(sku, now.minusMinutes(1)));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventStore.storeAll(events));
+        return events;
+    }
+
+    private static DomainEvent added(Sku sku, LocalDateTime timestamp) {
+        StockAddedEvent event = StockAddedEvent.create(STORE, sku, 5, "Restock");
+        return new StockAddedEvent(event.eventId(), event.eventType(), timestamp, event.aggregateId(),
+            event.storeId(), event.sku(), event.quantity(), event.reason());
+    }
+}
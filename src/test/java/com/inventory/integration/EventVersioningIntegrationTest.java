@@ -0,0 +1,241 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.EventEntity;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.event.StockReservedEvent;
+import com.inventory.domain.model.EventCursor;
+import com.inventory.domain.model.EventPage;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:event-version-test")
+@ActiveProfiles("test")
+class EventVersioningIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-20");
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldNumberEachAggregatesEventsInAppendOrder() {
+        // Given
+        Sku sku = seed("SKU200001");
+        String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+
+        // When
+        List<String> reservationIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            reservationIds.add(reserveStockUseCase
+                .reserve(new ReserveStockCommand(STORE, sku, 1, "CUST-VER")).getValue().value());
+        }
+
+        // Then
+        List<EventEntity> rows = eventJpaRepository.findByAggregateIdOrderByVersionAsc(aggregateId);
+        assertThat(rows).extracting(EventEntity::getEventType).containsOnly("StockReserved");
+        assertThat(rows).extracting(EventEntity::getVersion).containsExactly(1L, 2L, 3L);
+        assertThat(eventStore.findByAggregateId(aggregateId))
+            .extracting(event -> ((StockReservedEvent) event).reservationId())
+            .containsExactlyElementsOf(reservationIds);
+        assertThat(eventStore.currentVersion(aggregateId)).isEqualTo(rows.getLast().getVersion());
+        assertThat(eventStore.findByAggregateIdAndVersion(aggregateId, rows.get(1).getVersion(), rows.get(2).getVersion()))
+            .containsExactlyElementsOf(eventStore.findByAggregateId(aggregateId).subList(1, 3));
+    }
+
+    @Test
+    void shouldStoreConcurrentEventsOfOneAggregateWithoutConflicts() throws Exception {
+        // Given - writers with no lock in common, as on the hot-SKU ledger and bucket paths
+        Sku sku = Sku.of("SKU200004");
+        String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                writers.add(executor.submit(() -> {
+                    await(start);
+                    for (int event = 0; event < 10; event++) {
+                        transaction.executeWithoutResult(status -> eventStore.store(added(sku)));
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        // Then - every write went through on the first attempt, numbered with no gaps
+        assertThat(eventJpaRepository.findByAggregateIdOrderByVersionAsc(aggregateId))
+            .extracting(EventEntity::getVersion)
+            .containsExactlyElementsOf(LongStream.rangeClosed(1, 80).boxed().toList());
+    }
+
+    @Test
+    void shouldReplayAnAggregatesSameInstantEventsInAppendOrder() {
+        // Given - event ids that sort the other way round from the order they were stored in
+        Sku sku = Sku.of("SKU200005");
+        String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+        LocalDateTime instant = LocalDateTime.of(2001, 1, 1, 0, 0);
+        List<DomainEvent> events = List.of(
+            new StockAddedEvent("EVT-200005-C", "StockAdded", instant, aggregateId, STORE, sku, 1, "Restock"),
+            new StockAddedEvent("EVT-200005-B", "StockAdded", instant, aggregateId, STORE, sku, 2, "Restock"),
+            new StockAddedEvent("EVT-200005-A", "StockAdded", instant, aggregateId, STORE, sku, 3, "Restock"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventStore.storeAll(events));
+
+        // When - pages of two, so the cursor falls between two of them
+        List<String> replayed = new ArrayList<>();
+        EventCursor cursor = EventCursor.START;
+        for (int page = 0; page < 10 && replayed.size() < events.size(); page++) {
+            EventPage next = eventStore.findPageAfter(cursor, 2);
+            next.events().stream()
+                .filter(event -> event.aggregateId().equals(aggregateId))
+                .forEach(event -> replayed.add(event.eventId()));
+            cursor = next.next();
+        }
+
+        // Then
+        assertThat(replayed).containsExactly("EVT-200005-C", "EVT-200005-B", "EVT-200005-A");
+    }
+
+    @Test
+    void shouldShareOneNumberingBetweenStoreAndAppend() {
+        // Given
+        Sku sku = Sku.of("SKU200006");
+        String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> eventStore.storeAll(List.of(added(sku), added(sku))));
+
+        // When
+        Long appended = transaction.execute(status -> eventStore.append(aggregateId, 2, List.of(added(sku))));
+        transaction.executeWithoutResult(status -> eventStore.store(added(sku)));
+
+        // Then - one sequence, and an append behind the latest store is a conflict
+        assertThat(appended).isEqualTo(3);
+        assertThat(eventJpaRepository.findByAggregateIdOrderByVersionAsc(aggregateId))
+            .extracting(EventEntity::getVersion)
+            .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(eventStore.currentVersion(aggregateId)).isEqualTo(4);
+        assertThatThrownBy(() -> transaction.executeWithoutResult(
+                status -> eventStore.append(aggregateId, 3, List.of(added(sku)))))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void shouldRejectAnAppendAgainstAStaleVersion() {
+        // Given
+        Sku sku = Sku.of("SKU200002");
+        String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> eventStore.append(aggregateId, 0, List.of(added(sku))));
+
+        // When / Then
+        assertThatThrownBy(() -> transaction.executeWithoutResult(
+                status -> eventStore.append(aggregateId, 0, List.of(added(sku)))))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(eventStore.currentVersion(aggregateId)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLetOnlyOneOfTwoConcurrentWritersAppendTheSameVersion() throws Exception {
+        // Given - both writers read version 0 before either commits
+        Sku sku = Sku.of("SKU200003");
+        String aggregateId = InventoryKey.of(STORE, sku).aggregateId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch bothRead = new CountDownLatch(2);
+        List<Future<Long>> writers = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2; i++) {
+                writers.add(executor.submit(() -> transaction.execute(status -> {
+                    long version = eventStore.currentVersion(aggregateId);
+                    bothRead.countDown();
+                    await(bothRead);
+                    return eventStore.append(aggregateId, version, List.of(added(sku)));
+                })));
+            }
+        }
+
+        // Then
+        int conflicts = 0;
+        for (Future<Long> writer : writers) {
+            try {
+                assertThat(writer.get()).isEqualTo(1);
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(OptimisticLockingFailureException.class);
+                conflicts++;
+            }
+        }
+        assertThat(conflicts).isEqualTo(1);
+        assertThat(eventStore.findByAggregateId(aggregateId)).hasSize(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static DomainEvent added(Sku sku) {
+        return StockAddedEvent.create(STORE, sku, 5, "Restock");
+    }
+
+    private Sku seed(String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Versioned item")
+            .availableStock(20)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
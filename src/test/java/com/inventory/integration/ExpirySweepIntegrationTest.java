@@ -0,0 +1,209 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.entity.ReservationStatusEntity;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.ReservationJpaRepository;
+import com.inventory.application.expiry.ReservationExpirySweeper;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.ReservationIdGenerator;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:expiry-sweep-test",
+    "inventory.expiry.mode=sweep",
+    "inventory.expiry.sweep-interval=1h",
+    "inventory.expiry.page-size=4"
+})
+@ActiveProfiles("test")
+class ExpirySweepIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-13");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ExpireReservationsUseCase expireReservationsUseCase;
+
+    @Autowired
+    private ReservationExpirySweeper sweeper;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Test
+    void shouldExpireEveryPageAndReleaseStockPerItem() {
+        // Given - 9 expired reservations sharing one deadline (pages of 4 split on the id)
+        Sku first = seed("SKU130001", 50);
+        Sku second = seed("SKU130002", 50);
+        LocalDateTime deadline = LocalDateTime.now().minusMinutes(5);
+        List<String> expired = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            expired.add(reserve(first, i));
+        }
+        for (int i = 1; i <= 3; i++) {
+            expired.add(reserve(second, 2));
+        }
+        String live = reserve(second, 1);
+        String committed = reserve(first, 4);
+        commitStockUseCase.commit(new CommitStockCommand(committed, "ORDER-SWEEP1"));
+        expired.forEach(id -> backdate(id, deadline));
+        backdate(committed, deadline);
+
+        // When
+        int released = sweeper.sweep();
+
+        // Then
+        assertThat(released).isEqualTo(9);
+        assertThat(expired).allMatch(id -> status(id) == ReservationStatusEntity.EXPIRED);
+        assertThat(status(live)).isEqualTo(ReservationStatusEntity.RESERVED);
+        assertThat(status(committed)).isEqualTo(ReservationStatusEntity.COMMITTED);
+        assertStock(first, 46, 0);
+        assertStock(second, 49, 1);
+        assertThat(eventJpaRepository.findByAggregateIdOrderByTimestampAsc(InventoryKey.of(STORE, first).aggregateId()))
+            .filteredOn(event -> event.getEventType().equals("StockReleased"))
+            .hasSize(6)
+            .allMatch(event -> event.getPayload().contains("\"reason\":\"expired\""));
+        assertThat(sweeper.lastSweepRows()).isEqualTo(9);
+        assertThat(sweeper.lastSweepLagSeconds()).isGreaterThanOrEqualTo(300);
+        assertThat(sweeper.sweep()).isZero();
+    }
+
+    @Test
+    void shouldLeaveReservationsWhoseStockCannotBeReturnedForTheNextSweep() {
+        // Given - the row no longer holds the reserved units of one item
+        Sku broken = seed("SKU130003", 10);
+        Sku healthy = seed("SKU130004", 10);
+        String stuck = reserve(broken, 3);
+        String other = reserve(healthy, 3);
+        backdate(stuck, LocalDateTime.now().minusMinutes(1));
+        backdate(other, LocalDateTime.now().minusMinutes(1));
+        setReserved(broken, 0);
+
+        // When
+        int firstSweep = sweeper.sweep();
+        setReserved(broken, 3);
+        int secondSweep = sweeper.sweep();
+
+        // Then
+        assertThat(firstSweep).isEqualTo(1);
+        assertThat(secondSweep).isEqualTo(1);
+        assertThat(status(stuck)).isEqualTo(ReservationStatusEntity.EXPIRED);
+        assertThat(status(other)).isEqualTo(ReservationStatusEntity.EXPIRED);
+        assertStock(broken, 10, 0);
+        assertStock(healthy, 10, 0);
+    }
+
+    @Test
+    void shouldNeverBothCommitAndExpireAReservation() throws Exception {
+        // Given - a sweep page whose reservations are being committed at the same time
+        Sku sku = seed("SKU130005", 100);
+        List<String> reservations = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            reservations.add(reserve(sku, 1));
+        }
+
+        // When - "before" in the future so the page holds live reservations the commits accept
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> work = new ArrayList<>();
+        for (String reservationId : reservations) {
+            work.add(executor.submit(() -> {
+                start.await();
+                return commitStockUseCase.commit(new CommitStockCommand(reservationId, "ORDER-" + reservationId));
+            }));
+        }
+        work.add(executor.submit(() -> {
+            start.await();
+            return expireReservationsUseCase.expirePage(LocalDateTime.now().plusHours(1), null, 100);
+        }));
+        start.countDown();
+        for (Future<?> future : work) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - each unit went to sold or back to available, never both
+        long committed = reservations.stream().filter(id -> status(id) == ReservationStatusEntity.COMMITTED).count();
+        long expired = reservations.stream().filter(id -> status(id) == ReservationStatusEntity.EXPIRED).count();
+        assertThat(committed + expired).isEqualTo(12);
+        InventoryEntity inventory = inventoryJpaRepository.findByStoreIdAndSku(STORE.value(), sku.value()).orElseThrow();
+        assertThat(inventory.getSoldStock()).isEqualTo((int) committed);
+        assertThat(inventory.getReservedStock()).isZero();
+        assertThat(inventory.getAvailableStock()).isEqualTo(100 - (int) committed);
+    }
+
+    private String reserve(Sku sku, int quantity) {
+        return reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, quantity, "CUST-SWEEP"))
+            .getValue()
+            .value();
+    }
+
+    private void backdate(String reservationId, LocalDateTime expiresAt) {
+        var entity = reservationJpaRepository.findById(id(reservationId)).orElseThrow();
+        entity.setExpiresAt(expiresAt);
+        reservationJpaRepository.save(entity);
+    }
+
+    private void setReserved(Sku sku, int reserved) {
+        InventoryEntity inventory = inventoryJpaRepository.findByStoreIdAndSku(STORE.value(), sku.value()).orElseThrow();
+        inventory.setReservedStock(reserved);
+        inventoryJpaRepository.save(inventory);
+    }
+
+    private ReservationStatusEntity status(String reservationId) {
+        return reservationJpaRepository.findById(id(reservationId)).orElseThrow().getStatus();
+    }
+
+    private void assertStock(Sku sku, int available, int reserved) {
+        InventoryEntity inventory = inventoryJpaRepository.findByStoreIdAndSku(STORE.value(), sku.value()).orElseThrow();
+        assertThat(inventory.getAvailableStock()).isEqualTo(available);
+        assertThat(inventory.getReservedStock()).isEqualTo(reserved);
+    }
+
+    private static long id(String reservationId) {
+        return ReservationIdGenerator.parse(reservationId).getAsLong();
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Swept item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
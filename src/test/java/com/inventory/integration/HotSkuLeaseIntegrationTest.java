@@ -0,0 +1,51 @@
+package com.inventory.integration;
+
+import com.inventory.application.port.output.InstanceLeaseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:hot-sku-lease-test",
+    "inventory.hot-sku.enabled=true",
+    "inventory.hot-sku.skus=SKU130001"
+})
+@ActiveProfiles("test")
+class HotSkuLeaseIntegrationTest {
+
+    @Autowired
+    private InstanceLeaseRepository leaseRepository;
+
+    @Test
+    void shouldHoldTheLedgerLeaseWhileTheLedgerRuns() {
+        // Given - this context's ledger took the lease on startup
+        LocalDateTime until = LocalDateTime.now().plusMinutes(1);
+
+        // When/Then - a second instance on the same database cannot take it
+        assertThat(leaseRepository.acquire("hot-sku-ledger", "another-instance", until)).isFalse();
+    }
+
+    @Test
+    void shouldHandTheLeaseOverOnlyOnceItExpires() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(leaseRepository.acquire("lease-test", "node-a", now.plusMinutes(1))).isTrue();
+
+        // When/Then - held by A: B is refused and A keeps renewing
+        assertThat(leaseRepository.acquire("lease-test", "node-b", now.plusMinutes(1))).isFalse();
+        assertThat(leaseRepository.renew("lease-test", "node-a", now.minusSeconds(1))).isTrue();
+
+        // When/Then - A stopped renewing: B takes over and A can no longer renew
+        assertThat(leaseRepository.acquire("lease-test", "node-b", now.plusMinutes(1))).isTrue();
+        assertThat(leaseRepository.renew("lease-test", "node-a", now.plusMinutes(1))).isFalse();
+
+        // When/Then - releasing frees it for the next one
+        leaseRepository.release("lease-test", "node-b");
+        assertThat(leaseRepository.acquire("lease-test", "node-a", now.plusMinutes(1))).isTrue();
+    }
+}
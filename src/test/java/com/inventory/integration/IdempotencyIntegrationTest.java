@@ -0,0 +1,105 @@
+package com.inventory.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.input.rest.dto.CommitStockRequest;
+import com.inventory.adapters.input.rest.dto.ReserveStockRequest;
+import com.inventory.adapters.input.rest.filter.IdempotencyFilter;
+import com.inventory.adapters.output.persistence.repository.IdempotencyKeyJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:idempotency-test")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyKeyJpaRepository idempotencyKeyJpaRepository;
+
+    private static final String BASE_URL = "/api/v1/inventory";
+
+    @Test
+    void shouldReserveAndCommitOnceWhenTheClientRetries() throws Exception {
+        // Given
+        ReserveStockRequest reserve = new ReserveStockRequest("STORE-02", "SKU456", 5, "CUST-020");
+        String original = send("/reserve", "RETRY-RESERVE-1", reserve)
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        // When - the client timed out and retries the same reservation
+        send("/reserve", "RETRY-RESERVE-1", reserve)
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+            .andExpect(content().json(original, true));
+
+        // Then - a single reservation was made
+        mockMvc.perform(get(BASE_URL + "/STORE-02/SKU456"))
+            .andExpect(jsonPath("$.availableStock").value(35))
+            .andExpect(jsonPath("$.reservedStock").value(5));
+
+        // And a retried commit answers the first commit instead of an invalid-state error
+        JsonNode reservation = objectMapper.readTree(original);
+        CommitStockRequest commit = new CommitStockRequest(reservation.get("reservationId").asText(), "ORDER-020");
+        String committed = send("/commit", "RETRY-COMMIT-1", commit)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        send("/commit", "RETRY-COMMIT-1", commit)
+            .andExpect(status().isOk())
+            .andExpect(content().json(committed, true));
+
+        mockMvc.perform(get(BASE_URL + "/STORE-02/SKU456"))
+            .andExpect(jsonPath("$.reservedStock").value(0))
+            .andExpect(jsonPath("$.soldStock").value(5));
+
+        assertThat(idempotencyKeyJpaRepository.findById("RETRY-RESERVE-1")).get()
+            .satisfies(stored -> assertThat(stored.getStatus()).isEqualTo(201));
+    }
+
+    @Test
+    void shouldRejectAKeyReusedForAnotherReservation() throws Exception {
+        send("/reserve", "RETRY-RESERVE-2", new ReserveStockRequest("STORE-03", "SKU789", 1, "CUST-021"))
+            .andExpect(status().isCreated());
+
+        send("/reserve", "RETRY-RESERVE-2", new ReserveStockRequest("STORE-03", "SKU789", 2, "CUST-021"))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.error").value("IDEMPOTENCY_KEY_REUSED"));
+
+        mockMvc.perform(get(BASE_URL + "/STORE-03/SKU789"))
+            .andExpect(jsonPath("$.reservedStock").value(1));
+    }
+
+    @Test
+    void shouldKeepRequestsWithoutAKeyUnchanged() throws Exception {
+        ReserveStockRequest reserve = new ReserveStockRequest("STORE-01", "SKU789", 1, "CUST-022");
+
+        mockMvc.perform(post(BASE_URL + "/reserve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(reserve)))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    private ResultActions send(String path, String key, Object request) throws Exception {
+        return mockMvc.perform(post(BASE_URL + path)
+            .header(IdempotencyFilter.HEADER, key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+}
@@ -0,0 +1,132 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.messaging.AwsStandIn;
+import com.inventory.adapters.output.messaging.SnsEventPublisher;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.OutboxEventJpaRepository;
+import com.inventory.application.outbox.OutboxRelay;
+import com.inventory.application.port.input.ReserveStockCommand;
+import com.inventory.application.port.input.ReserveStockUseCase;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:messaging-test",
+    "inventory.messaging.transport=sns",
+    "aws.access-key=test",
+    "aws.secret-key=test"
+})
+@ActiveProfiles("test")
+class MessagingIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-25");
+    private static final AwsStandIn STAND_IN = startStandIn();
+
+    @DynamicPropertySource
+    static void awsEndpoint(DynamicPropertyRegistry registry) {
+        registry.add("aws.endpoint", () -> STAND_IN.endpoint().toString());
+    }
+
+    @AfterAll
+    static void stopStandIn() {
+        STAND_IN.close();
+    }
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private SnsEventPublisher snsEventPublisher;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        STAND_IN.reset();
+    }
+
+    @Test
+    void shouldRelayCommittedEventsToTheSnsTopic() throws InterruptedException {
+        // Given
+        Sku sku = seed("SKU250001");
+
+        // When
+        assertThat(reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, 1, "CUST-SNS")).isSuccess()).isTrue();
+
+        // Then
+        awaitTrue(() -> STAND_IN.messages().stream().anyMatch(message -> message.body().contains("SKU250001")));
+        assertThat(STAND_IN.messages()).extracting(AwsStandIn.Message::eventType).contains("StockReserved");
+        assertThat(snsEventPublisher.publishedCount()).isPositive();
+        awaitTrue(() -> outboxEventJpaRepository.count() == 0);
+    }
+
+    @Test
+    void shouldKeepEventsInTheOutboxUntilSnsAcceptsThem() throws InterruptedException {
+        // Given
+        Sku sku = seed("SKU250002");
+        long failures = outboxRelay.failedCount();
+        STAND_IN.failRequests(true);
+
+        // When
+        assertThat(reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, 1, "CUST-SNS")).isSuccess()).isTrue();
+        awaitTrue(() -> outboxRelay.failedCount() > failures);
+
+        // Then - still pending, and published once the topic answers again
+        assertThat(outboxEventJpaRepository.count()).isPositive();
+        STAND_IN.failRequests(false);
+        awaitTrue(() -> STAND_IN.messages().stream().anyMatch(message -> message.body().contains("SKU250002")));
+        awaitTrue(() -> outboxEventJpaRepository.count() == 0);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private Sku seed(String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Messaging item")
+            .availableStock(20)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+
+    private static AwsStandIn startStandIn() {
+        try {
+            return new AwsStandIn();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
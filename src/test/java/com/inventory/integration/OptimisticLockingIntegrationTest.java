@@ -0,0 +1,126 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.ReservationJpaRepository;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:optimistic-test",
+    "inventory.concurrency.mode=optimistic",
+    "resilience4j.retry.instances.database.max-attempts=50"
+})
+@ActiveProfiles("test")
+class OptimisticLockingIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-09");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @Autowired
+    private QueryStockUseCase queryStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Test
+    void shouldKeepCountersConsistentUnderConcurrentReservations() throws Exception {
+        // Given
+        Sku sku = seed("SKU700001", 500);
+        long reservationsBefore = reservationJpaRepository.count();
+        int clients = 16;
+        int attemptsPerClient = 10;
+        AtomicInteger reserved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            String customer = "CUST-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < attemptsPerClient; attempt++) {
+                    var result = reserveStockUseCase.reserve(
+                        new ReserveStockCommand(STORE, sku, 2, customer)
+                    );
+                    if (result.isSuccess()) {
+                        reserved.addAndGet(2);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - no update was lost: every successful reservation is reflected once
+        InventoryView view = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+        assertThat(reserved.get()).isEqualTo(clients * attemptsPerClient * 2);
+        assertThat(view.reservedStock()).isEqualTo(reserved.get());
+        assertThat(view.availableStock()).isEqualTo(500 - reserved.get());
+        assertThat(reservationJpaRepository.count() - reservationsBefore).isEqualTo(clients * attemptsPerClient);
+    }
+
+    @Test
+    void shouldCommitAndReleaseWithoutRowLock() {
+        // Given
+        Sku sku = seed("SKU700002", 50);
+        ReservationId first = reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, 10, "CUST-100")).getValue();
+        ReservationId second = reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, 5, "CUST-101")).getValue();
+
+        // When
+        var committed = commitStockUseCase.commit(new CommitStockCommand(first.value(), "ORDER-1"));
+        var released = releaseStockUseCase.release(new ReleaseStockCommand(second.value(), "cancelled"));
+
+        // Then
+        assertThat(committed.isSuccess()).isTrue();
+        assertThat(released.isSuccess()).isTrue();
+        InventoryView view = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+        assertThat(view.availableStock()).isEqualTo(40);
+        assertThat(view.reservedStock()).isZero();
+        assertThat(view.soldStock()).isEqualTo(10);
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Optimistic item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
@@ -0,0 +1,94 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.OutboxEventJpaRepository;
+import com.inventory.application.outbox.OutboxRelay;
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.EventPublisher;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:outbox-test")
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-24");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldRelayACommittedReservationsEventAndEmptyTheOutbox() throws InterruptedException {
+        // Given
+        Sku sku = seed("SKU240001");
+        long published = outboxRelay.publishedCount();
+
+        // When
+        assertThat(reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, 1, "CUST-OUT")).isSuccess()).isTrue();
+
+        // Then - the commit wakes the relay up; it publishes after the linger
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (outboxRelay.publishedCount() == published && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(outboxRelay.publishedCount()).isGreaterThan(published);
+        assertThat(outboxRelay.deliveredOffset()).isPositive();
+        assertThat(outboxEventJpaRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldDropTheEventsOfARolledBackTransaction() {
+        // Given
+        long pending = outboxEventJpaRepository.count();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publish(StockAddedEvent.create(STORE, Sku.of("SKU240002"), 5, "Restock"));
+            assertThat(outboxEventJpaRepository.count()).isEqualTo(pending + 1);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(outboxEventJpaRepository.count()).isEqualTo(pending);
+    }
+
+    private Sku seed(String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Outbox item")
+            .availableStock(20)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
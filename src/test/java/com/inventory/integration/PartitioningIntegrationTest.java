@@ -0,0 +1,126 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.concurrency.PartitionedCommandExecutor;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:partitioning-test;LOCK_TIMEOUT=30000",
+    "inventory.partitioning.enabled=true",
+    "inventory.partitioning.partitions=4"
+})
+@ActiveProfiles("test")
+class PartitioningIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-08");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @Autowired
+    private QueryStockUseCase queryStockUseCase;
+
+    @Autowired
+    private PartitionedCommandExecutor partitionedCommandExecutor;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Test
+    void shouldSerializeCommandsPerSkuThroughThePartitions() throws Exception {
+        // Given - room for 20 reservations of 3 units, 30 concurrent requests on two SKUs
+        Sku first = seed("SKU600001", 30);
+        Sku second = seed("SKU600002", 30);
+        int clients = 30;
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Result<ReservationId, DomainError>>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < clients; i++) {
+            Sku sku = i % 2 == 0 ? first : second;
+            String customer = "CUST-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, 3, customer));
+            }));
+        }
+        start.countDown();
+
+        List<String> reserved = new ArrayList<>();
+        int rejected = 0;
+        for (Future<Result<ReservationId, DomainError>> future : futures) {
+            Result<ReservationId, DomainError> result = future.get(60, TimeUnit.SECONDS);
+            if (result.isSuccess()) {
+                reserved.add(result.getValue().value());
+            } else if (result.getError().code().equals("VALIDATION_ERROR")) {
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        // Then - no oversell, and the overflow is rejected individually
+        assertThat(reserved).hasSize(20);
+        assertThat(rejected).isEqualTo(10);
+        assertThat(queryStockUseCase.findByStoreAndSku(STORE, first).orElseThrow().availableStock()).isZero();
+        assertThat(queryStockUseCase.findByStoreAndSku(STORE, second).orElseThrow().availableStock()).isZero();
+
+        // Commit and release route through the partition owning the reservation's SKU
+        assertThat(commitStockUseCase.commit(new CommitStockCommand(reserved.get(0), "ORDER-P1")).isSuccess()).isTrue();
+        assertThat(releaseStockUseCase.release(new ReleaseStockCommand(reserved.get(1), "changed mind")).isSuccess()).isTrue();
+
+        int sold = 0;
+        int available = 0;
+        for (Sku sku : List.of(first, second)) {
+            InventoryView view = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+            sold += view.soldStock();
+            available += view.availableStock();
+        }
+        assertThat(sold).isEqualTo(3);
+        assertThat(available).isEqualTo(3);
+        assertThat(partitionedCommandExecutor.rejectedCount()).isZero();
+    }
+
+    @Test
+    void shouldReportUnknownReservationsWithoutTouchingAPartition() {
+        var result = commitStockUseCase.commit(new CommitStockCommand("RES-UNKNOWN", "ORDER-P2"));
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getError().code()).isNotEqualTo(PartitionedCommandExecutor.BUSY);
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Partitioned item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
@@ -0,0 +1,114 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.projection.StockMovementProjection;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StockMovement;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:projection-test",
+    "inventory.projections.chunk-size=3",
+    "inventory.projections.partitions=4"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectionRebuildIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-19");
+    private static final String ADMIN_URL = "/api/v1/admin/projections";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RebuildProjectionUseCase rebuildProjectionUseCase;
+
+    @Autowired
+    private StockMovementProjection stockMovementProjection;
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Test
+    void shouldRebuildTheProjectionFromTheEventTableAndResumeFromItsCheckpoint() throws Exception {
+        // Given - committed, released and open reservations over two items
+        Sku first = seed("SKU190001");
+        Sku second = seed("SKU190002");
+        commitStockUseCase.commit(new CommitStockCommand(reserve(first, 3), "ORDER-PROJ1"));
+        releaseStockUseCase.release(new ReleaseStockCommand(reserve(first, 2), "CUSTOMER_CANCELLED"));
+        reserve(first, 1);
+        reserve(second, 4);
+
+        // When
+        mockMvc.perform(post(ADMIN_URL + "/" + StockMovementProjection.NAME + "/rebuild"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projection").value(StockMovementProjection.NAME))
+            .andExpect(jsonPath("$.resumed").value(false));
+
+        // Then
+        assertThat(stockMovementProjection.find(STORE, first)).isEqualTo(new StockMovement(-4, 1, 3));
+        assertThat(stockMovementProjection.find(STORE, second)).isEqualTo(new StockMovement(-4, 4, 0));
+
+        // And a resumed run only picks up what came after the checkpoint
+        reserve(second, 1);
+        var resumed = rebuildProjectionUseCase.rebuild(StockMovementProjection.NAME, true);
+        assertThat(resumed.isSuccess()).isTrue();
+        assertThat(resumed.getValue().events()).isEqualTo(1);
+        assertThat(stockMovementProjection.find(STORE, second)).isEqualTo(new StockMovement(-5, 5, 0));
+    }
+
+    @Test
+    void shouldAnswerNotFoundForAnUnknownProjection() throws Exception {
+        mockMvc.perform(post(ADMIN_URL + "/missing/rebuild"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("PROJECTION_NOT_FOUND"));
+
+        mockMvc.perform(get(ADMIN_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0]").value(StockMovementProjection.NAME));
+    }
+
+    private String reserve(Sku sku, int quantity) {
+        return reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, quantity, "CUST-PROJ"))
+            .getValue()
+            .value();
+    }
+
+    private Sku seed(String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Projected item")
+            .availableStock(20)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
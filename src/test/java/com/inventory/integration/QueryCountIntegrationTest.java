@@ -0,0 +1,168 @@
+package com.inventory.integration;
+
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exact SQL per command on the default (pessimistic, single-row) path. A new statement
+ * here is a regression: each one is a round trip inside the row lock.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-count-test",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.inventory.integration.QueryCountIntegrationTest$StatementRecorder"
+})
+@ActiveProfiles("test")
+class QueryCountIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-01");
+    private static final Sku SKU = Sku.of("SKU456");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @BeforeEach
+    void warmUp() {
+        // First reservation for the item fills the bucket-count cache
+        reserve();
+    }
+
+    @Test
+    void reserveShouldLockReadOnceAndWriteOnlyWhatChanged() {
+        // When
+        StatementRecorder.start();
+        reserve();
+        List<String> statements = StatementRecorder.stop();
+
+        // Then - no lookup for the new reservation or its event; the event's version is one
+        // update and one read of the aggregate's counter; publishing is one insert into the outbox
+        assertThat(statements).extracting(QueryCountIntegrationTest::describe).containsExactly(
+            "select inventory",
+            "update event_streams",
+            "select event_streams",
+            "insert reservations",
+            "insert domain_events",
+            "update inventory",
+            "insert outbox_events"
+        );
+        assertThat(statements.get(5)).doesNotContain("product_name", "store_id", "sold_stock");
+    }
+
+    @Test
+    void commitShouldNotReadTheReservationOrInventoryTwice() {
+        // Given
+        String reservationId = reserve();
+
+        // When
+        StatementRecorder.start();
+        var result = commitStockUseCase.commit(new CommitStockCommand(reservationId, "ORDER-QC1"));
+        List<String> statements = StatementRecorder.stop();
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(statements).extracting(QueryCountIntegrationTest::describe).containsExactly(
+            "select reservations",
+            "select inventory",
+            "update event_streams",
+            "select event_streams",
+            "insert domain_events",
+            "update reservations",
+            "update inventory",
+            "insert outbox_events"
+        );
+        assertThat(statements.get(5)).doesNotContain("customer_id", "quantity");
+    }
+
+    @Test
+    void releaseShouldNotReadTheReservationOrInventoryTwice() {
+        // Given
+        String reservationId = reserve();
+
+        // When
+        StatementRecorder.start();
+        var result = releaseStockUseCase.release(new ReleaseStockCommand(reservationId, "changed mind"));
+        List<String> statements = StatementRecorder.stop();
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(statements).extracting(QueryCountIntegrationTest::describe).containsExactly(
+            "select reservations",
+            "select inventory",
+            "update event_streams",
+            "select event_streams",
+            "insert domain_events",
+            "update reservations",
+            "update inventory",
+            "insert outbox_events"
+        );
+    }
+
+    private String reserve() {
+        return reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, SKU, 1, "CUST-QC"))
+            .getValue()
+            .value();
+    }
+
+    private static final Pattern STATEMENT = Pattern.compile(
+        "^(select)\\b.*?\\bfrom (\\w+)|^(insert) into (\\w+)|^(update) (\\w+)|^(delete) from (\\w+)");
+
+    // "select inventory", "insert reservations", ...
+    private static String describe(String sql) {
+        String statement = sql.replaceAll("/\\*.*?\\*/", "").trim().toLowerCase();
+        Matcher matcher = STATEMENT.matcher(statement);
+        if (!matcher.find()) {
+            return statement;
+        }
+        for (int group = 1; group < matcher.groupCount(); group += 2) {
+            if (matcher.group(group) != null) {
+                return matcher.group(group) + " " + matcher.group(group + 1);
+            }
+        }
+        return statement;
+    }
+
+    public static class StatementRecorder implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+        static void start() {
+            RECORDED.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> recorded = RECORDED.get();
+            RECORDED.remove();
+            return recorded;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = RECORDED.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+    }
+}
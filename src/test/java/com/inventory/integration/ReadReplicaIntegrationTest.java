@@ -0,0 +1,217 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.replica.EventFedReplica;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.InventoryView;
+import com.inventory.application.port.input.QueryStockUseCase;
+import com.inventory.application.port.input.ReserveStockCommand;
+import com.inventory.application.port.input.ReserveStockUseCase;
+import com.inventory.domain.event.StockAddedEvent;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:read-replica-test",
+    "inventory.read-replica.enabled=true",
+    "inventory.read-replica.url=jdbc:h2:mem:read-replica-test-replica;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "inventory.read-replica.max-staleness=300ms"
+})
+@ActiveProfiles("test")
+class ReadReplicaIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-14");
+
+    @Autowired
+    private QueryStockUseCase queryStockUseCase;
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private EventFedReplica replica;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldServeStockQueriesFromTheReplicaFedByEvents() throws Exception {
+        // Given
+        Sku sku = seed("SKU140001", 20);
+        replica.bootstrap();
+        reserve(sku, 5);
+        awaitReplicaCaughtUp();
+        renameOnReplica(sku, "Replica copy");
+        double before = connections("replica", "fresh");
+
+        // When
+        InventoryView view = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+
+        // Then - the row was read from the replica, with the reservation applied
+        assertThat(view.productName()).isEqualTo("Replica copy");
+        assertThat(view.availableStock()).isEqualTo(15);
+        assertThat(view.reservedStock()).isEqualTo(5);
+        assertThat(connections("replica", "fresh")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void shouldFallBackToThePrimaryWhileTheReplicaIsBehind() throws Exception {
+        // Given - the replica row is locked, so the applier cannot catch up
+        Sku sku = seed("SKU140002", 20);
+        replica.bootstrap();
+        renameOnReplica(sku, "Replica copy");
+
+        try (Connection blocker = replicaDataSource.getConnection()) {
+            blocker.setAutoCommit(false);
+            try (PreparedStatement lock = blocker.prepareStatement(
+                    "SELECT * FROM inventory WHERE store_id = ? AND sku = ? FOR UPDATE")) {
+                lock.setString(1, STORE.value());
+                lock.setString(2, sku.value());
+                lock.executeQuery().close();
+            }
+
+            reserve(sku, 5);
+            Thread.sleep(500);
+            double before = connections("primary", "stale");
+
+            // When
+            InventoryView stale = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+
+            // Then - served by the primary, which already has the reservation
+            assertThat(replica.lag()).hasValueSatisfying(lag -> assertThat(lag).isGreaterThan(Duration.ofMillis(300)));
+            assertThat(stale.productName()).isEqualTo("Replica item");
+            assertThat(stale.availableStock()).isEqualTo(15);
+            assertThat(connections("primary", "stale")).isEqualTo(before + 1);
+
+            blocker.rollback();
+        }
+
+        // And - once the applier catches up the replica serves the query again
+        awaitReplicaCaughtUp();
+        InventoryView fresh = queryStockUseCase.findByStoreAndSku(STORE, sku).orElseThrow();
+        assertThat(fresh.productName()).isEqualTo("Replica copy");
+        assertThat(fresh.availableStock()).isEqualTo(15);
+    }
+
+    @Test
+    void shouldCopyThePrimaryAgainWhenAnEventHitsAnItemTheReplicaLacks() throws Exception {
+        // Given - an item created on the primary after the copy, with no creation event
+        replica.bootstrap();
+        Sku sku = seed("SKU140003", 20);
+        long resyncs = replica.resyncCount();
+
+        // When
+        reserve(sku, 5);
+
+        // Then - the replica is copied again instead of reporting itself as caught up
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (replica.resyncCount() == resyncs && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(replica.resyncCount()).isGreaterThan(resyncs);
+        awaitReplicaCaughtUp();
+        try (Connection connection = replicaDataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(
+                 "SELECT available_stock FROM inventory WHERE store_id = ? AND sku = ?")) {
+            select.setString(1, STORE.value());
+            select.setString(2, sku.value());
+            try (ResultSet row = select.executeQuery()) {
+                assertThat(row.next()).isTrue();
+                assertThat(row.getInt(1)).isEqualTo(15);
+            }
+        }
+    }
+
+    @Test
+    void shouldStopReportingTheReplicaAsFreshOnceItsQueueOverflows() {
+        // Given - a replica with room for two events and no applier running
+        Sku sku = seed("SKU140004", 20);
+        try (EventFedReplica small = new EventFedReplica(primaryDataSource, replicaDataSource, 2)) {
+            small.bootstrap();
+            small.enqueue(List.of(StockAddedEvent.create(STORE, sku, 1, "Restock")));
+            assertThat(small.lag()).isPresent();
+
+            // When
+            small.enqueue(List.of(
+                StockAddedEvent.create(STORE, sku, 1, "Restock"),
+                StockAddedEvent.create(STORE, sku, 1, "Restock")));
+
+            // Then - no lag is reported, so reads go to the primary until the next copy
+            assertThat(small.lag()).isEmpty();
+        }
+    }
+
+    private void reserve(Sku sku, int quantity) {
+        assertThat(reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, quantity, "CUST-REPLICA"))
+            .isSuccess()).isTrue();
+    }
+
+    private void awaitReplicaCaughtUp() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (replica.pending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(replica.lag()).hasValue(Duration.ZERO);
+    }
+
+    // Marks the replica row so the test can tell which database served a query
+    private void renameOnReplica(Sku sku, String productName) throws Exception {
+        try (Connection connection = replicaDataSource.getConnection();
+             PreparedStatement update = connection.prepareStatement(
+                 "UPDATE inventory SET product_name = ? WHERE store_id = ? AND sku = ?")) {
+            update.setString(1, productName);
+            update.setString(2, STORE.value());
+            update.setString(3, sku.value());
+            assertThat(update.executeUpdate()).isEqualTo(1);
+        }
+    }
+
+    private double connections(String target, String reason) {
+        return meterRegistry.get("inventory.replica.connections")
+            .tag("target", target)
+            .tag("reason", reason)
+            .functionCounter()
+            .count();
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Replica item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
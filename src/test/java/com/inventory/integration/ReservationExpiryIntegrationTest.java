@@ -0,0 +1,280 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.entity.ReservationStatusEntity;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.ReservationJpaRepository;
+import com.inventory.application.expiry.ReservationExpiryScheduler;
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.ReservationRepository;
+import com.inventory.domain.model.ReservationStatus;
+import com.inventory.domain.model.ReservationIdGenerator;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:expiry-test",
+    "inventory.expiry.tick=50ms",
+    "inventory.expiry.batch-size=2"
+})
+@ActiveProfiles("test")
+class ReservationExpiryIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-12");
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @Autowired
+    private ExpireReservationsUseCase expireReservationsUseCase;
+
+    @Autowired
+    private ReservationExpiryScheduler scheduler;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldReleaseExpiredReservationsFoundOnStartup() throws Exception {
+        // Given - three reservations on one item and one on another, all past their deadline
+        Sku first = seed("SKU120001", 20);
+        Sku second = seed("SKU120002", 20);
+        List<String> expired = List.of(reserve(first, 2), reserve(first, 3), reserve(first, 4), reserve(second, 5));
+        String live = reserve(second, 1);
+        expired.forEach(id -> backdate(id, LocalDateTime.now().minusMinutes(1)));
+
+        // When - as after a restart: the wheel is rebuilt from the table, two rows per page
+        assertThat(scheduler.rebuild()).isGreaterThanOrEqualTo(5);
+        awaitStatus(expired, ReservationStatusEntity.EXPIRED);
+
+        // Then
+        assertStock(first, 20, 0);
+        assertStock(second, 19, 1);
+        assertThat(status(live)).isEqualTo(ReservationStatusEntity.RESERVED);
+        assertThat(eventJpaRepository.findByAggregateIdOrderByTimestampAsc(InventoryKey.of(STORE, first).aggregateId()))
+            .filteredOn(event -> event.getEventType().equals("StockReleased"))
+            .hasSize(3)
+            .allMatch(event -> event.getPayload().contains("\"reason\":\"expired\""));
+    }
+
+    @Test
+    void shouldTrackNewReservationsUntilTheyAreCommitted() {
+        // Given
+        Sku sku = seed("SKU120003", 10);
+        int before = scheduler.tracked();
+
+        // When
+        String reservationId = reserve(sku, 1);
+        int whileReserved = scheduler.tracked();
+        commitStockUseCase.commit(new CommitStockCommand(reservationId, "ORDER-EXP1"));
+
+        // Then
+        assertThat(whileReserved).isEqualTo(before + 1);
+        assertThat(scheduler.tracked()).isEqualTo(before);
+    }
+
+    @Test
+    void shouldRejectAReleaseAfterTheReservationExpired() {
+        // Given - the client abandons the cart and releases after the TTL
+        Sku sku = seed("SKU120004", 10);
+        String reservationId = reserve(sku, 3);
+        backdate(reservationId, LocalDateTime.now().minusMinutes(1));
+        assertThat(expireReservationsUseCase.expire(List.of(reservationId)).getValue()).isEqualTo(1);
+
+        // When
+        var result = releaseStockUseCase.release(new ReleaseStockCommand(reservationId, "cart abandoned"));
+
+        // Then - the units came back once, with the expiry
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getError().code()).isEqualTo("INVALID_RESERVATION_STATE");
+        assertStock(sku, 10, 0);
+    }
+
+    @Test
+    void shouldRejectASecondRelease() {
+        // Given
+        Sku sku = seed("SKU120005", 10);
+        String reservationId = reserve(sku, 4);
+        assertThat(releaseStockUseCase.release(new ReleaseStockCommand(reservationId, "first")).isSuccess()).isTrue();
+
+        // When
+        var result = releaseStockUseCase.release(new ReleaseStockCommand(reservationId, "again"));
+
+        // Then
+        assertThat(result.isFailure()).isTrue();
+        assertStock(sku, 10, 0);
+        assertThat(expireReservationsUseCase.expire(List.of(reservationId)).getValue()).isZero();
+        assertStock(sku, 10, 0);
+    }
+
+    @Test
+    void shouldReturnTheStockOnceWhenReleaseAndExpiryRace() throws Exception {
+        // Given
+        Sku sku = seed("SKU120006", 10);
+        String reservationId = reserve(sku, 2);
+        backdate(reservationId, LocalDateTime.now().minusMinutes(1));
+
+        // When - releases and expiries of the same reservation at once
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> outcomes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            boolean release = i % 2 == 0;
+            outcomes.add(executor.submit(() -> {
+                start.await();
+                if (release) {
+                    return releaseStockUseCase.release(new ReleaseStockCommand(reservationId, "race")).isSuccess() ? 1 : 0;
+                }
+                var expired = expireReservationsUseCase.expire(List.of(reservationId));
+                return expired.isSuccess() ? expired.getValue() : 0;
+            }));
+        }
+        start.countDown();
+        int winners = 0;
+        for (Future<Integer> outcome : outcomes) {
+            winners += outcome.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(winners).isEqualTo(1);
+        assertStock(sku, 10, 0);
+        assertThat(eventJpaRepository.findByAggregateIdOrderByTimestampAsc(InventoryKey.of(STORE, sku).aggregateId()))
+            .filteredOn(event -> event.getEventType().equals("StockReleased"))
+            .hasSize(1);
+    }
+
+    @Test
+    void shouldReturnEarlierItemsStockOnceWhenALaterItemFailsToExpire() {
+        // Given - two expired reservations; the second item's row lost its reserved units
+        Sku first = seed("SKU120007", 10);
+        Sku second = seed("SKU120008", 10);
+        String firstId = reserve(first, 2);
+        String secondId = reserve(second, 3);
+        backdate(firstId, LocalDateTime.now().minusMinutes(1));
+        backdate(secondId, LocalDateTime.now().minusMinutes(1));
+        InventoryEntity broken = inventoryJpaRepository.findByStoreIdAndSku(STORE.value(), second.value()).orElseThrow();
+        broken.setReservedStock(0);
+        inventoryJpaRepository.save(broken);
+
+        // When - the batch fails, then the scheduler retries each reservation on its own
+        var batch = expireReservationsUseCase.expire(List.of(firstId, secondId));
+        assertStock(first, 8, 2);
+        assertThat(status(firstId)).isEqualTo(ReservationStatusEntity.RESERVED);
+        var alone = expireReservationsUseCase.expire(List.of(firstId));
+        var stillBroken = expireReservationsUseCase.expire(List.of(secondId));
+
+        // Then - the first item's units came back exactly once
+        assertThat(batch.isFailure()).isTrue();
+        assertThat(alone.getValue()).isEqualTo(1);
+        assertThat(stillBroken.isFailure()).isTrue();
+        assertStock(first, 10, 0);
+        assertThat(status(firstId)).isEqualTo(ReservationStatusEntity.EXPIRED);
+        assertThat(status(secondId)).isEqualTo(ReservationStatusEntity.RESERVED);
+    }
+
+    @Test
+    void shouldUpdateAReservationReadFromAnExpiredPage() {
+        // Given - read through the keyset page, which leaves it out of the adapter's identity map
+        Sku sku = seed("SKU120009", 10);
+        String reservationId = reserve(sku, 4);
+        backdate(reservationId, LocalDateTime.of(2000, 1, 1, 0, 0));
+        long reservations = reservationJpaRepository.count();
+
+        // When
+        transactionTemplate.executeWithoutResult(tx -> {
+            var page = reservationRepository.findExpiredReservations(LocalDateTime.of(2000, 1, 2, 0, 0), null, 10);
+            var read = page.stream().filter(r -> r.getId().equals(reservationId)).findFirst().orElseThrow();
+            reservationRepository.save(read.withStatus(ReservationStatus.EXPIRED));
+        });
+
+        // Then - the existing row changed, no second one was inserted
+        assertThat(status(reservationId)).isEqualTo(ReservationStatusEntity.EXPIRED);
+        assertThat(reservationJpaRepository.count()).isEqualTo(reservations);
+    }
+
+    private String reserve(Sku sku, int quantity) {
+        return reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, quantity, "CUST-EXP"))
+            .getValue()
+            .value();
+    }
+
+    private void backdate(String reservationId, LocalDateTime expiresAt) {
+        var entity = reservationJpaRepository.findById(id(reservationId)).orElseThrow();
+        entity.setExpiresAt(expiresAt);
+        reservationJpaRepository.save(entity);
+    }
+
+    private ReservationStatusEntity status(String reservationId) {
+        return reservationJpaRepository.findById(id(reservationId)).orElseThrow().getStatus();
+    }
+
+    private void awaitStatus(List<String> reservationIds, ReservationStatusEntity expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline
+                && !reservationIds.stream().allMatch(id -> status(id) == expected)) {
+            Thread.sleep(50);
+        }
+        assertThat(reservationIds).allMatch(id -> status(id) == expected);
+    }
+
+    private void assertStock(Sku sku, int available, int reserved) {
+        InventoryEntity inventory = inventoryJpaRepository.findByStoreIdAndSku(STORE.value(), sku.value()).orElseThrow();
+        assertThat(inventory.getAvailableStock()).isEqualTo(available);
+        assertThat(inventory.getReservedStock()).isEqualTo(reserved);
+    }
+
+    private static long id(String reservationId) {
+        return ReservationIdGenerator.parse(reservationId).getAsLong();
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Expiring item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
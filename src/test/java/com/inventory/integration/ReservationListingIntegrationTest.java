@@ -0,0 +1,176 @@
+package com.inventory.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:reservation-listing-test")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReservationListingIntegrationTest {
+
+    private static final String URL = "/api/v1/inventory/reservations";
+    private static final StoreId STORE = StoreId.of("STORE-15");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Test
+    void shouldWalkEveryPageOfACustomersReservationsInCreationOrder() throws Exception {
+        // Given - 5 live reservations of one customer, one of them committed, and another customer's
+        Sku first = seed("SKU150001");
+        Sku second = seed("SKU150002");
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            live.add(reserve(first, "CUST-LIST-A"));
+            live.add(reserve(second, "CUST-LIST-A"));
+            reserve(first, "CUST-LIST-B");
+        }
+        String committed = live.remove(2);
+        commitStockUseCase.commit(new CommitStockCommand(committed, "ORDER-LIST1"));
+
+        // When - pages of 2
+        List<JsonNode> lines = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        List<JsonNode> page;
+        do {
+            MockHttpServletRequestBuilder request = get(URL)
+                .param("customerId", "CUST-LIST-A")
+                .param("status", "reserved")
+                .param("limit", "2");
+            if (after != null) {
+                request.param("after", after);
+            }
+            page = stream(request);
+            lines.addAll(page);
+            pages++;
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).get("reservationId").asText();
+            }
+        } while (page.size() == 2);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(lines).extracting(line -> line.get("reservationId").asText()).containsExactlyElementsOf(live);
+        assertThat(lines).allSatisfy(line -> {
+            assertThat(line.get("customerId").asText()).isEqualTo("CUST-LIST-A");
+            assertThat(line.get("status").asText()).isEqualTo("RESERVED");
+            assertThat(line.get("storeId").asText()).isEqualTo(STORE.value());
+        });
+    }
+
+    @Test
+    void shouldCombineStoreSkuAndCreationWindowFilters() throws Exception {
+        // Given
+        Sku sku = seed("SKU150003");
+        Sku other = seed("SKU150004");
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        String one = reserve(sku, "CUST-LIST-C");
+        String two = reserve(sku, "CUST-LIST-D");
+        reserve(other, "CUST-LIST-C");
+        LocalDateTime after = LocalDateTime.now().plusSeconds(1);
+
+        // When
+        List<JsonNode> inWindow = stream(get(URL)
+            .param("storeId", STORE.value())
+            .param("sku", sku.value())
+            .param("createdFrom", before.toString())
+            .param("createdTo", after.toString()));
+        List<JsonNode> beforeWindow = stream(get(URL)
+            .param("sku", sku.value())
+            .param("createdTo", before.toString()));
+
+        // Then
+        assertThat(inWindow).extracting(line -> line.get("reservationId").asText()).containsExactly(one, two);
+        assertThat(inWindow.get(0).get("quantity").asInt()).isEqualTo(1);
+        assertThat(beforeWindow).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidFiltersBeforeStreaming() throws Exception {
+        mockMvc.perform(get(URL).param("status", "LOST"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Unknown reservation status: LOST"));
+        mockMvc.perform(get(URL).param("after", "not-a-reservation"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(URL).param("createdFrom", "yesterday"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(URL).param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private List<JsonNode> stream(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private String reserve(Sku sku, String customerId) {
+        return reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, 1, customerId))
+            .getValue()
+            .value();
+    }
+
+    private Sku seed(String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Listed item")
+            .availableStock(100)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
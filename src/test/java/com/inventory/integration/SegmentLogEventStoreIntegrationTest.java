@@ -0,0 +1,117 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.eventlog.SegmentLogEventStore;
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.EventJpaRepository;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.event.DomainEvent;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:segment-log-test",
+    "inventory.event-store.backend=segment-log",
+    "inventory.event-store.segment-size=1MB"
+})
+@ActiveProfiles("test")
+class SegmentLogEventStoreIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-16");
+
+    @DynamicPropertySource
+    static void eventLogDirectory(DynamicPropertyRegistry registry) {
+        Path directory = Path.of(System.getProperty("java.io.tmpdir"), "segment-log-test-" + UUID.randomUUID());
+        registry.add("inventory.event-store.directory", directory::toString);
+    }
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private SegmentLogEventStore segmentLogEventStore;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ReserveCartUseCase reserveCartUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Test
+    void shouldWriteCommittedEventsToTheLogInsteadOfTheTable() {
+        // Given
+        Sku sku = seed("SKU160001", 10);
+
+        // When
+        String reservationId = reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, 3, "CUST-LOG"))
+            .getValue()
+            .value();
+        commitStockUseCase.commit(new CommitStockCommand(reservationId, "ORDER-LOG1"));
+
+        // Then
+        assertThat(segmentLogEventStore.findByAggregateId(InventoryKey.of(STORE, sku).aggregateId()))
+            .extracting(DomainEvent::eventType)
+            .containsExactly("StockReserved", "StockCommitted");
+        assertThat(eventStore.findByAggregateId(InventoryKey.of(STORE, sku).aggregateId()))
+            .extracting(DomainEvent::eventType)
+            .containsExactly("StockReserved", "StockCommitted");
+        assertThat(eventJpaRepository.findByAggregateIdOrderByTimestampAsc(InventoryKey.of(STORE, sku).aggregateId()))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldNotLogEventsOfARolledBackCart() {
+        // Given - the second line cannot be served, so the whole cart rolls back
+        Sku enough = seed("SKU160002", 10);
+        Sku scarce = seed("SKU160003", 1);
+
+        // When
+        var result = reserveCartUseCase.reserveCart(new ReserveCartCommand("CUST-LOG", List.of(
+            new ReserveCartCommand.Line(STORE, enough, 2),
+            new ReserveCartCommand.Line(STORE, scarce, 5)
+        )));
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(eventStore.findByAggregateId(InventoryKey.of(STORE, enough).aggregateId())).isEmpty();
+        assertThat(eventStore.findByAggregateId(InventoryKey.of(STORE, scarce).aggregateId())).isEmpty();
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Logged item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
@@ -0,0 +1,137 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.repository.AggregateSnapshotJpaRepository;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.application.port.input.*;
+import com.inventory.application.port.output.EventStore;
+import com.inventory.domain.model.InventorySnapshot;
+import com.inventory.domain.model.InventoryKey;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StockMovement;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:snapshot-test",
+    "inventory.snapshots.enabled=true",
+    "inventory.snapshots.every-events=4",
+    "inventory.snapshots.interval=1h",
+    "inventory.snapshots.settle-time=0s"
+})
+@ActiveProfiles("test")
+class SnapshotRehydrationIntegrationTest {
+
+    private static final StoreId STORE = StoreId.of("STORE-18");
+
+    @Autowired
+    private RehydrateInventoryUseCase rehydrateInventoryUseCase;
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private AggregateSnapshotJpaRepository snapshotJpaRepository;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Test
+    void shouldSnapshotInTheBackgroundAndReplayOnlyTheTail() throws InterruptedException {
+        // Given - 4 committed events bring a snapshot forward
+        Sku sku = seed("SKU180001");
+        List<String> reservations = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reservations.add(reserve(sku));
+        }
+        awaitSnapshotOf(sku, 4);
+
+        // When - two more events after it
+        reserve(sku);
+        commitStockUseCase.commit(new CommitStockCommand(reservations.get(0), "ORDER-SNAP1"));
+        RehydratedInventory rehydrated = rehydrateInventoryUseCase.rehydrate(InventoryKey.of(STORE, sku).aggregateId());
+
+        // Then
+        assertThat(rehydrated.replayedEvents()).isEqualTo(2);
+        assertThat(rehydrated.state().eventCount()).isEqualTo(6);
+        assertThat(rehydrated.state().of(STORE)).isEqualTo(new StockMovement(-5, 4, 1));
+        assertThat(rehydrated.state().stores())
+            .isEqualTo(InventorySnapshot.empty(InventoryKey.of(STORE, sku).aggregateId()).fold(eventStore.findByAggregateId(InventoryKey.of(STORE, sku).aggregateId())).stores());
+    }
+
+    @Test
+    void shouldReplayTheWholeStreamWithoutASnapshot() {
+        // Given
+        Sku sku = seed("SKU180002");
+        reserve(sku);
+
+        // When
+        RehydratedInventory rehydrated = rehydrateInventoryUseCase.rehydrate(InventoryKey.of(STORE, sku).aggregateId());
+
+        // Then
+        assertThat(snapshotJpaRepository.findById(InventoryKey.of(STORE, sku).aggregateId())).isEmpty();
+        assertThat(rehydrated.replayedEvents()).isEqualTo(1);
+        assertThat(rehydrated.state().of(STORE)).isEqualTo(StockMovement.reserved(1));
+    }
+
+    @Test
+    void shouldNotTakeASnapshotThatCoversNothingNew() {
+        // Given
+        Sku sku = seed("SKU180003");
+        reserve(sku);
+        LocalDateTime now = LocalDateTime.now();
+
+        // When / Then
+        assertThat(rehydrateInventoryUseCase.takeSnapshot(InventoryKey.of(STORE, sku).aggregateId(), now)).isPresent();
+        assertThat(rehydrateInventoryUseCase.takeSnapshot(InventoryKey.of(STORE, sku).aggregateId(), now)).isEmpty();
+        assertThat(rehydrateInventoryUseCase.takeSnapshot(InventoryKey.of(STORE, sku).aggregateId(), now.minusSeconds(1))).isEmpty();
+    }
+
+    private void awaitSnapshotOf(Sku sku, long events) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (snapshotJpaRepository.findById(InventoryKey.of(STORE, sku).aggregateId())
+                    .filter(snapshot -> snapshot.getEventCount() == events)
+                    .isPresent()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("No snapshot of " + sku.value() + " covering " + events + " events");
+    }
+
+    private String reserve(Sku sku) {
+        return reserveStockUseCase
+            .reserve(new ReserveStockCommand(STORE, sku, 1, "CUST-SNAP"))
+            .getValue()
+            .value();
+    }
+
+    private Sku seed(String sku) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Snapshotted item")
+            .availableStock(100)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+}
@@ -0,0 +1,235 @@
+package com.inventory.integration;
+
+import com.inventory.adapters.output.persistence.entity.InventoryEntity;
+import com.inventory.adapters.output.persistence.entity.ReservationEntity;
+import com.inventory.adapters.output.persistence.repository.InventoryJpaRepository;
+import com.inventory.adapters.output.persistence.repository.ReservationJpaRepository;
+import com.inventory.application.port.input.*;
+import com.inventory.domain.model.ReservationId;
+import com.inventory.domain.model.ReservationIdGenerator;
+import com.inventory.domain.model.Sku;
+import com.inventory.domain.model.StockBucket;
+import com.inventory.domain.model.StoreId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:slicing-test")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StockSlicingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Autowired
+    private CommitStockUseCase commitStockUseCase;
+
+    @Autowired
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @Autowired
+    private ManageStockSlicesUseCase manageStockSlicesUseCase;
+
+    @Autowired
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    private static final StoreId STORE = StoreId.of("STORE-26");
+    private static final String ADMIN_URL = "/api/v1/admin/inventory";
+    private static final String QUERY_URL = "/api/v1/inventory";
+
+    @Test
+    void shouldServeReservationsFromBucketsAndFoldThemBack() throws Exception {
+        // Given - STORE-01/SKU789 starts with 75 available
+        StoreId store = StoreId.of("STORE-01");
+        Sku sku = Sku.of("SKU789");
+
+        mockMvc.perform(post(ADMIN_URL + "/STORE-01/SKU789/slices").param("buckets", "4"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.bucketCount").value(4))
+            .andExpect(jsonPath("$.availableStock").value(75))
+            .andExpect(jsonPath("$.buckets[0].availableStock").value(19))
+            .andExpect(jsonPath("$.buckets[3].availableStock").value(18));
+
+        // When - 8 clients reserve 5 units each
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Result<ReservationId, DomainError>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String customer = "CUST-SLICE-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return reserveStockUseCase.reserve(new ReserveStockCommand(store, sku, 5, customer));
+            }));
+        }
+        start.countDown();
+
+        List<String> reservationIds = new ArrayList<>();
+        for (Future<Result<ReservationId, DomainError>> future : futures) {
+            Result<ReservationId, DomainError> result = future.get(30, TimeUnit.SECONDS);
+            assertThat(result.isSuccess()).isTrue();
+            reservationIds.add(result.getValue().value());
+        }
+        executor.shutdown();
+
+        // Then - the query view sums the buckets
+        mockMvc.perform(get(QUERY_URL + "/STORE-01/SKU789"))
+            .andExpect(jsonPath("$.availableStock").value(35))
+            .andExpect(jsonPath("$.reservedStock").value(40));
+
+        // Commit one, release another: both find a bucket holding the units
+        assertThat(commitStockUseCase.commit(
+            new CommitStockCommand(reservationIds.get(0), "ORDER-SLICE-1")).isSuccess()).isTrue();
+        assertThat(releaseStockUseCase.release(
+            new ReleaseStockCommand(reservationIds.get(1), "customer gave up")).isSuccess()).isTrue();
+
+        mockMvc.perform(get(QUERY_URL + "/STORE-01/SKU789"))
+            .andExpect(jsonPath("$.availableStock").value(40))
+            .andExpect(jsonPath("$.reservedStock").value(30))
+            .andExpect(jsonPath("$.soldStock").value(5));
+
+        mockMvc.perform(post(ADMIN_URL + "/STORE-01/SKU789/slices/rebalance"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.buckets[0].availableStock").value(10))
+            .andExpect(jsonPath("$.buckets[3].availableStock").value(10));
+
+        // Unslice restores the single-row layout with the same totals
+        mockMvc.perform(delete(ADMIN_URL + "/STORE-01/SKU789/slices"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.availableStock").value(40))
+            .andExpect(jsonPath("$.reservedStock").value(30))
+            .andExpect(jsonPath("$.soldStock").value(5));
+
+        mockMvc.perform(get(ADMIN_URL + "/STORE-01/SKU789/slices"))
+            .andExpect(jsonPath("$.bucketCount").value(0));
+
+        assertThat(reserveStockUseCase.reserve(
+            new ReserveStockCommand(store, sku, 1, "CUST-SLICE-X")).isSuccess()).isTrue();
+    }
+
+    @Test
+    void shouldSettleEachReservationAgainstTheBucketItCameFrom() {
+        // Given - reservations of different sizes spread over 3 buckets by the round-robin
+        Sku sku = seed("SKU260001", 90);
+        assertThat(manageStockSlicesUseCase.slice(STORE, sku, 3).isSuccess()).isTrue();
+        List<String> reservationIds = new ArrayList<>();
+        for (int quantity : new int[] {3, 5, 1, 4, 2, 6}) {
+            Result<ReservationId, DomainError> result =
+                reserveStockUseCase.reserve(new ReserveStockCommand(STORE, sku, quantity, "CUST-BUCKET"));
+            assertThat(result.isSuccess()).isTrue();
+            reservationIds.add(result.getValue().value());
+        }
+        assertThat(reservationIds).allSatisfy(id -> assertThat(bucket(id)).isNotNull());
+
+        // When - commit the even ones, release the odd ones
+        for (int i = 0; i < reservationIds.size(); i++) {
+            String id = reservationIds.get(i);
+            if (i % 2 == 0) {
+                assertThat(commitStockUseCase.commit(new CommitStockCommand(id, "ORDER-" + id)).isSuccess()).isTrue();
+            } else {
+                assertThat(releaseStockUseCase.release(new ReleaseStockCommand(id, "changed mind")).isSuccess()).isTrue();
+            }
+        }
+
+        // Then - every bucket sold exactly what was committed from it and holds nothing reserved
+        List<StockBucket> buckets = manageStockSlicesUseCase.findSlices(STORE, sku);
+        for (StockBucket bucket : buckets) {
+            int committed = 0;
+            for (int i = 0; i < reservationIds.size(); i += 2) {
+                ReservationEntity reservation = reservation(reservationIds.get(i));
+                if (reservation.getBucket() == bucket.index()) {
+                    committed += reservation.getQuantity();
+                }
+            }
+            assertThat(bucket.stock().reservedStock()).isZero();
+            assertThat(bucket.stock().soldStock()).isEqualTo(committed);
+        }
+    }
+
+    @Test
+    void shouldReturnUnitsReservedBeforeSlicingToTheFirstBucket() {
+        // Given - reserved on the single row, then sliced
+        Sku sku = seed("SKU260002", 20);
+        String reservationId = reserveStockUseCase.reserve(
+            new ReserveStockCommand(STORE, sku, 4, "CUST-BUCKET")).getValue().value();
+        assertThat(manageStockSlicesUseCase.slice(STORE, sku, 2).isSuccess()).isTrue();
+
+        // When
+        var result = releaseStockUseCase.release(new ReleaseStockCommand(reservationId, "changed mind"));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(bucket(reservationId)).isNull();
+        StockBucket first = manageStockSlicesUseCase.findSlices(STORE, sku).getFirst();
+        assertThat(first.stock().reservedStock()).isZero();
+        assertThat(first.stock().availableStock()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldReportFragmentationWhenNoSingleBucketCoversTheQuantity() throws Exception {
+        // Given - 40 units over 4 buckets of 10
+        mockMvc.perform(post(ADMIN_URL + "/STORE-02/SKU456/slices").param("buckets", "4"))
+            .andExpect(status().isCreated());
+
+        // When
+        var result = reserveStockUseCase.reserve(
+            new ReserveStockCommand(StoreId.of("STORE-02"), Sku.of("SKU456"), 15, "CUST-SLICE-Y"));
+
+        // Then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getError().code()).isEqualTo("VALIDATION_ERROR");
+        assertThat(result.getError().details().toString()).contains("rebalance the item");
+    }
+
+    @Test
+    void shouldRejectInvalidBucketCountAndDoubleSlicing() throws Exception {
+        mockMvc.perform(post(ADMIN_URL + "/STORE-03/SKU789/slices").param("buckets", "1"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("VALIDATION_ERROR"));
+
+        mockMvc.perform(post(ADMIN_URL + "/STORE-03/SKU789/slices").param("buckets", "2"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(post(ADMIN_URL + "/STORE-03/SKU789/slices").param("buckets", "2"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private Sku seed(String sku, int available) {
+        inventoryJpaRepository.save(InventoryEntity.builder()
+            .storeId(STORE.value())
+            .sku(sku)
+            .productName("Sliced item")
+            .availableStock(available)
+            .reservedStock(0)
+            .soldStock(0)
+            .lastUpdated(LocalDateTime.now())
+            .build());
+        return Sku.of(sku);
+    }
+
+    private ReservationEntity reservation(String reservationId) {
+        return reservationJpaRepository.findById(ReservationIdGenerator.parse(reservationId).orElseThrow()).orElseThrow();
+    }
+
+    private Integer bucket(String reservationId) {
+        return reservation(reservationId).getBucket();
+    }
+}